@@ -0,0 +1,44 @@
+package com.team03.ticketmon.benchmark;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.benchmark.support.RedisBenchmarkSupport;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * QueueRedisAdapter.enqueue 벤치마크
+ * - 대기열 진입 시마다 호출되는 점수 생성 + 등록 + 순위 조회 (스크립트 1회 왕복)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueueScoreBenchmark {
+
+    private static final Long CONCERT_ID = 1L;
+
+    private RedisBenchmarkSupport redis;
+    private QueueRedisAdapter queueRedisAdapter;
+    private final AtomicLong userIdSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redis = RedisBenchmarkSupport.start();
+        queueRedisAdapter = new QueueRedisAdapter(redis.redissonClient(), new RedisKeyGenerator());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        redis.close();
+    }
+
+    @Benchmark
+    public QueueRedisAdapter.EnqueueResult enqueue() {
+        return queueRedisAdapter.enqueue(CONCERT_ID, userIdSequence.incrementAndGet());
+    }
+}
@@ -0,0 +1,60 @@
+package com.team03.ticketmon.benchmark;
+
+import com.team03.ticketmon.concert.domain.Review;
+import com.team03.ticketmon.concert.domain.enums.ReviewSelectionStrategy;
+import com.team03.ticketmon.concert.service.ReviewSelectorService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReviewSelectorService.selectWithinTokenLimit 벤치마크
+ * - AI 요약 전 토큰 제한 내 리뷰 선별 비용을 리뷰 수/선별 전략별로 측정
+ * - 리뷰 수가 10배가 되면 소요 시간도 약 10배여야 함 (선형 증가)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReviewSelectionBenchmark {
+
+    private static final int MAX_TOKENS = 8_000;
+
+    @Param({"100", "1000", "5000", "10000"})
+    private int reviewCount;
+
+    @Param({"LATEST_FIRST", "BEST_COVERAGE"})
+    private ReviewSelectionStrategy strategy;
+
+    private ReviewSelectorService reviewSelectorService;
+    private List<Review> reviews;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        reviewSelectorService = new ReviewSelectorService();
+
+        LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 0, 0);
+        reviews = new ArrayList<>(reviewCount);
+        for (int i = 0; i < reviewCount; i++) {
+            Review review = new Review();
+            review.setId((long) i);
+            review.setUserId((long) i);
+            review.setUserNickname("user" + i);
+            review.setTitle("공연 후기 " + i);
+            review.setDescription("무대 연출과 음향이 좋았고 다시 보고 싶은 공연이었습니다. ".repeat(1 + i % 4));
+            review.setRating(1 + i % 5);
+            review.setCreatedAt(baseTime.plusMinutes(i));
+            reviews.add(review);
+        }
+    }
+
+    @Benchmark
+    public ReviewSelectorService.Selection selectWithinTokenLimit() {
+        return reviewSelectorService.selectWithinTokenLimit(reviews, MAX_TOKENS, strategy);
+    }
+}
@@ -0,0 +1,91 @@
+package com.team03.ticketmon.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatUpdateEventDTO;
+import com.team03.ticketmon.seat.service.SeatPollingSessionManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SeatPollingSessionManager.notifyWaitingSessions 벤치마크
+ * - sharedFanOut: 현재 구현 (응답 1회 직렬화 후 모든 세션이 공유)
+ * - perSessionFanOut: 이전 구현 재현 (세션마다 응답 Map 생성 + 메시지 컨버터 직렬화)
+ * - 매 호출마다 대기 세션을 새로 등록 (Level.Invocation), 측정은 팬아웃 구간만 포함
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@State(Scope.Thread)
+public class SeatPollingFanOutBenchmark {
+
+    private static final Long CONCERT_ID = 1L;
+
+    @Param({"100", "1000"})
+    private int sessionCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private SeatPollingSessionManager sessionManager;
+    private List<DeferredResult<ResponseEntity<?>>> legacySessions;
+    private SeatUpdateEventDTO event;
+
+    @Setup(Level.Trial)
+    public void setUpEvent() {
+        event = SeatUpdateEventDTO.of(CONCERT_ID, 1L, SeatStatusEnum.RESERVED, 10L, "A-1");
+    }
+
+    @Setup(Level.Invocation)
+    public void registerSessions() {
+        sessionManager = new SeatPollingSessionManager(new SeatProperties(), objectMapper);
+        legacySessions = new ArrayList<>(sessionCount);
+        for (int i = 0; i < sessionCount; i++) {
+            sessionManager.registerSession(CONCERT_ID, new DeferredResult<>(), (long) i, "jmh");
+            legacySessions.add(new DeferredResult<>());
+        }
+    }
+
+    @Benchmark
+    public void sharedFanOut() {
+        sessionManager.notifyWaitingSessions(event);
+    }
+
+    @Benchmark
+    public void perSessionFanOut(Blackhole blackhole) throws Exception {
+        for (DeferredResult<ResponseEntity<?>> deferredResult : new ArrayList<>(legacySessions)) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("hasUpdate", true);
+            response.put("updateTime", event.timestamp());
+            response.put("eventType", "SEAT_STATUS_CHANGE");
+
+            Map<String, Object> seatUpdate = new HashMap<>();
+            seatUpdate.put("seatId", event.seatId());
+            seatUpdate.put("status", event.status().toString());
+            seatUpdate.put("userId", event.userId());
+            seatUpdate.put("seatInfo", event.seatInfo());
+
+            response.put("seatUpdates", List.of(seatUpdate));
+            response.put("serverTime", LocalDateTime.now());
+            deferredResult.setResult(ResponseEntity.ok(response));
+
+            // 이전 구현에서 메시지 컨버터가 세션마다 수행하던 직렬화
+            blackhole.consume(objectMapper.writeValueAsBytes(response));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.team03.ticketmon.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.benchmark.support.RedisBenchmarkSupport;
+import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.concert.service.ConcertSeatSummaryService;
+import com.team03.ticketmon.seat.adapter.SeatRedisAdapter;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.exception.SeatReservationException;
+import com.team03.ticketmon.seat.service.SeatCacheInitService;
+import com.team03.ticketmon.seat.service.SeatStatusEventPublisher;
+import com.team03.ticketmon.seat.service.SeatStatusService;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SeatStatusService.reserveSeat 벤치마크
+ * - reserveAndRelease: 선점 성공 후 해제 (정상 경로)
+ * - reserveHeldByOther: 다른 사용자가 선점한 좌석 선점 시도 (경합 실패 경로)
+ * - 실제 Redis(Testcontainers) + 운영과 동일한 Lua 스크립트/이벤트 발행 사용, DB 의존성만 Mock
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SeatReservationBenchmark {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final int SEAT_COUNT = 2_000;
+    private static final long HELD_SEAT_ID = SEAT_COUNT + 1L;
+    private static final long HOLDER_USER_ID = 1L;
+
+    private RedisBenchmarkSupport redis;
+    private SeatStatusEventPublisher eventPublisher;
+    private SeatStatusService seatStatusService;
+
+    private final AtomicLong userIdSequence = new AtomicLong(1_000);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redis = RedisBenchmarkSupport.start();
+        RedissonClient redissonClient = redis.redissonClient();
+
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        SeatProperties seatProperties = new SeatProperties();
+        eventPublisher = new SeatStatusEventPublisher(redissonClient, objectMapper, seatProperties);
+
+        seatStatusService = new SeatStatusService(
+                redissonClient,
+                eventPublisher,
+                Mockito.mock(SeatCacheInitService.class),
+                seatProperties,
+                Mockito.mock(ConcertSeatRepository.class),
+                new SeatRedisAdapter(redissonClient),
+                Mockito.mock(ConcertSeatSummaryService.class));
+
+        seedSeats(redissonClient);
+        seatStatusService.reserveSeat(CONCERT_ID, HELD_SEAT_ID, HOLDER_USER_ID, "Z-1");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        eventPublisher.shutdown();
+        redis.close();
+    }
+
+    @State(Scope.Thread)
+    public static class UserState {
+        long userId;
+        long seatCursor;
+
+        @Setup(Level.Trial)
+        public void setUp(SeatReservationBenchmark benchmark) {
+            userId = benchmark.userIdSequence.incrementAndGet();
+            seatCursor = userId % SEAT_COUNT;
+        }
+
+        long nextSeatId() {
+            seatCursor = (seatCursor + 1) % SEAT_COUNT;
+            return seatCursor + 1;
+        }
+    }
+
+    @Benchmark
+    public SeatStatus reserveAndRelease(UserState user) {
+        long seatId = user.nextSeatId();
+        try {
+            SeatStatus reserved = seatStatusService.reserveSeat(CONCERT_ID, seatId, user.userId, "A-" + seatId);
+            seatStatusService.releaseSeat(CONCERT_ID, seatId, user.userId);
+            return reserved;
+        } catch (SeatReservationException e) {
+            // 다른 스레드가 같은 좌석을 잡고 있는 경우 (스레드 수가 많을 때만 발생)
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Exception reserveHeldByOther(UserState user) {
+        try {
+            seatStatusService.reserveSeat(CONCERT_ID, HELD_SEAT_ID, user.userId, "Z-1");
+            return null;
+        } catch (SeatReservationException e) {
+            return e;
+        }
+    }
+
+    private void seedSeats(RedissonClient redissonClient) {
+        RMap<String, SeatStatus> seatMap = redissonClient.getMap(RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX + CONCERT_ID);
+        seatMap.delete();
+
+        Map<String, SeatStatus> seats = new HashMap<>();
+        for (long seatId = 1; seatId <= HELD_SEAT_ID; seatId++) {
+            seats.put(String.valueOf(seatId), SeatStatus.builder()
+                    .id(CONCERT_ID + "-" + seatId)
+                    .concertId(CONCERT_ID)
+                    .seatId(seatId)
+                    .status(SeatStatusEnum.AVAILABLE)
+                    .seatInfo("A-" + seatId)
+                    .build());
+        }
+        seatMap.putAll(seats);
+    }
+}
@@ -0,0 +1,58 @@
+package com.team03.ticketmon.benchmark.support;
+
+import com.team03.ticketmon._global.config.RedissonConfig;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+
+/**
+ * 벤치마크용 Redis 연결 지원 클래스
+ * - 기본: Testcontainers로 redis:7-alpine 컨테이너 실행
+ * - -Dbench.redis.host / -Dbench.redis.port 지정 시 외부 Redis 사용
+ * - RedissonClient는 운영과 동일한 RedissonConfig(코덱 포함)로 생성
+ */
+public final class RedisBenchmarkSupport implements AutoCloseable {
+
+    private static final String REDIS_IMAGE = "redis:7-alpine";
+    private static final int REDIS_PORT = 6379;
+
+    private final GenericContainer<?> container;
+    private final RedissonClient redissonClient;
+
+    private RedisBenchmarkSupport(GenericContainer<?> container, RedissonClient redissonClient) {
+        this.container = container;
+        this.redissonClient = redissonClient;
+    }
+
+    public static RedisBenchmarkSupport start() {
+        String externalHost = System.getProperty("bench.redis.host");
+        if (externalHost != null) {
+            int port = Integer.getInteger("bench.redis.port", REDIS_PORT);
+            return new RedisBenchmarkSupport(null, createClient(externalHost, port));
+        }
+
+        GenericContainer<?> container = new GenericContainer<>(REDIS_IMAGE).withExposedPorts(REDIS_PORT);
+        container.start();
+        return new RedisBenchmarkSupport(container,
+                createClient(container.getHost(), container.getMappedPort(REDIS_PORT)));
+    }
+
+    private static RedissonClient createClient(String host, int port) {
+        RedissonConfig config = new RedissonConfig();
+        ReflectionTestUtils.setField(config, "redisHost", host);
+        ReflectionTestUtils.setField(config, "redisPort", port);
+        return config.redissonClient();
+    }
+
+    public RedissonClient redissonClient() {
+        return redissonClient;
+    }
+
+    @Override
+    public void close() {
+        redissonClient.shutdown();
+        if (container != null) {
+            container.stop();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.team03.ticketmon._global.client;
+
+import com.team03.ticketmon._global.config.AiServiceProperties;
+import com.team03.ticketmon._global.exception.BusinessException;
+import com.team03.ticketmon._global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🚦 AI API 호출 속도 제한기
+ * 모든 AI 요청(배치/수동 생성 공통)이 분당 최대 요청 수를 넘지 않도록 요청 간격을 일정하게 유지합니다.
+ * - 요청마다 다음 허용 시각을 예약하고, 예약 시각까지 호출 스레드를 대기시킴
+ * - 대기 중 인터럽트(배치 제한 시간 초과 등)되면 AI_REQUEST_TIMEOUT 예외 발생
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiRequestRateLimiter {
+
+	private final AiServiceProperties aiProperties;
+
+	// 다음 요청이 허용되는 시각 (System.nanoTime 기준)
+	private long nextPermitNanos = System.nanoTime();
+
+	/**
+	 * 요청 허용 시각까지 대기
+	 *
+	 * @throws BusinessException 대기 중 인터럽트된 경우
+	 */
+	public void acquire() {
+		Integer maxRequestsPerMinute = aiProperties.getMaxRequestsPerMinute();
+		if (maxRequestsPerMinute == null || maxRequestsPerMinute <= 0) {
+			return;
+		}
+
+		long intervalNanos = TimeUnit.MINUTES.toNanos(1) / maxRequestsPerMinute;
+		long waitNanos;
+		synchronized (this) {
+			long now = System.nanoTime();
+			long permitAt = Math.max(now, nextPermitNanos);
+			nextPermitNanos = permitAt + intervalNanos;
+			waitNanos = permitAt - now;
+		}
+
+		if (waitNanos <= 0) {
+			return;
+		}
+		log.debug("AI API 호출 속도 제한 대기: {}ms", TimeUnit.NANOSECONDS.toMillis(waitNanos));
+		try {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BusinessException(ErrorCode.AI_REQUEST_TIMEOUT,
+				"AI API 호출 대기 중 요청이 중단되었습니다.");
+		}
+	}
+}
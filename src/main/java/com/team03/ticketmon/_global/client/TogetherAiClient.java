@@ -30,6 +30,7 @@ public class TogetherAiClient {
 
 	private final AiServiceProperties aiProperties;
 	private final RestTemplate restTemplate;
+	private final AiRequestRateLimiter rateLimiter;
 
 	/**
 	 * 🚀 Together AI API로 채팅 요청을 전송하는 메인 메서드
@@ -45,6 +46,9 @@ public class TogetherAiClient {
 			// 1단계: HTTP 요청 객체 생성
 			HttpEntity<Map<String, Object>> request = buildHttpRequest(prompt);
 
+			// 1-1단계: 분당 최대 요청 수 제한 (모든 AI 호출 공통)
+			rateLimiter.acquire();
+
 			// 2단계: AI 서버에 실제 요청 전송
 			ResponseEntity<Map> response = restTemplate.exchange(
 				aiProperties.getApiUrl(),
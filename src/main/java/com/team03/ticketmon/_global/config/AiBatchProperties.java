@@ -0,0 +1,17 @@
+package com.team03.ticketmon._global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import lombok.Data;
+
+/**
+ * AI 배치 요약 실행 설정
+ * - 동시에 요약을 처리할 콘서트 수 (배치 작업 스레드 수)
+ * - 콘서트 1건의 처리 제한 시간 (초과 시 해당 콘서트만 실패 처리하고 배치는 계속 진행)
+ */
+@Data
+@ConfigurationProperties(prefix = "ai.batch")
+public class AiBatchProperties {
+
+	private Integer parallelism = 4;            // 동시에 처리할 최대 콘서트 수
+	private Integer concertTimeoutSeconds = 90; // 콘서트 1건 처리 제한 시간 (초)
+}
@@ -2,6 +2,7 @@ package com.team03.ticketmon._global.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Primary;
+import com.team03.ticketmon.concert.domain.enums.ReviewSelectionStrategy;
 import lombok.Data;
 
 @Data
@@ -18,6 +19,8 @@ public class AiServiceProperties {
 	private Integer maxReviewsPerRequest = 50;        // 요청당 최대 리뷰 수
 	private Double charsPerToken = 2.5;               // 문자당 토큰 추정치
 	private Double tokenSafetyMargin = 0.2;           // 안전 마진 (20%)
+	private Integer maxRequestsPerMinute = 60;        // AI API 분당 최대 요청 수 (전체 호출 공통, 0 이하면 제한 없음)
+	private ReviewSelectionStrategy reviewSelectionStrategy = ReviewSelectionStrategy.LATEST_FIRST; // 토큰 초과 시 리뷰 선별 전략
 
 	// 영어 시스템 프롬프트 + 마크다운 형식 출력
 	private String systemPrompt = """
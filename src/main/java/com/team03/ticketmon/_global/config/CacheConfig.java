@@ -5,6 +5,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.team03.ticketmon._global.config.cache.LocalCacheProperties;
+import com.team03.ticketmon._global.config.cache.TwoLevelCacheManager;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -25,9 +29,11 @@ import java.util.Map;
  * ✅ 캐시별 선택적 직렬화 설정
  * 기존 좌석 캐시: 타입 정보 없음 (호환성 유지)
  * 새로운 콘서트 캐시: 타입 정보 포함 (ClassCastException 해결)
+ * cache.local.caches에 설정된 캐시는 로컬 L1 캐시를 Redis 앞에 둠 (노드 간 Pub/Sub 무효화)
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(LocalCacheProperties.class)
 public class CacheConfig {
 
     /**
@@ -67,10 +73,24 @@ public class CacheConfig {
     }
 
     /**
-     * Redis 기반 캐시 매니저 설정
+     * 캐시 매니저 설정
+     * - L1 사용 시: 로컬 L1 + Redis L2 2단계 캐시 매니저
+     * - L1 미사용 시: Redis 캐시 매니저
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, RedissonClient redissonClient,
+                                     LocalCacheProperties localCacheProperties) {
+        RedisCacheManager redisCacheManager = redisCacheManager(connectionFactory);
+        if (!localCacheProperties.isEnabled()) {
+            return redisCacheManager;
+        }
+        return new TwoLevelCacheManager(redisCacheManager, localCacheProperties, redissonClient, legacyObjectMapper());
+    }
+
+    /**
+     * Redis 기반 캐시 매니저 설정
+     */
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
 
         // ✅ 기존 방식 직렬화 (좌석 캐시용)
         GenericJackson2JsonRedisSerializer legacySerializer =
@@ -121,9 +141,12 @@ public class CacheConfig {
         cacheConfigurations.put("searchResults", typedCacheConfig
             .entryTtl(Duration.ofMinutes(10)));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
             .cacheDefaults(defaultCacheConfig)
             .withInitialCacheConfigurations(cacheConfigurations)
             .build();
+        // 빈으로 등록되지 않으므로 캐시별 설정(TTL/직렬화) 초기화를 직접 호출
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
     }
 }
\ No newline at end of file
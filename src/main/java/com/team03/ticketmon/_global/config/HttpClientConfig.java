@@ -1,5 +1,9 @@
 package com.team03.ticketmon._global.config;
 
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,11 +15,21 @@ import org.springframework.web.client.RestTemplate;
 public class HttpClientConfig {
 
      @Bean
-     public RestTemplate restTemplate() {
+     public RestTemplate restTemplate(AiBatchProperties aiBatchProperties) {
          RestTemplate restTemplate = new RestTemplate();
 
+         // 커넥션 풀 설정 (AI 배치 동시 처리 수만큼 같은 호스트로 동시에 요청할 수 있도록 호스트당 연결 수 확보)
+         int maxConnPerRoute = Math.max(5, aiBatchProperties.getParallelism() + 1);
+         PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                 .setMaxConnPerRoute(maxConnPerRoute)
+                 .setMaxConnTotal(maxConnPerRoute * 2)
+                 .build();
+         CloseableHttpClient httpClient = HttpClients.custom()
+                 .setConnectionManager(connectionManager)
+                 .build();
+
          // 타임아웃 설정
-         HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory();
+         HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
          factory.setConnectionRequestTimeout(5000);
          factory.setConnectTimeout(5000);
          factory.setReadTimeout(30000);
@@ -23,4 +37,4 @@ public class HttpClientConfig {
          restTemplate.setRequestFactory(factory);
          return restTemplate;
      }
- }
\ No newline at end of file
+ }
@@ -7,7 +7,7 @@ import com.team03.ticketmon.auth.oauth2.OAuth2LoginSuccessHandler;
 import com.team03.ticketmon.auth.service.CustomOAuth2UserService;
 import com.team03.ticketmon.auth.service.RefreshTokenService;
 import com.team03.ticketmon.auth.service.ReissueService;
-import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.service.AccessKeyCache;
 import com.team03.ticketmon.user.service.SocialUserService;
 import com.team03.ticketmon.user.service.UserEntityService;
 import jakarta.servlet.DispatcherType;
@@ -64,7 +64,7 @@ public class SecurityConfig {
     private final SocialUserService socialUserService;
     private final CookieUtil cookieUtil;
     private final CorsProperties corsProperties;
-    private final QueueRedisAdapter queueRedisAdapter;
+    private final AccessKeyCache accessKeyCache;
     private final AppProperties appProperties;
 
     /**
@@ -188,7 +188,7 @@ public class SecurityConfig {
                         LogoutFilter.class)
                 .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), cookieUtil),
                         UsernamePasswordAuthenticationFilter.class)
-                .addFilterAfter(new AccessKeyFilter(queueRedisAdapter), JwtAuthenticationFilter.class)
+                .addFilterAfter(new AccessKeyFilter(accessKeyCache), JwtAuthenticationFilter.class)
 
                 // 인증/인가 실패(인증 실패(401), 권한 부족(403)) 시 반환되는 예외 응답 설정
                 .exceptionHandling(exception -> exception
@@ -0,0 +1,16 @@
+package com.team03.ticketmon._global.config.cache;
+
+/**
+ * L1 캐시 무효화 메시지
+ * - Redis Pub/Sub(cache-invalidation-channel)으로 다른 노드에 전달
+ *
+ * @param nodeId    발행한 노드 ID (자신이 보낸 메시지는 무시)
+ * @param cacheName 캐시 이름
+ * @param key       무효화할 키 (null이면 캐시 전체 무효화)
+ */
+public record CacheInvalidationMessage(
+        String nodeId,
+        String cacheName,
+        String key
+) {
+}
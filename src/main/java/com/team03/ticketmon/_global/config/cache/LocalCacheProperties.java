@@ -0,0 +1,44 @@
+package com.team03.ticketmon._global.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 2단계 캐시의 L1(로컬) 캐시 설정값 관리
+ * - 캐시별 최대 항목 수와 보관 시간을 application.yml에서 설정
+ * - 목록에 없는 캐시는 L1 없이 Redis(L2)만 사용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.local")
+public class LocalCacheProperties {
+
+    /**
+     * L1 캐시 사용 여부 (false면 Redis 캐시만 사용)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시 이름별 L1 설정
+     */
+    private Map<String, Spec> caches = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Spec {
+        /**
+         * 최대 보관 항목 수
+         */
+        private long maximumSize = 1000;
+
+        /**
+         * 보관 시간 (Redis TTL보다 짧게 설정)
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,189 @@
+package com.team03.ticketmon._global.config.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * ✅ 2단계 캐시 (L1 로컬 Caffeine + L2 Redis)
+ * <p>
+ * 조회는 L1 → L2 순으로 수행하고, L2 히트 결과를 L1에 채웁니다.<br>
+ * 쓰기/삭제는 L2에 먼저 반영한 뒤 L1을 갱신하고, 다른 노드의 L1 무효화를 요청합니다.<br>
+ * 단, 캐시 미스 후 채우기(L2에 값이 없던 키)는 다른 노드의 L1에도 해당 항목이 남아 있지 않으므로 무효화를 요청하지 않습니다.
+ * </p>
+ *
+ * 📌 일관성:
+ * <ul>
+ *   <li>L1 키는 Redis 캐시 키와 같은 문자열 형태로 보관 (노드 간 무효화 메시지와 일치)</li>
+ *   <li>무효화 메시지 유실/경합 시에도 L1 보관 시간(ttl) 이후에는 L2 값으로 수렴</li>
+ * </ul>
+ */
+public class TwoLevelCache implements Cache {
+
+    private final Cache redisCache;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    /**
+     * @param redisCache            L2 Redis 캐시
+     * @param localCache            L1 로컬 캐시
+     * @param invalidationPublisher 다른 노드 L1 무효화 요청 (cacheName, key - null이면 전체)
+     */
+    public TwoLevelCache(Cache redisCache,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                         BiConsumer<String, String> invalidationPublisher) {
+        this.redisCache = redisCache;
+        this.localCache = localCache;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return redisCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        Object localValue = localCache.getIfPresent(localKey);
+        if (localValue != null) {
+            return new SimpleValueWrapper(localValue);
+        }
+
+        ValueWrapper wrapper = redisCache.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            localCache.put(localKey, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "캐시 값이 요청 타입과 다릅니다: cache=" + getName() + ", type=" + type.getName() + ", value=" + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+        Object localValue = localCache.getIfPresent(localKey);
+        if (localValue != null) {
+            return (T) localValue;
+        }
+
+        T value = redisCache.get(key, valueLoader);
+        if (value != null) {
+            localCache.put(localKey, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = toLocalKey(key);
+        if (value == null) {
+            redisCache.put(key, null);
+            localCache.invalidate(localKey);
+            invalidationPublisher.accept(getName(), localKey);
+            return;
+        }
+
+        // L2에 값이 없었으면 캐시 미스 후 채우기 → 다른 노드 L1에 무효화할 항목이 없으므로 발행 생략
+        // (다른 노드 L1은 L2에서 채워지고 L1 ttl이 L2 ttl보다 짧으므로, L2가 비어 있으면 이전 값도 남아 있지 않음)
+        ValueWrapper existing = redisCache.putIfAbsent(key, value);
+        if (existing != null) {
+            // 기존 값 덮어쓰기(@CachePut 등 명시적 갱신)만 다른 노드에 무효화 요청
+            redisCache.put(key, value);
+            invalidationPublisher.accept(getName(), localKey);
+        }
+        localCache.put(localKey, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = redisCache.putIfAbsent(key, value);
+        String localKey = toLocalKey(key);
+        localCache.invalidate(localKey);
+        if (existing == null) {
+            invalidationPublisher.accept(getName(), localKey);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        String localKey = toLocalKey(key);
+        localCache.invalidate(localKey);
+        invalidationPublisher.accept(getName(), localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = redisCache.evictIfPresent(key);
+        String localKey = toLocalKey(key);
+        localCache.invalidate(localKey);
+        invalidationPublisher.accept(getName(), localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.accept(getName(), null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = redisCache.invalidate();
+        localCache.invalidateAll();
+        invalidationPublisher.accept(getName(), null);
+        return invalidated;
+    }
+
+    /**
+     * 다른 노드의 요청으로 L1 항목만 제거 (L2는 이미 반영됨)
+     *
+     * @param localKey 제거할 키 (null이면 전체 제거)
+     */
+    public void invalidateLocal(String localKey) {
+        if (localKey == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(localKey);
+        }
+    }
+
+    /**
+     * L1 보관 여부 확인 (모니터링/테스트용)
+     */
+    public boolean isCachedLocally(Object key) {
+        return localCache.getIfPresent(toLocalKey(key)) != null;
+    }
+
+    /**
+     * L1 보관 항목 수 (모니터링용, 근사값)
+     */
+    public long getLocalSize() {
+        return localCache.estimatedSize();
+    }
+
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,121 @@
+package com.team03.ticketmon._global.config.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ✅ 2단계 캐시 매니저 (L1 로컬 + L2 Redis)
+ * <p>
+ * LocalCacheProperties에 설정된 캐시만 L1을 앞단에 두고, 나머지는 Redis 캐시를 그대로 반환합니다.<br>
+ * 캐시 변경/삭제 시 Redis Pub/Sub으로 다른 노드에 L1 무효화를 전파합니다.
+ * </p>
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, DisposableBean {
+
+    private final CacheManager redisCacheManager;
+    private final LocalCacheProperties localCacheProperties;
+    private final ObjectMapper objectMapper;
+    private final RTopic invalidationTopic;
+
+    // 노드 식별자 (자신이 발행한 무효화 메시지 무시용)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+    private final int listenerId;
+
+    public TwoLevelCacheManager(CacheManager redisCacheManager, LocalCacheProperties localCacheProperties,
+                                RedissonClient redissonClient, ObjectMapper objectMapper) {
+        this.redisCacheManager = redisCacheManager;
+        this.localCacheProperties = localCacheProperties;
+        this.objectMapper = objectMapper;
+        this.invalidationTopic = redissonClient.getTopic(RedisKeyGenerator.CACHE_INVALIDATION_TOPIC);
+        this.listenerId = invalidationTopic.addListener(String.class, (channel, message) -> handleInvalidation(message));
+
+        log.info("2단계 캐시 매니저 초기화: nodeId={}, localCaches={}", nodeId, localCacheProperties.getCaches().keySet());
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache redisCache = redisCacheManager.getCache(name);
+        if (redisCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> decorate(redisCache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    /**
+     * L1 설정이 있는 캐시만 2단계 캐시로 감싸기
+     */
+    private Cache decorate(Cache redisCache) {
+        LocalCacheProperties.Spec spec = localCacheProperties.getCaches().get(redisCache.getName());
+        if (spec == null || spec.getMaximumSize() <= 0) {
+            return redisCache;
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getTtl())
+                .build();
+        return new TwoLevelCache(redisCache, localCache, this::publishInvalidation);
+    }
+
+    /**
+     * 다른 노드에 L1 무효화 요청 발행
+     */
+    private void publishInvalidation(String cacheName, String key) {
+        try {
+            String message = objectMapper.writeValueAsString(new CacheInvalidationMessage(nodeId, cacheName, key));
+            invalidationTopic.publish(message);
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드 L1은 ttl 이후 자연 만료
+            log.warn("L1 캐시 무효화 발행 실패: cache={}, key={}, error={}", cacheName, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드가 발행한 무효화 메시지 처리
+     */
+    private void handleInvalidation(String message) {
+        try {
+            CacheInvalidationMessage invalidation = objectMapper.readValue(message, CacheInvalidationMessage.class);
+            if (nodeId.equals(invalidation.nodeId())) {
+                return;
+            }
+
+            if (caches.get(invalidation.cacheName()) instanceof TwoLevelCache twoLevelCache) {
+                twoLevelCache.invalidateLocal(invalidation.key());
+                log.debug("L1 캐시 무효화 수신: cache={}, key={}", invalidation.cacheName(), invalidation.key());
+            }
+        } catch (Exception e) {
+            log.warn("L1 캐시 무효화 메시지 처리 실패: message={}, error={}", message, e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        invalidationTopic.removeListener(listenerId);
+    }
+}
@@ -65,6 +65,7 @@ public enum ErrorCode {
     SEARCH_CONDITION_REQUIRED(400, "T009", "검색 조건을 입력해주세요."), // 추가: 검색 조건 필수
     INVALID_SORT_FIELD(400, "T010", "유효하지 않은 정렬 기준입니다. 허용된 값: concertDate, title, artist, createdAt"),
     INVALID_SORT_DIRECTION(400, "T011", "유효하지 않은 정렬 방향입니다. 허용된 값: asc, desc"),
+    INVALID_CURSOR(400, "T012", "유효하지 않은 페이지 커서입니다. 첫 페이지부터 다시 조회해주세요."), // 추가: 커서 페이징 검증
 
     // Queue & Access (대기열 및 입장)
     QUEUE_ALREADY_JOINED(409, "Q001", "이미 대기열에 등록된 사용자입니다."),
@@ -106,6 +107,7 @@ public enum ErrorCode {
     ALREADY_PROCESSED_PAYMENT(409, "M004", "이미 처리된 결제입니다."),
     TOSS_API_ERROR(502, "M005", "외부 결제 시스템 연동 중 오류가 발생했습니다."),
     PAYMENT_VALIDATION_FAILED(400, "M006", "결제 정보 검증에 실패했습니다."),
+    PAYMENT_CONFIRMATION_OVERLOADED(503, "M007", "결제 승인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // AI Service (AI 서비스 관련)
     AI_SERVICE_UNAVAILABLE(503, "AI001", "AI 서비스가 일시적으로 사용할 수 없습니다."),
@@ -113,7 +115,8 @@ public enum ErrorCode {
     AI_REQUEST_INVALID(400, "AI003", "AI 서비스 요청이 올바르지 않습니다."),
     AI_SUMMARY_CONDITION_NOT_MET(400, "AI004", "AI 요약 생성 조건을 만족하지 않습니다."),
     AI_INSUFFICIENT_REVIEWS(400, "AI005", "AI 요약 생성에 필요한 최소 리뷰 수가 부족합니다."),
-    AI_SUMMARY_GENERATION_FAILED(500, "AI006", "AI 요약 생성 중 오류가 발생했습니다.");
+    AI_SUMMARY_GENERATION_FAILED(500, "AI006", "AI 요약 생성 중 오류가 발생했습니다."),
+    AI_REQUEST_TIMEOUT(504, "AI007", "AI 요약 처리 제한 시간을 초과했습니다.");
 
     /**
      * HTTP 상태 코드 (예: 400, 404, 500 등)
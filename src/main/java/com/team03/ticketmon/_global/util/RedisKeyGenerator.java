@@ -18,6 +18,8 @@ import java.util.regex.Pattern;
  *     <li>active_sessions:concert:{concertId}   → 콘서트별 활성 세션 Sorted Set</li>
  *     <li>active_users_count:concert:{concertId}→ 콘서트별 활성 사용자 수 AtomicLong</li>
  *     <li>accesskey:concert:{concertId}:user:{userId} → 사용자별 입장 AccessKey</li>
+ *     <li>waitqueue:active_concerts              → 대기열 처리 대상 콘서트 ID Set</li>
+ *     <li>waitqueue:retired_concerts             → 판매 종료 후 세션 정리 대상 콘서트 ID Set</li>
  * </ul>
  *
  * <br>
@@ -42,6 +44,18 @@ public class RedisKeyGenerator {
      */
     private static final String WAIT_QUEUE_KEY_PREFIX = "waitqueue:";
 
+    /** 🔑 `waitqueue:active_concerts`<br>
+     * 대기열 스케줄러가 처리할 콘서트 ID를 담는 Set 키입니다.<br>
+     * ON_SALE 콘서트만 담으며, 판매 상태 변경 시 갱신되고 정합성 체크 스케줄러가 DB의 ON_SALE 목록으로 주기적으로 보정합니다.
+     */
+    public static final String ACTIVE_CONCERTS_KEY = WAIT_QUEUE_KEY_PREFIX + "active_concerts";
+
+    /** 🔑 `waitqueue:retired_concerts`<br>
+     * 처리 대상 인덱스에서 빠진(판매 종료/취소 등) 콘서트 ID를 담는 Set 키입니다.<br>
+     * 세션 정리 스케줄러가 남은 활성 세션을 모두 정리할 때까지 유지한 뒤 제거합니다.
+     */
+    public static final String RETIRED_CONCERTS_KEY = WAIT_QUEUE_KEY_PREFIX + "retired_concerts";
+
     /** 🔑 `active_sessions:concert:{concertId}`<br>
      * 콘서트별 활성 사용자의 세션 정보를 저장하는 Sorted Set 키입니다.<br>
      * - score: 만료 시간 (timestamp)<br>
@@ -74,11 +88,11 @@ public class RedisKeyGenerator {
 //    public static final String CLEANUP_SCHEDULER_LOCK_KEY = "lock:cleanupScheduler";
     public static final String CLEANUP_SCHEDULER_LOCK_KEY = "lock:queueScheduler";
 
-    /** 🔒 `lock:admissionScheduler`<br>
-     * 대기열 입장 처리용 스케줄러 락 키입니다.
+    /** 🔒 `lock:admission:concert:{concertId}`<br>
+     * 콘서트별 입장 처리용 분산 락 키 접두사입니다.<br>
+     * 콘서트마다 독립적으로 잠그므로, 한 콘서트의 처리가 늦어져도 다른 콘서트의 입장 처리는 막히지 않습니다.
      */
-//    public static final String ADMISSION_SCHEDULER_LOCK_KEY = "lock:admissionScheduler";
-    public static final String ADMISSION_SCHEDULER_LOCK_KEY = "lock:queueScheduler";
+    public static final String ADMISSION_CONCERT_LOCK_KEY_PREFIX = "lock:admission:" + CONCERT_PREFIX;
 
     /** 🔒 `lock:consistencyCheckScheduler`<br>
      * 정합성 체크 스케줄러 락 키입니다.
@@ -100,6 +114,48 @@ public class RedisKeyGenerator {
 
     public static final String SEAT_LAST_UPDATE_KEY_PREFIX = "seat:last_update:";
 
+    /** 🔑 `seat:user:{concertId}:{userId}`<br>
+     * 사용자별 선점 좌석 ID를 담는 Set 키입니다.<br>
+     * 선점/해제/예매/영구 선점 시 좌석 상태와 함께 갱신되며, 선점 개수 제한 검증과 사용자 좌석 조회에 사용합니다.
+     */
+    public static final String SEAT_USER_INDEX_KEY_PREFIX = "seat:user:";
+
+    /** 🔑 `seat:layout:version:{concertId}`<br>
+     * 콘서트별 좌석 배치도 버전(AtomicLong) 키입니다.<br>
+     * 콘서트 정보가 수정되면 증가하며, 각 노드는 이 버전으로 미리 계산해 둔 배치도의 유효성을 판단하고 ETag에 포함합니다.
+     */
+    public static final String SEAT_LAYOUT_VERSION_KEY_PREFIX = "seat:layout:version:";
+
+    /** 🔑 `seat:state:version:{concertId}`<br>
+     * 콘서트별 좌석 상태 버전(AtomicLong) 키입니다.<br>
+     * 좌석 상태가 바뀔 때마다 증가하며, 좌석 상태 스냅샷 캐시와 변경분(delta) 조회의 기준이 됩니다.
+     */
+    public static final String SEAT_STATE_VERSION_KEY_PREFIX = "seat:state:version:";
+
+    /** 🔑 `seat:state:changes:{concertId}`<br>
+     * 좌석별 마지막 변경 버전을 담는 Sorted Set 키입니다. (member: 좌석 ID, score: 변경된 버전)<br>
+     * 좌석마다 한 항목만 유지되므로 크기는 좌석 수를 넘지 않습니다.
+     */
+    public static final String SEAT_STATE_CHANGES_KEY_PREFIX = "seat:state:changes:";
+
+    /** 🔑 `seat:state:reset:{concertId}`<br>
+     * 좌석 캐시가 DB에서 다시 초기화된 시점의 좌석 상태 버전 키입니다.<br>
+     * 이보다 오래된 버전으로 변경분을 요청하면 전체 스냅샷을 다시 받아야 합니다.
+     */
+    public static final String SEAT_STATE_RESET_KEY_PREFIX = "seat:state:reset:";
+
+    /** 🔑 `seat:expiry:{concertId}`<br>
+     * 콘서트별 임시 선점 만료 인덱스(Sorted Set) 키입니다. (member: 좌석 ID, score: 만료 시각 epoch ms)<br>
+     * 선점/해제/영구 선점 시 좌석 상태와 함께 갱신되며, 만료 스윕은 만료 시각이 지난 항목만 꺼내 처리합니다.
+     */
+    public static final String SEAT_EXPIRY_KEY_PREFIX = "seat:expiry:";
+
+    /** 🔑 `seat:expiry:index`<br>
+     * 만료 인덱스에 항목이 있는 콘서트 ID Set 키입니다.<br>
+     * 만료 스윕 스케줄러가 순회할 콘서트를 찾는 데 사용하며, 콘서트의 만료 인덱스가 비면 제거됩니다.
+     */
+    public static final String SEAT_EXPIRY_CONCERT_INDEX_KEY = "seat:expiry:index";
+
     // --- 🪑 Warm-up ---
 
     public static final String WARMUP_LOCK_KEY = "lock:seat:cache:warmup";
@@ -114,18 +170,67 @@ public class RedisKeyGenerator {
     // --- Pub/Sub 토픽 관련 키 ---
 
     /**
-     * 📣 `admission-channel`<br>
-     * 입장 허가 이벤트를 전달하는 Redis Pub/Sub 채널 이름입니다.<br>
-     * WebSocket 서버가 이 채널을 구독하여 실시간 알림을 전송합니다.
+     * 📣 `admission-channel:{nodeId}`<br>
+     * 입장 허가 이벤트를 전달하는 Redis Pub/Sub 채널 이름(접두사)입니다.<br>
+     * 각 WebSocket 노드는 자신의 노드 ID가 붙은 채널만 구독하고, 발행 측은 사용자의 세션이 연결된 노드의 채널로만 발행합니다.
      */
     public static final String ADMISSION_TOPIC = "admission-channel";
 
     /**
-     * 📣 `rank-update-channel`<br>
-     * 순위 업데이트 이벤트를 전달하는 Redis Pub/Sub 채널 이름입니다.<br>
+     * 📣 `rank-update-channel:{nodeId}`<br>
+     * 순위 업데이트 이벤트를 전달하는 Redis Pub/Sub 채널 이름(접두사)입니다.<br>
+     * 입장 알림과 동일하게 노드별 채널로 라우팅됩니다.
      */
     public static final String RANK_UPDATE_TOPIC = "rank-update-channel";
 
+    // --- 🔌 WebSocket 세션 라우팅 ---
+
+    /** 🔑 `ws:session:user:{userId}`<br>
+     * 사용자의 WebSocket 세션이 연결된 노드 ID를 저장하는 String 키입니다.<br>
+     * 연결 시 등록, 종료 시 제거되며, 노드 장애에 대비해 TTL을 두고 헬스체크 스케줄러가 주기적으로 갱신합니다.
+     */
+    public static final String WS_SESSION_NODE_KEY_PREFIX = "ws:session:" + USER_PREFIX;
+
+    /**
+     * 📣 `cache-invalidation-channel`<br>
+     * 2단계 캐시(L1 로컬 + L2 Redis)의 로컬 캐시 무효화 이벤트를 전달하는 Redis Pub/Sub 채널 이름입니다.<br>
+     * 한 노드에서 캐시가 변경/삭제되면 다른 노드들이 이 채널을 구독하여 자신의 L1 항목을 제거합니다.
+     */
+    public static final String CACHE_INVALIDATION_TOPIC = "cache-invalidation-channel";
+
+    /**
+     * 📣 `access-key-invalidation-channel`<br>
+     * 입장 허가 키가 만료 처리되거나 연장되었을 때, 각 노드의 검증 완료 키 로컬 캐시 항목을 제거하도록 알리는 채널입니다.<br>
+     * 메시지 형식: `{concertId}:{userId}`
+     */
+    public static final String ACCESS_KEY_INVALIDATION_TOPIC = "access-key-invalidation-channel";
+
+    /**
+     * 📣 `concert-search-index-channel`<br>
+     * 한 노드에서 콘서트 검색 색인을 갱신했을 때, 다른 노드들이 해당 콘서트를 DB에서 다시 색인하도록 알리는 채널입니다.<br>
+     * 메시지 형식: `{nodeId}:{concertId}`
+     */
+    public static final String CONCERT_SEARCH_INDEX_TOPIC = "concert-search-index-channel";
+
+    /**
+     * 🎯 노드 전용 토픽 이름 생성
+     * @param topic  기본 토픽 이름 (예: ADMISSION_TOPIC)
+     * @param nodeId 메시지를 받을 노드 ID
+     * @return 토픽 이름: `{topic}:{nodeId}`
+     */
+    public String getNodeTopic(String topic, String nodeId) {
+        return topic + ":" + nodeId;
+    }
+
+    /**
+     * 🎯 사용자별 WebSocket 세션 노드 키 생성
+     * @param userId 사용자 ID
+     * @return Redis 키: `ws:session:user:{userId}`
+     */
+    public String getWebSocketSessionNodeKey(Long userId) {
+        return WS_SESSION_NODE_KEY_PREFIX + userId;
+    }
+
     /**
      * 🎯 콘서트별 대기열 키 생성
      * @param concertId 콘서트 ID
@@ -160,7 +265,16 @@ public class RedisKeyGenerator {
      * @return Redis 키: `accesskey:concert:{concertId}:user:{userId}`
      */
     public String getAccessKey(Long concertId, Long userId) {
-        return ACCESS_KEY_PREFIX + CONCERT_PREFIX + concertId + ":" + USER_PREFIX + userId;
+        return getAccessKeyPrefix(concertId) + userId;
+    }
+
+    /**
+     * 🎯 콘서트별 AccessKey 키 접두사 생성 (뒤에 userId를 붙이면 사용자별 키)
+     * @param concertId 콘서트 ID
+     * @return Redis 키 접두사: `accesskey:concert:{concertId}:user:`
+     */
+    public String getAccessKeyPrefix(Long concertId) {
+        return ACCESS_KEY_PREFIX + CONCERT_PREFIX + concertId + ":" + USER_PREFIX;
     }
 
     /**
@@ -170,6 +284,15 @@ public class RedisKeyGenerator {
      * @return Redis 키: `final_expiry:concert:{concertId}:user:{userId}`
      */
     public String getFinalExpiryKey(Long concertId, Long userId) {
-        return FINAL_EXPIRY_KEY_PREFIX + CONCERT_PREFIX + concertId + ":" + USER_PREFIX + userId;
+        return getFinalExpiryKeyPrefix(concertId) + userId;
+    }
+
+    /**
+     * 🎯 콘서트별 최종 만료 시각 키 접두사 생성 (뒤에 userId를 붙이면 사용자별 키)
+     * @param concertId 콘서트 ID
+     * @return Redis 키 접두사: `final_expiry:concert:{concertId}:user:`
+     */
+    public String getFinalExpiryKeyPrefix(Long concertId) {
+        return FINAL_EXPIRY_KEY_PREFIX + CONCERT_PREFIX + concertId + ":" + USER_PREFIX;
     }
 }
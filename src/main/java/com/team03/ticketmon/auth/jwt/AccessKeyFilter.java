@@ -1,35 +1,34 @@
 package com.team03.ticketmon.auth.jwt;
 
-import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.service.AccessKeyCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RBucket;
+import org.springframework.http.server.PathContainer;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.Map;
 
 @Slf4j
 @RequiredArgsConstructor
 public class AccessKeyFilter extends OncePerRequestFilter {
 
-    private final QueueRedisAdapter queueRedisAdapter;
+    private final AccessKeyCache accessKeyCache;
 
     private static final String ACCESS_KEY_HEADER = "X-Access-Key";
 
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
-    private final List<String> pathsToSecure = List.of(
-            "/api/seats/concerts/{concertId}/**"
-    );
+    // 보호 대상 경로 (요청마다 패턴을 다시 해석하지 않도록 미리 파싱)
+    private static final String SECURE_PATH_PREFIX = "/api/seats/concerts/";
+    private static final PathPattern SECURE_PATH_PATTERN =
+            PathPatternParser.defaultInstance.parse(SECURE_PATH_PREFIX + "{concertId}/**");
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -58,25 +57,23 @@ public class AccessKeyFilter extends OncePerRequestFilter {
             return;
         }
 
-        String accessKey;
-
+        // 3. 키 비교 및 검증 (노드 로컬 캐시 우선, 없으면 Redis 조회)
+        boolean valid;
         try {
-            RBucket<String> accessKeyBucket = queueRedisAdapter.getAccessKeyBucket(concertId, userId);
-            accessKey = accessKeyBucket.get();
+            valid = accessKeyCache.isValid(concertId, userId, clientAccessKey);
         } catch (Exception e) {
             log.error("Redis에서 AccessKey 조회 실패. 사용자 ID: {}", hashUserId(userId), e);
             response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "시스템 오류가 발생했습니다.");
             return;
         }
 
-        // 4. 키 비교 및 검증
-        if (accessKey == null || !accessKey.equals(clientAccessKey)) {
+        if (!valid) {
             log.warn("AccessKey가 유효하지 않거나 만료되었습니다. 사용자 ID: {}", hashUserId(userId));
             response.sendError(HttpServletResponse.SC_FORBIDDEN, "AccessKey가 유효하지 않거나 만료되었습니다.");
             return;
         }
 
-        // 5. 검증 성공
+        // 4. 검증 성공
         log.debug("AccessKey 검증 성공. 사용자 ID: {}", hashUserId(userId));
         filterChain.doFilter(request, response);
     }
@@ -88,21 +85,21 @@ public class AccessKeyFilter extends OncePerRequestFilter {
      */
     private Long getConcertIdIfSecurePath(HttpServletRequest request) {
         String uri = request.getRequestURI();
-        for (String pattern : pathsToSecure) {
-            if (pathMatcher.match(pattern, uri)) {
-                try {
-                    Map<String, String> variables = pathMatcher.extractUriTemplateVariables(pattern, uri);
-                    return Long.parseLong(variables.get("concertId"));
-                } catch (NumberFormatException e) {
-                    log.warn("보호된 경로에서 concertId 추출 실패 (숫자 변환 오류): {}", uri);
-                    return null; // 변환 실패 시
-                } catch (Exception e) {
-                    log.warn("보호된 경로에서 concertId 추출 실패: {}", uri, e);
-                    return null;
-                }
-            }
+        if (!uri.startsWith(SECURE_PATH_PREFIX)) {
+            return null; // 매칭되는 경로 없음
+        }
+
+        PathPattern.PathMatchInfo matchInfo = SECURE_PATH_PATTERN.matchAndExtract(PathContainer.parsePath(uri));
+        if (matchInfo == null) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(matchInfo.getUriVariables().get("concertId"));
+        } catch (NumberFormatException e) {
+            log.warn("보호된 경로에서 concertId 추출 실패 (숫자 변환 오류): {}", uri);
+            return null; // 변환 실패 시
         }
-        return null; // 매칭되는 경로 없음
     }
 
     private String hashUserId(Long userId) {
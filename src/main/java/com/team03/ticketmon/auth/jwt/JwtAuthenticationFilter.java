@@ -27,29 +27,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String accessToken = jwtTokenProvider.getTokenFromCookies(jwtTokenProvider.CATEGORY_ACCESS, request);
         String refreshToken = jwtTokenProvider.getTokenFromCookies(jwtTokenProvider.CATEGORY_REFRESH, request);
 
+        // 토큰별 검증은 한 번만 수행 (이후 클레임 조회는 JwtTokenProvider 캐시 사용)
         boolean noOrExpiredRefresh =
                 (refreshToken == null || jwtTokenProvider.isTokenExpired(refreshToken));
+        boolean accessValid = !isEmpty(accessToken) && !jwtTokenProvider.isTokenExpired(accessToken);
 
-        log.debug("[JWT Filter] accessToken={} expired? {}",
-                accessToken, accessToken == null ? "n/a" : jwtTokenProvider.isTokenExpired(accessToken));
-        log.debug("[JWT Filter] refreshToken={} expired? {}",
-                refreshToken, refreshToken == null ? "n/a" : jwtTokenProvider.isTokenExpired(refreshToken));
-        log.debug("[JWT Filter] noOrExpiredRefresh={}", noOrExpiredRefresh);
-
+        log.debug("[JWT Filter] accessToken present={} valid={}, noOrExpiredRefresh={}",
+                accessToken != null, accessValid, noOrExpiredRefresh);
 
         // Access만 유효하면 인증 컨텍스트 설정
-        if (!isEmpty(accessToken) && !jwtTokenProvider.isTokenExpired(accessToken)) {
+        if (accessValid) {
             setAuthenticationContext(accessToken);
-        }
-        if (noOrExpiredRefresh) {
-            // Refresh 재발급 시도 없이 그냥 체인 계속
+            // Access Token이 유효하다면 Refresh 여부와 관계없이 그대로 진행
             filterChain.doFilter(request, response);
             return;
         }
-
-        // Access Token이 유효하다면 그대로 인증 처리
-        if (!isEmpty(accessToken) && !jwtTokenProvider.isTokenExpired(accessToken)) {
-            setAuthenticationContext(accessToken);
+        if (noOrExpiredRefresh) {
+            // Refresh 재발급 시도 없이 그냥 체인 계속
             filterChain.doFilter(request, response);
             return;
         }
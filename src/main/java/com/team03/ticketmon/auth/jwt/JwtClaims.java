@@ -0,0 +1,59 @@
+package com.team03.ticketmon.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 서명 검증을 마친 JWT 클레임 값 객체
+ * - 토큰당 한 번만 파싱/검증하고, 이후 조회는 이 객체를 재사용
+ *
+ * @param category   토큰 종류 (access / refresh)
+ * @param userId     사용자 ID
+ * @param username   사용자명
+ * @param roles      역할 목록 (role 클레임 형식이 올바르지 않으면 null)
+ * @param expiration 만료 시각
+ */
+public record JwtClaims(
+        String category,
+        Long userId,
+        String username,
+        List<String> roles,
+        Instant expiration
+) {
+
+    static JwtClaims from(Claims claims, String categoryClaim, String userIdClaim,
+                          String usernameClaim, String roleClaim) {
+        return new JwtClaims(
+                claims.get(categoryClaim, String.class),
+                claims.get(userIdClaim, Long.class),
+                claims.get(usernameClaim, String.class),
+                parseRoles(claims.get(roleClaim)),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+
+    /**
+     * 주어진 시각 기준 만료 여부
+     */
+    public boolean isExpired(Instant now) {
+        return expiration != null && !now.isBefore(expiration);
+    }
+
+    private static List<String> parseRoles(Object rolesObj) {
+        if (rolesObj instanceof String roleStr) {
+            // 단일 문자열이면 리스트로 감싸서 반환
+            return List.of(roleStr);
+        }
+
+        if (rolesObj instanceof List<?> rolesList) {
+            return rolesList.stream()
+                    .filter(String.class::isInstance)
+                    .map(String.class::cast)
+                    .toList();
+        }
+
+        return null;
+    }
+}
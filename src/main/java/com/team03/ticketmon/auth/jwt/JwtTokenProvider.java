@@ -1,5 +1,9 @@
 package com.team03.ticketmon.auth.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
@@ -18,9 +22,17 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtTokenProvider {
@@ -38,12 +50,42 @@ public class JwtTokenProvider {
     private long accessExpirationMs;
     @Value("${jwt.refresh-expiration-ms}")
     private long refreshExpirationMs;
+    @Value("${jwt.claims-cache.maximum-size:10000}")
+    private long claimsCacheMaximumSize;
+    @Value("${jwt.claims-cache.max-ttl-ms:300000}")
+    private long claimsCacheMaxTtlMs;
 
     private SecretKey jwtSecretKey;
 
+    // 검증된 클레임 캐시: 토큰 SHA-256 해시 -> JwtClaims (토큰 만료 시각 또는 max-ttl 중 빠른 시점에 제거)
+    private Cache<String, JwtClaims> claimsCache;
+    // Refresh Token 클레임 캐시 키 인덱스: userId -> 캐시 키 (로그아웃/재발급 시 전체 순회 없이 제거)
+    private final Map<Long, Set<String>> refreshCacheKeysByUser = new ConcurrentHashMap<>();
+
     @PostConstruct
     public void init() {
         this.jwtSecretKey = Keys.hmacShaKeyFor(secretKey.getBytes()); // JWT용 시크릿 키 변환
+        this.claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaximumSize)
+                .expireAfter(new Expiry<String, JwtClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+                        return claimsCacheTtlNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                        return claimsCacheTtlNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                // 만료/용량 초과로 제거된 Refresh 항목은 인덱스에서도 제거 (제거와 같은 시점에 동기 실행)
+                .evictionListener((String key, JwtClaims claims, RemovalCause cause) -> unindexRefreshClaims(key, claims))
+                .build();
     }
 
     // JWT Token 생성
@@ -69,7 +111,7 @@ public class JwtTokenProvider {
 
     public String getCategory(String token) {
         try {
-            return parseClaims(token).get(CLAIM_CATEGORY, String.class);
+            return getClaims(token).category();
         } catch (JwtException e) {
             throw new BadCredentialsException("JWT 토큰의 카테고리 형식이 유효하지 않습니다.", e);
         }
@@ -77,7 +119,7 @@ public class JwtTokenProvider {
 
     public Long getUserId(String token) {
         try {
-            return parseClaims(token).get(CLAIM_USERID, Long.class);
+            return getClaims(token).userId();
         } catch (JwtException e) {
             throw new BadCredentialsException("JWT 토큰의 UserId 형식이 유효하지 않습니다.", e);
         }
@@ -85,31 +127,15 @@ public class JwtTokenProvider {
 
     public String getUsername(String token) {
         try {
-            return parseClaims(token).get(CLAIM_USERNAME, String.class);
+            return getClaims(token).username();
         } catch (JwtException e) {
             throw new BadCredentialsException("JWT 토큰의 Username 형식이 유효하지 않습니다.", e);
         }
     }
 
-    @SuppressWarnings("unchecked")
     public List<String> getRoles(String token) {
         try {
-            Object rolesObj = parseClaims(token).get(CLAIM_ROLE);
-
-            if (rolesObj instanceof String roleStr) {
-                // 단일 문자열이면 리스트로 감싸서 반환
-                return List.of(roleStr);
-            }
-
-            if (rolesObj instanceof List<?> rolesList) {
-                return rolesList.stream()
-                        .filter(String.class::isInstance)
-                        .map(String.class::cast)
-                        .toList();
-            }
-
-            throw new BadCredentialsException("JWT 토큰의 roles 클레임 형식이 올바르지 않습니다: " + rolesObj);
-
+            return requireRoles(getClaims(token));
         } catch (JwtException e) {
             throw new BadCredentialsException("토큰에서 역할 정보를 추출하는 데 실패했습니다.", e);
         }
@@ -118,7 +144,7 @@ public class JwtTokenProvider {
     // JWT Token 검증
     public boolean isTokenExpired(String token) {
         try {
-            Claims claims = parseClaims(token); // throw 되지 않으면 유효
+            getClaims(token); // throw 되지 않으면 유효
         } catch (ExpiredJwtException e) {
             // 토큰은 만료되었지만 검증이 유효하므로 반환
           return true;
@@ -129,16 +155,101 @@ public class JwtTokenProvider {
     }
 
     public Authentication getAuthentication(String token) {
-        Long userid = getUserId(token);
-        String username = getUsername(token);
-        List<SimpleGrantedAuthority> authorities = getRoles(token).stream()
+        JwtClaims claims;
+        try {
+            claims = getClaims(token);
+        } catch (JwtException e) {
+            throw new BadCredentialsException("JWT 토큰에서 인증 정보를 추출하는 데 실패했습니다.", e);
+        }
+
+        List<SimpleGrantedAuthority> authorities = requireRoles(claims).stream()
                 .map(SimpleGrantedAuthority::new)
                 .toList();
 
-        CustomUserDetails user = new CustomUserDetails(userid, username, "", "", authorities);
+        CustomUserDetails user = new CustomUserDetails(claims.userId(), claims.username(), "", "", authorities);
         return new UsernamePasswordAuthenticationToken(user, null, authorities);
     }
 
+    /**
+     * 검증된 클레임 조회 (토큰당 한 번만 서명 검증)
+     * - 캐시에 있고 만료되지 않았으면 재검증 없이 반환
+     * - 만료/위조 토큰은 캐시하지 않으며 JwtException을 그대로 던짐
+     */
+    public JwtClaims getClaims(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT 토큰이 비어 있습니다.");
+        }
+
+        String cacheKey = hashToken(token);
+        JwtClaims cached = claimsCache.getIfPresent(cacheKey);
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return cached;
+        }
+
+        JwtClaims claims = JwtClaims.from(parseClaims(token), CLAIM_CATEGORY, CLAIM_USERID, CLAIM_USERNAME, CLAIM_ROLE);
+        if (isRefreshClaims(claims)) {
+            refreshCacheKeysByUser.computeIfAbsent(claims.userId(), id -> ConcurrentHashMap.newKeySet()).add(cacheKey);
+        }
+        claimsCache.put(cacheKey, claims);
+        return claims;
+    }
+
+    /**
+     * 사용자의 Refresh Token 클레임 캐시 제거 (로그아웃/재발급으로 폐기된 토큰용)
+     * - userId 인덱스로 해당 사용자의 항목만 바로 제거 (캐시 전체 순회 없음)
+     */
+    public void evictRefreshClaims(Long userId) {
+        if (userId == null) return;
+        Set<String> cacheKeys = refreshCacheKeysByUser.remove(userId);
+        if (cacheKeys != null) {
+            claimsCache.invalidateAll(cacheKeys);
+        }
+    }
+
+    private boolean isRefreshClaims(JwtClaims claims) {
+        return CATEGORY_REFRESH.equals(claims.category()) && claims.userId() != null;
+    }
+
+    private void unindexRefreshClaims(String cacheKey, JwtClaims claims) {
+        if (cacheKey == null || claims == null || !isRefreshClaims(claims)) {
+            return;
+        }
+        refreshCacheKeysByUser.computeIfPresent(claims.userId(), (id, cacheKeys) -> {
+            cacheKeys.remove(cacheKey);
+            return cacheKeys.isEmpty() ? null : cacheKeys;
+        });
+    }
+
+    private List<String> requireRoles(JwtClaims claims) {
+        if (claims.roles() == null) {
+            throw new BadCredentialsException("JWT 토큰의 roles 클레임 형식이 올바르지 않습니다.");
+        }
+        return claims.roles();
+    }
+
+    // 캐시 보관 시간: 토큰 만료까지 남은 시간과 max-ttl 중 짧은 값
+    private long claimsCacheTtlNanos(JwtClaims claims) {
+        Duration maxTtl = Duration.ofMillis(claimsCacheMaxTtlMs);
+        if (claims.expiration() == null) {
+            return maxTtl.toNanos();
+        }
+        Duration untilExpiry = Duration.between(Instant.now(), claims.expiration());
+        if (untilExpiry.isNegative()) {
+            return 0L;
+        }
+        return (untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl).toNanos();
+    }
+
+    // 캐시 키: 원본 토큰을 메모리에 보관하지 않도록 SHA-256 해시 사용
+    private String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
 
     // 공통 Claims Parser
     private Claims parseClaims(String token) {
@@ -40,12 +40,16 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
                 .created_at(LocalDateTime.now())
                 .build();
 
+        // 이전 Refresh Token은 폐기되므로 검증 클레임 캐시에서도 제거
+        jwtTokenProvider.evictRefreshClaims(userId);
+
         String redisKey = RedisKeyGenerator.JWT_RT_PREFIX + userId;
         redisTemplate.opsForValue().set(redisKey, refreshToken, refreshExpirationMs, TimeUnit.MILLISECONDS);
     }
 
     @Override
     public void deleteRefreshToken(Long userId) {
+        jwtTokenProvider.evictRefreshClaims(userId);
         redisTemplate.delete(RedisKeyGenerator.JWT_RT_PREFIX + userId);
     }
 
@@ -11,7 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * 예매‑결제 유즈케이스를 하나의 트랜잭션으로 오케스트레이션
@@ -24,6 +24,7 @@ public class BookingFacadeService {
 
     private final BookingService bookingService;
     private final PaymentService paymentService;
+    private final Scheduler paymentDbScheduler;
 
     /**
      * 좌석 선점 검증 →  PENDING 예매 생성 →  결제 정보(Payment) 생성·반환
@@ -46,10 +47,10 @@ public class BookingFacadeService {
      */
     public Mono<Void> cancelBookingAndPayment(Long bookingId, Long userId) {
         return Mono.fromCallable(() ->
-                        // 1) 취소 가능 여부 검증 (블로킹 ⇒ boundedElastic 풀에서)
+                        // 1) 취소 가능 여부 검증 (블로킹 ⇒ 결제 전용 DB 스케줄러에서)
                         bookingService.validateCancellableBooking(bookingId, userId)
                 )
-                .subscribeOn(Schedulers.boundedElastic())
+                .subscribeOn(paymentDbScheduler)
                 .flatMap(booking ->
                         // 1) payment 취소
                         paymentService.cancelPayment(
@@ -62,7 +63,7 @@ public class BookingFacadeService {
                                         Mono.fromRunnable(() ->
                                                         bookingService.finalizeCancellation(booking.getBookingId())
                                                 )
-                                                .subscribeOn(Schedulers.boundedElastic())
+                                                .subscribeOn(paymentDbScheduler)
                                                 .onErrorResume(error -> {
                                                     log.error("예약 취소 finalization 실패, 보상 트랜잭션 필요: {}", error.getMessage());
                                                     // TODO: 결제 취소 롤백 또는 보상 로직
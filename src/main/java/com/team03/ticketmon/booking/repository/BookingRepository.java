@@ -1,11 +1,16 @@
 package com.team03.ticketmon.booking.repository;
 
 import com.team03.ticketmon.booking.domain.Booking;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,16 +42,92 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     @Query("SELECT b FROM Booking b JOIN FETCH b.concert WHERE b.id = :id")
     Optional<Booking> findWithConcertById(@Param("id") Long id);
 
+    /**
+     * 결제 대기 상태로 만료 기준 시각을 넘긴 예매 ID를 한 페이지만 조회 (정리 작업용)
+     */
+    @Query("""
+                select b.bookingId from Booking b
+                where b.status = com.team03.ticketmon.booking.domain.BookingStatus.PENDING_PAYMENT
+                  and b.createdAt <= :expirationTime
+                order by b.bookingId
+            """)
+    List<Long> findExpiredPendingBookingIds(@Param("expirationTime") LocalDateTime expirationTime, Pageable pageable);
+
+    /**
+     * 예매 ID 목록 중 아직 결제 대기 상태인 예매만 비관적 쓰기 락으로 조회 (정리 작업용)
+     * 정리 트랜잭션이 끝날 때까지 해당 예매의 결제 확정을 막아, 삭제 대상과 좌석 해제 대상을 일치시킵니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+                select b from Booking b
+                where b.bookingId in :bookingIds
+                  and b.status = com.team03.ticketmon.booking.domain.BookingStatus.PENDING_PAYMENT
+            """)
+    List<Booking> findPendingByIdInForUpdate(@Param("bookingIds") Collection<Long> bookingIds);
+
+    /**
+     * 예매 ID 목록으로 콘서트와 티켓(좌석)을 함께 페치
+     */
     @Query("""
                 select distinct b from Booking b
                 join fetch b.concert
-                left join fetch b.payment
                 left join fetch b.tickets t
                 left join fetch t.concertSeat cs
-                where b.status = com.team03.ticketmon.booking.domain.BookingStatus.PENDING_PAYMENT
-                  and b.createdAt <= :expirationTime
+                where b.bookingId in :bookingIds
+            """)
+    List<Booking> findAllWithTicketsByIdIn(@Param("bookingIds") Collection<Long> bookingIds);
+
+    /**
+     * 결제 대기 예매의 결제 취소 이력 일괄 삭제 (정리 작업용)
+     */
+    @Modifying
+    @Query("""
+                delete from PaymentCancelHistory h
+                where h.payment.paymentId in (
+                    select p.paymentId from Payment p
+                    where p.booking.bookingId in (
+                        select b.bookingId from Booking b
+                        where b.bookingId in :bookingIds
+                          and b.status = com.team03.ticketmon.booking.domain.BookingStatus.PENDING_PAYMENT))
+            """)
+    int deletePendingPaymentCancelHistories(@Param("bookingIds") Collection<Long> bookingIds);
+
+    /**
+     * 결제 대기 예매의 결제 정보 일괄 삭제 (정리 작업용)
+     */
+    @Modifying
+    @Query("""
+                delete from Payment p
+                where p.booking.bookingId in (
+                    select b.bookingId from Booking b
+                    where b.bookingId in :bookingIds
+                      and b.status = com.team03.ticketmon.booking.domain.BookingStatus.PENDING_PAYMENT)
+            """)
+    int deletePendingPayments(@Param("bookingIds") Collection<Long> bookingIds);
+
+    /**
+     * 결제 대기 예매의 티켓 일괄 삭제 (정리 작업용)
+     */
+    @Modifying
+    @Query("""
+                delete from Ticket t
+                where t.booking.bookingId in (
+                    select b.bookingId from Booking b
+                    where b.bookingId in :bookingIds
+                      and b.status = com.team03.ticketmon.booking.domain.BookingStatus.PENDING_PAYMENT)
+            """)
+    int deletePendingTickets(@Param("bookingIds") Collection<Long> bookingIds);
+
+    /**
+     * 결제 대기 예매 일괄 삭제 (정리 작업용, 그 사이 결제가 진행된 예매는 상태 조건으로 제외)
+     */
+    @Modifying
+    @Query("""
+                delete from Booking b
+                where b.bookingId in :bookingIds
+                  and b.status = com.team03.ticketmon.booking.domain.BookingStatus.PENDING_PAYMENT
             """)
-    List<Booking> findExpiredPendingBookings(@Param("expirationTime") LocalDateTime expirationTime);
+    int deletePendingBookings(@Param("bookingIds") Collection<Long> bookingIds);
 
     /**
      * concert와 tickets 컬렉션을 함께 페치
@@ -10,21 +10,29 @@ import com.team03.ticketmon.concert.domain.Concert;
 import com.team03.ticketmon.concert.domain.ConcertSeat;
 import com.team03.ticketmon.concert.repository.ConcertRepository;
 import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
-import com.team03.ticketmon.seat.exception.SeatReservationException;
+import com.team03.ticketmon.concert.service.ConcertSeatSummaryService;
+import com.team03.ticketmon.seat.domain.SeatStatus;
 import com.team03.ticketmon.seat.service.SeatStatusService;
 import com.team03.ticketmon.user.repository.UserRepository;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 
 /**
@@ -41,8 +49,13 @@ public class BookingService {
     private final ConcertRepository concertRepository;
     private final ConcertSeatRepository concertSeatRepository;
     private final SeatStatusService seatStatusService;
+    private final ConcertSeatSummaryService concertSeatSummaryService;
     private final EntityManager entityManager;
 
+    // 만료된 결제 대기 예매 정리 시 한 페이지 크기 / 한 번의 실행에서 처리할 최대 페이지 수
+    private static final int CLEANUP_PAGE_SIZE = 200;
+    private static final int CLEANUP_MAX_PAGES = 10;
+
     /**
      * '결제 대기' 상태의 새로운 예매를 생성
      * 이 메서드는 Redis를 통해 좌석 선점이 완료된 후에 호출되어야 한다
@@ -70,10 +83,11 @@ public class BookingService {
             throw new BusinessException(ErrorCode.SEAT_NOT_FOUND);
         }
 
-        // 2-1. ✅ 수정: concertSeatId 사용으로 매개변수명 일관성 확보
-        selectedSeats.forEach(seat ->
-                validateSeatReservation(seat.getConcert().getConcertId(), seat.getConcertSeatId(), userId)
-        );
+        // 2-1. 콘서트별로 좌석 선점 상태를 한 번에 조회하여 검증
+        selectedSeats.stream()
+                .collect(Collectors.groupingBy(seat -> seat.getConcert().getConcertId(),
+                        Collectors.mapping(ConcertSeat::getConcertSeatId, Collectors.toList())))
+                .forEach((concertId, concertSeatIds) -> validateSeatReservations(concertId, concertSeatIds, userId));
 
         // 3. Ticket & Booking 생성
         Booking booking = Booking.createBooking(userId, concert, selectedSeats);
@@ -82,6 +96,9 @@ public class BookingService {
         Booking savedBooking = bookingRepository.save(booking);
         log.info("결제 대기 상태의 예매 생성 완료. Booking ID: {}", savedBooking.getBookingId());
 
+        // 5. 티켓이 생성된 콘서트의 가격/잔여 좌석 요약 갱신 요청 (커밋 이후)
+        concertSeatSummaryService.markDirty(concert.getConcertId());
+
         return savedBooking;
     }
 
@@ -116,17 +133,11 @@ public class BookingService {
         Long concertId = booking.getConcert().getConcertId();
 
         // 이제 tickets 컬렉션이 session 안에서 안전하게 초기화됩니다.
-        // [좌석 반환] 예매된 좌석들을 다시 'AVAILABLE' 상태로 변경하는 로직 추가
-        booking.getTickets().forEach(ticket -> {
-            try {
-                Long seatId = ticket.getConcertSeat().getConcertSeatId();
-                seatStatusService.releaseSeat(concertId, seatId, booking.getUserId());
-            } catch (SeatReservationException e) {
-                log.warn("[Cancel] 좌석 해제 스킵: seatId={}, 이유={}",
-                        ticket.getConcertSeat().getConcertSeatId(),
-                        e.getMessage());
-            }
-        });
+        // [좌석 반환] 예매된 좌석들을 한 번에 'AVAILABLE' 상태로 변경 (해당 사용자의 선점이 아닌 좌석은 스킵)
+        List<Long> concertSeatIds = booking.getTickets().stream()
+                .map(ticket -> ticket.getConcertSeat().getConcertSeatId())
+                .toList();
+        seatStatusService.releaseSeats(concertId, concertSeatIds, booking.getUserId());
 
         // 예약 상태를 반드시 CANCELED로 변경하고 저장
         booking.cancel();
@@ -179,14 +190,19 @@ public class BookingService {
     }
 
     /**
-     * ✅ 수정된 좌석 선점 검증 메서드 - 매개변수명 일관성 확보
-     * Redis의 좌석 상태를 확인하여, 해당 좌석이 주어진 사용자에 의해 유효하게 선점되었는지 검증합니다.
+     * 좌석 선점 일괄 검증 메서드
+     * Redis에서 좌석 상태를 한 번에 조회하여, 모든 좌석이 주어진 사용자에 의해 유효하게 선점되었는지 검증합니다.
      */
-    private void validateSeatReservation(Long concertId, Long concertSeatId, Long userId) {
-        seatStatusService.getSeatStatus(concertId, concertSeatId)
-                .filter(status -> status.isReserved() && userId.equals(status.getUserId()) && !status.isExpired())
-                .orElseThrow(() -> new BusinessException(ErrorCode.SEAT_ALREADY_TAKEN,
-                        "좌석 선점 정보가 유효하지 않습니다. ConcertSeat ID: " + concertSeatId)); // ✅ 수정: 메시지 업데이트
+    private void validateSeatReservations(Long concertId, List<Long> concertSeatIds, Long userId) {
+        Map<Long, SeatStatus> seatStatuses = seatStatusService.getSeatStatuses(concertId, concertSeatIds);
+
+        for (Long concertSeatId : concertSeatIds) {
+            SeatStatus status = seatStatuses.get(concertSeatId);
+            if (status == null || !status.isReserved() || !userId.equals(status.getUserId()) || status.isExpired()) {
+                throw new BusinessException(ErrorCode.SEAT_ALREADY_TAKEN,
+                        "좌석 선점 정보가 유효하지 않습니다. ConcertSeat ID: " + concertSeatId);
+            }
+        }
     }
 
     /**
@@ -211,31 +227,96 @@ public class BookingService {
 
     /**
      * 1분마다 실행되어, 결제 대기 상태로 15분 이상 방치된 예매를 자동 취소 및 데이터 정리합니다.
+     * - 만료된 예매를 페이지 단위(최대 CLEANUP_MAX_PAGES 페이지)로 처리하여 한 번의 실행 시간을 제한
+     * - 페이지마다 결제 대기 예매를 비관적 락으로 잠근 뒤, 예매/티켓/결제는 벌크 JPQL로 삭제
+     * - 좌석은 커밋 이후 삭제된 예매의 좌석만 콘서트별로 한 번에 강제 해제
+     * - 처리한 예매는 삭제되므로 항상 첫 페이지를 다시 조회 (남은 예매는 다음 실행에서 이어서 처리)
      */
     @Scheduled(fixedRate = 60000)
     @Transactional
     public void cleanupExpiredPendingBookings() {
         LocalDateTime expirationTime = LocalDateTime.now().minusMinutes(15);
         log.info("취소 기준 시각(expirationTime): {}", expirationTime);
-        List<Booking> expiredBookings = bookingRepository.findExpiredPendingBookings(expirationTime);
 
+        int totalDeleted = 0;
+        for (int page = 0; page < CLEANUP_MAX_PAGES; page++) {
+            List<Long> bookingIds = bookingRepository.findExpiredPendingBookingIds(
+                    expirationTime, PageRequest.of(0, CLEANUP_PAGE_SIZE));
+            if (bookingIds.isEmpty()) {
+                break;
+            }
+
+            totalDeleted += cleanupExpiredPendingBookingPage(bookingIds);
+
+            if (bookingIds.size() < CLEANUP_PAGE_SIZE) {
+                break;
+            }
+        }
+
+        if (totalDeleted > 0) {
+            log.info("만료된 결제 대기 예매 자동 취소 완료: {}건", totalDeleted);
+        }
+    }
+
+    /**
+     * 만료된 결제 대기 예매 한 페이지 정리
+     *
+     * @param bookingIds 이번 페이지의 예매 ID 목록
+     * @return 삭제된 예매 수
+     */
+    private int cleanupExpiredPendingBookingPage(List<Long> bookingIds) {
+        // 1. 아직 결제 대기 상태인 예매만 잠금 (그 사이 결제된 예매는 제외되어 삭제/좌석 해제 대상이 아님)
+        List<Long> pendingBookingIds = bookingRepository.findPendingByIdInForUpdate(bookingIds).stream()
+                .map(Booking::getBookingId)
+                .toList();
+        if (pendingBookingIds.isEmpty()) {
+            return 0;
+        }
+        List<Booking> expiredBookings = bookingRepository.findAllWithTicketsByIdIn(pendingBookingIds);
+
+        Map<Long, List<Long>> seatIdsByConcert = new HashMap<>();
         for (Booking booking : expiredBookings) {
-            // Redis 좌석 해제
-            Long concertId = booking.getConcert().getConcertId();
-            booking.getTickets().forEach(ticket -> {
-                Long concertSeatId = ticket.getConcertSeat().getConcertSeatId();
-                seatStatusService.forceReleaseSeat(concertId, concertSeatId);
-            });
+            List<Long> concertSeatIds = seatIdsByConcert.computeIfAbsent(
+                    booking.getConcert().getConcertId(), k -> new ArrayList<>());
+            booking.getTickets().forEach(ticket -> concertSeatIds.add(ticket.getConcertSeat().getConcertSeatId()));
+        }
+        List<String> bookingNumbers = expiredBookings.stream().map(Booking::getBookingNumber).toList();
 
-            // 아카이빙 스텁 (추후 구현)
-            archiveBookingAndTickets(booking);
+        // 2. 아카이빙 스텁 (추후 구현)
+        expiredBookings.forEach(this::archiveBookingAndTickets);
 
-            // Hibernate orphanRemoval을 통해 자식 티켓 먼저 삭제
-            booking.removeAllTickets();
-            bookingRepository.delete(booking);
+        // 3. 자식 테이블부터 벌크 삭제 후, 영속성 컨텍스트에 남은 삭제된 엔티티 정리
+        bookingRepository.deletePendingPaymentCancelHistories(pendingBookingIds);
+        bookingRepository.deletePendingPayments(pendingBookingIds);
+        bookingRepository.deletePendingTickets(pendingBookingIds);
+        int deleted = bookingRepository.deletePendingBookings(pendingBookingIds);
+        entityManager.clear();
 
-            log.info("자동 취소 처리된 예매: {}", booking.getBookingNumber());
+        // 4. Redis 좌석 해제 (커밋 이후, 삭제된 예매의 좌석만 콘서트별 일괄 처리)
+        releaseSeatsAfterCommit(seatIdsByConcert);
+        seatIdsByConcert.keySet().forEach(concertSeatSummaryService::markDirty);
+
+        log.info("자동 취소 처리된 예매 페이지: 조회={}건, 삭제={}건, 예매번호={}",
+                bookingIds.size(), deleted, bookingNumbers);
+        return deleted;
+    }
+
+    /**
+     * 콘서트별 좌석 강제 해제 (트랜잭션 안에서 호출되면 커밋 이후 해제, 롤백 시 해제하지 않음)
+     *
+     * @param seatIdsByConcert 콘서트 ID별 해제할 좌석 ID 목록
+     */
+    private void releaseSeatsAfterCommit(Map<Long, List<Long>> seatIdsByConcert) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    seatIdsByConcert.forEach(seatStatusService::forceReleaseSeats);
+                }
+            });
+            return;
         }
+        seatIdsByConcert.forEach(seatStatusService::forceReleaseSeats);
     }
 
     /**
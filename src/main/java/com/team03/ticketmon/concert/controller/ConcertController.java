@@ -2,6 +2,7 @@ package com.team03.ticketmon.concert.controller;
 
 import com.team03.ticketmon._global.exception.BusinessException;
 import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon.concert.dto.ConcertCursorPageDTO;
 import com.team03.ticketmon.concert.dto.ConcertDTO;
 import com.team03.ticketmon.concert.dto.ConcertFilterDTO;
 import com.team03.ticketmon.concert.service.ConcertService;
@@ -118,6 +119,44 @@ public class ConcertController {
 		}
 	}
 
+	@Operation(
+		summary = "콘서트 목록 커서 조회",
+		description = """
+    활성 상태 콘서트 목록을 공연일 오름차순(동일 공연일은 콘서트 ID 순)으로 커서 기반 조회합니다.
+    첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor를 그대로 전달합니다.
+    페이지 번호 방식과 달리 뒤 페이지로 갈수록 느려지지 않으며, 조회 중 콘서트가 추가되어도 중복/누락이 없습니다.
+    """
+	)
+	@ApiResponses({
+		@ApiResponse(
+			responseCode = "200",
+			description = "콘서트 목록 조회 성공",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = SuccessResponse.class)
+			)
+		),
+		@ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 페이지 크기")
+	})
+	@GetMapping("/cursor")
+	public ResponseEntity<SuccessResponse<ConcertCursorPageDTO>> getConcertsByCursor(
+		@Parameter(
+			description = "**페이지 커서** (이전 응답의 nextCursor, 첫 페이지는 생략)",
+			example = "MjAyNS0wOC0xNToxMg"
+		)
+		@RequestParam(required = false) String cursor,
+
+		@Parameter(
+			description = "**페이지 크기** (1~100개)",
+			example = "20",
+			schema = @Schema(minimum = "1", maximum = "100", defaultValue = "20")
+		)
+		@RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+
+		ConcertCursorPageDTO concerts = concertService.getConcertsByCursor(cursor, size);
+		return ResponseEntity.ok(SuccessResponse.of(concerts));
+	}
+
 	@Operation(
 		summary = "콘서트 키워드 검색",
 		description = """
@@ -18,6 +18,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -35,7 +36,8 @@ import lombok.ToString;
 
 @Builder
 @Entity
-@Table(name = "concerts")
+@Table(name = "concerts",
+	indexes = @Index(name = "idx_concerts_concert_date_id", columnList = "concert_date, concert_id"))
 @Getter
 @Setter
 @ToString(exclude = {"concertSeats", "bookings", "reviews"})
@@ -0,0 +1,39 @@
+package com.team03.ticketmon.concert.domain;
+
+import java.math.BigDecimal;
+
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Concert Price Tier
+ * 콘서트 좌석 요약의 등급/가격별 좌석 수 (등급과 가격이 같은 좌석 묶음)
+ */
+@Embeddable
+@Getter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ConcertPriceTier {
+
+	@Column(length = 50, nullable = false)
+	private SeatGrade grade;
+
+	@Column(precision = 10, scale = 2, nullable = false)
+	private BigDecimal price;
+
+	@Column(name = "total_seats", nullable = false)
+	private int totalSeats;
+
+	@Column(name = "available_seats", nullable = false)
+	private int availableSeats;
+}
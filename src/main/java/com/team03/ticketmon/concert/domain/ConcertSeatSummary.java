@@ -0,0 +1,85 @@
+package com.team03.ticketmon.concert.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Concert Seat Summary Entity
+ * 콘서트별 가격/잔여 좌석 요약 (필터 조회용)
+ *
+ * 📌 가격 범위 필터는 좌석 전체를 조인하지 않고 이 요약(콘서트당 1행 + 등급/가격별 수 행)만 조회합니다.
+ * 좌석 데이터에서 다시 집계하여 갱신하며, 예매로 티켓이 생성/삭제되면 ConcertSeatSummaryService가 갱신합니다.
+ */
+@Entity
+@Table(name = "concert_seat_summaries")
+@Getter
+@ToString
+@EqualsAndHashCode(of = "concertId")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ConcertSeatSummary {
+
+	@Id
+	@Column(name = "concert_id")
+	private Long concertId;
+
+	@Column(name = "min_price", precision = 10, scale = 2, nullable = false)
+	private BigDecimal minPrice;
+
+	@Column(name = "max_price", precision = 10, scale = 2, nullable = false)
+	private BigDecimal maxPrice;
+
+	@Column(name = "total_seats", nullable = false)
+	private int totalSeats;
+
+	@Column(name = "available_seats", nullable = false)
+	private int availableSeats;
+
+	@ElementCollection(fetch = FetchType.LAZY)
+	@CollectionTable(name = "concert_price_tiers",
+		joinColumns = @JoinColumn(name = "concert_id"),
+		indexes = @Index(name = "idx_concert_price_tiers_concert_price", columnList = "concert_id, price"))
+	private List<ConcertPriceTier> priceTiers = new ArrayList<>();
+
+	@Column(name = "refreshed_at", nullable = false)
+	private LocalDateTime refreshedAt;
+
+	public ConcertSeatSummary(Long concertId) {
+		this.concertId = concertId;
+	}
+
+	/**
+	 * 등급/가격별 좌석 수로 요약 전체를 교체
+	 *
+	 * @param tiers 등급/가격별 좌석 수 (비어 있으면 안 됨)
+	 */
+	public void refresh(List<ConcertPriceTier> tiers) {
+		if (tiers == null || tiers.isEmpty()) {
+			throw new IllegalArgumentException("좌석 요약은 1개 이상의 가격 구간이 필요합니다.");
+		}
+		this.minPrice = tiers.stream().map(ConcertPriceTier::getPrice).min(Comparator.naturalOrder()).orElseThrow();
+		this.maxPrice = tiers.stream().map(ConcertPriceTier::getPrice).max(Comparator.naturalOrder()).orElseThrow();
+		this.totalSeats = tiers.stream().mapToInt(ConcertPriceTier::getTotalSeats).sum();
+		this.availableSeats = tiers.stream().mapToInt(ConcertPriceTier::getAvailableSeats).sum();
+		this.priceTiers.clear();
+		this.priceTiers.addAll(tiers);
+		this.refreshedAt = LocalDateTime.now();
+	}
+}
@@ -0,0 +1,9 @@
+package com.team03.ticketmon.concert.domain.enums;
+
+/**
+ * AI 요약용 리뷰 선별 전략 (토큰 제한 초과 시 적용)
+ */
+public enum ReviewSelectionStrategy {
+	LATEST_FIRST,   // 최신 리뷰부터 토큰 제한에 닿을 때까지 선택
+	BEST_COVERAGE   // 토큰 제한 안에서 담을 수 있는 리뷰 내용이 최대가 되도록 선택 (배낭 문제)
+}
@@ -0,0 +1,23 @@
+package com.team03.ticketmon.concert.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/*
+ * Concert Cursor Page DTO
+ * 커서 기반 콘서트 목록 응답 객체
+ * (공연일, 콘서트 ID) 순으로 정렬된 목록과 다음 페이지 조회용 커서를 담습니다.
+ */
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConcertCursorPageDTO {
+	private List<ConcertDTO> content;
+	private String nextCursor; // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+	private boolean hasNext;
+	private int size;
+}
@@ -2,17 +2,19 @@ package com.team03.ticketmon.concert.repository;
 
 import com.team03.ticketmon.concert.domain.Concert;
 import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
+import com.team03.ticketmon.concert.dto.ConcertDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /*
  * Concert Repository
@@ -24,6 +26,21 @@ import java.util.List;
 @Repository
 public interface ConcertRepository extends JpaRepository<Concert, Long> {
 
+	// 목록 조회용 DTO 생성자 표현식 (좌석/예매/리뷰 컬렉션 미조회)
+	String CONCERT_LIST_PROJECTION = "new com.team03.ticketmon.concert.dto.ConcertDTO(" +
+		"c.concertId, c.title, c.artist, c.description, c.sellerId, c.venueName, c.venueAddress, " +
+		"c.concertDate, c.startTime, c.endTime, c.totalSeats, c.bookingStartDate, c.bookingEndDate, " +
+		"c.minAge, c.maxTicketsPerUser, c.status, c.posterImageUrl, c.aiSummary, c.createdAt, c.updatedAt)";
+
+	// 가격 범위 조건 (좌석 요약 s 기준): 최저/최고가로 먼저 거르고, 범위 안의 가격 구간이 있는지 확인
+	String PRICE_SUMMARY_CONDITION =
+		"(:minPrice IS NULL OR s.maxPrice >= :minPrice) AND " +
+		"(:maxPrice IS NULL OR s.minPrice <= :maxPrice) AND " +
+		"EXISTS (SELECT 1 FROM ConcertSeatSummary ps JOIN ps.priceTiers t " +
+		"WHERE ps.concertId = c.concertId AND " +
+		"(:minPrice IS NULL OR t.price >= :minPrice) AND " +
+		"(:maxPrice IS NULL OR t.price <= :maxPrice)) ";
+
 	/**
 	 * 🔥 키워드로 콘서트 검색 - COMPLETED/CANCELLED 제외
 	 */
@@ -35,6 +52,44 @@ public interface ConcertRepository extends JpaRepository<Concert, Long> {
 		"ORDER BY c.concertDate ASC")
 	List<Concert> findByKeyword(@Param("keyword") String keyword);
 
+	/**
+	 * 검색 색인 대상 ID 목록의 콘서트 조회 - COMPLETED/CANCELLED 제외
+	 * (정렬은 검색 색인의 순위를 따르므로 호출 측에서 처리)
+	 */
+	@Query("SELECT c FROM Concert c WHERE " +
+		"c.status IN ('SCHEDULED', 'ON_SALE', 'SOLD_OUT') AND " +  // 🔥 COMPLETED, CANCELLED 제외
+		"c.concertId IN :concertIds")
+	List<Concert> findActiveByConcertIdIn(@Param("concertIds") Collection<Long> concertIds);
+
+	/**
+	 * 검색 색인 재구성용 조회 (검색 대상 컬럼만 조회, 상태 무관)
+	 */
+	@Query("SELECT c.concertId AS concertId, c.title AS title, c.artist AS artist, " +
+		"c.venueName AS venueName, c.concertDate AS concertDate FROM Concert c")
+	List<SearchSource> findAllSearchSources();
+
+	/**
+	 * 검색 색인 단건 갱신용 조회 (다른 노드의 변경 알림 수신 시)
+	 */
+	@Query("SELECT c.concertId AS concertId, c.title AS title, c.artist AS artist, " +
+		"c.venueName AS venueName, c.concertDate AS concertDate FROM Concert c WHERE c.concertId = :concertId")
+	Optional<SearchSource> findSearchSourceByConcertId(@Param("concertId") Long concertId);
+
+	/**
+	 * 검색 색인 재구성용 Projection
+	 */
+	interface SearchSource {
+		Long getConcertId();
+
+		String getTitle();
+
+		String getArtist();
+
+		String getVenueName();
+
+		LocalDate getConcertDate();
+	}
+
 	/**
 	 * 🔥 날짜 범위로 콘서트 조회 - COMPLETED/CANCELLED 제외
 	 */
@@ -48,12 +103,12 @@ public interface ConcertRepository extends JpaRepository<Concert, Long> {
 
 	/**
 	 * 🔥 가격 범위로 콘서트 조회 - COMPLETED/CANCELLED 제외
+	 * 좌석을 조인하지 않고 콘서트 좌석 요약만 조회 (범위 안의 가격 구간이 하나라도 있는 콘서트)
 	 */
-	@Query("SELECT DISTINCT c FROM Concert c " +
-		"JOIN c.concertSeats cs " +
+	@Query("SELECT c FROM Concert c " +
+		"JOIN ConcertSeatSummary s ON s.concertId = c.concertId " +
 		"WHERE c.status IN ('SCHEDULED', 'ON_SALE', 'SOLD_OUT') AND " +  // 🔥 COMPLETED, CANCELLED 제외
-		"(:minPrice IS NULL OR cs.price >= :minPrice) AND " +
-		"(:maxPrice IS NULL OR cs.price <= :maxPrice) " +
+		PRICE_SUMMARY_CONDITION +
 		"ORDER BY c.concertDate ASC")
 	List<Concert> findByPriceRange(@Param("minPrice") BigDecimal minPrice,
 		@Param("maxPrice") BigDecimal maxPrice);
@@ -61,20 +116,18 @@ public interface ConcertRepository extends JpaRepository<Concert, Long> {
 	/**
 	 * 🔥 날짜와 가격 범위로 콘서트 조회 - COMPLETED/CANCELLED 제외
 	 */
-	@Query("SELECT DISTINCT c FROM Concert c " +
-		"JOIN c.concertSeats cs " +
+	@Query("SELECT c FROM Concert c " +
+		"JOIN ConcertSeatSummary s ON s.concertId = c.concertId " +
 		"WHERE c.status IN ('SCHEDULED', 'ON_SALE', 'SOLD_OUT') AND " +  // 🔥 COMPLETED, CANCELLED 제외
 		"(:startDate IS NULL OR c.concertDate >= :startDate) AND " +
 		"(:endDate IS NULL OR c.concertDate <= :endDate) AND " +
-		"(:minPrice IS NULL OR cs.price >= :minPrice) AND " +
-		"(:maxPrice IS NULL OR cs.price <= :maxPrice) " +
+		PRICE_SUMMARY_CONDITION +
 		"ORDER BY c.concertDate ASC")
 	List<Concert> findByDateAndPriceRange(@Param("startDate") LocalDate startDate,
 		@Param("endDate") LocalDate endDate,
 		@Param("minPrice") BigDecimal minPrice,
 		@Param("maxPrice") BigDecimal maxPrice);
 
-	@EntityGraph(attributePaths = {"concertSeats"})
 	Page<Concert> findByStatusOrderByConcertDateAsc(ConcertStatus status,
 		Pageable pageable);
 
@@ -104,6 +157,37 @@ public interface ConcertRepository extends JpaRepository<Concert, Long> {
 		"c.status IN ('SCHEDULED', 'ON_SALE', 'SOLD_OUT')")
 	Page<Concert> findActiveConcerts(Pageable pageable);
 
+	/**
+	 * 커서 페이징 목록 첫 페이지 조회 (좌석 컬렉션 미조회, 목록 DTO로 바로 조회)
+	 * 조회 건수는 Pageable의 크기로 제한 (count 쿼리 없음)
+	 */
+	@Query("SELECT " + CONCERT_LIST_PROJECTION + " FROM Concert c WHERE " +
+		"c.status IN :statuses " +
+		"ORDER BY c.concertDate ASC, c.concertId ASC")
+	List<ConcertDTO> findConcertListFirstPage(@Param("statuses") Collection<ConcertStatus> statuses,
+		Pageable pageable);
+
+	/**
+	 * 커서 페이징 목록 다음 페이지 조회 - (공연일, 콘서트 ID)가 커서보다 뒤인 콘서트만 조회
+	 * OFFSET 없이 (concert_date, concert_id) 인덱스 순서로 이어서 읽고, 상태는 필터로만 적용
+	 * (status IN 조건이 선두 컬럼이면 정렬된 인덱스 스캔이 깨지므로 상태는 인덱스에 포함하지 않음)
+	 */
+	@Query("SELECT " + CONCERT_LIST_PROJECTION + " FROM Concert c WHERE " +
+		"c.status IN :statuses AND " +
+		"(c.concertDate > :cursorDate OR (c.concertDate = :cursorDate AND c.concertId > :cursorId)) " +
+		"ORDER BY c.concertDate ASC, c.concertId ASC")
+	List<ConcertDTO> findConcertListAfter(@Param("statuses") Collection<ConcertStatus> statuses,
+		@Param("cursorDate") LocalDate cursorDate,
+		@Param("cursorId") Long cursorId,
+		Pageable pageable);
+
+	/**
+	 * 활성 콘서트 ID 목록 조회 - COMPLETED/CANCELLED 제외 (좌석 요약 주기적 갱신용)
+	 */
+	@Query("SELECT c.concertId FROM Concert c WHERE " +
+		"c.status IN ('SCHEDULED', 'ON_SALE', 'SOLD_OUT')")
+	List<Long> findActiveConcertIds();
+
 	/**
 	 * 🔥 기본 콘서트 목록 조회 (페이징 없음, 기본 정렬) - COMPLETED/CANCELLED 제외
 	 */
@@ -1,11 +1,13 @@
 package com.team03.ticketmon.concert.repository;
 
 import com.team03.ticketmon.concert.domain.ConcertSeat;
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import com.team03.ticketmon.concert.domain.ConcertSeat;
@@ -39,6 +41,15 @@ public interface ConcertSeatRepository extends JpaRepository<ConcertSeat, Long>
 			"ORDER BY s.section, s.seatRow, s.seatNumber")
 	List<ConcertSeat> findByConcertIdWithDetails(@Param("concertId") Long concertId);
 
+	/**
+	 * 특정 콘서트에서 티켓이 발급된(예매 완료) 좌석 ID 목록 조회
+	 * 캐시된 좌석 배치도에 예매 상태를 덧입힐 때 사용 (좌석/공연장 정보는 조회하지 않음)
+	 */
+	@Query("SELECT cs.seat.seatId FROM ConcertSeat cs " +
+			"JOIN cs.ticket t " +
+			"WHERE cs.concert.concertId = :concertId")
+	List<Long> findBookedSeatIdsByConcertId(@Param("concertId") Long concertId);
+
 	/**
 	 * 특정 콘서트의 특정 좌석만 조회 (성능 최적화)
 	 * SeatInfoHelper에서 사용
@@ -120,6 +131,30 @@ public interface ConcertSeatRepository extends JpaRepository<ConcertSeat, Long>
 											   @Param("userId") Long userId);
 
 
+	/**
+	 * 콘서트 좌석의 등급/가격별 전체/예매 좌석 수 집계
+	 * 콘서트 좌석 요약(ConcertSeatSummary) 갱신용
+	 */
+	@Query("SELECT cs.grade AS grade, cs.price AS price, COUNT(cs) AS totalSeats, COUNT(t) AS bookedSeats " +
+			"FROM ConcertSeat cs " +
+			"LEFT JOIN cs.ticket t " +
+			"WHERE cs.concert.concertId = :concertId " +
+			"GROUP BY cs.grade, cs.price")
+	List<PriceTierCount> countSeatsByPriceTier(@Param("concertId") Long concertId);
+
+	/**
+	 * 등급/가격별 좌석 수 집계 Projection
+	 */
+	interface PriceTierCount {
+		SeatGrade getGrade();
+
+		BigDecimal getPrice();
+
+		Long getTotalSeats();
+
+		Long getBookedSeats();
+	}
+
 	/**
 	 * 특정 콘서트의 모든 좌석에서 티켓 삭제 (AVAILABLE 상태로 초기화)
 	 * 예매 시작 전 초기화용
@@ -0,0 +1,13 @@
+package com.team03.ticketmon.concert.repository;
+
+import com.team03.ticketmon.concert.domain.ConcertSeatSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Concert Seat Summary Repository
+ * 콘서트 가격/잔여 좌석 요약 데이터 접근 계층
+ */
+@Repository
+public interface ConcertSeatSummaryRepository extends JpaRepository<ConcertSeatSummary, Long> {
+}
@@ -12,6 +12,7 @@ import com.team03.ticketmon.concert.domain.Concert;
 import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
 import com.team03.ticketmon.concert.repository.ConcertRepository;
 import com.team03.ticketmon.concert.service.ConcertService; // 🔥 추가
+import com.team03.ticketmon.queue.service.ActiveConcertIndexService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +23,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ConcertCompletionScheduler {
 
 	private final ConcertRepository concertRepository;
+	private final ActiveConcertIndexService activeConcertIndexService;
 
 	/**
 	 * 매시간 실행하여 공연 종료된 콘서트들을 COMPLETED로 변경
@@ -52,6 +54,7 @@ public class ConcertCompletionScheduler {
 					concert.setStatus(ConcertStatus.COMPLETED);
 
 					concertRepository.save(concert);
+					activeConcertIndexService.onStatusChanged(concert.getConcertId(), ConcertStatus.COMPLETED);
 					completedCount++;
 					hasCompletedConcerts = true; // 🔥 완료 처리가 발생했음을 표시
 
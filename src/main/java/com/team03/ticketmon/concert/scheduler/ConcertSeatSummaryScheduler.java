@@ -0,0 +1,72 @@
+package com.team03.ticketmon.concert.scheduler;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.team03.ticketmon.concert.repository.ConcertRepository;
+import com.team03.ticketmon.concert.service.ConcertSeatSummaryService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 콘서트 가격/잔여 좌석 요약 갱신 스케줄러
+ * - 짧은 주기: 예매 등으로 변경 표시된 콘서트만 다시 집계 (콘서트당 주기마다 1번)
+ * - 긴 주기: 활성 콘서트 전체를 다시 집계하여 외부에서 등록된 좌석과 다른 노드의 변경분 반영
+ * - 집계는 콘서트마다 별도 트랜잭션으로 수행하므로 한 콘서트의 실패가 다른 콘서트에 영향을 주지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConcertSeatSummaryScheduler {
+
+	private final ConcertRepository concertRepository;
+	private final ConcertSeatSummaryService concertSeatSummaryService;
+
+	@Scheduled(fixedDelayString = "${concert.seat-summary.flush-interval-ms:5000}")
+	public void refreshDirtySummaries() {
+		for (Long concertId : concertSeatSummaryService.drainDirtyConcertIds()) {
+			try {
+				concertSeatSummaryService.refresh(concertId);
+			} catch (Exception e) {
+				log.error("콘서트 좌석 요약 갱신 중 오류 발생: concertId={}", concertId, e);
+				concertSeatSummaryService.markDirty(concertId); // 다음 주기에 재시도
+			}
+		}
+	}
+
+	/**
+	 * 애플리케이션 시작 시 활성 콘서트 요약 갱신
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		refreshActiveSummaries();
+	}
+
+	@Scheduled(initialDelayString = "${concert.seat-summary.full-refresh-interval-ms:1800000}",
+		fixedDelayString = "${concert.seat-summary.full-refresh-interval-ms:1800000}")
+	public void refreshActiveSummaries() {
+		List<Long> concertIds;
+		try {
+			concertIds = concertRepository.findActiveConcertIds();
+		} catch (Exception e) {
+			log.error("좌석 요약 갱신 대상 콘서트 조회 중 오류 발생", e);
+			return;
+		}
+
+		int failed = 0;
+		for (Long concertId : concertIds) {
+			try {
+				concertSeatSummaryService.refresh(concertId);
+			} catch (Exception e) {
+				failed++;
+				log.error("콘서트 좌석 요약 갱신 중 오류 발생: concertId={}", concertId, e);
+			}
+		}
+		log.info("📊 활성 콘서트 좌석 요약 갱신 완료 - 대상: {}건, 실패: {}건", concertIds.size(), failed);
+	}
+}
@@ -1,13 +1,28 @@
 package com.team03.ticketmon.concert.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.team03.ticketmon._global.config.AiBatchProperties;
 import com.team03.ticketmon._global.config.AiSummaryConditionProperties;
 import com.team03.ticketmon._global.exception.BusinessException;
 import com.team03.ticketmon._global.exception.ErrorCode;
@@ -19,6 +34,8 @@ import com.team03.ticketmon.concert.repository.ConcertRepository;
 import com.team03.ticketmon.concert.repository.ReviewRepository;
 import com.team03.ticketmon.concert.util.ReviewChecksumGenerator;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -26,6 +43,12 @@ import lombok.extern.slf4j.Slf4j;
  *
  * 스케줄링을 통해 주기적으로 콘서트 리뷰들을 AI로 요약하는 배치 작업을 수행합니다.
  *
+ * 📌 배치 실행 방식:
+ * - 콘서트별 요약을 크기가 제한된 작업 스레드 풀에서 동시에 처리 (ai.batch.parallelism)
+ * - 콘서트 1건이 제한 시간(ai.batch.concert-timeout-seconds)을 넘기면 해당 콘서트만 실패 처리하고 나머지는 계속 진행
+ * - 이전 배치가 아직 실행 중이면 이번 실행은 건너뜀 (배치 중복 실행 방지)
+ * - AI API 호출 속도는 TogetherAiClient의 AiRequestRateLimiter가 전체 호출 공통으로 제한
+ *
  * 팀 예외 처리 규칙 준수:
  * - BusinessException + ErrorCode 사용
  * - GlobalExceptionHandler와 연동
@@ -53,56 +76,87 @@ public class AiBatchSummaryService {
 	@Autowired
 	private AiSummaryConditionProperties conditionProperties;
 
+	@Autowired
+	private AiBatchProperties batchProperties;
+
+	// 배치 실행 중 여부 (배치 중복 실행 방지)
+	private final AtomicBoolean batchRunning = new AtomicBoolean(false);
+
+	// 콘서트별 요약 작업 스레드 풀
+	private ExecutorService batchExecutor;
+
+	// 콘서트별 처리 제한 시간 감시용 단일 스레드 스케줄러
+	private ScheduledExecutorService timeoutScheduler;
+
+	/**
+	 * 콘서트 처리 결과
+	 */
+	private enum ConcertOutcome {
+		SUCCESS, SKIPPED, FAILED
+	}
+
+	@PostConstruct
+	public void initExecutors() {
+		batchExecutor = Executors.newFixedThreadPool(
+			Math.max(1, batchProperties.getParallelism()), namedThreadFactory("ai-batch-"));
+		timeoutScheduler = Executors.newSingleThreadScheduledExecutor(namedThreadFactory("ai-batch-timeout-"));
+	}
+
+	@PreDestroy
+	public void shutdownExecutors() {
+		batchExecutor.shutdownNow();
+		timeoutScheduler.shutdownNow();
+	}
+
 	/**
 	 * 🕒 매일 새벽 2시에 AI 배치 요약 처리 실행
 	 *
-	 * @return 배치 처리 결과 DTO
+	 * @return 배치 처리 결과 DTO (이전 배치가 실행 중이라 건너뛴 경우 처리 건수 0)
 	 */
 	@Scheduled(cron = "0 */20 * * * *") //개발용: 20분 간격으로 스케줄러 설정
 	public AiBatchSummaryResultDTO processBatch() {
-		log.info("AI 배치 요약 처리 시작");
+		if (!batchRunning.compareAndSet(false, true)) {
+			log.warn("이전 AI 배치 요약 처리가 아직 진행 중이어서 이번 실행을 건너뜁니다.");
+			return new AiBatchSummaryResultDTO(0, 0, 0, LocalDateTime.now());
+		}
 
+		log.info("AI 배치 요약 처리 시작");
 		try {
 			// 1단계: 사전 필터링 - 최소 리뷰 개수 이상인 콘서트들만 선별
 			List<Concert> candidateConcerts = concertRepository.findConcertsWithMinimumReviews(
 				conditionProperties.getMinReviewCount()
 			);
 
-			log.info("AI 배치 처리 대상 콘서트 수: {}", candidateConcerts.size());
+			log.info("AI 배치 처리 대상 콘서트 수: {}, 동시 처리 수: {}",
+				candidateConcerts.size(), batchProperties.getParallelism());
+
+			// 2단계: 후보군을 작업 스레드 풀에 나눠 정밀 검사 및 처리
+			List<CompletableFuture<ConcertOutcome>> outcomes = new ArrayList<>(candidateConcerts.size());
+			for (Concert concert : candidateConcerts) {
+				outcomes.add(submitConcert(concert));
+			}
 
-			// 2단계: 후보군 정밀 검사 및 처리
+			// 3단계: 전체 처리 결과 집계
 			int successCount = 0;
 			int failCount = 0;
 
-			for (Concert concert : candidateConcerts) {
+			for (int i = 0; i < outcomes.size(); i++) {
+				Concert concert = candidateConcerts.get(i);
 				try {
-					// 2-1. 업데이트 필요성 체크
-					ReviewChangeDetectionDTO detection = conditionService.checkNeedsUpdate(concert, conditionProperties);
-
-					if (detection.getNeedsUpdate()) {
-						// 2-2. AI 요약 처리 실행
-						processConcertAiSummary(concert);
+					ConcertOutcome outcome = outcomes.get(i).join();
+					if (outcome == ConcertOutcome.SUCCESS) {
 						successCount++;
-						log.info("AI 요약 처리 성공: concertId={}", concert.getConcertId());
-					} else {
-						// 2-3. 처리 스킵 (조건 미충족)
-						log.debug("AI 요약 처리 스킵: concertId={}, 이유={}",
-							concert.getConcertId(), detection.getChangeReason());
+					} else if (outcome == ConcertOutcome.FAILED) {
+						failCount++;
 					}
-
-				} catch (BusinessException e) {
-					// 비즈니스 예외는 예상된 상황으로 간주하고 실패 처리
+				} catch (CompletionException e) {
 					failCount++;
-					handleAiSummaryFailure(concert, e);
-					log.warn("AI 요약 처리 비즈니스 실패: concertId={}, 에러코드={}, 메시지={}",
-						concert.getConcertId(), e.getErrorCode().getCode(), e.getMessage());
-
-				} catch (Exception e) {
-					// 예상치 못한 시스템 오류
-					failCount++;
-					handleAiSummaryFailure(concert, e);
-					log.error("AI 요약 처리 시스템 실패: concertId={}, 오류={}",
-						concert.getConcertId(), e.getMessage(), e);
+					if (e.getCause() instanceof TimeoutException) {
+						log.warn("AI 요약 처리 제한 시간 초과: concertId={}, 제한시간={}초",
+							concert.getConcertId(), batchProperties.getConcertTimeoutSeconds());
+					} else {
+						log.error("AI 요약 처리 작업 실행 실패: concertId={}", concert.getConcertId(), e.getCause());
+					}
 				}
 			}
 
@@ -117,35 +171,104 @@ public class AiBatchSummaryService {
 			log.error("AI 배치 요약 처리 중 치명적 오류 발생", e);
 			throw new BusinessException(ErrorCode.SERVER_ERROR,
 				"AI 배치 요약 처리 중 시스템 오류가 발생했습니다.");
+		} finally {
+			batchRunning.set(false);
 		}
 	}
 
 	/**
-	 * 🎯 개별 콘서트 AI 요약 처리 메서드
+	 * 콘서트 1건을 작업 스레드 풀에 제출
 	 *
-	 * @param concert 요약을 생성할 콘서트
-	 * @throws BusinessException 요약 생성 실패 시 (팀 규칙 준수)
+	 * 작업 스레드가 처리를 시작한 시점부터 제한 시간을 재고, 시간이 지나면 결과를 TimeoutException으로 완료한 뒤
+	 * 작업 스레드를 인터럽트합니다 (속도 제한 대기 중이면 즉시 중단, 응답 대기 중이면 RestTemplate 읽기 타임아웃까지 진행).
+	 * 제한 시간이 지난 작업은 AI 요약을 저장하지 않고 실패 정보만 기록합니다.
 	 */
-	@Transactional
-	public void processConcertAiSummary(Concert concert) {
+	private CompletableFuture<ConcertOutcome> submitConcert(Concert concert) {
+		CompletableFuture<ConcertOutcome> result = new CompletableFuture<>();
 		try {
-			// 1단계: 유효한 리뷰들 조회
-			List<Review> reviews = reviewRepository.findValidReviewsForAiSummary(concert.getConcertId());
+			batchExecutor.execute(() -> {
+				// 인터럽트 대상 작업 스레드 (작업이 끝나면 null로 바꿔 다음 작업이 인터럽트되지 않도록 함)
+				Thread[] worker = { Thread.currentThread() };
+				ScheduledFuture<?> watchdog = timeoutScheduler.schedule(() -> {
+					if (result.completeExceptionally(new TimeoutException())) {
+						synchronized (worker) {
+							if (worker[0] != null) {
+								worker[0].interrupt();
+							}
+						}
+					}
+				}, batchProperties.getConcertTimeoutSeconds(), TimeUnit.SECONDS);
 
-			// 2단계: 리뷰 존재 여부 검증 (팀 규칙 준수)
-			validateReviewsForSummary(reviews, concert.getConcertId());
+				try {
+					result.complete(processCandidate(concert, result::isDone));
+				} catch (Throwable t) {
+					result.completeExceptionally(t);
+				} finally {
+					watchdog.cancel(false);
+					synchronized (worker) {
+						worker[0] = null;
+					}
+					Thread.interrupted(); // 풀 스레드 재사용 전 인터럽트 상태 해제
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			result.completeExceptionally(e);
+		}
+		return result;
+	}
 
-			// 3단계: AI 요약 생성 (AiSummaryService에서 예외 처리)
-			String aiSummary = aiSummaryService.generateSummary(reviews);
+	/**
+	 * 🎯 배치 대상 콘서트 1건 처리 (업데이트 필요성 체크 → AI 요약 → 실패 시 실패 정보 기록)
+	 *
+	 * @param concert 처리할 콘서트
+	 * @param timedOut 제한 시간 초과 여부
+	 * @return 처리 결과
+	 */
+	private ConcertOutcome processCandidate(Concert concert, BooleanSupplier timedOut) {
+		try {
+			// 1. 업데이트 필요성 체크
+			ReviewChangeDetectionDTO detection = conditionService.checkNeedsUpdate(concert, conditionProperties);
+
+			if (!detection.getNeedsUpdate()) {
+				// 처리 스킵 (조건 미충족)
+				log.debug("AI 요약 처리 스킵: concertId={}, 이유={}",
+					concert.getConcertId(), detection.getChangeReason());
+				return ConcertOutcome.SKIPPED;
+			}
 
-			// 4단계: Concert 엔티티 업데이트
-			updateConcertWithAiSummary(concert, reviews, aiSummary);
+			// 2. AI 요약 처리 실행
+			summarizeAndSave(concert, timedOut);
+			log.info("AI 요약 처리 성공: concertId={}", concert.getConcertId());
+			return ConcertOutcome.SUCCESS;
 
-			// 5단계: 데이터베이스 저장
-			concertRepository.save(concert);
+		} catch (BusinessException e) {
+			// 비즈니스 예외는 예상된 상황으로 간주하고 실패 처리
+			Thread.interrupted(); // 제한 시간 초과로 인한 인터럽트 해제 후 실패 정보 저장
+			handleAiSummaryFailure(concert, e);
+			log.warn("AI 요약 처리 비즈니스 실패: concertId={}, 에러코드={}, 메시지={}",
+				concert.getConcertId(), e.getErrorCode().getCode(), e.getMessage());
+			return ConcertOutcome.FAILED;
 
-			log.info("콘서트 AI 요약 업데이트 완료: concertId={}, 원본리뷰수={}",
-				concert.getConcertId(), reviews.size());
+		} catch (Exception e) {
+			// 예상치 못한 시스템 오류
+			Thread.interrupted();
+			handleAiSummaryFailure(concert, e);
+			log.error("AI 요약 처리 시스템 실패: concertId={}, 오류={}",
+				concert.getConcertId(), e.getMessage(), e);
+			return ConcertOutcome.FAILED;
+		}
+	}
+
+	/**
+	 * 🎯 개별 콘서트 AI 요약 처리 메서드
+	 *
+	 * @param concert 요약을 생성할 콘서트
+	 * @throws BusinessException 요약 생성 실패 시 (팀 규칙 준수)
+	 */
+	@Transactional
+	public void processConcertAiSummary(Concert concert) {
+		try {
+			summarizeAndSave(concert, () -> false);
 
 		} catch (BusinessException e) {
 			// 사용자 친화적 메시지로 변환
@@ -162,6 +285,47 @@ public class AiBatchSummaryService {
 		}
 	}
 
+	/**
+	 * 리뷰 조회 → AI 요약 생성 → Concert 저장
+	 *
+	 * @param concert 요약을 생성할 콘서트
+	 * @param timedOut 제한 시간 초과 여부 (초과 시 요약을 저장하지 않음)
+	 * @throws BusinessException 요약 생성 실패 또는 제한 시간 초과 시
+	 */
+	private void summarizeAndSave(Concert concert, BooleanSupplier timedOut) {
+		// 1단계: 유효한 리뷰들 조회
+		List<Review> reviews = reviewRepository.findValidReviewsForAiSummary(concert.getConcertId());
+
+		// 2단계: 리뷰 존재 여부 검증 (팀 규칙 준수)
+		validateReviewsForSummary(reviews, concert.getConcertId());
+
+		// 3단계: AI 요약 생성 (AiSummaryService에서 예외 처리)
+		String aiSummary = aiSummaryService.generateSummary(reviews);
+
+		// 제한 시간이 지난 결과는 저장하지 않음 (배치에서는 이미 실패로 집계됨)
+		if (timedOut.getAsBoolean()) {
+			throw new BusinessException(ErrorCode.AI_REQUEST_TIMEOUT);
+		}
+
+		// 4단계: Concert 엔티티 업데이트
+		updateConcertWithAiSummary(concert, reviews, aiSummary);
+
+		// 5단계: 데이터베이스 저장
+		concertRepository.save(concert);
+
+		log.info("콘서트 AI 요약 업데이트 완료: concertId={}, 원본리뷰수={}",
+			concert.getConcertId(), reviews.size());
+	}
+
+	private static ThreadFactory namedThreadFactory(String prefix) {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
 	/**
 	 * 🎨 사용자 친화적 에러 메시지 변환
 	 */
@@ -33,6 +33,7 @@ import java.util.List;
 		private static final int MAX_REVIEWS_FOR_SUMMARY = 100;
 		private static final int MIN_SUMMARY_LENGTH = 30;
 		private static final int MAX_SUMMARY_LENGTH = 1500;
+		private static final int PROMPT_FRAME_CHARS = 256; // 프롬프트 머리말/꼬리말 문자 수 여유분
 
 		/**
 		 * 🎯 리뷰 목록을 받아 AI 요약을 생성하는 메인 메서드
@@ -48,12 +49,13 @@ import java.util.List;
 
 				log.info("AI 리뷰 요약 생성 시작 - 리뷰 개수: {}", reviews.size());
 
-				// 2단계: 토큰 제한 적용한 리뷰 선별 (신규)
-				List<Review> selectedReviews = reviewSelectorService.selectReviewsWithinTokenLimit(
-					reviews, aiProperties.getMaxTokensPerRequest());
+				// 2단계: 토큰 제한 적용한 리뷰 선별 (리뷰별 문자 수는 선별 시 한 번만 계산)
+				ReviewSelectorService.Selection selection = reviewSelectorService.selectWithinTokenLimit(
+					reviews, aiProperties.getMaxTokensPerRequest(), aiProperties.getReviewSelectionStrategy());
+				List<Review> selectedReviews = selection.reviews();
 
-				// 3단계: 선별된 리뷰로 프롬프트 생성
-				String prompt = buildPrompt(selectedReviews);
+				// 3단계: 선별된 리뷰로 프롬프트 생성 (선별 결과의 문자 수로 버퍼 크기 지정)
+				String prompt = buildPrompt(selectedReviews, selection.totalChars());
 
 				// 4단계: 최종 토큰 수 검증 (신규)
 				int finalTokens = TokenCalculator.estimateTokens(prompt);
@@ -123,10 +125,11 @@ import java.util.List;
 		 * 🔧 개선된 AI 프롬프트 구성 메서드
 		 * CSV 형식이 아닌 자연어 형식으로 구성하여 AI가 더 잘 이해할 수 있도록 개선
 		 * @param reviews 요약할 리뷰 목록
+		 * @param reviewChars 리뷰 추정 문자 수 합계 (선별 시 계산된 값, 버퍼 크기 지정용)
 		 * @return 완성된 AI 프롬프트
 		 */
-		private String buildPrompt(List<Review> reviews) {
-			StringBuilder prompt = new StringBuilder();
+		private String buildPrompt(List<Review> reviews, long reviewChars) {
+			StringBuilder prompt = new StringBuilder((int) (PROMPT_FRAME_CHARS + reviewChars));
 
 			// 프롬프트 헤더: AI에게 작업 지시사항 명확히 전달
 			prompt.append("다음은 콘서트 관람 후기들입니다. 이 후기들을 종합하여 요약해주세요.\n\n");
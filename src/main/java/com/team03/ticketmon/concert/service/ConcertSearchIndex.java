@@ -0,0 +1,352 @@
+package com.team03.ticketmon.concert.service;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.domain.Concert;
+import com.team03.ticketmon.concert.repository.ConcertRepository;
+import com.team03.ticketmon.concert.util.NGramTokenizer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 콘서트 키워드 검색용 애플리케이션 내 역색인 (n-gram)
+ * 제목/아티스트/공연장명을 글자 bigram으로 색인하여, 키워드를 포함하는 콘서트 ID를 순위순으로 반환합니다.
+ * JPA는 반환된 ID의 콘서트만 조회하므로 `LIKE '%키워드%'` 전체 테이블 스캔이 필요 없습니다.
+ *
+ * 📌 검색 결과:
+ * <ul>
+ *   <li>후보: 검색어의 모든 bigram을 포함하는 콘서트 (posting 교집합, 작은 posting부터)</li>
+ *   <li>확정: 후보의 필드에 검색어가 실제로 포함되는지 다시 확인 → 기존 LIKE 검색과 같은 결과 집합</li>
+ *   <li>순위: 제목 > 아티스트 > 공연장명 일치 가중치 합, 제목이 검색어로 시작하면 가산, 동점은 공연일 오름차순</li>
+ *   <li>상태(COMPLETED/CANCELLED 제외)는 색인하지 않고 JPA 조회 시 필터링 (스케줄러 상태 변경도 즉시 반영)</li>
+ * </ul>
+ *
+ * 📌 갱신:
+ * 애플리케이션 시작 시 DB에서 재구성하고, 판매자 콘서트 생성/수정/취소 시 커밋 이후 해당 콘서트만 갱신합니다.
+ * 갱신한 노드는 변경 알림을 발행하고, 다른 노드들은 해당 콘서트를 DB에서 다시 색인합니다.
+ * 각 노드는 자신의 색인을 갱신한 뒤 검색 결과 캐시를 비우므로, 갱신 전 색인으로 채워진 결과가 남지 않습니다.
+ * 알림이 유실된 경우는 주기적 재구성으로 보정됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConcertSearchIndex {
+
+	// 필드별 순위 가중치
+	private static final int TITLE_WEIGHT = 4;
+	private static final int ARTIST_WEIGHT = 2;
+	private static final int VENUE_WEIGHT = 1;
+	private static final int TITLE_PREFIX_BONUS = 1;
+
+	private static final String SEARCH_RESULTS_CACHE = "searchResults";
+
+	private final ConcertRepository concertRepository;
+	private final RedissonClient redissonClient;
+	private final CacheManager cacheManager;
+
+	// 노드 식별자 (자신이 발행한 변경 알림 무시용)
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private RTopic updateTopic;
+	private int listenerId;
+
+	// 색인된 콘서트 (정규화된 필드)
+	private final Map<Long, IndexedConcert> documents = new ConcurrentHashMap<>();
+	// n-gram → 콘서트 ID
+	private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void init() {
+		updateTopic = redissonClient.getTopic(RedisKeyGenerator.CONCERT_SEARCH_INDEX_TOPIC);
+		listenerId = updateTopic.addListener(String.class, (channel, message) -> handleRemoteUpdate(message));
+	}
+
+	@PreDestroy
+	public void destroy() {
+		updateTopic.removeListener(listenerId);
+	}
+
+	/**
+	 * 애플리케이션 시작 시 DB에서 색인 재구성
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		rebuild();
+	}
+
+	/**
+	 * 변경 알림 유실 등으로 어긋난 색인 보정을 위한 주기적 재구성
+	 */
+	@Scheduled(initialDelayString = "${concert.search.rebuild-interval-ms:600000}",
+		fixedDelayString = "${concert.search.rebuild-interval-ms:600000}")
+	public void scheduledRebuild() {
+		rebuild();
+	}
+
+	/**
+	 * DB의 전체 콘서트로 색인 재구성 (검색 대상 컬럼만 조회)
+	 */
+	public synchronized void rebuild() {
+		try {
+			List<ConcertRepository.SearchSource> sources = concertRepository.findAllSearchSources();
+
+			Set<Long> indexedIds = new HashSet<>();
+			for (ConcertRepository.SearchSource source : sources) {
+				put(source.getConcertId(), source.getTitle(), source.getArtist(), source.getVenueName(),
+					source.getConcertDate());
+				indexedIds.add(source.getConcertId());
+			}
+			for (Long staleId : new ArrayList<>(documents.keySet())) {
+				if (!indexedIds.contains(staleId)) {
+					delete(staleId);
+				}
+			}
+			log.info("🔍 콘서트 검색 색인 재구성 완료 - 콘서트 수: {}, n-gram 수: {}", documents.size(), postings.size());
+		} catch (Exception e) {
+			log.error("❌ 콘서트 검색 색인 재구성 실패", e);
+		}
+	}
+
+	/**
+	 * 콘서트 색인 추가/갱신 (트랜잭션 안에서 호출되면 커밋 이후 반영)
+	 * 반영 후 다른 노드에 변경을 알리고 검색 결과 캐시를 비웁니다.
+	 */
+	public void index(Concert concert) {
+		Long concertId = concert.getConcertId();
+		String title = concert.getTitle();
+		String artist = concert.getArtist();
+		String venueName = concert.getVenueName();
+		LocalDate concertDate = concert.getConcertDate();
+		runAfterCommit(() -> {
+			put(concertId, title, artist, venueName, concertDate);
+			onLocalChange(concertId);
+		});
+	}
+
+	/**
+	 * 콘서트 색인 제거 (트랜잭션 안에서 호출되면 커밋 이후 반영)
+	 * 반영 후 다른 노드에 변경을 알리고 검색 결과 캐시를 비웁니다.
+	 */
+	public void remove(Long concertId) {
+		runAfterCommit(() -> {
+			delete(concertId);
+			onLocalChange(concertId);
+		});
+	}
+
+	/**
+	 * 다른 노드의 변경 알림 처리 - 해당 콘서트를 DB에서 다시 색인 (없으면 제거)
+	 * 취소된 콘서트도 DB에 남아 있으면 재구성과 같이 색인되며, 상태는 JPA 조회 시 필터링됩니다.
+	 *
+	 * @param message `{nodeId}:{concertId}`
+	 */
+	void handleRemoteUpdate(String message) {
+		try {
+			int separator = message.lastIndexOf(':');
+			if (nodeId.equals(message.substring(0, separator))) {
+				return;
+			}
+			Long concertId = Long.valueOf(message.substring(separator + 1));
+
+			concertRepository.findSearchSourceByConcertId(concertId).ifPresentOrElse(
+				source -> put(source.getConcertId(), source.getTitle(), source.getArtist(), source.getVenueName(),
+					source.getConcertDate()),
+				() -> delete(concertId));
+			evictSearchResults();
+			log.debug("🔍 다른 노드의 검색 색인 변경 반영 - concertId: {}", concertId);
+		} catch (Exception e) {
+			log.warn("⚠️ 검색 색인 변경 알림 처리 실패 (주기적 재구성에서 보정): message={}, error={}",
+				message, e.getMessage());
+		}
+	}
+
+	/**
+	 * 키워드를 제목/아티스트/공연장명에 포함하는 콘서트 ID를 순위순으로 조회 (대소문자 무시)
+	 *
+	 * @param keyword 검색어 (앞뒤 공백은 호출 측에서 제거)
+	 * @return 순위순 콘서트 ID 목록 (상태 무관)
+	 */
+	public List<Long> search(String keyword) {
+		String query = NGramTokenizer.normalize(keyword);
+		Set<String> grams = NGramTokenizer.queryGrams(query);
+		if (grams.isEmpty()) {
+			return List.of();
+		}
+
+		// 작은 posting부터 교집합
+		List<Set<Long>> gramPostings = new ArrayList<>(grams.size());
+		for (String gram : grams) {
+			Set<Long> posting = postings.get(gram);
+			if (posting == null || posting.isEmpty()) {
+				return List.of();
+			}
+			gramPostings.add(posting);
+		}
+		gramPostings.sort(Comparator.comparingInt(Set::size));
+
+		List<ScoredConcert> matches = new ArrayList<>();
+		for (Long concertId : gramPostings.get(0)) {
+			if (!containsInAll(gramPostings, concertId)) {
+				continue;
+			}
+			IndexedConcert document = documents.get(concertId);
+			int score = document != null ? document.score(query) : 0;
+			if (score > 0) {
+				matches.add(new ScoredConcert(concertId, score, document.concertDate()));
+			}
+		}
+
+		matches.sort(Comparator.comparingInt(ScoredConcert::score).reversed()
+			.thenComparing(ScoredConcert::concertDate, Comparator.nullsLast(Comparator.naturalOrder()))
+			.thenComparing(ScoredConcert::concertId));
+		return matches.stream().map(ScoredConcert::concertId).toList();
+	}
+
+	/**
+	 * 색인된 콘서트 수
+	 */
+	public int size() {
+		return documents.size();
+	}
+
+	private boolean containsInAll(List<Set<Long>> gramPostings, Long concertId) {
+		for (int i = 1; i < gramPostings.size(); i++) {
+			if (!gramPostings.get(i).contains(concertId)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private synchronized void put(Long concertId, String title, String artist, String venueName,
+		LocalDate concertDate) {
+		if (concertId == null) {
+			return;
+		}
+		IndexedConcert document = new IndexedConcert(concertId,
+			NGramTokenizer.normalize(title),
+			NGramTokenizer.normalize(artist),
+			NGramTokenizer.normalize(venueName),
+			concertDate);
+
+		IndexedConcert previous = documents.put(concertId, document);
+		Set<String> previousGrams = previous != null ? previous.grams() : Set.of();
+		Set<String> grams = document.grams();
+
+		for (String gram : previousGrams) {
+			if (!grams.contains(gram)) {
+				removePosting(gram, concertId);
+			}
+		}
+		for (String gram : grams) {
+			if (!previousGrams.contains(gram)) {
+				postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(concertId);
+			}
+		}
+	}
+
+	private synchronized void delete(Long concertId) {
+		IndexedConcert previous = documents.remove(concertId);
+		if (previous != null) {
+			previous.grams().forEach(gram -> removePosting(gram, concertId));
+		}
+	}
+
+	private void removePosting(String gram, Long concertId) {
+		postings.computeIfPresent(gram, (key, posting) -> {
+			posting.remove(concertId);
+			return posting.isEmpty() ? null : posting;
+		});
+	}
+
+	/**
+	 * 다른 노드에 변경을 먼저 알린 뒤 검색 결과 캐시를 비움
+	 */
+	private void onLocalChange(Long concertId) {
+		try {
+			updateTopic.publish(nodeId + ":" + concertId);
+		} catch (Exception e) {
+			// 발행 실패 시 다른 노드의 색인은 주기적 재구성에서 보정
+			log.warn("⚠️ 검색 색인 변경 알림 발행 실패 - concertId: {}, error={}", concertId, e.getMessage());
+		}
+		evictSearchResults();
+	}
+
+	/**
+	 * 검색 결과 캐시 전체 무효화 (색인 반영 이후에 호출해야 갱신 전 색인으로 다시 채워지지 않음)
+	 */
+	private void evictSearchResults() {
+		Cache cache = cacheManager.getCache(SEARCH_RESULTS_CACHE);
+		if (cache != null) {
+			cache.clear();
+		}
+	}
+
+	private void runAfterCommit(Runnable task) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					task.run();
+				}
+			});
+			return;
+		}
+		task.run();
+	}
+
+	/**
+	 * 색인된 콘서트 (정규화된 검색 대상 필드)
+	 */
+	private record IndexedConcert(Long concertId, String title, String artist, String venueName,
+								  LocalDate concertDate) {
+
+		Set<String> grams() {
+			Set<String> grams = new HashSet<>(NGramTokenizer.indexGrams(title));
+			grams.addAll(NGramTokenizer.indexGrams(artist));
+			grams.addAll(NGramTokenizer.indexGrams(venueName));
+			return grams;
+		}
+
+		/**
+		 * 검색어 포함 필드의 가중치 합 (0이면 불일치)
+		 */
+		int score(String query) {
+			int score = 0;
+			if (title.contains(query)) {
+				score += TITLE_WEIGHT + (title.startsWith(query) ? TITLE_PREFIX_BONUS : 0);
+			}
+			if (artist.contains(query)) {
+				score += ARTIST_WEIGHT;
+			}
+			if (venueName.contains(query)) {
+				score += VENUE_WEIGHT;
+			}
+			return score;
+		}
+	}
+
+	private record ScoredConcert(Long concertId, int score, LocalDate concertDate) {
+	}
+}
@@ -0,0 +1,100 @@
+package com.team03.ticketmon.concert.service;
+
+import com.team03.ticketmon.concert.domain.ConcertPriceTier;
+import com.team03.ticketmon.concert.domain.ConcertSeatSummary;
+import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.concert.repository.ConcertSeatSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 콘서트 가격/잔여 좌석 요약(ConcertSeatSummary) 관리 서비스
+ *
+ * 📌 갱신 방식:
+ * <ul>
+ *   <li>예매로 티켓이 생성/삭제되거나 좌석 캐시가 초기화되면 해당 콘서트를 변경 표시(markDirty)</li>
+ *   <li>ConcertSeatSummaryScheduler가 짧은 주기로 변경 표시된 콘서트만 좌석 데이터에서 다시 집계
+ *       (예매가 몰려도 콘서트당 주기마다 1번만 집계하고, 예매 트랜잭션은 요약 행을 잠그지 않음)</li>
+ *   <li>외부에서 등록된 좌석/다른 노드의 변경분은 활성 콘서트 전체 주기적 갱신으로 반영</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConcertSeatSummaryService {
+
+	private final ConcertSeatRepository concertSeatRepository;
+	private final ConcertSeatSummaryRepository concertSeatSummaryRepository;
+
+	// 다음 주기에 다시 집계할 콘서트 ID
+	private final Set<Long> dirtyConcertIds = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * 콘서트 좌석 요약 갱신 필요 표시 (트랜잭션 안에서 호출되면 커밋 이후 표시)
+	 */
+	public void markDirty(Long concertId) {
+		if (concertId == null) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					dirtyConcertIds.add(concertId);
+				}
+			});
+			return;
+		}
+		dirtyConcertIds.add(concertId);
+	}
+
+	/**
+	 * 변경 표시된 콘서트 ID를 꺼내고 표시 해제
+	 */
+	public List<Long> drainDirtyConcertIds() {
+		List<Long> concertIds = new ArrayList<>(dirtyConcertIds);
+		dirtyConcertIds.removeAll(concertIds);
+		return concertIds;
+	}
+
+	/**
+	 * 콘서트 좌석을 등급/가격별로 다시 집계하여 요약 갱신 (좌석이 없으면 요약 삭제)
+	 *
+	 * @param concertId 콘서트 ID
+	 */
+	@Transactional
+	public void refresh(Long concertId) {
+		List<ConcertSeatRepository.PriceTierCount> counts = concertSeatRepository.countSeatsByPriceTier(concertId);
+		if (counts.isEmpty()) {
+			if (concertSeatSummaryRepository.existsById(concertId)) {
+				concertSeatSummaryRepository.deleteById(concertId);
+			}
+			return;
+		}
+
+		List<ConcertPriceTier> tiers = counts.stream()
+			.map(count -> new ConcertPriceTier(
+				count.getGrade(),
+				count.getPrice(),
+				count.getTotalSeats().intValue(),
+				(int) (count.getTotalSeats() - count.getBookedSeats())))
+			.toList();
+
+		ConcertSeatSummary summary = concertSeatSummaryRepository.findById(concertId)
+			.orElseGet(() -> new ConcertSeatSummary(concertId));
+		summary.refresh(tiers);
+		concertSeatSummaryRepository.save(summary);
+
+		log.debug("콘서트 좌석 요약 갱신: concertId={}, 가격 구간={}, 전체={}, 잔여={}",
+			concertId, tiers.size(), summary.getTotalSeats(), summary.getAvailableSeats());
+	}
+}
@@ -1,5 +1,6 @@
 package com.team03.ticketmon.concert.service;
 
+import com.team03.ticketmon.concert.dto.ConcertCursorPageDTO;
 import com.team03.ticketmon.concert.dto.ConcertDTO;
 import com.team03.ticketmon.concert.dto.ConcertFilterDTO;
 import com.team03.ticketmon.concert.dto.ConcertSearchDTO;
@@ -23,10 +24,17 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -42,6 +50,7 @@ public class ConcertService {
 	private final ConcertRepository concertRepository;
 	private final ConcertSeatRepository concertSeatRepository;
 	private final UrlConversionService urlConversionService;
+	private final ConcertSearchIndex concertSearchIndex;
 
 	// COMPLETED, CANCELLED 제외한 활성 상태만
 	private static final List<ConcertStatus> ACTIVE_STATUSES = Arrays.asList(
@@ -148,17 +157,78 @@ public class ConcertService {
 		return concertPage.map(this::convertToDTO);
 	}
 
+	/**
+	 * 콘서트 목록 커서 페이징 조회 - COMPLETED/CANCELLED 제외
+	 * (공연일, 콘서트 ID) 오름차순으로 커서 이후 콘서트를 조회하므로 페이지가 깊어져도 OFFSET 스캔이 없음
+	 *
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지는 null 또는 빈 값)
+	 * @param size   페이지 크기
+	 */
+	public ConcertCursorPageDTO getConcertsByCursor(String cursor, int size) {
+		return getConcertsByCursor(ACTIVE_STATUSES, cursor, size);
+	}
+
+	/**
+	 * 상태별 콘서트 목록 커서 페이징 조회 - 특정 상태 조회용 (관리자 등)
+	 */
+	public ConcertCursorPageDTO getConcertsByCursor(ConcertStatus status, String cursor, int size) {
+		if (status == null) {
+			throw new BusinessException(ErrorCode.INVALID_INPUT);
+		}
+		return getConcertsByCursor(List.of(status), cursor, size);
+	}
+
+	private ConcertCursorPageDTO getConcertsByCursor(List<ConcertStatus> statuses, String cursor, int size) {
+		if (size < MIN_SIZE || size > MAX_SIZE) {
+			throw new BusinessException(ErrorCode.INVALID_PAGE_SIZE);
+		}
+
+		// 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+		Pageable limit = PageRequest.of(0, size + 1);
+		List<ConcertDTO> rows;
+		if (cursor == null || cursor.isBlank()) {
+			rows = concertRepository.findConcertListFirstPage(statuses, limit);
+		} else {
+			ConcertCursor decoded = ConcertCursor.decode(cursor);
+			rows = concertRepository.findConcertListAfter(statuses, decoded.concertDate(), decoded.concertId(), limit);
+		}
+
+		boolean hasNext = rows.size() > size;
+		List<ConcertDTO> content = hasNext ? rows.subList(0, size) : rows;
+		content.forEach(dto ->
+			dto.setPosterImageUrl(urlConversionService.convertToCloudFrontUrl(dto.getPosterImageUrl())));
+
+		String nextCursor = null;
+		if (hasNext) {
+			ConcertDTO last = content.get(content.size() - 1);
+			nextCursor = new ConcertCursor(last.getConcertDate(), last.getConcertId()).encode();
+		}
+
+		log.debug("🔍 콘서트 커서 목록 조회 - size: {}, 조회 수: {}, hasNext: {}", size, content.size(), hasNext);
+		return new ConcertCursorPageDTO(new ArrayList<>(content), nextCursor, hasNext, size);
+	}
+
 	/**
 	 * 키워드로 콘서트 검색 - COMPLETED/CANCELLED 제외
 	 */
 	@Cacheable(value = "searchResults", key = "#keyword")
 	public List<ConcertDTO> searchByKeyword(@Param("keyword") String keyword) {
-		log.info("🔍 [CACHE MISS] searchByKeyword 실행 - keyword: '{}' (DB 조회, COMPLETED/CANCELLED 제외)", keyword);
+		log.info("🔍 [CACHE MISS] searchByKeyword 실행 - keyword: '{}' (검색 색인 조회, COMPLETED/CANCELLED 제외)", keyword);
 		validateKeyword(keyword);
 
-		List<ConcertDTO> results = concertRepository
-			.findByKeyword(keyword.trim())
+		// 검색 색인에서 순위순 ID를 찾고, 해당 콘서트만 조회 (LIKE 전체 스캔 없음)
+		List<Long> rankedIds = concertSearchIndex.search(keyword.trim());
+		if (rankedIds.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, Concert> concerts = concertRepository.findActiveByConcertIdIn(rankedIds)
 			.stream()
+			.collect(Collectors.toMap(Concert::getConcertId, Function.identity()));
+
+		List<ConcertDTO> results = rankedIds.stream()
+			.map(concerts::get)
+			.filter(Objects::nonNull)
 			.map(this::convertToDTO)
 			.collect(Collectors.toList());
 
@@ -182,6 +252,7 @@ public class ConcertService {
 
 	/**
 	 * 가격 범위로 콘서트 필터링 - COMPLETED/CANCELLED 제외
+	 * 좌석 전체가 아닌 콘서트 좌석 요약(ConcertSeatSummary)만 조회
 	 */
 	public List<ConcertDTO> filterByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
 		validatePriceRange(minPrice, maxPrice);
@@ -196,6 +267,7 @@ public class ConcertService {
 
 	/**
 	 * 날짜와 가격 범위로 콘서트 필터링 - COMPLETED/CANCELLED 제외
+	 * 좌석 전체가 아닌 콘서트 좌석 요약(ConcertSeatSummary)만 조회
 	 */
 	public List<ConcertDTO> filterByDateAndPriceRange(
 		LocalDate startDate, LocalDate endDate,
@@ -423,6 +495,32 @@ public class ConcertService {
 		);
 	}
 
+	/**
+	 * 커서 페이징 위치 (마지막으로 반환한 콘서트의 공연일, 콘서트 ID)
+	 * 클라이언트에는 "공연일:콘서트ID"를 URL-safe Base64로 인코딩한 불투명 문자열로 전달
+	 */
+	private record ConcertCursor(LocalDate concertDate, Long concertId) {
+
+		String encode() {
+			String raw = concertDate + ":" + concertId;
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+		}
+
+		static ConcertCursor decode(String cursor) {
+			try {
+				String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+				int separator = raw.indexOf(':');
+				if (separator < 0) {
+					throw new BusinessException(ErrorCode.INVALID_CURSOR);
+				}
+				return new ConcertCursor(LocalDate.parse(raw.substring(0, separator)),
+					Long.parseLong(raw.substring(separator + 1)));
+			} catch (IllegalArgumentException | DateTimeParseException e) {
+				throw new BusinessException(ErrorCode.INVALID_CURSOR);
+			}
+		}
+	}
+
 	@Cacheable(value = "concertQueueStatus", key = "#concertId")
 	public boolean isQueueActive(Long concertId) {
 		log.info("Cache miss! DB에서 concertId {}의 대기열 상태를 조회합니다.", concertId);
@@ -1,71 +1,180 @@
 package com.team03.ticketmon.concert.service;
 
 import com.team03.ticketmon.concert.domain.Review;
+import com.team03.ticketmon.concert.domain.enums.ReviewSelectionStrategy;
 import com.team03.ticketmon.concert.util.TokenCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
-
+import java.util.stream.IntStream;
+
+/**
+ * AI 요약용 리뷰 선별 서비스
+ *
+ * 📌 리뷰별 문자 수를 한 번만 계산하고, 누적 문자 수(예산)로 토큰 제한을 판단합니다.
+ * - LATEST_FIRST: 최신순으로 예산에 닿을 때까지 선택 (O(n), 정렬되어 있지 않으면 O(n log n))
+ * - BEST_COVERAGE: 예산 안에서 담을 수 있는 리뷰 내용(문자 수)이 최대가 되도록 0/1 배낭 문제로 선택
+ *   (예산을 최대 KNAPSACK_CAPACITY_UNITS 칸으로 나눠 O(n × 칸 수)로 계산, 리뷰 무게는 올림하므로 예산 초과 없음)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReviewSelectorService {
 
-	// TokenCalculator는 static 메서드로 변경되어 의존성 주입 불필요
+	// 배낭 문제 예산 분할 칸 수 (정밀도와 계산량의 균형)
+	private static final int KNAPSACK_CAPACITY_UNITS = 2048;
 
 	/**
-	 * 토큰 제한을 고려하여 리뷰 선별
+	 * 리뷰 선별 결과
+	 *
+	 * @param reviews 선별된 리뷰 (최신순)
+	 * @param totalChars 선별된 리뷰의 추정 문자 수 합계 (프롬프트 버퍼 크기 산정용)
+	 * @param totalTokens 선별된 리뷰의 추정 토큰 수
+	 */
+	public record Selection(List<Review> reviews, long totalChars, int totalTokens) {
+	}
+
+	/**
+	 * 토큰 제한을 고려하여 리뷰 선별 (최신순)
 	 */
 	public List<Review> selectReviewsWithinTokenLimit(List<Review> allReviews, int maxTokens) {
+		return selectWithinTokenLimit(allReviews, maxTokens, ReviewSelectionStrategy.LATEST_FIRST).reviews();
+	}
 
-		// 1단계: 전체 토큰 수 계산 (static 메서드 호출)
-		int totalTokens = TokenCalculator.calculateTotalTokens(allReviews);
+	/**
+	 * 토큰 제한을 고려하여 리뷰 선별
+	 *
+	 * @param allReviews 전체 리뷰
+	 * @param maxTokens 최대 토큰 수
+	 * @param strategy 토큰 제한 초과 시 선별 전략
+	 * @return 선별된 리뷰와 추정 문자/토큰 수
+	 */
+	public Selection selectWithinTokenLimit(List<Review> allReviews, int maxTokens, ReviewSelectionStrategy strategy) {
+
+		// 1단계: 리뷰별 문자 수를 한 번만 계산
+		int[] reviewChars = new int[allReviews.size()];
+		long totalChars = 0;
+		for (int i = 0; i < reviewChars.length; i++) {
+			reviewChars[i] = TokenCalculator.estimateReviewChars(allReviews.get(i));
+			totalChars += reviewChars[i];
+		}
 
+		int totalTokens = TokenCalculator.charsToTokens(totalChars);
 		if (totalTokens <= maxTokens) {
 			log.info("토큰 제한 내 - 전체 리뷰 사용: {}개, {}토큰",
 				allReviews.size(), totalTokens);
-			return allReviews;
+			return new Selection(allReviews, totalChars, totalTokens);
 		}
 
 		// 2단계: 토큰 초과 시 선별 로직
-		log.warn("토큰 제한 초과 - 리뷰 선별 시작: 전체 {}개({}토큰) -> 목표 {}토큰",
-			allReviews.size(), totalTokens, maxTokens);
+		log.warn("토큰 제한 초과 - 리뷰 선별 시작: 전체 {}개({}토큰) -> 목표 {}토큰, 전략: {}",
+			allReviews.size(), totalTokens, maxTokens, strategy);
+
+		int[] latestOrder = latestFirstOrder(allReviews);
+		long budgetChars = Math.max(0, TokenCalculator.maxCharsWithinTokens(maxTokens));
 
-		return selectByLatestFirst(allReviews, maxTokens);
+		Selection selection = strategy == ReviewSelectionStrategy.BEST_COVERAGE
+			? selectByBestCoverage(allReviews, reviewChars, latestOrder, budgetChars)
+			: selectByLatestFirst(allReviews, reviewChars, latestOrder, budgetChars);
+
+		log.info("리뷰 선별 완료: {}개 -> {}개 ({}토큰)",
+			allReviews.size(), selection.reviews().size(), selection.totalTokens());
+
+		return selection;
 	}
 
 	/**
 	 * 최신순으로 토큰 제한까지 리뷰 선별
 	 */
-	private List<Review> selectByLatestFirst(List<Review> reviews, int maxTokens) {
-		// 최신순 정렬 (이미 Repository에서 정렬되어 있지만 보장)
-		List<Review> sortedReviews = reviews.stream()
-			.sorted((r1, r2) -> r2.getCreatedAt().compareTo(r1.getCreatedAt()))
-			.collect(Collectors.toList());
+	private Selection selectByLatestFirst(List<Review> reviews, int[] reviewChars, int[] order, long budgetChars) {
+		List<Review> selectedReviews = new ArrayList<>();
+		long accumulatedChars = 0;
+
+		for (int index : order) {
+			if (accumulatedChars + reviewChars[index] > budgetChars) {
+				break; // 토큰 제한 초과 시 중단
+			}
+			selectedReviews.add(reviews.get(index));
+			accumulatedChars += reviewChars[index];
+		}
 
-		List<Review> selectedReviews = new java.util.ArrayList<>();
-		int accumulatedTokens = 0;
+		return new Selection(selectedReviews, accumulatedChars, TokenCalculator.charsToTokens(accumulatedChars));
+	}
 
-		for (Review review : sortedReviews) {
-			List<Review> tempList = new java.util.ArrayList<>(selectedReviews);
-			tempList.add(review);
+	/**
+	 * 토큰 제한 안에서 리뷰 내용(문자 수)이 최대가 되도록 리뷰 선별 (0/1 배낭 문제)
+	 */
+	private Selection selectByBestCoverage(List<Review> reviews, int[] reviewChars, int[] order, long budgetChars) {
+		// 예산을 최대 KNAPSACK_CAPACITY_UNITS 칸으로 나누고, 리뷰 무게는 칸 단위로 올림 (예산 초과 방지)
+		long unitChars = Math.max(1, (budgetChars + KNAPSACK_CAPACITY_UNITS - 1) / KNAPSACK_CAPACITY_UNITS);
+		int capacity = (int) (budgetChars / unitChars);
+
+		long[] bestChars = new long[capacity + 1];
+		BitSet[] taken = new BitSet[order.length];
+
+		for (int i = 0; i < order.length; i++) {
+			int chars = reviewChars[order[i]];
+			long weight = (chars + unitChars - 1) / unitChars;
+			taken[i] = new BitSet();
+			if (weight > capacity) {
+				continue;
+			}
+			// 엄격한 비교로 같은 내용량이면 먼저 본(더 최신) 리뷰 조합 유지
+			for (int c = capacity; c >= weight; c--) {
+				long candidate = bestChars[c - (int) weight] + chars;
+				if (candidate > bestChars[c]) {
+					bestChars[c] = candidate;
+					taken[i].set(c);
+				}
+			}
+		}
 
-			int newTokens = TokenCalculator.calculateTotalTokens(tempList);
+		// 역추적으로 선택된 리뷰 복원 후 최신순 정렬 유지
+		boolean[] selected = new boolean[order.length];
+		int c = capacity;
+		for (int i = order.length - 1; i >= 0; i--) {
+			if (taken[i].get(c)) {
+				selected[i] = true;
+				c -= (int) ((reviewChars[order[i]] + unitChars - 1) / unitChars);
+			}
+		}
 
-			if (newTokens <= maxTokens) {
-				selectedReviews.add(review);
-				accumulatedTokens = newTokens;
-			} else {
-				break; // 토큰 제한 초과 시 중단
+		List<Review> selectedReviews = new ArrayList<>();
+		long accumulatedChars = 0;
+		for (int i = 0; i < order.length; i++) {
+			if (selected[i]) {
+				selectedReviews.add(reviews.get(order[i]));
+				accumulatedChars += reviewChars[order[i]];
 			}
 		}
 
-		log.info("리뷰 선별 완료: {}개 -> {}개 ({}토큰)",
-			reviews.size(), selectedReviews.size(), accumulatedTokens);
+		return new Selection(selectedReviews, accumulatedChars, TokenCalculator.charsToTokens(accumulatedChars));
+	}
 
-		return selectedReviews;
+	/**
+	 * 최신순 인덱스 (Repository에서 이미 최신순이면 정렬 생략)
+	 */
+	private int[] latestFirstOrder(List<Review> reviews) {
+		Comparator<Review> latestFirst = Comparator.comparing(Review::getCreatedAt,
+			Comparator.nullsLast(Comparator.reverseOrder()));
+
+		boolean sorted = true;
+		for (int i = 1; i < reviews.size() && sorted; i++) {
+			sorted = latestFirst.compare(reviews.get(i - 1), reviews.get(i)) <= 0;
+		}
+
+		IntStream indexes = IntStream.range(0, reviews.size());
+		if (sorted) {
+			return indexes.toArray();
+		}
+		return indexes.boxed()
+			.sorted(Comparator.comparing(reviews::get, latestFirst))
+			.mapToInt(Integer::intValue)
+			.toArray();
 	}
-}
\ No newline at end of file
+}
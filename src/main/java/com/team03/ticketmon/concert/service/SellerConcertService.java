@@ -9,6 +9,8 @@ import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
 import com.team03.ticketmon.concert.repository.SellerConcertRepository;
 import com.team03.ticketmon._global.exception.BusinessException;
 import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon.queue.service.ActiveConcertIndexService;
+import com.team03.ticketmon.seat.service.SeatLayoutService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -35,6 +37,10 @@ public class SellerConcertService {
 	private final StorageUploader storageUploader;
 	private final StoragePathProvider storagePathProvider;
 	private final UrlConversionService urlConversionService;
+	private final ActiveConcertIndexService activeConcertIndexService;
+	private final SeatLayoutService seatLayoutService;
+	private final ConcertSearchIndex concertSearchIndex;
+	private final ConcertSeatSummaryService concertSeatSummaryService;
 
 	/**
 	 * 판매자 콘서트 목록 조회 (페이징)
@@ -81,9 +87,12 @@ public class SellerConcertService {
 		try {
 			Concert concert = convertToEntity(createDTO, sellerId);
 			Concert savedConcert = sellerConcertRepository.save(concert);
-
-			concertService.evictSearchCache();
-			log.info("✅ 콘서트 생성 완료 및 검색 캐시 무효화 - concertId: {}", savedConcert.getConcertId());
+			activeConcertIndexService.onStatusChanged(savedConcert.getConcertId(), savedConcert.getStatus());
+			// 가격/날짜 검색용 좌석 요약은 커밋 이후 다시 집계
+			concertSeatSummaryService.markDirty(savedConcert.getConcertId());
+			// 검색 색인 반영과 검색 결과 캐시 무효화는 커밋 이후 모든 노드에서 수행
+			concertSearchIndex.index(savedConcert);
+			log.info("✅ 콘서트 생성 완료 및 검색 색인 갱신 예약 - concertId: {}", savedConcert.getConcertId());
 
 			return convertToSellerDTO(savedConcert);
 
@@ -167,13 +176,18 @@ public class SellerConcertService {
 			// 콘서트 정보 업데이트
 			updateConcertEntity(concert, updateDTO);
 			Concert updatedConcert = sellerConcertRepository.save(concert);
+			if (updateDTO.getStatus() != null) {
+				activeConcertIndexService.onStatusChanged(concertId, updatedConcert.getStatus());
+			}
 
-			// 캐시 무효화
+			// 캐시 무효화 (좌석 배치도는 커밋 후 버전 증가, 좌석 요약은 커밋 이후 다시 집계)
 			concertService.evictConcertDetailCache(concertId);
+			seatLayoutService.invalidateLayout(concertId);
+			concertSeatSummaryService.markDirty(concertId);
 
-			if (updateDTO.getTitle() != null || updateDTO.getArtist() != null) {
-				concertService.evictSearchCache();
-				log.info("✅ 콘서트 수정 완료 및 검색 캐시 무효화 포함 - concertId: {}", concertId);
+			if (updateDTO.getTitle() != null || updateDTO.getArtist() != null || updateDTO.getVenueName() != null) {
+				concertSearchIndex.index(updatedConcert);
+				log.info("✅ 콘서트 수정 완료 및 검색 색인 갱신 예약 - concertId: {}", concertId);
 			} else {
 				log.info("✅ 콘서트 수정 완료 및 상세 캐시 무효화 - concertId: {}", concertId);
 			}
@@ -281,9 +295,10 @@ public class SellerConcertService {
 		concert.setStatus(ConcertStatus.CANCELLED);
 
 		sellerConcertRepository.save(concert);
+		activeConcertIndexService.onStatusChanged(concertId, ConcertStatus.CANCELLED);
+		concertSearchIndex.remove(concertId);
 
 		concertService.evictConcertDetailCache(concertId);
-		concertService.evictSearchCache();
 		log.info("✅ 콘서트 취소 완료 및 모든 캐시 무효화 - concertId: {}", concertId);
 	}
 
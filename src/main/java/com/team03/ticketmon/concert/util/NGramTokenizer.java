@@ -0,0 +1,65 @@
+package com.team03.ticketmon.concert.util;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 색인용 n-gram 토크나이저
+ * 순수 계산 로직만 수행하므로 static 메서드로 구현
+ *
+ * 📌 한국어 처리:
+ * 한국어는 조사/어미가 단어에 붙고 띄어쓰기가 일정하지 않아 공백 기준 분리로는 부분 일치 검색이 불가능하므로,
+ * 공백을 포함한 원문 그대로 글자 단위 bigram(2-gram)으로 색인합니다. (예: "아이유 콘서트" → "아이", "이유", "유 ", ...)
+ * 입력은 NFC로 정규화하여 조합형/완성형 한글이 같은 토큰으로 색인되도록 합니다.
+ */
+public final class NGramTokenizer {
+
+	// 색인/검색에 사용하는 n-gram 길이
+	public static final int GRAM_SIZE = 2;
+
+	// 인스턴스 생성 방지
+	private NGramTokenizer() {}
+
+	/**
+	 * 색인/검색 공통 정규화 (NFC + 소문자, LIKE 검색의 LOWER 비교와 동일한 대소문자 무시)
+	 */
+	public static String normalize(String text) {
+		if (text == null) return "";
+		return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * 색인용 토큰: 1글자 검색어를 위한 unigram과 bigram을 모두 생성
+	 *
+	 * @param normalized normalize()로 정규화된 텍스트
+	 */
+	public static Set<String> indexGrams(String normalized) {
+		Set<String> grams = new LinkedHashSet<>();
+		for (int i = 0; i < normalized.length(); i++) {
+			grams.add(normalized.substring(i, i + 1));
+			if (i + GRAM_SIZE <= normalized.length()) {
+				grams.add(normalized.substring(i, i + GRAM_SIZE));
+			}
+		}
+		return grams;
+	}
+
+	/**
+	 * 검색용 토큰: 검색어가 1글자면 unigram, 그 외에는 bigram
+	 * 검색어를 포함하는 텍스트는 반드시 검색어의 모든 bigram을 포함하므로, 후보 누락 없이 후보를 좁힐 수 있음
+	 *
+	 * @param normalized normalize()로 정규화된 검색어
+	 */
+	public static Set<String> queryGrams(String normalized) {
+		if (normalized.length() < GRAM_SIZE) {
+			return normalized.isEmpty() ? Set.of() : Set.of(normalized);
+		}
+		Set<String> grams = new LinkedHashSet<>();
+		for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+			grams.add(normalized.substring(i, i + GRAM_SIZE));
+		}
+		return grams;
+	}
+}
@@ -19,13 +19,13 @@ public final class TokenCalculator {
 	 * 리뷰 목록의 총 토큰 수 계산
 	 */
 	public static int calculateTotalTokens(List<Review> reviews) {
-		int totalChars = 0;
+		long totalChars = 0;
 
 		for (Review review : reviews) {
 			totalChars += estimateReviewChars(review);
 		}
 
-		return (int) Math.ceil(totalChars / CHARS_PER_TOKEN);
+		return charsToTokens(totalChars);
 	}
 
 	/**
@@ -36,10 +36,24 @@ public final class TokenCalculator {
 		return (int) Math.ceil(text.length() / CHARS_PER_TOKEN);
 	}
 
+	/**
+	 * 문자 수를 토큰 수로 변환
+	 */
+	public static int charsToTokens(long chars) {
+		return (int) Math.ceil(chars / CHARS_PER_TOKEN);
+	}
+
+	/**
+	 * 토큰 제한 안에 들어가는 최대 문자 수 (charsToTokens(chars) <= maxTokens 인 최대 chars)
+	 */
+	public static long maxCharsWithinTokens(int maxTokens) {
+		return (long) Math.floor(maxTokens * CHARS_PER_TOKEN);
+	}
+
 	/**
 	 * 개별 리뷰의 문자 수 계산
 	 */
-	private static int estimateReviewChars(Review review) {
+	public static int estimateReviewChars(Review review) {
 		int chars = 0;
 
 		if (review.getTitle() != null) {
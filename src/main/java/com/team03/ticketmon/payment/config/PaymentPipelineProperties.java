@@ -0,0 +1,36 @@
+package com.team03.ticketmon.payment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 결제 승인 파이프라인 설정
+ * - 블로킹 영속성 작업 전용 스케줄러 크기
+ * - 결제 승인 동시 처리 수 / 대기 수 제한 (초과 시 즉시 거절하여 백프레셔 적용)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "payment.pipeline")
+public class PaymentPipelineProperties {
+
+    /**
+     * 결제 DB 작업 전용 스케줄러의 최대 스레드 수 (DB 커넥션 풀 크기 이하 권장)
+     */
+    private int dbThreadCap = 16;
+
+    /**
+     * 결제 DB 작업 전용 스케줄러의 최대 대기 작업 수
+     */
+    private int dbQueuedTaskCap = 2000;
+
+    /**
+     * 동시에 진행할 수 있는 최대 결제 승인 수
+     */
+    private int maxConcurrentConfirmations = 64;
+
+    /**
+     * 동시 처리 수를 넘었을 때 대기할 수 있는 최대 결제 승인 수
+     */
+    private int maxPendingConfirmations = 1000;
+}
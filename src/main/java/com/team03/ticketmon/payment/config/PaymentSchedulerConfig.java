@@ -0,0 +1,27 @@
+package com.team03.ticketmon.payment.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 결제 파이프라인 전용 Reactor 스케줄러 설정
+ * 결제 승인/취소 흐름의 블로킹 JPA 작업을 공용 boundedElastic 풀과 분리하여,
+ * 결제 요청이 몰려도 DB 작업 동시성은 스레드 수로 제한되고 다른 블로킹 작업에 영향을 주지 않도록 합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PaymentSchedulerConfig {
+
+    private final PaymentPipelineProperties paymentPipelineProperties;
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler paymentDbScheduler() {
+        return Schedulers.newBoundedElastic(
+                paymentPipelineProperties.getDbThreadCap(),
+                paymentPipelineProperties.getDbQueuedTaskCap(),
+                "payment-db");
+    }
+}
@@ -8,5 +8,27 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties(prefix = "toss")
 public record TossPaymentsProperties(
 	@NotBlank String clientKey,
-	@NotBlank String secretKey
-) {}
\ No newline at end of file
+	@NotBlank String secretKey,
+	Api api
+) {
+	private static final String DEFAULT_API_URL = "https://api.tosspayments.com/v1/payments/";
+
+	/**
+	 * 토스페이먼츠 API 경로 설정 (테스트/부하 테스트 시 로컬 스텁 서버로 교체 가능)
+	 */
+	public record Api(String url, String confirmUrl) {}
+
+	/**
+	 * 결제 API 기본 경로 (`/`로 끝남, 미설정 시 운영 경로)
+	 */
+	public String apiUrl() {
+		return (api != null && api.url() != null) ? api.url() : DEFAULT_API_URL;
+	}
+
+	/**
+	 * 결제 승인 API 경로 (미설정 시 결제 API 기본 경로 + `confirm`)
+	 */
+	public String confirmUrl() {
+		return (api != null && api.confirmUrl() != null) ? api.confirmUrl() : apiUrl() + "confirm";
+	}
+}
@@ -0,0 +1,80 @@
+package com.team03.ticketmon.payment.service;
+
+import com.team03.ticketmon._global.exception.BusinessException;
+import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon.payment.config.PaymentPipelineProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 결제 승인 동시 처리 제한기
+ * 결제 승인 작업을 하나의 대기열에 넣고 최대 동시 처리 수만큼만 구독하여 실행합니다.
+ * - 동시 처리 수를 넘는 요청은 대기열에서 순서대로 대기
+ * - 대기열이 가득 차면 즉시 PAYMENT_CONFIRMATION_OVERLOADED로 거절 (무한정 쌓이지 않도록 백프레셔 적용)
+ * - 호출 측이 구독을 취소해도 이미 시작된 승인 작업은 끝까지 진행 (결제 승인 중단 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentConfirmationLimiter {
+
+    private final PaymentPipelineProperties paymentPipelineProperties;
+
+    private Sinks.Many<Mono<Void>> queue;
+    private Disposable worker;
+
+    @PostConstruct
+    public void init() {
+        queue = Sinks.many().unicast().onBackpressureBuffer(
+                new ArrayBlockingQueue<>(paymentPipelineProperties.getMaxPendingConfirmations()));
+        worker = queue.asFlux()
+                .flatMap(task -> task.onErrorResume(e -> Mono.empty()),
+                        paymentPipelineProperties.getMaxConcurrentConfirmations())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        worker.dispose();
+    }
+
+    /**
+     * 결제 승인 작업을 동시 처리 제한 안에서 실행
+     *
+     * @param task 결제 승인 작업 (구독 시 시작)
+     * @return 작업 결과를 그대로 전달하는 Mono
+     */
+    public <T> Mono<T> submit(Mono<T> task) {
+        return Mono.defer(() -> {
+            Sinks.One<T> result = Sinks.one();
+            Mono<Void> queuedTask = task
+                    .doOnSuccess(value -> {
+                        if (value != null) {
+                            result.tryEmitValue(value);
+                        } else {
+                            result.tryEmitEmpty();
+                        }
+                    })
+                    .doOnError(result::tryEmitError)
+                    .then();
+
+            Sinks.EmitResult emitResult;
+            synchronized (this) {
+                emitResult = queue.tryEmitNext(queuedTask);
+            }
+            if (emitResult.isFailure()) {
+                log.warn("결제 승인 대기열 초과로 요청 거절: emitResult={}", emitResult);
+                return Mono.error(new BusinessException(ErrorCode.PAYMENT_CONFIRMATION_OVERLOADED));
+            }
+            return result.asMono();
+        });
+    }
+}
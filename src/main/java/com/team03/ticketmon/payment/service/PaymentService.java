@@ -29,7 +29,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 import reactor.util.function.Tuples;
 
 import java.math.BigDecimal;
@@ -55,6 +55,9 @@ public class PaymentService {
     private final WebClient webClient;
     private final UserRepository userRepository;
     private final SeatStatusService seatStatusService;
+    private final PaymentConfirmationLimiter paymentConfirmationLimiter;
+    // 블로킹 영속성 작업 전용 스케줄러 (PaymentSchedulerConfig)
+    private final Scheduler paymentDbScheduler;
 
     @Transactional
     public PaymentExecutionResponse initiatePayment(Booking booking, Long currentUserId) {
@@ -111,8 +114,18 @@ public class PaymentService {
     }
 
 
+    /**
+     * 결제 승인 처리
+     * - 동시 승인 수는 PaymentConfirmationLimiter로 제한 (대기열 초과 시 PAYMENT_CONFIRMATION_OVERLOADED)
+     * - 블로킹 DB 작업은 결제 전용 스케줄러에서, 토스 API 호출은 논블로킹으로 수행
+     * - 예매의 모든 좌석은 한 번의 스크립트로 BOOKED 처리
+     */
     @Transactional
     public Mono<Void> confirmPayment(PaymentConfirmRequest req) {
+        return paymentConfirmationLimiter.submit(confirmPaymentInternal(req));
+    }
+
+    private Mono<Void> confirmPaymentInternal(PaymentConfirmRequest req) {
         // 1) DB에서 Payment 로드 & 검증
         return Mono.fromCallable(() ->
                         paymentRepository.findByOrderId(req.getOrderId())
@@ -120,7 +133,7 @@ public class PaymentService {
                                         ErrorCode.RESOURCE_NOT_FOUND,
                                         "존재하지 않는 주문 ID: " + req.getOrderId()))
                 )
-                .subscribeOn(Schedulers.boundedElastic())
+                .subscribeOn(paymentDbScheduler)
                 .flatMap(payment -> {
                     // 상태 검증
                     if (payment.getStatus() != PaymentStatus.PENDING) {
@@ -183,33 +196,40 @@ public class PaymentService {
                                 booking.confirm();
                                 bookingRepository.save(booking);
 
-                                // 좌석 상태 BOOKED로 전환
-                                Long concertId = booking.getConcert().getConcertId();
-                                List<Long> failedSeats = new ArrayList<>();
-                                booking.getTickets().forEach(ticket -> {
-                                    try {
-                                        seatStatusService.bookSeat(
-                                                concertId,
-                                                ticket.getConcertSeat().getConcertSeatId()
-                                        );
-                                    } catch (Exception e) {
-                                        log.error("좌석 BOOKED 처리 실패: ticketId={}, error={}",
-                                                ticket.getTicketId(), e.getMessage(), e);
-                                        failedSeats.add(ticket.getConcertSeat().getConcertSeatId());
-                                    }
-                                });
+                                // 좌석 상태 BOOKED로 일괄 전환
+                                List<Long> failedSeats = bookSeats(booking);
                                 if (!failedSeats.isEmpty()) {
                                     // 일부 좌석 처리 실패 시 보상 처리 또는 예외 발생
                                     throw new BusinessException(ErrorCode.SEAT_BOOKING_FAILED,
                                             "일부 좌석 예약에 실패했습니다: " + failedSeats);
                                 }
                             })
-
-                            .subscribeOn(Schedulers.boundedElastic());
+                            .subscribeOn(paymentDbScheduler);
                 })
                 .then();  // Mono<Void> 반환
     }
 
+    /**
+     * 예매의 모든 좌석을 한 번에 BOOKED 처리
+     *
+     * @return 예매 처리되지 않은 좌석 ID 목록
+     */
+    private List<Long> bookSeats(Booking booking) {
+        List<Long> seatIds = booking.getTickets().stream()
+                .map(ticket -> ticket.getConcertSeat().getConcertSeatId())
+                .toList();
+        Set<Long> bookedIds = new HashSet<>(
+                seatStatusService.bookSeats(booking.getConcert().getConcertId(), seatIds));
+
+        List<Long> failedSeats = seatIds.stream()
+                .filter(seatId -> !bookedIds.contains(seatId))
+                .toList();
+        if (!failedSeats.isEmpty()) {
+            log.error("좌석 BOOKED 처리 실패: bookingId={}, seatIds={}", booking.getBookingId(), failedSeats);
+        }
+        return failedSeats;
+    }
+
     @Transactional
     public void handlePaymentFailure(String orderId, String errorCode, String errorMessage) {
         paymentRepository.findByOrderId(orderId).ifPresent(payment -> {
@@ -272,12 +292,12 @@ public class PaymentService {
                                     paymentCancelHistoryRepository.save(hist);
                                 }
                                 log.info("결제 취소 완료 (async): orderId={}", payment.getOrderId());
-                            }).subscribeOn(Schedulers.boundedElastic()))
+                            }).subscribeOn(paymentDbScheduler))
                             // 4) Mono<Void> 로 끝맺음
                             .then();
                 })
-                // 전체를 블로킹 풀에서 시작
-                .subscribeOn(Schedulers.boundedElastic());
+                // 전체를 결제 전용 블로킹 풀에서 시작
+                .subscribeOn(paymentDbScheduler);
     }
 
     @Transactional(readOnly = true)
@@ -327,22 +347,12 @@ public class PaymentService {
                     payment.complete(payment.getPaymentKey(), LocalDateTime.now());
                     payment.getBooking().confirm();
 
-                    // 웹훅으로 결제 완료 후 예매의 모든 좌석을 BOOKED 상태로 변경
-                    payment.getBooking().getTickets().forEach(ticket -> {
-                        try {
-                            seatStatusService.bookSeat(
-                                    payment.getBooking().getConcert().getConcertId(),
-                                    ticket.getConcertSeat().getConcertSeatId()
-                            );
-                            log.debug("웹훅: 좌석 상태 BOOKED로 변경 완료: concertId={}, seatId={}",
-                                    payment.getBooking().getConcert().getConcertId(),
-                                    ticket.getConcertSeat().getConcertSeatId());
-                        } catch (Exception e) {
-                            log.error("웹훅: 좌석 상태 BOOKED 변경 실패: concertId={}, seatId={}, error={}",
-                                    payment.getBooking().getConcert().getConcertId(),
-                                    ticket.getConcertSeat().getConcertSeatId(), e.getMessage());
-                        }
-                    });
+                    // 웹훅으로 결제 완료 후 예매의 모든 좌석을 BOOKED 상태로 일괄 변경 (실패 좌석은 로그만 남김)
+                    try {
+                        bookSeats(payment.getBooking());
+                    } catch (Exception e) {
+                        log.error("웹훅: 좌석 상태 BOOKED 변경 실패: orderId={}, error={}", orderId, e.getMessage());
+                    }
 
                     log.info("웹훅: 결제 {} 상태 PENDING -> DONE 업데이트 완료", orderId);
                 } else {
@@ -390,7 +400,7 @@ public class PaymentService {
     private Mono<Map<String, Object>> callTossConfirmApi(PaymentConfirmRequest confirmRequest, String encodedSecretKey,
                                                          String idempotencyKey) {
         return webClient.post()
-                .uri("https://api.tosspayments.com/v1/payments/confirm")
+                .uri(tossPaymentsProperties.confirmUrl())
                 .header(HttpHeaders.AUTHORIZATION, "Basic " + encodedSecretKey)
                 .header("Idempotency-Key", idempotencyKey)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -410,7 +420,7 @@ public class PaymentService {
     private Mono<Map<String, Object>> callTossCancelApi(String paymentKey, String cancelReason,
                                                         String encodedSecretKey) {
         return webClient.post()
-                .uri("https://api.tosspayments.com/v1/payments/{paymentKey}/cancel", paymentKey)
+                .uri(tossPaymentsProperties.apiUrl() + "{paymentKey}/cancel", paymentKey)
                 .header(HttpHeaders.AUTHORIZATION, "Basic " + encodedSecretKey)
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(Map.of("cancelReason", cancelReason))
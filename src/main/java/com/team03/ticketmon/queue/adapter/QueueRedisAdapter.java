@@ -1,15 +1,18 @@
 package com.team03.ticketmon.queue.adapter;
 
-import com.team03.ticketmon._global.exception.BusinessException;
-import com.team03.ticketmon._global.exception.ErrorCode;
 import com.team03.ticketmon._global.util.RedisKeyGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.*;
 import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 대기열 도메인의 Redis 데이터 접근을 전담하는 어댑터 클래스
@@ -23,34 +26,157 @@ public class QueueRedisAdapter {
     private final RedissonClient redissonClient;
     private final RedisKeyGenerator keyGenerator;
 
-    private static final String SEQUENCE_KEY_SUFFIX = ":seq:";
-    private static final int SEQUENCE_BITS = 21;
-    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final String SEQUENCE_KEY_SUFFIX = ":seq";
 
     /**
-     * 타임스탬프와 원자적 시퀀스를 조합하여 유니크한 대기열 점수(score)를 생성
-     * 대기열 점수 생성에 대한 모든 책임
-     * @param concertId 점수를 생성할 콘서트 ID
-     * @return 생성된 유니크한 점수(long)
+     * 1ms당 부여 가능한 점수 구간 (2^11)
+     * - 점수 = Redis 서버 시각(ms) * 2048 + 순번 → 2^53 이내로 유지되어 double 점수로 정확히 표현됨
+     * - 같은 ms에 2048건을 넘으면 다음 ms 구간을 이어서 사용하므로 요청이 거절되지 않음
      */
-    public long generateQueueScore(Long concertId) {
-        long timestamp = System.currentTimeMillis();
-        String queueKey = keyGenerator.getWaitQueueKey(concertId);
-        String sequenceKey = queueKey + SEQUENCE_KEY_SUFFIX + timestamp;
+    private static final long SCORE_SLOTS_PER_MILLIS = 1L << 11;
 
-        RAtomicLong sequence = redissonClient.getAtomicLong(sequenceKey);
-        long currentSequence = sequence.incrementAndGet();
+    /**
+     * 마지막 부여 점수 키의 TTL
+     * - 같은 ms 내 순번과 시계 역행 보호에만 사용되므로 짧게 유지
+     */
+    private static final Duration LAST_SCORE_TTL = Duration.ofMinutes(1);
 
-        if (sequence.remainTimeToLive() == -1) {
-            sequence.expire(Duration.ofMillis(200));
-        }
+    /**
+     * 대기열 진입 스크립트
+     * - 이미 대기 중이면 기존 순위를 그대로 반환 (점수 변경 없음)
+     * - 신규면 Redis 서버 시각 기반 점수를 마지막 부여 점수보다 크게 계산해 ZADD 후 순위 반환
+     * - 대기열 처리 대상 콘서트 Set은 판매 상태 기준(ON_SALE)으로만 관리하므로 여기서 등록하지 않음
+     *
+     * KEYS[1]: 대기열 Sorted Set, KEYS[2]: 마지막 부여 점수
+     * ARGV[1]: 사용자 ID, ARGV[2]: 1ms당 점수 구간, ARGV[3]: 마지막 부여 점수 TTL(ms)
+     * 반환: {신규 여부(1/0), 0부터 시작하는 순위, 점수}
+     */
+    private static final String ENQUEUE_SCRIPT = """
+            local rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+            if rank then
+                return {0, rank, tonumber(redis.call('ZSCORE', KEYS[1], ARGV[1]))}
+            end
+            local now = redis.call('TIME')
+            local score = (tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000)) * tonumber(ARGV[2])
+            local last = tonumber(redis.call('GET', KEYS[2]))
+            if last and score <= last then score = last + 1 end
+            local encoded = string.format('%.0f', score)
+            redis.call('SET', KEYS[2], encoded, 'PX', ARGV[3])
+            redis.call('ZADD', KEYS[1], encoded, ARGV[1])
+            return {1, redis.call('ZRANK', KEYS[1], ARGV[1]), score}
+            """;
 
-        if (currentSequence > MAX_SEQUENCE) {
-            log.error("1ms 내 요청 한도 초과! ({}개 이상)", MAX_SEQUENCE);
-            throw new BusinessException(ErrorCode.QUEUE_TOO_MANY_REQUESTS);
-        }
+    /**
+     * 대기열 진입 스크립트 실행 결과
+     *
+     * @param added 신규 진입 여부 (false면 이미 대기 중)
+     * @param rank  0부터 시작하는 대기 순위
+     * @param score 대기열 점수
+     */
+    public record EnqueueResult(boolean added, long rank, long score) {
+    }
 
-        return (timestamp << SEQUENCE_BITS) | currentSequence;
+    /**
+     * 활성 슬롯 점유 스크립트 (최대 인원과 현재 대기 인원을 넘지 않는 만큼만 점유)
+     * - 대기 인원보다 많이 점유하면 그 사이 즉시 입장 요청이 빈 슬롯이 있는데도 대기열로 밀려나므로 대기 인원으로 제한
+     * KEYS[1]: 활성 사용자 수, KEYS[2]: 대기열 Sorted Set, ARGV[1]: 점유 요청 수, ARGV[2]: 최대 활성 사용자 수
+     * 반환: 실제 점유한 슬롯 수 (0 이상)
+     */
+    private static final String CLAIM_SLOTS_SCRIPT = """
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local waiting = redis.call('ZCARD', KEYS[2])
+            local claimed = math.min(tonumber(ARGV[1]), tonumber(ARGV[2]) - current, waiting)
+            if claimed <= 0 then return 0 end
+            redis.call('INCRBY', KEYS[1], claimed)
+            return claimed
+            """;
+
+    /**
+     * 즉시 입장용 슬롯 점유 스크립트 (대기열이 비어 있고 빈 슬롯이 있을 때만 1개 점유)
+     * KEYS[1]: 대기열 Sorted Set, KEYS[2]: 활성 사용자 수, ARGV[1]: 최대 활성 사용자 수
+     * 반환: 점유 성공 1, 실패 0
+     */
+    private static final String CLAIM_IMMEDIATE_SLOT_SCRIPT = """
+            if redis.call('ZCARD', KEYS[1]) > 0 then return 0 end
+            local current = tonumber(redis.call('GET', KEYS[2]) or '0')
+            if current >= tonumber(ARGV[1]) then return 0 end
+            redis.call('INCR', KEYS[2])
+            return 1
+            """;
+
+    /**
+     * 활성 슬롯 반환 스크립트 (0 미만으로 내려가지 않도록 보정)
+     * KEYS[1]: 활성 사용자 수, ARGV[1]: 반환할 슬롯 수
+     * 반환: 반환 후 활성 사용자 수
+     */
+    private static final String RELEASE_SLOTS_SCRIPT = """
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local remaining = math.max(0, current - tonumber(ARGV[1]))
+            redis.call('SET', KEYS[1], remaining)
+            return remaining
+            """;
+
+    /**
+     * 활성 사용자 수 재계산 스크립트 (활성 세션 Sorted Set 크기 기준)
+     * KEYS[1]: 활성 세션 Sorted Set, KEYS[2]: 활성 사용자 수
+     * 반환: {보정 전 값, 보정 후 값}
+     */
+    private static final String RECONCILE_SLOTS_SCRIPT = """
+            local previous = tonumber(redis.call('GET', KEYS[2]) or '0')
+            local actual = redis.call('ZCARD', KEYS[1])
+            if previous ~= actual then redis.call('SET', KEYS[2], actual) end
+            return {previous, actual}
+            """;
+
+    /**
+     * 만료 세션 정리 스크립트 (만료 세션 삭제, 해당 사용자의 입장 키/최종 만료 키 삭제, 슬롯 반환을 한 번에 처리)
+     * - 조회와 삭제 사이에 재입장한 사용자의 새 세션/입장 키를 지우지 않도록 원자적으로 실행
+     * KEYS[1]: 활성 세션 Sorted Set, KEYS[2]: 활성 사용자 수
+     * ARGV[1]: 기준 시각(ms), ARGV[2]: 입장 키 접두사, ARGV[3]: 최종 만료 키 접두사
+     * 반환: {정리한 세션 수, 남은 세션 수, 정리 후 활성 사용자 수}
+     */
+    private static final String CLEANUP_EXPIRED_SESSIONS_SCRIPT = """
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[1], 0, ARGV[1])
+            local current = tonumber(redis.call('GET', KEYS[2]) or '0')
+            if #expired == 0 then
+                return {0, redis.call('ZCARD', KEYS[1]), current}
+            end
+            for _, userId in ipairs(expired) do
+                redis.call('ZREM', KEYS[1], userId)
+                redis.call('DEL', ARGV[2] .. userId, ARGV[3] .. userId)
+            end
+            local remaining = math.max(0, current - #expired)
+            redis.call('SET', KEYS[2], remaining)
+            return {#expired, redis.call('ZCARD', KEYS[1]), remaining}
+            """;
+
+    /**
+     * 대기열 점수 생성, 중복 없는 등록, 순위 조회를 Lua 스크립트 한 번으로 처리
+     * - 점수는 Redis 서버 시각으로 계산하므로 애플리케이션 서버 간 시계 차이와 무관하게 도착 순서(FIFO)를 보장
+     * - 스크립트는 원자적으로 실행되어 같은 ms 내 요청도 서로 다른 점수를 받음
+     *
+     * @param concertId 대기열을 식별하는 콘서트 ID
+     * @param userId    대기열에 추가할 사용자 ID
+     * @return 스크립트 실행 결과
+     */
+    public EnqueueResult enqueue(Long concertId, Long userId) {
+        String queueKey = keyGenerator.getWaitQueueKey(concertId);
+
+        List<Object> result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                ENQUEUE_SCRIPT,
+                RScript.ReturnType.MULTI,
+                List.of(queueKey, queueKey + SEQUENCE_KEY_SUFFIX),
+                userId.toString(),
+                String.valueOf(SCORE_SLOTS_PER_MILLIS),
+                String.valueOf(LAST_SCORE_TTL.toMillis())
+        );
+
+        return new EnqueueResult(
+                ((Number) result.get(0)).longValue() == 1,
+                ((Number) result.get(1)).longValue(),
+                ((Number) result.get(2)).longValue()
+        );
     }
 
     /**
@@ -65,6 +191,39 @@ public class QueueRedisAdapter {
         return redissonClient.getScoredSortedSet(queueKey, LongCodec.INSTANCE);
     }
 
+    /**
+     * 대기열의 순위 구간(0부터 시작, 양끝 포함)
+     */
+    public record QueueRange(int from, int to) {
+    }
+
+    /**
+     * 대기열의 여러 순위 구간에 있는 사용자 ID들을 한 번의 배치(파이프라인)로 조회
+     *
+     * @param concertId 콘서트 ID
+     * @param ranges    조회할 순위 구간 목록
+     * @return 구간 순서대로, 각 구간에 속한 사용자 ID 목록 (순위 오름차순)
+     */
+    public List<List<Long>> getQueueRanges(Long concertId, List<QueueRange> ranges) {
+        if (ranges.isEmpty()) {
+            return List.of();
+        }
+
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+        RScoredSortedSetAsync<Long> queue = batch.getScoredSortedSet(keyGenerator.getWaitQueueKey(concertId), LongCodec.INSTANCE);
+        List<RFuture<Collection<Long>>> futures = new ArrayList<>(ranges.size());
+        for (QueueRange range : ranges) {
+            futures.add(queue.valueRangeAsync(range.from(), range.to()));
+        }
+        batch.execute();
+
+        List<List<Long>> result = new ArrayList<>(futures.size());
+        for (RFuture<Collection<Long>> future : futures) {
+            result.add(new ArrayList<>(future.toCompletableFuture().join()));
+        }
+        return result;
+    }
+
     /**
      * 특정 콘서트의 활성 사용자 수(AtomicLong) 객체를 반환
      */
@@ -73,6 +232,120 @@ public class QueueRedisAdapter {
         return redissonClient.getAtomicLong(countKey);
     }
 
+    /**
+     * 최대 활성 사용자 수와 현재 대기 인원을 넘지 않는 범위에서 최대 requested개의 슬롯을 원자적으로 점유
+     *
+     * @param concertId      콘서트 ID
+     * @param requested      점유하려는 슬롯 수
+     * @param maxActiveUsers 최대 활성 사용자 수
+     * @return 실제 점유한 슬롯 수 (빈 슬롯이나 대기 인원이 없으면 0)
+     */
+    public long claimSlots(Long concertId, long requested, long maxActiveUsers) {
+        if (requested <= 0) {
+            return 0;
+        }
+        Long claimed = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                CLAIM_SLOTS_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(keyGenerator.getActiveUsersCountKey(concertId), keyGenerator.getWaitQueueKey(concertId)),
+                String.valueOf(requested),
+                String.valueOf(maxActiveUsers)
+        );
+        return claimed;
+    }
+
+    /**
+     * 대기열이 비어 있고 빈 슬롯이 있을 때만 슬롯 1개를 원자적으로 점유 (즉시 입장 판단을 1회 왕복으로 처리)
+     *
+     * @return 점유에 성공하면 true
+     */
+    public boolean claimImmediateSlot(Long concertId, long maxActiveUsers) {
+        Long claimed = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                CLAIM_IMMEDIATE_SLOT_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(keyGenerator.getWaitQueueKey(concertId), keyGenerator.getActiveUsersCountKey(concertId)),
+                String.valueOf(maxActiveUsers)
+        );
+        return claimed == 1;
+    }
+
+    /**
+     * 점유한 슬롯을 원자적으로 반환 (0 미만으로 내려가지 않음)
+     *
+     * @return 반환 후 활성 사용자 수
+     */
+    public long releaseSlots(Long concertId, long count) {
+        Long remaining = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                RELEASE_SLOTS_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(keyGenerator.getActiveUsersCountKey(concertId)),
+                String.valueOf(Math.max(0, count))
+        );
+        return remaining;
+    }
+
+    /**
+     * 활성 사용자 수 재계산 결과
+     *
+     * @param previous 보정 전 카운터 값
+     * @param actual   실제 활성 세션 수 (보정 후 카운터 값)
+     */
+    public record SlotReconcileResult(long previous, long actual) {
+        public boolean corrected() {
+            return previous != actual;
+        }
+    }
+
+    /**
+     * 활성 사용자 수를 활성 세션 Sorted Set의 크기로 원자적으로 재계산
+     */
+    public SlotReconcileResult reconcileActiveUserCount(Long concertId) {
+        List<Object> result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                RECONCILE_SLOTS_SCRIPT,
+                RScript.ReturnType.MULTI,
+                List.of(keyGenerator.getActiveSessionsKey(concertId), keyGenerator.getActiveUsersCountKey(concertId))
+        );
+        return new SlotReconcileResult(((Number) result.get(0)).longValue(), ((Number) result.get(1)).longValue());
+    }
+
+    /**
+     * 만료 세션 정리 결과
+     *
+     * @param expired           정리한 세션 수
+     * @param remainingSessions 정리 후 남은 활성 세션 수
+     * @param activeUsers       정리 후 활성 사용자 수
+     */
+    public record SessionCleanupResult(long expired, long remainingSessions, long activeUsers) {
+    }
+
+    /**
+     * 기준 시각까지 만료된 세션과 해당 사용자의 입장 키/최종 만료 키를 삭제하고 슬롯을 반환
+     *
+     * @param concertId 콘서트 ID
+     * @param now       기준 시각(ms)
+     * @return 정리 결과
+     */
+    public SessionCleanupResult cleanupExpiredSessions(Long concertId, long now) {
+        List<Object> result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                CLEANUP_EXPIRED_SESSIONS_SCRIPT,
+                RScript.ReturnType.MULTI,
+                List.of(keyGenerator.getActiveSessionsKey(concertId), keyGenerator.getActiveUsersCountKey(concertId)),
+                String.valueOf(now),
+                keyGenerator.getAccessKeyPrefix(concertId),
+                keyGenerator.getFinalExpiryKeyPrefix(concertId)
+        );
+        return new SessionCleanupResult(
+                ((Number) result.get(0)).longValue(),
+                ((Number) result.get(1)).longValue(),
+                ((Number) result.get(2)).longValue()
+        );
+    }
+
     /**
      * 특정 콘서트의 활성 세션(Sorted Set) 객체를 반환
      */
@@ -89,6 +362,32 @@ public class QueueRedisAdapter {
         return redissonClient.getBucket(accessKey);
     }
 
+    /**
+     * 입장 허가 키 값과 남은 TTL
+     * @param remainTtlMillis 남은 TTL(ms), 만료 시각이 없으면 -1
+     */
+    public record AccessKeySnapshot(String accessKey, long remainTtlMillis) {
+    }
+
+    /**
+     * 사용자의 입장 허가 키 값과 남은 TTL을 한 번의 배치(파이프라인)로 조회
+     *
+     * @return 키 값과 남은 TTL, 키가 없으면 null
+     */
+    public AccessKeySnapshot getAccessKeyWithTtl(Long concertId, Long userId) {
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+        RBucketAsync<String> bucket = batch.getBucket(keyGenerator.getAccessKey(concertId, userId));
+        RFuture<String> accessKey = bucket.getAsync();
+        RFuture<Long> remainTtl = bucket.remainTimeToLiveAsync();
+        batch.execute();
+
+        String value = accessKey.toCompletableFuture().join();
+        if (value == null) {
+            return null;
+        }
+        return new AccessKeySnapshot(value, remainTtl.toCompletableFuture().join());
+    }
+
     /**
      * 사용자의 특정 콘서트의 최종 만료 시각(Bucket) 객체를 반환
      * @param concertId 조회할 콘서트 ID
@@ -100,8 +399,27 @@ public class QueueRedisAdapter {
         return redissonClient.getBucket(finalExpiryKey);
     }
 
-    public RLock getAdmissionSchedulerLock() {
-        String key = RedisKeyGenerator.ADMISSION_SCHEDULER_LOCK_KEY;
+    /**
+     * 대기열 처리 대상 콘서트 ID(Set) 객체를 반환
+     * - 스케줄러가 매 실행마다 DB를 조회하지 않고 이 Set으로 처리 대상을 결정
+     */
+    public RSet<Long> getActiveConcertIndex() {
+        return redissonClient.getSet(RedisKeyGenerator.ACTIVE_CONCERTS_KEY, LongCodec.INSTANCE);
+    }
+
+    /**
+     * 처리 대상 인덱스에서 빠진 콘서트 ID(Set) 객체를 반환
+     * - 세션 정리 스케줄러가 남은 세션을 모두 정리할 때까지 이 Set으로 정리 대상을 유지
+     */
+    public RSet<Long> getRetiredConcertIndex() {
+        return redissonClient.getSet(RedisKeyGenerator.RETIRED_CONCERTS_KEY, LongCodec.INSTANCE);
+    }
+
+    /**
+     * 특정 콘서트의 입장 처리용 분산 락 객체를 반환
+     */
+    public RLock getConcertAdmissionLock(Long concertId) {
+        String key = RedisKeyGenerator.ADMISSION_CONCERT_LOCK_KEY_PREFIX + concertId;
         return redissonClient.getLock(key);
     }
 
@@ -115,11 +433,51 @@ public class QueueRedisAdapter {
         return redissonClient.getLock(key);
     }
 
-    public RTopic getAdmissionTopic() {
-        return redissonClient.getTopic(RedisKeyGenerator.ADMISSION_TOPIC);
+    /**
+     * 특정 노드 전용 입장 알림 토픽 객체를 반환
+     * @param nodeId 메시지를 받을 WebSocket 노드 ID
+     */
+    public RTopic getAdmissionTopic(String nodeId) {
+        return redissonClient.getTopic(keyGenerator.getNodeTopic(RedisKeyGenerator.ADMISSION_TOPIC, nodeId));
+    }
+
+    /**
+     * 여러 노드 전용 입장 알림 토픽에 메시지들을 한 번의 배치(파이프라인)로 발행
+     * @param messagesByNodeId 노드 ID → 해당 노드로 보낼 메시지 목록
+     */
+    public void publishAdmissionMessages(Map<String, List<String>> messagesByNodeId) {
+        publishNodeMessages(RedisKeyGenerator.ADMISSION_TOPIC, messagesByNodeId);
+    }
+
+    /**
+     * 특정 노드 전용 순위 알림 토픽 객체를 반환
+     * @param nodeId 메시지를 받을 WebSocket 노드 ID
+     */
+    public RTopic getRankUpdateTopic(String nodeId) {
+        return redissonClient.getTopic(keyGenerator.getNodeTopic(RedisKeyGenerator.RANK_UPDATE_TOPIC, nodeId));
     }
 
-    public RTopic getRankUpdateTopic() {
-        return redissonClient.getTopic(RedisKeyGenerator.RANK_UPDATE_TOPIC);
+    /**
+     * 여러 노드 전용 순위 알림 토픽에 메시지들을 한 번의 배치(파이프라인)로 발행
+     * @param messagesByNodeId 노드 ID → 해당 노드로 보낼 메시지 목록
+     */
+    public void publishRankUpdateMessages(Map<String, List<String>> messagesByNodeId) {
+        publishNodeMessages(RedisKeyGenerator.RANK_UPDATE_TOPIC, messagesByNodeId);
+    }
+
+    private void publishNodeMessages(String topicName, Map<String, List<String>> messagesByNodeId) {
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+        messagesByNodeId.forEach((nodeId, messages) -> {
+            RTopicAsync topic = batch.getTopic(keyGenerator.getNodeTopic(topicName, nodeId));
+            messages.forEach(topic::publishAsync);
+        });
+        batch.execute();
+    }
+
+    /**
+     * 입장 허가 키 로컬 캐시 무효화 토픽 객체를 반환 (모든 노드가 구독)
+     */
+    public RTopic getAccessKeyInvalidationTopic() {
+        return redissonClient.getTopic(RedisKeyGenerator.ACCESS_KEY_INVALIDATION_TOPIC, StringCodec.INSTANCE);
     }
-}
\ No newline at end of file
+}
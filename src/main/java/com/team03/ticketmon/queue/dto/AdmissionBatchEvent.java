@@ -0,0 +1,16 @@
+package com.team03.ticketmon.queue.dto;
+
+import java.util.List;
+
+/**
+ * ✅ AdmissionBatchEvent: 사용자 입장 허가 배치 이벤트 DTO<br>
+ * -----------------------------------------------------<br>
+ * 스케줄러가 한 번에 입장시킨 사용자들 중 같은 노드에 연결된 사용자들의 입장 허가 정보를<br>
+ * 하나의 Redis Pub/Sub 메시지로 묶어 전달합니다. (메시지당 최대 건수 제한)<br><br>
+ *
+ * 📌 필드:
+ * <ul>
+ *     <li>admissions : 사용자별 입장 허가 이벤트 목록</li>
+ * </ul>
+ */
+public record AdmissionBatchEvent(List<AdmissionEvent> admissions) {}
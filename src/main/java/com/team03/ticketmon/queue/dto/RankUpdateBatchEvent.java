@@ -0,0 +1,16 @@
+package com.team03.ticketmon.queue.dto;
+
+import java.util.List;
+
+/**
+ * ✅ RankUpdateBatchEvent: 사용자 순위 업데이트 배치 이벤트 DTO<br>
+ * -----------------------------------------------------<br>
+ * 한 번의 스케줄러 주기에서 순위 알림 대상이 된 사용자들 중 같은 노드에 연결된 사용자들의 순위를<br>
+ * 하나의 Redis Pub/Sub 메시지로 묶어 전달합니다. (메시지당 최대 건수 제한)<br><br>
+ *
+ * 📌 필드:
+ * <ul>
+ *     <li>ranks : 사용자별 순위 업데이트 이벤트 목록</li>
+ * </ul>
+ */
+public record RankUpdateBatchEvent(List<RankUpdateEvent> ranks) {}
@@ -1,18 +1,14 @@
 package com.team03.ticketmon.queue.scheduler;
 
-import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
-import com.team03.ticketmon.concert.repository.ConcertRepository;
 import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.service.ActiveConcertIndexService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RAtomicLong;
 import org.redisson.api.RLock;
-import org.redisson.api.RScoredSortedSet;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -20,7 +16,7 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class CleanupScheduler {
 
-    private final ConcertRepository concertRepository;
+    private final ActiveConcertIndexService activeConcertIndexService;
     private final QueueRedisAdapter queueRedisAdapter;
 
     @Scheduled(fixedDelay = 7100)
@@ -35,42 +31,32 @@ public class CleanupScheduler {
                 return;
             }
 
-            // 2. 현재 ON_SALE 상태인 모든 콘서트 ID 목록을 가져옴
-            List<Long> activeConcertIds = concertRepository.findConcertIdsByStatus(ConcertStatus.ON_SALE);
-            if (activeConcertIds.isEmpty()) {
-                log.debug("===== 현재 처리할 ON_SALE 상태의 콘서트가 없습니다.");
+            // 2. 대기열 처리 대상 콘서트와, 인덱스에서 빠졌지만 세션이 남아 있을 수 있는 콘서트 ID 목록을 Redis에서 가져옴
+            Set<Long> activeConcertIds = activeConcertIndexService.getActiveConcertIds();
+            Set<Long> retiredConcertIds = activeConcertIndexService.getRetiredConcertIds();
+            if (activeConcertIds.isEmpty() && retiredConcertIds.isEmpty()) {
+                log.debug("===== 현재 세션을 정리할 콘서트가 없습니다.");
                 return;
             }
 
-            log.info("===== 세션 정리 스케줄러 실행 시작 (대상 콘서트 : {}개) =====", activeConcertIds.size());
+            log.info("===== 세션 정리 스케줄러 실행 시작 (대상 콘서트 : {}개, 판매 종료 콘서트 : {}개) =====",
+                    activeConcertIds.size(), retiredConcertIds.size());
 
-            // 3. 각 콘서트별로 세션 정리 작업을 수행
+            // 3. 각 콘서트별로 만료 세션 정리 (세션, 입장 키, 최종 만료 키 삭제와 슬롯 반환을 스크립트 한 번으로 처리)
+            long now = System.currentTimeMillis();
             for (Long concertId : activeConcertIds) {
-                RScoredSortedSet<Long> activeSessions = queueRedisAdapter.getActiveSessions(concertId);
-
-                // 락이 걸려 있으므로, '조회'와 '삭제'를 순차적으로 실행해도 안전
-                // 3-1. 만료된 멤버들을 조회
-                Collection<Long> expiredUserIds = activeSessions.valueRange(
-                        0, true,                  // 0점부터 (포함)
-                        System.currentTimeMillis(), true // 현재 시간까지 (포함)
-                );
-
-                if (expiredUserIds != null && !expiredUserIds.isEmpty()) {
-                    // 3-2. 조회된 멤버들을 삭제
-                    activeSessions.removeAll(expiredUserIds);
-
-                    // 3-3. 활성 사용자 수 감소
-                    long expiredCount = expiredUserIds.size();
-                    RAtomicLong activeUserCounter = queueRedisAdapter.getActiveUserCounter(concertId);
-
-                    // compareAndSet을 이용한 원자적 업데이트 루프
-                    long prevValue, nextValue;
-                    do {
-                        prevValue = activeUserCounter.get();
-                        nextValue = Math.max(0, prevValue - expiredCount);
-                    } while (!activeUserCounter.compareAndSet(prevValue, nextValue));
+                cleanupConcert(concertId, now);
+            }
 
-                    log.info("[콘서트 ID: {}] {}개의 세션 정리 완료. 남은 활성 사용자 수: {}", concertId, expiredCount, nextValue);
+            // 4. 인덱스에서 빠진 콘서트는 남은 세션이 모두 정리되면 정리 대상에서 제거
+            for (Long concertId : retiredConcertIds) {
+                if (activeConcertIds.contains(concertId)) {
+                    continue; // 다시 판매 중으로 전환된 콘서트는 위에서 이미 정리됨
+                }
+                QueueRedisAdapter.SessionCleanupResult result = cleanupConcert(concertId, now);
+                if (result.remainingSessions() == 0) {
+                    activeConcertIndexService.completeRetirement(concertId);
+                    log.info("[콘서트 ID: {}] 판매 종료 콘서트의 세션 정리 완료", concertId);
                 }
             }
         } catch (InterruptedException e) {
@@ -83,4 +69,13 @@ public class CleanupScheduler {
             log.info("===== 세션 정리 스케줄러 실행 종료 =====");
         }
     }
+
+    private QueueRedisAdapter.SessionCleanupResult cleanupConcert(Long concertId, long now) {
+        QueueRedisAdapter.SessionCleanupResult result = queueRedisAdapter.cleanupExpiredSessions(concertId, now);
+        if (result.expired() > 0) {
+            log.info("[콘서트 ID: {}] {}개의 세션 정리 완료. 남은 활성 사용자 수: {}",
+                    concertId, result.expired(), result.activeUsers());
+        }
+        return result;
+    }
 }
\ No newline at end of file
@@ -1,13 +1,10 @@
 package com.team03.ticketmon.queue.scheduler;
 
-import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
-import com.team03.ticketmon.concert.repository.ConcertRepository;
 import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.service.ActiveConcertIndexService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RAtomicLong;
 import org.redisson.api.RLock;
-import org.redisson.api.RScoredSortedSet;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -18,7 +15,7 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class ConsistencyCheckScheduler {
 
-    private final ConcertRepository concertRepository;
+    private final ActiveConcertIndexService activeConcertIndexService;
     private final QueueRedisAdapter queueRedisAdapter;
 
     /**
@@ -38,8 +35,8 @@ public class ConsistencyCheckScheduler {
 
             log.debug("===== 데이터 정합성 체크 스케줄러 시작 =====");
 
-            // TODO [성능개선]: 활성화된 대기열 ID를 DB가 아니라 Redis에서 직접 조회하는 방법 검토
-            concertRepository.findConcertIdsByStatus(ConcertStatus.ON_SALE)
+            // 대기열 처리 대상 인덱스를 DB의 ON_SALE 목록으로 보정 (DB 조회는 이 스케줄러에서만 수행)
+            activeConcertIndexService.reconcile()
                     .forEach(this::syncConcertCounts);
 
             log.debug("===== 데이터 정합성 체크 스케줄러 종료 =====");
@@ -54,19 +51,29 @@ public class ConsistencyCheckScheduler {
         }
     }
 
-    // TODO [배치처리]: 네트워크 왕복 최소화를 위해 Redisson Batch API 적용
+    // 입장 처리 중인 콘서트는 카운터가 변하는 중이므로, 콘서트별 입장 처리 락을 잡은 경우에만 보정
     private void syncConcertCounts(Long concertId) {
-        RScoredSortedSet<Long> activeSessions = queueRedisAdapter.getActiveSessions(concertId);
-        RAtomicLong counter = queueRedisAdapter.getActiveUserCounter(concertId);
+        RLock admissionLock = queueRedisAdapter.getConcertAdmissionLock(concertId);
+        if (!admissionLock.tryLock()) {
+            log.debug("[콘서트 ID: {}] 입장 처리 중이므로 정합성 체크를 다음 주기로 미룹니다.", concertId);
+            return;
+        }
+
+        try {
+            syncCounter(concertId);
+        } finally {
+            admissionLock.unlock();
+        }
+    }
 
-        long actualSessionSize = activeSessions.size();
-        long storedCnt  = counter.get();
+    private void syncCounter(Long concertId) {
+        // 활성 세션 수 조회와 카운터 보정을 서버 측에서 한 번에 처리
+        QueueRedisAdapter.SlotReconcileResult result = queueRedisAdapter.reconcileActiveUserCount(concertId);
 
-        if (actualSessionSize != storedCnt) {
+        if (result.corrected()) {
             log.warn("[콘서트 ID: {}] 불일치: counter={}, 실제={}. 동기화 수행",
-                    concertId, storedCnt, actualSessionSize);
-            counter.set(actualSessionSize);
+                    concertId, result.previous(), result.actual());
             // TODO [메트릭]: 동기화 발생 건수 카운팅 추가 (예: meterRegistry.counter("sync.count").increment())
         }
     }
-}
\ No newline at end of file
+}
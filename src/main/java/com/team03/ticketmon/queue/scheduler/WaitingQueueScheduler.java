@@ -1,25 +1,36 @@
 package com.team03.ticketmon.queue.scheduler;
 
-import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
-import com.team03.ticketmon.concert.repository.ConcertRepository;
 import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.service.ActiveConcertIndexService;
 import com.team03.ticketmon.queue.service.AdmissionService;
 import com.team03.ticketmon.queue.service.WaitingQueueService;
-import com.team03.ticketmon.queue.strategy.PersonalizedRankStrategy;
+import com.team03.ticketmon.queue.strategy.RankDeltaStrategy;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.*;
+import org.redisson.api.RLock;
+import org.redisson.api.RScoredSortedSet;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 주기적으로 대기열을 확인하여 입장 가능 인원을 처리하는 스케줄러.
  * 이 스케줄러는 시스템의 처리량을 조절하는 핵심적인 역할을 담당하며,
- * 분산 환경에서도 단 하나의 인스턴스만 실행되도록 분산 락(Distributed Lock)을 사용.
+ * 처리 대상 콘서트는 Redis 인덱스(waitqueue:active_concerts)에서 조회하고,
+ * 콘서트별 분산 락을 잡은 뒤 제한된 크기의 스레드 풀에서 병렬로 처리합니다.
+ * (한 콘서트의 처리가 늦어져도 다른 콘서트의 입장 처리가 지연되지 않음)
  */
 @Slf4j
 @Service
@@ -27,61 +38,99 @@ import java.util.concurrent.TimeUnit;
 public class WaitingQueueScheduler {
 
     private final WaitingQueueService waitingQueueService;
-    private final ConcertRepository concertRepository;
+    private final ActiveConcertIndexService activeConcertIndexService;
     private final AdmissionService admissionService;
     private final QueueRedisAdapter queueRedisAdapter;
-    private final PersonalizedRankStrategy personalizedRankStrategy;
+    private final RankDeltaStrategy rankDeltaStrategy;
 
     @Value("${app.queue.max-active-users}")
     private long maxActiveUsers; // 시스템이 동시에 수용 가능한 최대 활성 사용자 수
 
+    @Value("${app.queue.admission-parallelism:4}")
+    private int admissionParallelism; // 콘서트별 입장 처리를 동시에 수행할 최대 스레드 수
+
+    private ExecutorService admissionExecutor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadSequence = new AtomicInteger();
+        admissionExecutor = Executors.newFixedThreadPool(Math.max(1, admissionParallelism), runnable -> {
+            Thread thread = new Thread(runnable, "queue-admission-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        admissionExecutor.shutdownNow();
+    }
+
     /**
-     * 10초마다 주기적으로 실행되어 대기열을 처리.
-     * fixedDelay는 이전 작업이 성공적으로 끝난 후 10초를 기다리는 것을 의미.
-     * 분산 락을 사용하여 여러 인스턴스 중 하나만 이 메서드를 실행하도록 보장.
+     * 5.1초마다 주기적으로 실행되어 대기열을 처리.
+     * fixedDelay는 이전 작업이 끝난 후 대기하므로, 이번 실행에서 제출한 콘서트별 작업이 모두 끝날 때까지 기다림.
+     * 여러 인스턴스가 동시에 실행되어도 콘서트별 분산 락으로 같은 콘서트는 한 곳에서만 처리.
      */
     @Scheduled(fixedDelay = 5100)
     public void execute() {
+        // [STEP 1] 현재 처리해야 할 콘서트 ID 목록을 Redis 인덱스에서 조회
+        Set<Long> activeConcertIds = activeConcertIndexService.getActiveConcertIds();
 
-        // 분산 락 획득 시도
-        RLock lock = queueRedisAdapter.getAdmissionSchedulerLock();
-
-        try {
-            // [분산 락 획득 시도]
-            // waitTime(0): waitTime을 0으로 두어, 락 획득에 실패하면 즉시 리턴하는 비대기 모드는 유지
-            // leaseTime(-1): 워치독(락 자동 갱신) 기능을 활성화. 락을 획득하면 기본 30초의 TTL이 설정되고, 작업이 끝나기 전까지 워치독이 락을 계속 갱신
-            boolean isLocked = lock.tryLock(0, -1, TimeUnit.SECONDS);
+        if (activeConcertIds.isEmpty()) {
+            log.debug("===== 현재 처리할 대기열이 있는 콘서트가 없습니다.");
+            return;
+        }
 
-            if (!isLocked) {
-                log.debug("===== 다른 대기열 스케줄러 인스턴스에서 스케줄러가 실행 중이므로, 현재 스케줄러는 건너뜁니다.");
-                return;
-            }
+        log.debug("===== 대기열 스케줄러 실행 시작 (처리 대상 콘서트 대기열: {}개) =====", activeConcertIds.size());
 
-            // [STEP 1] 현재 처리해야 할 모든 활성 콘서트 ID 목록을 조회
-            List<Long> activeConcertIds = concertRepository.findConcertIdsByStatus(ConcertStatus.ON_SALE);
+        // [STEP 2] 각 콘서트 ID에 대해 대기열 처리 로직을 병렬로 실행
+        List<Future<?>> futures = new ArrayList<>(activeConcertIds.size());
+        for (Long concertId : activeConcertIds) {
+            futures.add(admissionExecutor.submit(() -> processQueueWithLock(concertId)));
+        }
 
-            if (activeConcertIds.isEmpty()) {
-                log.debug("===== 현재 처리할 ON_SALE 상태의 콘서트가 없습니다.");
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                // 스레드가 중단 신호를 받으면, 현재 스레드의 중단 상태를 다시 설정하여 상위 코드가 인지할 수 있도록 함.
+                Thread.currentThread().interrupt();
+                log.error("===== 대기열 스케줄러 작업 대기 중 인터럽트 발생", e);
                 return;
+            } catch (ExecutionException e) {
+                log.error("===== 대기열 스케줄러 작업 실행 중 예외 발생", e.getCause());
             }
+        }
 
-            log.info("===== 대기열 스케줄러 실행 시작 (처리 대상 콘서트 대기열: {}개) =====", activeConcertIds.size());
+        log.debug("===== 대기열 스케줄러 실행 종료 =====");
+    }
 
-            // [STEP 2] 각 콘서트 ID에 대해 대기열 처리 로직을 실행
-            for (Long concertId : activeConcertIds) {
-                processQueueForConcert(concertId);
-            }
+    /**
+     * 콘서트별 분산 락을 획득한 경우에만 해당 콘서트의 대기열을 처리
+     * @param concertId 처리할 콘서트의 ID
+     */
+    private void processQueueWithLock(Long concertId) {
+        RLock lock = queueRedisAdapter.getConcertAdmissionLock(concertId);
 
+        try {
+            // waitTime(0): 락 획득에 실패하면 즉시 리턴 (다른 인스턴스가 이미 처리 중)
+            // leaseTime(-1): 워치독(락 자동 갱신) 기능 활성화
+            if (!lock.tryLock(0, -1, TimeUnit.SECONDS)) {
+                log.debug("===== [콘서트 ID: {}] 다른 인스턴스에서 처리 중이므로 건너뜁니다.", concertId);
+                return;
+            }
+            processQueueForConcert(concertId);
         } catch (InterruptedException e) {
-            // 스레드가 중단 신호를 받으면, 현재 스레드의 중단 상태를 다시 설정하여 상위 코드가 인지할 수 있도록 함.
             Thread.currentThread().interrupt();
-            log.error("===== 대기열 스케줄러 분산 락을 획득하는 동안 인터럽트 발생", e);
+            log.error("===== [콘서트 ID: {}] 분산 락을 획득하는 동안 인터럽트 발생", concertId, e);
+        } catch (Exception e) {
+            // 한 콘서트의 실패가 다른 콘서트 처리에 영향을 주지 않도록 격리
+            log.error("===== [콘서트 ID: {}] 대기열 처리 중 오류 발생", concertId, e);
         } finally {
             // 현재 스레드가 락을 점유하고 있는 경우에만 해제를 시도하여, 다른 스레드가 획득한 락을 해제하는 실수를 방지.
-            if  (lock.isHeldByCurrentThread()) {
+            if (lock.isHeldByCurrentThread()) {
                 lock.unlock();
             }
-            log.info("===== 대기열 스케줄러 실행 종료 =====");
         }
     }
 
@@ -93,35 +142,43 @@ public class WaitingQueueScheduler {
         log.debug("===== [콘서트 ID: {}] 대기열 처리 시작. =====", concertId);
 
         // ==================== 1. 입장 처리 로직 ====================
-        RAtomicLong activeUsersCount = queueRedisAdapter.getActiveUserCounter(concertId);
-        long currentActiveUsers = activeUsersCount.get();
+        // 빈 슬롯을 먼저 원자적으로 점유한 뒤 그만큼만 대기열에서 추출 (즉시 입장과 동시에 일어나도 최대 인원 초과 없음)
+        // 점유 수는 현재 대기 인원으로 제한되므로, 채우지 못할 슬롯을 잡아 두어 즉시 입장을 막지 않음
         // TODO: maxActiveUsers도 콘서트별로 다르게 설정할 수 있도록 DB에서 가져오는 로직 추가 가능 (우선순위: 최하)
-        long availableSlots = maxActiveUsers - currentActiveUsers;
+        long claimedSlots = admissionService.claimSlots(concertId, maxActiveUsers);
 
-        if (availableSlots <= 0) {
+        if (claimedSlots <= 0) {
             log.debug("===== [콘서트 ID: {}] 입장 가능한 자리가 없습니다. 대기열 처리 스킵 =====", concertId);
             return;
         }
 
-        log.debug("===== [콘서트 ID: {}] 활성 사용자 현황: {} / {} (빈자리: {}) =====", concertId, currentActiveUsers, maxActiveUsers, availableSlots);
+        log.debug("===== [콘서트 ID: {}] 점유한 빈자리: {} / {} =====", concertId, claimedSlots, maxActiveUsers);
+
+        // 해당 콘서트 대기열에서 점유한 슬롯 수만큼 사용자를 원자적으로 추출
+        List<Long> admittedUserIds;
+        try {
+            admittedUserIds = waitingQueueService.poll(concertId, (int) claimedSlots);
+        } catch (RuntimeException e) {
+            admissionService.releaseSlots(concertId, claimedSlots);
+            throw e;
+        }
 
-        // 해당 콘서트 대기열에서 빈자리 수만큼 사용자를 원자적으로 추출
-        List<Long> admittedUserIds = waitingQueueService.poll(concertId, (int) availableSlots);
+        // 대기 인원이 점유한 슬롯보다 적으면 남은 슬롯 반환
+        admissionService.releaseSlots(concertId, claimedSlots - admittedUserIds.size());
 
         if (admittedUserIds.isEmpty()) {
             log.debug("===== [콘서트 ID: {}] 새로 입장할 대기 인원이 없습니다. 스케줄러 작업을 종료 =====", concertId);
             return;
         }
 
-        // 추출된 사용자들에게 입장 허가 처리
-        admissionService.grantAccess(concertId, admittedUserIds, true, true);
+        // 추출된 사용자들에게 입장 허가 처리 (슬롯은 이미 점유했으므로 카운터는 증가시키지 않음)
+        admissionService.grantAccess(concertId, admittedUserIds, true, false);
 
         // ==================== 2. 알림 로직 실행 ====================
+        // 남은 대기자들의 순위는 입장한 인원만큼 앞당겨지므로, 그 변화량으로 알림 대상을 계산
         RScoredSortedSet<Long> queue = queueRedisAdapter.getQueue(concertId);
 
-        if (queue != null && !queue.isEmpty()) {
-            log.debug("[Notification] 콘서트 ID {}: 알림 전략 실행.", concertId);
-            personalizedRankStrategy.execute(concertId, queue);
-        }
+        log.debug("[Notification] 콘서트 ID {}: 알림 전략 실행.", concertId);
+        rankDeltaStrategy.execute(concertId, queue, admittedUserIds.size());
     }
 }
\ No newline at end of file
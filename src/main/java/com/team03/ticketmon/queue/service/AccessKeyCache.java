@@ -0,0 +1,142 @@
+package com.team03.ticketmon.queue.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드별 검증 완료 입장 허가 키(AccessKey) 로컬 캐시
+ * 좌석 API는 요청마다 AccessKeyFilter를 거치므로, Redis에서 확인한 키를 잠시 보관해 반복 조회를 생략합니다.
+ *
+ * 📌 정합성:
+ * <ul>
+ *   <li>항목 만료 시각은 Redis 키의 실제 남은 TTL과 max-ttl 중 빠른 시점 (키보다 오래 살아남지 않음)</li>
+ *   <li>키가 만료 처리/연장/재발급되면 무효화 토픽으로 모든 노드의 항목을 제거</li>
+ *   <li>무효화 메시지가 유실되어도 max-ttl 이후에는 Redis 기준으로 다시 검증</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessKeyCache {
+
+    private final QueueRedisAdapter queueRedisAdapter;
+
+    @Value("${app.queue.access-key-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${app.queue.access-key-cache.max-ttl-ms:30000}")
+    private long maxTtlMs;
+
+    private Cache<String, CachedAccessKey> cache;
+    private RTopic invalidationTopic;
+    private int listenerId;
+
+    /**
+     * 캐시 항목: Redis에 저장된 키 값과 캐시에 머무를 시간
+     */
+    private record CachedAccessKey(String accessKey, long ttlNanos) {
+    }
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, CachedAccessKey>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedAccessKey value, long currentTime) {
+                        return value.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedAccessKey value, long currentTime, long currentDuration) {
+                        return value.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedAccessKey value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+
+        invalidationTopic = queueRedisAdapter.getAccessKeyInvalidationTopic();
+        listenerId = invalidationTopic.addListener(String.class, (channel, cacheKey) -> {
+            cache.invalidate(cacheKey);
+            log.debug("[AccessKey] 로컬 캐시 무효화 수신: {}", cacheKey);
+        });
+    }
+
+    @PreDestroy
+    public void destroy() {
+        invalidationTopic.removeListener(listenerId);
+    }
+
+    /**
+     * 클라이언트가 제출한 키가 사용자의 유효한 입장 허가 키인지 확인
+     * 로컬 캐시에 없으면 Redis에서 키와 남은 TTL을 한 번에 조회해 캐시합니다. (없는 키는 캐시하지 않음)
+     * 캐시된 키와 다르면 Redis에서 다시 확인합니다.
+     *
+     * @param concertId       콘서트 ID
+     * @param userId          사용자 ID
+     * @param clientAccessKey 클라이언트가 제출한 키
+     * @return 유효하면 true
+     */
+    public boolean isValid(Long concertId, Long userId, String clientAccessKey) {
+        String cacheKey = toCacheKey(concertId, userId);
+        CachedAccessKey cached = cache.get(cacheKey, key -> load(concertId, userId));
+        if (cached == null) {
+            return false;
+        }
+        if (cached.accessKey().equals(clientAccessKey)) {
+            return true;
+        }
+
+        // 재입장으로 키가 새로 발급되었을 수 있으므로, 불일치 시에는 Redis 기준으로 한 번 더 확인
+        cache.invalidate(cacheKey);
+        cached = cache.get(cacheKey, key -> load(concertId, userId));
+        return cached != null && cached.accessKey().equals(clientAccessKey);
+    }
+
+    /**
+     * 모든 노드의 로컬 캐시에서 사용자의 키 항목을 제거
+     * Redis의 키를 변경(삭제/연장)한 뒤 호출해야 다른 노드가 변경된 값을 다시 읽습니다.
+     */
+    public void invalidate(Long concertId, Long userId) {
+        String cacheKey = toCacheKey(concertId, userId);
+        cache.invalidate(cacheKey);
+        try {
+            invalidationTopic.publish(cacheKey);
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드의 항목은 max-ttl 이내에 자연 만료
+            log.warn("[AccessKey] 로컬 캐시 무효화 발행 실패: {}, error={}", cacheKey, e.getMessage());
+        }
+    }
+
+    private CachedAccessKey load(Long concertId, Long userId) {
+        QueueRedisAdapter.AccessKeySnapshot snapshot = queueRedisAdapter.getAccessKeyWithTtl(concertId, userId);
+        if (snapshot == null) {
+            return null;
+        }
+
+        // 만료 시각이 없는 키(-1)는 max-ttl까지만 보관
+        long ttlMs = snapshot.remainTtlMillis() < 0
+                ? maxTtlMs
+                : Math.min(snapshot.remainTtlMillis(), maxTtlMs);
+        return new CachedAccessKey(snapshot.accessKey(), TimeUnit.MILLISECONDS.toNanos(ttlMs));
+    }
+
+    private String toCacheKey(Long concertId, Long userId) {
+        return concertId + ":" + userId;
+    }
+}
@@ -19,6 +19,7 @@ import java.util.concurrent.TimeUnit;
 public class AccessKeyService {
 
     private final QueueRedisAdapter queueRedisAdapter;
+    private final AccessKeyCache accessKeyCache;
 
     @Value("${app.queue.access-key-extend-seconds}")
     private long accessKeyExtendSeconds;
@@ -63,6 +64,8 @@ public class AccessKeyService {
             activeSessions.add(newScoreTimestamp, userId);
 
             appliedTtl = targetTtlSeconds;
+            // 다른 노드의 로컬 캐시가 이전 TTL 기준 항목을 버리고 새 TTL로 다시 읽도록 무효화
+            accessKeyCache.invalidate(concertId, userId);
             log.info("[AccessKey] 키 연장 완료. userId: {}, newTTL: {}초", userId, appliedTtl);
         }
 
@@ -71,10 +74,13 @@ public class AccessKeyService {
 
 
     /**
-     * 사용자의 세션을 '만료 예정'으로 표시하여 CleanupScheduler가 처리하도록 위임합니다.
+     * 사용자의 입장 허가 키를 즉시 삭제하고, 세션을 '만료 예정'으로 표시하여 CleanupScheduler가 슬롯을 정리하도록 위임합니다.
+     * 모든 노드의 로컬 캐시 항목도 무효화되어 이후 요청은 어느 노드에서든 거부됩니다.
      */
     public void invalidateAccessKey(Long concertId, Long userId) {
+        queueRedisAdapter.getAccessKeyBucket(concertId, userId).delete();
         queueRedisAdapter.getActiveSessions(concertId).add(0, userId);
+        accessKeyCache.invalidate(concertId, userId);
         log.info("[AccessKey] 키 만료 처리 요청 완료. userId: {}", userId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.team03.ticketmon.queue.service;
+
+import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
+import com.team03.ticketmon.concert.repository.ConcertRepository;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RSet;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 대기열 처리 대상 콘서트 인덱스(Redis Set)를 관리하는 서비스
+ * - 인덱스에는 ON_SALE 콘서트만 등록 (대기열 진입만으로는 등록하지 않음)
+ * - 판매 상태 변경 시: ON_SALE이 되면 등록, ON_SALE이 아니게 되면 제거
+ * - 정합성 체크 시: DB의 ON_SALE 목록을 기준으로 누락/잔여 항목 보정
+ * - 인덱스에서 제거된 콘서트는 정리 대상(retired) Set으로 옮겨, 세션 정리 스케줄러가 남은 세션을 끝까지 정리하도록 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActiveConcertIndexService {
+
+    private final QueueRedisAdapter queueRedisAdapter;
+    private final ConcertRepository concertRepository;
+
+    /**
+     * 대기열 처리 대상 콘서트 ID 목록 조회 (Redis 1회 조회)
+     */
+    public Set<Long> getActiveConcertIds() {
+        return queueRedisAdapter.getActiveConcertIndex().readAll();
+    }
+
+    /**
+     * 인덱스에서 빠졌지만 아직 세션 정리가 끝나지 않은 콘서트 ID 목록 조회
+     */
+    public Set<Long> getRetiredConcertIds() {
+        return queueRedisAdapter.getRetiredConcertIndex().readAll();
+    }
+
+    /**
+     * 남은 세션 정리가 끝난 콘서트를 정리 대상에서 제거
+     */
+    public void completeRetirement(Long concertId) {
+        queueRedisAdapter.getRetiredConcertIndex().remove(concertId);
+    }
+
+    /**
+     * 콘서트 판매 상태 변경을 인덱스에 반영
+     * 인덱스 갱신 실패가 콘서트 변경 자체를 실패시키지 않도록 예외는 로그만 남기고,
+     * 누락분은 정합성 체크 스케줄러의 reconcile()에서 보정됩니다.
+     *
+     * @param concertId 콘서트 ID
+     * @param status    변경된 판매 상태
+     */
+    public void onStatusChanged(Long concertId, ConcertStatus status) {
+        if (concertId == null || status == null) {
+            return;
+        }
+
+        try {
+            RSet<Long> index = queueRedisAdapter.getActiveConcertIndex();
+            RSet<Long> retired = queueRedisAdapter.getRetiredConcertIndex();
+            if (status == ConcertStatus.ON_SALE) {
+                index.add(concertId);
+                retired.remove(concertId);
+            } else {
+                retired.add(concertId);
+                index.remove(concertId);
+            }
+            log.debug("대기열 처리 대상 인덱스 갱신: concertId={}, status={}", concertId, status);
+        } catch (Exception e) {
+            log.warn("대기열 처리 대상 인덱스 갱신 실패 (정합성 체크에서 보정): concertId={}, status={}, error={}",
+                    concertId, status, e.getMessage());
+        }
+    }
+
+    /**
+     * DB의 ON_SALE 콘서트 목록을 기준으로 인덱스를 보정
+     *
+     * @return 보정 후 인덱스에 포함된 콘서트 ID 목록
+     */
+    public Set<Long> reconcile() {
+        List<Long> onSaleConcertIds = concertRepository.findConcertIdsByStatus(ConcertStatus.ON_SALE);
+        RSet<Long> index = queueRedisAdapter.getActiveConcertIndex();
+        RSet<Long> retired = queueRedisAdapter.getRetiredConcertIndex();
+
+        Set<Long> indexed = index.readAll();
+        Set<Long> expected = new HashSet<>(onSaleConcertIds);
+
+        Set<Long> missing = new HashSet<>(expected);
+        missing.removeAll(indexed);
+        Set<Long> stale = new HashSet<>(indexed);
+        stale.removeAll(expected);
+
+        if (!missing.isEmpty()) {
+            index.addAll(missing);
+            retired.removeAll(missing);
+        }
+        if (!stale.isEmpty()) {
+            retired.addAll(stale);
+            index.removeAll(stale);
+        }
+
+        if (!missing.isEmpty() || !stale.isEmpty()) {
+            log.info("대기열 처리 대상 인덱스 보정: 추가={}, 제거={}", missing, stale);
+        }
+        return expected;
+    }
+}
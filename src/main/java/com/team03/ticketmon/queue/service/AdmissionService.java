@@ -4,10 +4,11 @@ import com.team03.ticketmon._global.exception.BusinessException;
 import com.team03.ticketmon._global.exception.ErrorCode;
 import com.team03.ticketmon._global.util.RedisKeyGenerator;
 import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.dto.AdmissionEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RAtomicLong;
 import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
 import org.redisson.api.RedissonClient;
 import org.redisson.client.codec.LongCodec;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,7 +17,9 @@ import org.springframework.stereotype.Service;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 
@@ -33,6 +36,7 @@ public class AdmissionService {
     private final RedisKeyGenerator keyGenerator;
     private final NotificationService notificationService;
     private final QueueRedisAdapter queueRedisAdapter;
+    private final AccessKeyCache accessKeyCache;
 
     @Value("${app.queue.access-key-max-ttl-seconds}") // 예: 600 (10분)
     private long accessKeyMaxTtlSeconds;
@@ -78,6 +82,8 @@ public class AdmissionService {
 
 
         List<String> issuedKeys = new ArrayList<>();
+        List<AdmissionEvent> admissionEvents = new ArrayList<>();
+        Map<Long, RFuture<Object>> previousKeys = new LinkedHashMap<>();
 
         // RBatch를 사용하여 여러 명령을 원자적으로 실행 (파이프라이닝 효과로 성능 향상)
         RBatch batch = redissonClient.createBatch();
@@ -86,9 +92,9 @@ public class AdmissionService {
             String accessKey = UUID.randomUUID().toString();
             issuedKeys.add(accessKey);
 
-            // 1. AccessKey 저장
+            // 1. AccessKey 저장 (재입장으로 덮어쓴 경우 노드별 캐시를 무효화하기 위해 이전 값도 함께 조회)
             String accessKeyRedisKey = keyGenerator.getAccessKey(concertId, userId);
-            batch.getBucket(accessKeyRedisKey).setAsync(accessKey, ttl);
+            previousKeys.put(userId, batch.getBucket(accessKeyRedisKey).getAndSetAsync(accessKey, ttl));
 
             // 2. 만료 시간 관리를 위해 active_sessions Sorted Set에 추가 (Score: 만료시간, Value: userId)
             batch.getScoredSortedSet(activeSessionsKey, LongCodec.INSTANCE).addAsync(expiryTimestamp, userId);
@@ -98,9 +104,9 @@ public class AdmissionService {
             batch.getBucket(finalExpiryKey).setAsync(finalExpiryTimestamp, finalKeyTtl);
 
 
-            // 3. 알림이 필요한 경우 (스케줄러에 의해 호출될 때) 알림 전송
+            // 3. 알림이 필요한 경우 (스케줄러에 의해 호출될 때) 배치 실행 후 일괄 전송할 이벤트 수집
             if (sendNotification) {
-                notificationService.sendAdmissionNotification(userId, accessKey);
+                admissionEvents.add(new AdmissionEvent(userId, accessKey));
             }
         }
 
@@ -119,27 +125,57 @@ public class AdmissionService {
             throw new BusinessException(ErrorCode.REDIS_COMMAND_FAILED, "입장 처리 중 시스템 오류가 발생");
         }
 
+        // 5-1. 기존 키를 덮어쓴 사용자는 모든 노드의 검증 완료 키 캐시에서 제거 (이전 키로 계속 통과하지 않도록)
+        previousKeys.forEach((userId, previousKey) -> {
+            if (previousKey.toCompletableFuture().join() != null) {
+                accessKeyCache.invalidate(concertId, userId);
+            }
+        });
+
+        // 6. AccessKey 저장이 완료된 뒤 노드별로 묶어 한 번에 알림 발행
+        //    (알림 실패 시에도 입장 처리는 유지되며, 사용자는 상태 조회/재연결로 입장 상태를 확인 가능)
+        if (!admissionEvents.isEmpty()) {
+            try {
+                notificationService.sendAdmissionNotifications(admissionEvents);
+            } catch (Exception e) {
+                log.error("[NOTIFICATION_FAILED] 입장 알림 일괄 발행 실패. 대상: {}명", admissionEvents.size(), e);
+            }
+        }
+
         return issuedKeys;
     }
 
     /**
-     * 즉시 입장을 위해 슬롯이 남아있는지 확인하고 원자적으로 점유를 시도
-     * 'Compare-And-Set' (CAS) 연산을 사용하여 여러 스레드가 동시에 접근해도 경쟁 상태(Race Condition)를 방지
+     * 즉시 입장을 위해 대기열이 비어 있고 슬롯이 남아있는지 확인하고 원자적으로 점유를 시도
+     * 확인과 점유를 Redis 스크립트 한 번으로 처리하므로, 여러 스레드가 동시에 접근해도 재시도 없이 최대 인원을 넘지 않음
      *
      * @param concertId 점유를 시도할 콘서트 ID
      * @return 슬롯 점유에 성공하면 true, 실패하면 false
      */
-    public boolean tryClaimSlot(Long concertId) {
-        RAtomicLong activeUsersCount = queueRedisAdapter.getActiveUserCounter(concertId);
+    public boolean tryClaimImmediateSlot(Long concertId) {
+        return queueRedisAdapter.claimImmediateSlot(concertId, maxActiveUsers);
+    }
 
-        while (true) {
-            long current = activeUsersCount.get();
-            if (current >= maxActiveUsers) {
-                return false; // 슬롯 점유 실패
-            }
-            if (activeUsersCount.compareAndSet(current, current + 1)) {
-                return true; // 슬롯 점유 성공!
-            }
+    /**
+     * 최대 활성 사용자 수와 현재 대기 인원을 넘지 않는 범위에서 최대 requested개의 슬롯을 원자적으로 점유
+     *
+     * @param concertId 점유를 시도할 콘서트 ID
+     * @param requested 점유하려는 슬롯 수
+     * @return 실제 점유한 슬롯 수
+     */
+    public long claimSlots(Long concertId, long requested) {
+        return queueRedisAdapter.claimSlots(concertId, requested, maxActiveUsers);
+    }
+
+    /**
+     * 점유했지만 사용하지 않은 슬롯을 반환
+     *
+     * @param concertId 콘서트 ID
+     * @param count     반환할 슬롯 수
+     */
+    public void releaseSlots(Long concertId, long count) {
+        if (count > 0) {
+            queueRedisAdapter.releaseSlots(concertId, count);
         }
     }
-}
\ No newline at end of file
+}
@@ -3,16 +3,27 @@ package com.team03.ticketmon.queue.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.dto.AdmissionBatchEvent;
 import com.team03.ticketmon.queue.dto.AdmissionEvent;
+import com.team03.ticketmon.queue.dto.RankUpdateBatchEvent;
 import com.team03.ticketmon.queue.dto.RankUpdateEvent;
+import com.team03.ticketmon.websocket.WebSocketSessionRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RTopic;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 /**
  * Redis Pub/Sub을 사용하여 입장 알림 메시지를 발행(Publish)하는 서비스.
  * 이 서비스를 통해 스케줄러와 웹소켓 핸들러 간의 의존성을 분리.
+ * 세션 레지스트리로 사용자의 WebSocket이 연결된 노드를 찾아 해당 노드 전용 토픽으로만 발행합니다.
  */
 @Slf4j
 @Service
@@ -21,6 +32,13 @@ public class NotificationService {
 
     private final ObjectMapper objectMapper;
     private final QueueRedisAdapter queueRedisAdapter;
+    private final WebSocketSessionRegistry sessionRegistry;
+
+    @Value("${app.queue.admission-notification-batch-size:200}")
+    private int admissionBatchSize; // 입장 알림 배치 메시지 하나에 담을 최대 사용자 수
+
+    @Value("${app.queue.rank-notification-batch-size:500}")
+    private int rankBatchSize; // 순위 알림 배치 메시지 하나에 담을 최대 사용자 수
 
     /**
      * 특정 사용자에게 발급된 입장 허가 키를 담아 알림 이벤트를 발행.
@@ -29,6 +47,13 @@ public class NotificationService {
      * @param accessKey 사용자에게 부여된 고유 입장 허가 키
      */
     public void sendAdmissionNotification(Long userId, String accessKey) {
+        String nodeId = sessionRegistry.findNodeId(userId);
+        if (nodeId == null) {
+            // 연결된 세션이 없으면 발행 생략 (재연결 시 CustomWebSocketHandler가 입장 상태를 확인해 리디렉션)
+            log.debug("입장 알림 발행 생략. 연결된 WebSocket 세션 없음. 사용자: {}", userId);
+            return;
+        }
+
         AdmissionEvent event = new AdmissionEvent(userId, accessKey);
         try {
             // 1. 이벤트 객체를 JSON 문자열로 직렬화
@@ -36,10 +61,10 @@ public class NotificationService {
 
             log.debug("입장 알림 발행 준비. 메시지: {}", message);
 
-            // 2. Redis의 특정 토픽(채널)을 가져옴
-            RTopic topic = queueRedisAdapter.getAdmissionTopic();
+            // 2. 사용자의 세션이 연결된 노드 전용 토픽(채널)을 가져옴
+            RTopic topic = queueRedisAdapter.getAdmissionTopic(nodeId);
 
-            // 3. 해당 토픽을 구독(Subscribe)하고 있는 모든 클라이언트에게 메시지를 발행
+            // 3. 해당 노드에게만 메시지를 발행
             long receivers = topic.publish(message);
 
             // 애플리케이션의 중요 상태 변경이므로 INFO 레벨로 기록
@@ -49,19 +74,116 @@ public class NotificationService {
         }
     }
 
+    /**
+     * 여러 사용자의 입장 허가 알림을 노드별로 묶어 발행
+     * 노드 조회(MGET 1회) 후, 노드마다 최대 admissionBatchSize 건씩 AdmissionBatchEvent로 묶어
+     * 모든 메시지를 한 번의 파이프라인으로 발행합니다.
+     *
+     * @param events 사용자별 입장 허가 이벤트 목록
+     */
+    public void sendAdmissionNotifications(List<AdmissionEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<String>> messagesByNode =
+                groupMessagesByNode(events, AdmissionEvent::userId, AdmissionBatchEvent::new, admissionBatchSize);
+        if (messagesByNode.isEmpty()) {
+            return;
+        }
+
+        // 모든 메시지를 한 번에 발행
+        queueRedisAdapter.publishAdmissionMessages(messagesByNode);
+        log.debug("입장 알림 일괄 발행 완료. 대상: {}명, 노드: {}개", events.size(), messagesByNode.size());
+    }
+
+    /**
+     * 여러 사용자의 순위 알림을 노드별로 묶어 발행
+     * 입장 알림 일괄 발행과 같은 방식으로, 노드마다 최대 rankBatchSize 건씩 RankUpdateBatchEvent로 묶어
+     * 모든 메시지를 한 번의 파이프라인으로 발행합니다.
+     *
+     * @param events 사용자별 순위 업데이트 이벤트 목록
+     */
+    public void sendRankUpdates(List<RankUpdateEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<String>> messagesByNode =
+                groupMessagesByNode(events, RankUpdateEvent::userId, RankUpdateBatchEvent::new, rankBatchSize);
+        if (messagesByNode.isEmpty()) {
+            return;
+        }
+
+        queueRedisAdapter.publishRankUpdateMessages(messagesByNode);
+        log.debug("순위 알림 일괄 발행 완료. 대상: {}명, 노드: {}개", events.size(), messagesByNode.size());
+    }
+
+    /**
+     * 이벤트들을 세션이 연결된 노드별로 묶고, 노드마다 최대 batchSize 건씩 배치 메시지로 직렬화
+     *
+     * @param batchSize 배치 메시지 하나에 담을 최대 이벤트 수
+     * @return 노드 ID → 발행할 메시지 목록, 발행할 대상이 없거나 직렬화에 실패하면 빈 Map
+     */
+    private <E> Map<String, List<String>> groupMessagesByNode(List<E> events,
+                                                               Function<E, Long> userIdOf,
+                                                               Function<List<E>, Object> batchOf,
+                                                               int batchSize) {
+        Map<Long, String> nodeIds = sessionRegistry.findNodeIds(events.stream().map(userIdOf).toList());
+
+        // 1. 세션이 연결된 노드별로 그룹화 (연결된 세션이 없는 사용자는 생략)
+        Map<String, List<E>> eventsByNode = new HashMap<>();
+        for (E event : events) {
+            String nodeId = nodeIds.get(userIdOf.apply(event));
+            if (nodeId != null) {
+                eventsByNode.computeIfAbsent(nodeId, key -> new ArrayList<>()).add(event);
+            }
+        }
+
+        if (eventsByNode.isEmpty()) {
+            log.debug("알림 일괄 발행 생략. 연결된 WebSocket 세션 없음. 대상: {}명", events.size());
+            return Map.of();
+        }
+
+        // 2. 노드별로 최대 건수 단위로 나누어 직렬화
+        int chunkSize = Math.max(1, batchSize);
+        Map<String, List<String>> messagesByNode = new HashMap<>();
+        try {
+            for (Map.Entry<String, List<E>> entry : eventsByNode.entrySet()) {
+                List<E> nodeEvents = entry.getValue();
+                List<String> messages = new ArrayList<>();
+                for (int from = 0; from < nodeEvents.size(); from += chunkSize) {
+                    List<E> chunk = nodeEvents.subList(from, Math.min(from + chunkSize, nodeEvents.size()));
+                    messages.add(objectMapper.writeValueAsString(batchOf.apply(chunk)));
+                }
+                messagesByNode.put(entry.getKey(), messages);
+            }
+        } catch (JsonProcessingException e) {
+            log.error("배치 알림 JSON 직렬화 실패! 대상: {}명", events.size(), e);
+            return Map.of();
+        }
+        return messagesByNode;
+    }
+
     /**
      * 특정 사용자에게 실시간 순위를 담아 알림 이벤트를 발행
      * @param userId 알림을 받을 사용자 ID
      * @param rank   현재 대기 순위
      */
     public void sendRankUpdate(Long userId, int rank) {
+        String nodeId = sessionRegistry.findNodeId(userId);
+        if (nodeId == null) {
+            log.debug("실시간 순위 알림 발행 생략. 연결된 WebSocket 세션 없음. 사용자: {}", userId);
+            return;
+        }
+
         RankUpdateEvent event = new RankUpdateEvent(userId, rank);
         try {
             String message = objectMapper.writeValueAsString(event);
 
             log.debug("실시간 순위 알림 발행 준비. 메시지: {}", message);
 
-            RTopic topic = queueRedisAdapter.getRankUpdateTopic();
+            RTopic topic = queueRedisAdapter.getRankUpdateTopic(nodeId);
             long receivers = topic.publish(message);
 
             log.debug("실시간 순위 알림 발행 완료. 사용자: {}, 수신자 수: {}", userId, receivers);
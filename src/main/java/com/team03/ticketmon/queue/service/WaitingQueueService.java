@@ -1,7 +1,5 @@
 package com.team03.ticketmon.queue.service;
 
-import com.team03.ticketmon._global.exception.BusinessException;
-import com.team03.ticketmon._global.exception.ErrorCode;
 import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
 import com.team03.ticketmon.queue.dto.QueueStatusDto;
 import lombok.RequiredArgsConstructor;
@@ -29,44 +27,38 @@ public class WaitingQueueService {
 
     /**
      * 특정 콘서트의 대기열에 사용자를 추가하고, 현재 대기 순번을 반환
-     * 타임스탬프와 원자적 시퀀스를 조합한 유니크한 점수를 사용해 공정성을 보장
+     * Redis 서버 시각 기반의 유니크한 점수를 스크립트 안에서 부여해 공정성(FIFO)을 보장
      *
      * @param concertId 대기열을 식별하는 콘서트 ID
      * @param userId    대기열에 추가할 사용자 ID
      * @return 1부터 시작하는 사용자의 대기 순번
      */
     public QueueStatusDto apply(Long concertId, Long userId) {
-        RScoredSortedSet<Long> queue = queueRedisAdapter.getQueue(concertId);
-
-        // 1. 원자적 슬롯 점유 시도
-        if (queue.isEmpty() && admissionService.tryClaimSlot(concertId)) {
+        // 1. 대기열이 비어 있고 빈 슬롯이 있으면 원자적으로 슬롯 점유 (1회 왕복)
+        if (admissionService.tryClaimImmediateSlot(concertId)) {
             log.debug("[userId: {}] 즉시 입장 처리 시작.", userId);
-            String accessKey = admissionService.grantAccess(concertId, userId);
-            return QueueStatusDto.immediateEntry(accessKey);
+            try {
+                String accessKey = admissionService.grantAccess(concertId, userId);
+                return QueueStatusDto.immediateEntry(accessKey);
+            } catch (RuntimeException e) {
+                // 입장 처리에 실패하면 점유한 슬롯을 반환
+                admissionService.releaseSlots(concertId, 1);
+                throw e;
+            }
         }
 
         // 2. 슬롯이 꽉 찼거나, 점유 시도에 실패(경쟁에서 밀림)하면 대기열로 진입
+        //    점수 생성 + 중복 없는 등록 + 순위 조회를 한 번의 스크립트로 처리
         log.debug("사용자 {} 대기열 진입 처리 시작.", userId);
-        long uniqueScore = queueRedisAdapter.generateQueueScore(concertId);
+        QueueRedisAdapter.EnqueueResult result = queueRedisAdapter.enqueue(concertId, userId);
 
-        if (!queue.addIfAbsent(uniqueScore, userId)) {
+        if (!result.added()) {
             log.warn("[userId: {}] 이미 대기열에 등록된 상태", userId);
-            Integer existingRank = queue.rank(userId);
-            if (existingRank != null) {
-                return QueueStatusDto.waiting(existingRank.longValue() + 1);
-            }
-            throw new BusinessException(ErrorCode.QUEUE_ALREADY_JOINED);
-        }
-
-        log.debug("[userId: {}] 대기열 신규 신청. [콘서트: {}, 부여된 점수: {}]", userId, concertId, uniqueScore);
-        Integer rankIndex = queue.rank(userId);
-
-        if (rankIndex == null) {
-            log.error("[userId: {}] 대기열 순위 조회 실패", userId);
-            throw new BusinessException(ErrorCode.SERVER_ERROR);
+        } else {
+            log.debug("[userId: {}] 대기열 신규 신청. [콘서트: {}, 부여된 점수: {}]", userId, concertId, result.score());
         }
 
-        return QueueStatusDto.waiting(rankIndex.longValue() + 1);
+        return QueueStatusDto.waiting(result.rank() + 1);
     }
 
     /**
@@ -11,8 +11,9 @@ public interface NotificationStrategy {
     /**
      * 특정 전략에 따라 알림을 전송합니다.
      *
-     * @param concertId 알림 대상 콘서트 ID
-     * @param queue 현재 대기열 상태를 담고 있는 RScoredSortedSet. 이 객체를 통해 필요한 정보를 조회합니다.
+     * @param concertId     알림 대상 콘서트 ID
+     * @param queue         현재 대기열 상태를 담고 있는 RScoredSortedSet. 이 객체를 통해 필요한 정보를 조회합니다.
+     * @param dequeuedCount 이번 주기에 대기열 앞쪽에서 빠져나간 인원 (입장 + 이탈). 남은 대기자들의 순위가 이만큼 앞당겨집니다.
      */
-    void execute(Long concertId, RScoredSortedSet<Long> queue);
-}
\ No newline at end of file
+    void execute(Long concertId, RScoredSortedSet<Long> queue, int dequeuedCount);
+}
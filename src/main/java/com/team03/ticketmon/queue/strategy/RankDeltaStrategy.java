@@ -0,0 +1,137 @@
+package com.team03.ticketmon.queue.strategy;
+
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.dto.RankUpdateEvent;
+import com.team03.ticketmon.queue.service.NotificationService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScoredSortedSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 순위 변화량 기반 순위 알림 전략
+ * 이번 주기에 앞에서 빠져나간 인원만큼 모든 대기자의 순위가 앞당겨진다는 점을 이용해,
+ * 대기열 전체를 읽지 않고 순위 구간(버킷) 경계를 넘은 사용자만 골라 노드별 묶음 메시지로 발행합니다.
+ *
+ * 📌 알림 대상:
+ * <ul>
+ *   <li>최상위 top-ranker-count 명: 순위가 바뀌었으므로 매 주기 전송 (입장이 임박한 사용자는 세밀하게)</li>
+ *   <li>그 외: 순위 구간 경계를 넘은 사용자만 전송</li>
+ * </ul>
+ * 구간 경계는 대기 인원과 무관하게 순위 자체로 고정됩니다. (주기마다 경계가 움직이지 않음)
+ * 경계 b 다음 구간의 크기는 max(rank-bucket-size, b x rank-bucket-percent%)이므로,
+ * 앞쪽은 rank-bucket-size 단위로 촘촘하고 뒤쪽은 순위에 비례해 넓어집니다.
+ * 경계 하나를 넘을 수 있는 사용자는 빠져나간 인원 수 이하이고, 대기 인원 N까지의 경계 수는
+ * 100 / rank-bucket-percent + log(N / (rank-bucket-size x 100 / rank-bucket-percent)) / log(1 + rank-bucket-percent / 100) 이하이므로,
+ * 주기당 발행 건수는 top-ranker-count + 경계 수 x 빠져나간 인원 이하로 제한됩니다. (예: 10%, 100, N = 100만 → 경계 약 83개)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankDeltaStrategy implements NotificationStrategy {
+
+    private final NotificationService notificationService;
+    private final QueueRedisAdapter queueRedisAdapter;
+
+    @Value("${app.queue.top-ranker-count}")
+    private int topRankerCount; // 매 주기 순위를 전송할 최상위 대기자 수
+
+    @Value("${app.queue.rank-bucket-size:100}")
+    private int rankBucketSize; // 순위 구간의 최소 크기 (순위 단위)
+
+    @Value("${app.queue.rank-bucket-percent:10}")
+    private int rankBucketPercent; // 경계 순위 대비 다음 구간 크기 (%, 1 이상)
+
+    @PostConstruct
+    void validateBuckets() {
+        // 0 이하면 구간이 넓어지지 않아 경계 수(발행 건수)가 대기 인원에 비례하므로 최소값으로 보정
+        if (rankBucketSize < 1) {
+            log.warn("[Notification] rank-bucket-size={}는 1 미만이므로 1로 보정합니다.", rankBucketSize);
+            rankBucketSize = 1;
+        }
+        if (rankBucketPercent < 1) {
+            log.warn("[Notification] rank-bucket-percent={}는 1 미만이므로 1로 보정합니다.", rankBucketPercent);
+            rankBucketPercent = 1;
+        }
+    }
+
+    @Override
+    public void execute(Long concertId, RScoredSortedSet<Long> queue, int dequeuedCount) {
+        if (queue == null || dequeuedCount <= 0) {
+            return;
+        }
+
+        int queueSize = queue.size();
+        List<QueueRedisAdapter.QueueRange> ranges = findChangedRanges(queueSize, dequeuedCount);
+        if (ranges.isEmpty()) {
+            return;
+        }
+
+        // 1. 알림 대상 구간의 사용자들을 한 번의 파이프라인으로 조회
+        List<List<Long>> userIdsByRange = queueRedisAdapter.getQueueRanges(concertId, ranges);
+
+        // 2. 구간 시작 순위 + 구간 내 위치로 현재 순위 계산
+        List<RankUpdateEvent> events = new ArrayList<>();
+        for (int i = 0; i < ranges.size(); i++) {
+            int rank = ranges.get(i).from() + 1;
+            for (Long userId : userIdsByRange.get(i)) {
+                events.add(new RankUpdateEvent(userId, rank++));
+            }
+        }
+
+        log.debug("[Notification] 콘서트 ID {}: 대기 {}명 중 순위 알림 대상 {}명 (빠져나간 인원: {})",
+                concertId, queueSize, events.size(), dequeuedCount);
+
+        // 3. 노드별 묶음 메시지로 발행
+        try {
+            notificationService.sendRankUpdates(events);
+        } catch (Exception e) {
+            log.error("[Notification] 콘서트 ID {}: 순위 알림 발행 실패: {}", concertId, e.getMessage());
+        }
+    }
+
+    /**
+     * 순위 알림을 보낼 대기열 구간(0부터 시작하는 현재 순위, 양끝 포함)을 계산
+     * 현재 순위 i인 사용자의 이전 순위는 i + dequeuedCount이므로, 그 사이에 구간 경계가 있으면 구간이 바뀐 것입니다.
+     * 즉 경계 b마다 현재 순위가 [b - dequeuedCount, b - 1]인 사용자가 대상입니다.
+     *
+     * @param queueSize     현재 대기 인원
+     * @param dequeuedCount 이번 주기에 앞에서 빠져나간 인원
+     * @return 겹치지 않는 오름차순 구간 목록
+     */
+    List<QueueRedisAdapter.QueueRange> findChangedRanges(int queueSize, int dequeuedCount) {
+        List<QueueRedisAdapter.QueueRange> ranges = new ArrayList<>();
+        if (queueSize <= 0 || dequeuedCount <= 0) {
+            return ranges;
+        }
+
+        // 최상위 대기자는 모두 순위가 바뀌었으므로 전부 대상
+        int front = Math.min(Math.max(topRankerCount, 0), queueSize);
+        if (front > 0) {
+            ranges.add(new QueueRedisAdapter.QueueRange(0, front - 1));
+        }
+
+        long nextFrom = front; // 이미 포함된 구간과 겹치지 않도록 다음 구간의 최소 시작 순위
+        for (long boundary = rankBucketSize; boundary - dequeuedCount < queueSize; boundary = nextBoundary(boundary)) {
+            long from = Math.max(nextFrom, boundary - dequeuedCount);
+            long to = Math.min(queueSize - 1L, boundary - 1);
+            if (from <= to) {
+                ranges.add(new QueueRedisAdapter.QueueRange((int) from, (int) to));
+                nextFrom = to + 1;
+            }
+        }
+        return ranges;
+    }
+
+    /**
+     * 경계 다음의 구간 경계 (순위로만 결정되므로 대기 인원이 바뀌어도 경계 위치는 같음)
+     */
+    private long nextBoundary(long boundary) {
+        return boundary + Math.max(rankBucketSize, (boundary * rankBucketPercent + 99) / 100);
+    }
+}
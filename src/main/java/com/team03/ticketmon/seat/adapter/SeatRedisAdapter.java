@@ -0,0 +1,1010 @@
+package com.team03.ticketmon.seat.adapter;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import io.netty.buffer.ByteBuf;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석 도메인의 Redis 스크립트 실행 및 보조 인덱스 관리를 전담하는 어댑터 클래스
+ * 여러 번의 왕복이 필요한 좌석 상태 변경을 Lua 스크립트 한 번으로 원자적으로 처리하고,
+ * 사용자별 선점 좌석 Set(seat:user:{concertId}:{userId})을 좌석 상태 Hash와 함께 유지합니다.
+ *
+ * 📌 직렬화 규칙:
+ * Hash 필드/값, TTL 키 값, 마지막 업데이트 시간은 RedissonClient의 기본 Codec(JsonJacksonCodec)으로
+ * 미리 인코딩하여 전달하므로, 기존 RMap/RBucket 조회 코드와 그대로 호환됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatRedisAdapter {
+
+    private final RedissonClient redissonClient;
+
+    private static final String SEAT_STATUS_KEY_PREFIX = RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX;
+    private static final String SEAT_TTL_KEY_PREFIX = RedisKeyGenerator.SEAT_TTL_KEY_PREFIX;
+    private static final String SEAT_LAST_UPDATE_KEY_PREFIX = RedisKeyGenerator.SEAT_LAST_UPDATE_KEY_PREFIX;
+    private static final String SEAT_USER_INDEX_KEY_PREFIX = RedisKeyGenerator.SEAT_USER_INDEX_KEY_PREFIX;
+    private static final String SEAT_LAYOUT_VERSION_KEY_PREFIX = RedisKeyGenerator.SEAT_LAYOUT_VERSION_KEY_PREFIX;
+    private static final String SEAT_STATE_VERSION_KEY_PREFIX = RedisKeyGenerator.SEAT_STATE_VERSION_KEY_PREFIX;
+    private static final String SEAT_STATE_CHANGES_KEY_PREFIX = RedisKeyGenerator.SEAT_STATE_CHANGES_KEY_PREFIX;
+    private static final String SEAT_STATE_RESET_KEY_PREFIX = RedisKeyGenerator.SEAT_STATE_RESET_KEY_PREFIX;
+    private static final String SEAT_EXPIRY_KEY_PREFIX = RedisKeyGenerator.SEAT_EXPIRY_KEY_PREFIX;
+    private static final String SEAT_EXPIRY_CONCERT_INDEX_KEY = RedisKeyGenerator.SEAT_EXPIRY_CONCERT_INDEX_KEY;
+
+    // TTL 키에 저장되는 값 (SeatStatusService와 동일)
+    private static final String SEAT_TTL_VALUE = "reserved";
+
+    /**
+     * 공통 Lua 함수
+     * - unwrap: JsonJacksonCodec이 Long 등에 붙이는 타입 정보(["java.lang.Long", 1])를 벗겨냄
+     * - isActiveReservation: RESERVED 상태이면서 만료되지 않은(영구 선점 포함) 좌석인지 확인
+     *   (expiresAt은 ISO-8601 문자열이므로 사전식 비교가 시간 비교와 같음)
+     */
+    private static final String LUA_COMMON = """
+            local function unwrap(v)
+                if type(v) == 'table' then return v[#v] end
+                return v
+            end
+            local function isActiveReservation(seat, now)
+                if unwrap(seat.status) ~= 'RESERVED' then return false end
+                local expiresAt = unwrap(seat.expiresAt)
+                return expiresAt == nil or expiresAt == cjson.null or expiresAt > now
+            end
+            """;
+
+    /**
+     * 좌석 선점 스크립트
+     * KEYS: [1] 좌석 상태 Hash, [2] TTL 키, [3] 마지막 업데이트 키, [4] 사용자 선점 좌석 Set,
+     *       [5] 좌석 상태 버전 키, [6] 좌석별 변경 버전 Sorted Set, [7] 만료 인덱스, [8] 만료 콘서트 인덱스
+     * ARGV: [1] Hash 필드, [2] 좌석 상태 값, [3] userId, [4] 최대 선점 수, [5] TTL(ms),
+     *       [6] TTL 키 값, [7] 현재 시각(ISO), [8] 현재 시각(인코딩), [9] 마지막 업데이트 TTL(ms), [10] 좌석 ID,
+     *       [11] 만료 시각(epoch ms), [12] 콘서트 ID
+     * 반환: {결과 코드, 선점 좌석 수}
+     */
+    private static final String RESERVE_SEAT_SCRIPT = LUA_COMMON + """
+            if redis.call('EXISTS', KEYS[1]) == 0 then return {0, 0} end
+            local userId = tonumber(ARGV[3])
+            local now = ARGV[7]
+
+            local raw = redis.call('HGET', KEYS[1], ARGV[1])
+            if raw then
+                local seat = cjson.decode(raw)
+                if unwrap(seat.status) == 'BOOKED' then return {-1, 0} end
+                if isActiveReservation(seat, now) then
+                    if tonumber(unwrap(seat.userId)) == userId then return {2, 0} end
+                    return {-2, 0}
+                end
+            end
+
+            local held = 0
+            for _, member in ipairs(redis.call('SMEMBERS', KEYS[4])) do
+                if member ~= ARGV[1] then
+                    local heldRaw = redis.call('HGET', KEYS[1], member)
+                    local stillHeld = false
+                    if heldRaw then
+                        local heldSeat = cjson.decode(heldRaw)
+                        stillHeld = isActiveReservation(heldSeat, now)
+                                and tonumber(unwrap(heldSeat.userId)) == userId
+                    end
+                    if stillHeld then
+                        held = held + 1
+                    else
+                        redis.call('SREM', KEYS[4], member)
+                    end
+                end
+            end
+            if held >= tonumber(ARGV[4]) then return {-3, held} end
+
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('SADD', KEYS[4], ARGV[1])
+            redis.call('SET', KEYS[2], ARGV[6], 'PX', ARGV[5])
+            redis.call('SET', KEYS[3], ARGV[8], 'PX', ARGV[9])
+            redis.call('ZADD', KEYS[6], redis.call('INCR', KEYS[5]), ARGV[10])
+            redis.call('ZADD', KEYS[7], ARGV[11], ARGV[10])
+            redis.call('SADD', KEYS[8], ARGV[12])
+            return {1, held + 1}
+            """;
+
+    /**
+     * 만료된 임시 선점 해제 스크립트 (한 배치를 원자적으로 처리)
+     * - 후보 좌석: Hash 기준으로 아직 같은 사용자의 만료된 선점이면 AVAILABLE로 바꾸고
+     *   사용자 인덱스, TTL 키, 만료 인덱스 항목을 정리한 뒤 변경 버전을 기록
+     * - 정리 대상 좌석: 이미 해제/예매/영구 선점된 좌석의 남은 항목은 점수가 여전히 만료 시각 이전일 때만 제거
+     *   (그 사이 다시 선점되어 새 만료 시각으로 갱신된 항목은 보존)
+     * - 만료 인덱스가 비면 만료 콘서트 인덱스에서 콘서트를 제거
+     * KEYS: [1] 좌석 상태 Hash, [2] 만료 인덱스, [3] 만료 콘서트 인덱스, [4] 좌석 상태 버전 키,
+     *       [5] 좌석별 변경 버전 Sorted Set, [6] 마지막 업데이트 키, 이후 후보 좌석마다 [TTL 키, 사용자 선점 좌석 Set]
+     * ARGV: [1] 현재 시각(ISO), [2] 현재 시각(인코딩), [3] 마지막 업데이트 TTL(ms), [4] 콘서트 ID,
+     *       [5] 현재 시각(epoch ms), [6] 후보 좌석 수 n, 이후 후보 좌석마다 [좌석 ID, Hash 필드, AVAILABLE 값, userId],
+     *       이후 정리 대상 좌석 ID 목록
+     * 반환: 해제된 좌석 ID 목록
+     */
+    private static final String RELEASE_EXPIRED_SCRIPT = LUA_COMMON + """
+            local now = ARGV[1]
+            local candidateCount = tonumber(ARGV[6])
+            local released = {}
+            local version = nil
+
+            for i = 1, candidateCount do
+                local base = 6 + (i - 1) * 4
+                local seatId, field, value = ARGV[base + 1], ARGV[base + 2], ARGV[base + 3]
+                local raw = redis.call('HGET', KEYS[1], field)
+                if raw then
+                    local seat = cjson.decode(raw)
+                    local expiresAt = unwrap(seat.expiresAt)
+                    if unwrap(seat.status) == 'RESERVED'
+                            and tonumber(unwrap(seat.userId)) == tonumber(ARGV[base + 4])
+                            and expiresAt ~= nil and expiresAt ~= cjson.null and expiresAt <= now then
+                        redis.call('HSET', KEYS[1], field, value)
+                        redis.call('DEL', KEYS[6 + (i - 1) * 2 + 1])
+                        redis.call('SREM', KEYS[6 + (i - 1) * 2 + 2], field)
+                        redis.call('ZREM', KEYS[2], seatId)
+                        if not version then version = redis.call('INCR', KEYS[4]) end
+                        redis.call('ZADD', KEYS[5], version, seatId)
+                        released[#released + 1] = seatId
+                    end
+                end
+            end
+
+            for i = 7 + candidateCount * 4, #ARGV do
+                local score = redis.call('ZSCORE', KEYS[2], ARGV[i])
+                if score and tonumber(score) <= tonumber(ARGV[5]) then
+                    redis.call('ZREM', KEYS[2], ARGV[i])
+                end
+            end
+
+            if #released > 0 then
+                redis.call('SET', KEYS[6], ARGV[2], 'PX', ARGV[3])
+            end
+            if redis.call('ZCARD', KEYS[2]) == 0 then
+                redis.call('SREM', KEYS[3], ARGV[4])
+            end
+            return released
+            """;
+
+    /**
+     * 다중 좌석 정리 스크립트 (한 번의 호출로 여러 좌석을 해제(AVAILABLE) 또는 예매 완료(BOOKED)로 변경)
+     * - 각 좌석을 Hash 기준으로 다시 검증하여, 조회 이후 선점 사용자가 바뀐 좌석이나 이미 목표 상태인 좌석은 건너뜀
+     * - 조건: ANY(상태와 관계없이, 강제 해제), RESERVED(선점 좌석만, 사용자 해제), ACTIVE(만료되지 않은 선점만, 예매 완료)
+     * - 변경된 좌석의 TTL 키, 이전 사용자 인덱스 항목, 만료 인덱스 항목을 정리하고 변경 버전을 한 번만 기록
+     * KEYS: [1] 좌석 상태 Hash, [2] 만료 인덱스, [3] 좌석 상태 버전 키, [4] 좌석별 변경 버전 Sorted Set,
+     *       [5] 마지막 업데이트 키, 이후 좌석마다 [TTL 키, 이전 사용자 선점 좌석 Set]
+     * ARGV: [1] 현재 시각(인코딩), [2] 마지막 업데이트 TTL(ms), [3] 좌석 수 n, [4] 조건, [5] 목표 상태,
+     *       [6] 현재 시각(ISO), 이후 좌석마다 [좌석 ID, Hash 필드, 새 좌석 상태 값, 이전 userId(없으면 빈 문자열)]
+     * 반환: 변경된 좌석 ID 목록
+     */
+    private static final String SETTLE_SEATS_SCRIPT = LUA_COMMON + """
+            local condition, targetStatus, now = ARGV[4], ARGV[5], ARGV[6]
+            local settled = {}
+            local version = nil
+
+            for i = 1, tonumber(ARGV[3]) do
+                local base = 6 + (i - 1) * 4
+                local seatId, field, value, expectedUserId = ARGV[base + 1], ARGV[base + 2], ARGV[base + 3], ARGV[base + 4]
+                local raw = redis.call('HGET', KEYS[1], field)
+                if raw then
+                    local seat = cjson.decode(raw)
+                    local status = unwrap(seat.status)
+                    local currentUserId = unwrap(seat.userId)
+                    local sameUser
+                    if expectedUserId == '' then
+                        sameUser = currentUserId == nil or currentUserId == cjson.null
+                    else
+                        sameUser = tonumber(currentUserId) == tonumber(expectedUserId)
+                    end
+                    local eligible = (condition == 'ANY')
+                            or (condition == 'RESERVED' and status == 'RESERVED')
+                            or (condition == 'ACTIVE' and isActiveReservation(seat, now))
+                    if sameUser and status ~= targetStatus and eligible then
+                        redis.call('HSET', KEYS[1], field, value)
+                        redis.call('DEL', KEYS[5 + (i - 1) * 2 + 1])
+                        if expectedUserId ~= '' then
+                            redis.call('SREM', KEYS[5 + (i - 1) * 2 + 2], field)
+                        end
+                        redis.call('ZREM', KEYS[2], seatId)
+                        if not version then version = redis.call('INCR', KEYS[3]) end
+                        redis.call('ZADD', KEYS[4], version, seatId)
+                        settled[#settled + 1] = seatId
+                    end
+                end
+            end
+
+            if #settled > 0 then
+                redis.call('SET', KEYS[5], ARGV[1], 'PX', ARGV[2])
+            end
+            return settled
+            """;
+
+    /**
+     * 사용자 좌석 일괄 전환 스크립트 (영구 선점 / 선점 상태 복원, All-or-Nothing)
+     * 1. 모든 좌석을 먼저 검증 (존재, RESERVED, 동일 사용자, 영구 선점 시 만료되지 않음)
+     *    - 하나라도 실패하면 아무것도 쓰지 않고 실패 코드와 해당 좌석 ID 반환
+     * 2. 모두 통과하면 모든 좌석 상태를 저장하고, 만료 시각 유무에 따라 TTL 키/만료 인덱스를 정리하거나 다시 등록
+     * 3. 좌석 상태 버전은 한 번만 올리고 모든 좌석의 변경 버전을 기록
+     * KEYS: [1] 좌석 상태 Hash, [2] 만료 인덱스, [3] 만료 콘서트 인덱스, [4] 좌석 상태 버전 키,
+     *       [5] 좌석별 변경 버전 Sorted Set, [6] 마지막 업데이트 키, [7] 사용자 선점 좌석 Set, 이후 좌석마다 TTL 키
+     * ARGV: [1] 전환 유형(LOCK/RESTORE), [2] 현재 시각(ISO), [3] 현재 시각(인코딩), [4] 마지막 업데이트 TTL(ms),
+     *       [5] userId, [6] 콘서트 ID, [7] 선점 TTL(ms), [8] TTL 키 값, [9] 좌석 수 n,
+     *       이후 좌석마다 [좌석 ID, Hash 필드, 새 좌석 상태 값, 만료 시각(epoch ms, 만료 없음이면 빈 문자열)]
+     * 반환: 성공 {1, 0, TTL 키가 삭제된 좌석 ID...}, 실패 {결과 코드, 실패 좌석 ID}
+     */
+    private static final String TRANSITION_USER_SEATS_SCRIPT = LUA_COMMON + """
+            local now = ARGV[2]
+            local userId = tonumber(ARGV[5])
+            local seatCount = tonumber(ARGV[9])
+
+            for i = 1, seatCount do
+                local base = 9 + (i - 1) * 4
+                local seatId = tonumber(ARGV[base + 1])
+                local raw = redis.call('HGET', KEYS[1], ARGV[base + 2])
+                if not raw then return {-1, seatId} end
+                local seat = cjson.decode(raw)
+                if unwrap(seat.status) ~= 'RESERVED' then return {-2, seatId} end
+                if tonumber(unwrap(seat.userId)) ~= userId then return {-3, seatId} end
+                if ARGV[1] == 'LOCK' and not isActiveReservation(seat, now) then return {-4, seatId} end
+            end
+
+            local version = redis.call('INCR', KEYS[4])
+            local result = {1, 0}
+            for i = 1, seatCount do
+                local base = 9 + (i - 1) * 4
+                local seatId, field, expiry = ARGV[base + 1], ARGV[base + 2], ARGV[base + 4]
+                local ttlKey = KEYS[7 + i]
+                redis.call('HSET', KEYS[1], field, ARGV[base + 3])
+                redis.call('SADD', KEYS[7], field)
+                redis.call('ZADD', KEYS[5], version, seatId)
+                if expiry == '' then
+                    if redis.call('DEL', ttlKey) == 1 then result[#result + 1] = tonumber(seatId) end
+                    redis.call('ZREM', KEYS[2], seatId)
+                else
+                    redis.call('SET', ttlKey, ARGV[8], 'PX', ARGV[7])
+                    redis.call('ZADD', KEYS[2], expiry, seatId)
+                    redis.call('SADD', KEYS[3], ARGV[6])
+                end
+            end
+            redis.call('SET', KEYS[6], ARGV[3], 'PX', ARGV[4])
+            return result
+            """;
+
+    /**
+     * 좌석 상태 변경 기록 스크립트 (버전을 1 올리고, 변경된 좌석들의 변경 버전을 새 버전으로 기록)
+     * KEYS: [1] 좌석 상태 버전 키, [2] 좌석별 변경 버전 Sorted Set
+     * ARGV: 변경된 좌석 ID 목록
+     * 반환: 새 버전
+     */
+    private static final String RECORD_STATE_CHANGE_SCRIPT = """
+            local version = redis.call('INCR', KEYS[1])
+            for _, seatId in ipairs(ARGV) do
+                redis.call('ZADD', KEYS[2], version, seatId)
+            end
+            return version
+            """;
+
+    /**
+     * 좌석 상태 초기화 기록 스크립트 (버전을 1 올리고, 변경 이력을 비운 뒤 초기화 버전을 기록)
+     * KEYS: [1] 좌석 상태 버전 키, [2] 좌석별 변경 버전 Sorted Set, [3] 초기화 버전 키
+     * 반환: 새 버전
+     */
+    private static final String RESET_STATE_VERSION_SCRIPT = """
+            local version = redis.call('INCR', KEYS[1])
+            redis.call('DEL', KEYS[2])
+            redis.call('SET', KEYS[3], version)
+            return version
+            """;
+
+    /**
+     * 좌석 선점 스크립트 결과 코드
+     */
+    public enum ReserveCode {
+        CACHE_MISS,      // 좌석 상태 Hash가 비어 있음 (캐시 초기화 필요)
+        RESERVED,        // 신규 선점 성공
+        ALREADY_HELD,    // 동일 사용자가 이미 선점 중
+        BOOKED,          // 이미 예매 완료된 좌석
+        HELD_BY_OTHER,   // 다른 사용자가 선점 중
+        LIMIT_EXCEEDED;  // 사용자별 최대 선점 개수 초과
+
+        static ReserveCode from(long code) {
+            return switch ((int) code) {
+                case 0 -> CACHE_MISS;
+                case 1 -> RESERVED;
+                case 2 -> ALREADY_HELD;
+                case -1 -> BOOKED;
+                case -2 -> HELD_BY_OTHER;
+                case -3 -> LIMIT_EXCEEDED;
+                default -> throw new IllegalStateException("알 수 없는 좌석 선점 스크립트 결과 코드: " + code);
+            };
+        }
+    }
+
+    /**
+     * 좌석 선점 스크립트 실행 결과
+     *
+     * @param code      결과 코드
+     * @param heldCount 사용자가 보유한 선점 좌석 수 (RESERVED: 신규 좌석 포함, LIMIT_EXCEEDED: 기존 보유 수)
+     */
+    public record ReserveResult(ReserveCode code, long heldCount) {
+    }
+
+    /**
+     * 가용성 확인, 사용자별 선점 개수 제한, 좌석 상태 저장, TTL 키 생성, 마지막 업데이트 시간 갱신을
+     * 클라이언트 측 락 없이 한 번의 스크립트 호출로 원자적으로 수행
+     *
+     * @param reserved           저장할 RESERVED 상태의 좌석
+     * @param maxSeatCount       사용자당 최대 선점 가능 좌석 수
+     * @param reservationTtl     선점 유지 시간 (TTL 키 만료 시간)
+     * @param lastUpdateTtl      마지막 업데이트 시간 키의 TTL
+     * @return 스크립트 실행 결과
+     */
+    public ReserveResult reserveSeat(SeatStatus reserved, int maxSeatCount,
+                                     Duration reservationTtl, Duration lastUpdateTtl) {
+        Long concertId = reserved.getConcertId();
+        Long concertSeatId = reserved.getSeatId();
+        LocalDateTime now = reserved.getReservedAt();
+
+        List<Object> keys = Arrays.asList(
+                SEAT_STATUS_KEY_PREFIX + concertId,
+                SEAT_TTL_KEY_PREFIX + concertId + ":" + concertSeatId,
+                SEAT_LAST_UPDATE_KEY_PREFIX + concertId,
+                getUserIndexKey(concertId, reserved.getUserId()),
+                SEAT_STATE_VERSION_KEY_PREFIX + concertId,
+                SEAT_STATE_CHANGES_KEY_PREFIX + concertId,
+                SEAT_EXPIRY_KEY_PREFIX + concertId,
+                SEAT_EXPIRY_CONCERT_INDEX_KEY
+        );
+
+        List<Object> result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                RESERVE_SEAT_SCRIPT,
+                RScript.ReturnType.MULTI,
+                keys,
+                encode(concertSeatId.toString()),
+                encode(reserved),
+                reserved.getUserId().toString(),
+                String.valueOf(maxSeatCount),
+                String.valueOf(reservationTtl.toMillis()),
+                encode(SEAT_TTL_VALUE),
+                now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                encode(now),
+                String.valueOf(lastUpdateTtl.toMillis()),
+                concertSeatId.toString(),
+                String.valueOf(toEpochMillis(reserved.getExpiresAt())),
+                concertId.toString()
+        );
+
+        ReserveCode code = ReserveCode.from(((Number) result.get(0)).longValue());
+        long heldCount = ((Number) result.get(1)).longValue();
+
+        log.debug("좌석 선점 스크립트 실행: concertId={}, concertSeatId={}, userId={}, code={}, heldCount={}",
+                concertId, concertSeatId, reserved.getUserId(), code, heldCount);
+
+        return new ReserveResult(code, heldCount);
+    }
+
+    /**
+     * 사용자 좌석 일괄 전환 스크립트 결과 코드
+     */
+    public enum BulkTransitionCode {
+        APPLIED,         // 모든 좌석 전환 완료
+        SEAT_NOT_FOUND,  // 좌석 상태 Hash에 없는 좌석
+        NOT_RESERVED,    // 선점 상태가 아닌 좌석 (해제/예매 완료 등)
+        NOT_OWNER,       // 다른 사용자가 선점한 좌석
+        EXPIRED;         // 이미 만료된 임시 선점 (영구 선점 시에만 검사)
+
+        static BulkTransitionCode from(long code) {
+            return switch ((int) code) {
+                case 1 -> APPLIED;
+                case -1 -> SEAT_NOT_FOUND;
+                case -2 -> NOT_RESERVED;
+                case -3 -> NOT_OWNER;
+                case -4 -> EXPIRED;
+                default -> throw new IllegalStateException("알 수 없는 좌석 일괄 전환 스크립트 결과 코드: " + code);
+            };
+        }
+    }
+
+    /**
+     * 사용자 좌석 일괄 전환 결과
+     *
+     * @param code                 결과 코드 (APPLIED가 아니면 어떤 좌석도 변경되지 않음)
+     * @param failedSeatId         검증에 실패한 좌석 ID (APPLIED이면 null)
+     * @param ttlKeyRemovedSeatIds TTL 키가 실제로 삭제된 좌석 ID
+     */
+    public record BulkTransitionResult(BulkTransitionCode code, Long failedSeatId, Set<Long> ttlKeyRemovedSeatIds) {
+
+        public boolean applied() {
+            return code == BulkTransitionCode.APPLIED;
+        }
+    }
+
+    /**
+     * 사용자별 선점 좌석 인덱스 정합성 복구 결과
+     *
+     * @param indexedSeats   좌석 상태 Hash 기준으로 인덱스에 반영된 선점 좌석 수
+     * @param removedEntries 더 이상 유효하지 않아 제거된 인덱스 항목 수
+     */
+    public record UserIndexRepairResult(int indexedSeats, int removedEntries) {
+    }
+
+    /**
+     * 좌석 상태 변경분 조회 결과
+     *
+     * @param version        현재 좌석 상태 버전
+     * @param resetVersion   좌석 캐시가 마지막으로 초기화된 버전 (초기화된 적 없으면 0)
+     * @param changedSeatIds 요청 버전 이후 변경된 좌석 ID (최대 조회 수 + 1개까지)
+     */
+    public record SeatStateChanges(long version, long resetVersion, List<Long> changedSeatIds) {
+    }
+
+    /**
+     * 만료된 임시 선점 해제 결과
+     *
+     * @param dueCount 이번 배치에서 꺼낸 만료 인덱스 항목 수 (배치 크기와 같으면 남은 항목이 더 있을 수 있음)
+     * @param released 이번 배치에서 AVAILABLE로 해제된 좌석 상태
+     */
+    public record ExpiredReleaseResult(int dueCount, List<SeatStatus> released) {
+    }
+
+    /**
+     * 좌석 상태 저장과 사용자별 선점 좌석 인덱스 갱신, 마지막 업데이트 시간 갱신, 좌석 상태 버전 증가,
+     * 만료 인덱스 갱신을 하나의 원자적 배치(MULTI/EXEC)로 처리
+     * - 이전 선점 사용자가 있으면 해당 사용자의 인덱스에서 제거
+     * - 새 상태가 RESERVED이면 선점 사용자의 인덱스에 추가 (영구 선점 포함)
+     * - 만료 시각이 있는 RESERVED이면 만료 인덱스에 등록, 그 외(해제/예매/영구 선점)는 만료 인덱스에서 제거
+     *
+     * @param seatStatus     저장할 좌석 상태
+     * @param previousUserId 변경 전 선점 사용자 ID (없으면 null)
+     * @param lastUpdateTtl  마지막 업데이트 시간 키의 TTL
+     */
+    public void saveSeatStatus(SeatStatus seatStatus, Long previousUserId, Duration lastUpdateTtl) {
+        Long concertId = seatStatus.getConcertId();
+        String field = seatStatus.getSeatId().toString();
+
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults()
+                .executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+
+        batch.<String, SeatStatus>getMap(SEAT_STATUS_KEY_PREFIX + concertId).fastPutAsync(field, seatStatus);
+
+        if (previousUserId != null) {
+            batch.<String>getSet(getUserIndexKey(concertId, previousUserId)).removeAsync(field);
+        }
+        if (seatStatus.isReserved() && seatStatus.getUserId() != null) {
+            batch.<String>getSet(getUserIndexKey(concertId, seatStatus.getUserId())).addAsync(field);
+        }
+
+        batch.<LocalDateTime>getBucket(SEAT_LAST_UPDATE_KEY_PREFIX + concertId)
+                .setAsync(LocalDateTime.now(), lastUpdateTtl.toMillis(), TimeUnit.MILLISECONDS);
+
+        if (seatStatus.isReserved() && seatStatus.getExpiresAt() != null) {
+            batch.<String>getScoredSortedSet(SEAT_EXPIRY_KEY_PREFIX + concertId, StringCodec.INSTANCE)
+                    .addAsync(toEpochMillis(seatStatus.getExpiresAt()), field);
+            batch.<String>getSet(SEAT_EXPIRY_CONCERT_INDEX_KEY, StringCodec.INSTANCE).addAsync(concertId.toString());
+        } else {
+            batch.<String>getScoredSortedSet(SEAT_EXPIRY_KEY_PREFIX + concertId, StringCodec.INSTANCE)
+                    .removeAsync(field);
+        }
+
+        batch.getScript(StringCodec.INSTANCE).evalAsync(
+                RScript.Mode.READ_WRITE,
+                RECORD_STATE_CHANGE_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                Arrays.asList(SEAT_STATE_VERSION_KEY_PREFIX + concertId, SEAT_STATE_CHANGES_KEY_PREFIX + concertId),
+                field
+        );
+
+        batch.execute();
+    }
+
+    /**
+     * 사용자별 선점 좌석 인덱스에 등록된 좌석들의 현재 상태 조회
+     * - 전체 좌석 Hash를 읽지 않고, 인덱스에 있는 필드만 HMGET으로 조회 (O(보유 좌석 수))
+     * - 인덱스 항목이 오래되었을 수 있으므로 호출 측에서 상태/사용자 검증 필요
+     */
+    public Collection<SeatStatus> getUserIndexedSeats(Long concertId, Long userId) {
+        RSet<String> index = redissonClient.getSet(getUserIndexKey(concertId, userId));
+        Set<String> fields = index.readAll();
+
+        if (fields.isEmpty()) {
+            return List.of();
+        }
+
+        RMap<String, SeatStatus> seatMap = redissonClient.getMap(SEAT_STATUS_KEY_PREFIX + concertId);
+        return seatMap.getAll(fields).values();
+    }
+
+    /**
+     * 좌석 상태 Hash를 기준으로 사용자별 선점 좌석 인덱스를 복구
+     * 1. Hash에서 RESERVED 좌석을 찾아 누락된 인덱스 항목을 추가
+     * 2. 기존 인덱스 항목 중 현재 Hash 기준으로 해당 사용자의 선점이 아닌 항목을 제거
+     * (추가를 먼저 수행하므로 복구 중 새로 선점된 좌석이 인덱스에서 누락되지 않음)
+     *
+     * @param concertId 콘서트 ID
+     * @return 복구 결과
+     */
+    public UserIndexRepairResult rebuildUserIndex(Long concertId) {
+        RMap<String, SeatStatus> seatMap = redissonClient.getMap(SEAT_STATUS_KEY_PREFIX + concertId);
+
+        // 1. Hash 스냅샷 기준으로 누락된 항목 추가
+        Map<Long, Set<String>> expectedIndex = new HashMap<>();
+        seatMap.readAllMap().forEach((field, seat) -> {
+            if (seat.isReserved() && seat.getUserId() != null) {
+                expectedIndex.computeIfAbsent(seat.getUserId(), k -> new HashSet<>()).add(field);
+            }
+        });
+
+        if (!expectedIndex.isEmpty()) {
+            RBatch batch = redissonClient.createBatch();
+            expectedIndex.forEach((userId, fields) ->
+                    batch.<String>getSet(getUserIndexKey(concertId, userId)).addAllAsync(fields));
+            batch.execute();
+        }
+
+        // 2. 현재 Hash 기준으로 유효하지 않은 항목 제거
+        int removedEntries = 0;
+        String indexKeyPrefix = SEAT_USER_INDEX_KEY_PREFIX + concertId + ":";
+        for (String indexKey : redissonClient.getKeys().getKeysByPattern(indexKeyPrefix + "*")) {
+            Long userId = Long.valueOf(indexKey.substring(indexKeyPrefix.length()));
+            RSet<String> index = redissonClient.getSet(indexKey);
+            Set<String> fields = index.readAll();
+            if (fields.isEmpty()) {
+                continue;
+            }
+
+            Map<String, SeatStatus> currentSeats = seatMap.getAll(fields);
+            List<String> staleFields = new ArrayList<>();
+            for (String field : fields) {
+                SeatStatus seat = currentSeats.get(field);
+                if (seat == null || !seat.isReserved() || !userId.equals(seat.getUserId())) {
+                    staleFields.add(field);
+                }
+            }
+
+            if (!staleFields.isEmpty()) {
+                index.removeAll(staleFields);
+                removedEntries += staleFields.size();
+            }
+        }
+
+        int indexedSeats = expectedIndex.values().stream().mapToInt(Set::size).sum();
+        log.info("사용자별 선점 좌석 인덱스 복구 완료: concertId={}, indexedSeats={}, removedEntries={}",
+                concertId, indexedSeats, removedEntries);
+
+        return new UserIndexRepairResult(indexedSeats, removedEntries);
+    }
+
+    /**
+     * 사용자별 선점 좌석 Set 키 생성
+     * @return Redis 키: `seat:user:{concertId}:{userId}`
+     */
+    public String getUserIndexKey(Long concertId, Long userId) {
+        return SEAT_USER_INDEX_KEY_PREFIX + concertId + ":" + userId;
+    }
+
+    /**
+     * RedissonClient 기본 Codec으로 값을 인코딩하여 RMap/RBucket이 저장하는 것과 동일한 문자열로 변환
+     */
+    private String encode(Object value) {
+        ByteBuf buf = null;
+        try {
+            buf = redissonClient.getConfig().getCodec().getValueEncoder().encode(value);
+            return buf.toString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Redis 값 인코딩 실패: " + value, e);
+        } finally {
+            if (buf != null) {
+                buf.release();
+            }
+        }
+    }
+
+    /**
+     * 콘서트의 좌석 배치도 버전 조회 (한 번도 수정되지 않았으면 0)
+     */
+    public long getLayoutVersion(Long concertId) {
+        return redissonClient.getAtomicLong(SEAT_LAYOUT_VERSION_KEY_PREFIX + concertId).get();
+    }
+
+    /**
+     * 콘서트의 좌석 배치도 버전 증가 (모든 노드의 미리 계산된 배치도를 무효화)
+     *
+     * @return 증가된 버전
+     */
+    public long incrementLayoutVersion(Long concertId) {
+        return redissonClient.getAtomicLong(SEAT_LAYOUT_VERSION_KEY_PREFIX + concertId).incrementAndGet();
+    }
+
+    /**
+     * 콘서트의 현재 좌석 상태 버전 조회 (좌석 상태가 한 번도 바뀌지 않았으면 0)
+     */
+    public long getSeatStateVersion(Long concertId) {
+        return redissonClient.getAtomicLong(SEAT_STATE_VERSION_KEY_PREFIX + concertId).get();
+    }
+
+    /**
+     * 좌석 캐시가 DB에서 다시 초기화되었음을 기록
+     * 버전을 올리고 변경 이력을 비우므로, 이전 버전 기준의 변경분 요청은 전체 스냅샷을 다시 받게 됩니다.
+     *
+     * @return 증가된 버전
+     */
+    public long resetSeatStateVersion(Long concertId) {
+        Long version = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                RESET_STATE_VERSION_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                Arrays.asList(
+                        SEAT_STATE_VERSION_KEY_PREFIX + concertId,
+                        SEAT_STATE_CHANGES_KEY_PREFIX + concertId,
+                        SEAT_STATE_RESET_KEY_PREFIX + concertId
+                )
+        );
+        return version;
+    }
+
+    /**
+     * 지정한 버전 이후 변경된 좌석 ID를 현재 버전, 초기화 버전과 함께 한 번의 원자적 배치로 조회
+     *
+     * @param sinceVersion 클라이언트가 마지막으로 받은 버전
+     * @param limit        최대 조회 좌석 수 (초과 여부 판단을 위해 limit + 1개까지 조회)
+     */
+    public SeatStateChanges getSeatStateChanges(Long concertId, long sinceVersion, int limit) {
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults()
+                .executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+
+        RFuture<Long> versionFuture = batch.getAtomicLong(SEAT_STATE_VERSION_KEY_PREFIX + concertId).getAsync();
+        RFuture<Long> resetFuture = batch.getAtomicLong(SEAT_STATE_RESET_KEY_PREFIX + concertId).getAsync();
+        RFuture<Collection<String>> changesFuture = batch.<String>getScoredSortedSet(
+                        SEAT_STATE_CHANGES_KEY_PREFIX + concertId, StringCodec.INSTANCE)
+                .valueRangeAsync(sinceVersion, false, Double.POSITIVE_INFINITY, true, 0, limit + 1);
+
+        batch.execute();
+
+        List<Long> changedSeatIds = changesFuture.toCompletableFuture().join().stream()
+                .map(Long::valueOf)
+                .toList();
+        return new SeatStateChanges(
+                versionFuture.toCompletableFuture().join(),
+                resetFuture.toCompletableFuture().join(),
+                changedSeatIds
+        );
+    }
+
+    /**
+     * 지정한 좌석들의 현재 상태만 HMGET으로 조회 (전체 Hash를 읽지 않음)
+     */
+    public Collection<SeatStatus> getSeatStatuses(Long concertId, Collection<Long> seatIds) {
+        if (seatIds.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> fields = new HashSet<>();
+        for (Long seatId : seatIds) {
+            fields.add(seatId.toString());
+        }
+        RMap<String, SeatStatus> seatMap = redissonClient.getMap(SEAT_STATUS_KEY_PREFIX + concertId);
+        return seatMap.getAll(fields).values();
+    }
+
+    /**
+     * 만료 인덱스에 항목이 있는 콘서트 ID 목록 조회
+     */
+    public Set<Long> getExpiryConcertIds() {
+        Set<String> concertIds = redissonClient.<String>getSet(SEAT_EXPIRY_CONCERT_INDEX_KEY, StringCodec.INSTANCE)
+                .readAll();
+        Set<Long> result = new HashSet<>(concertIds.size());
+        for (String concertId : concertIds) {
+            result.add(Long.valueOf(concertId));
+        }
+        return result;
+    }
+
+    /**
+     * 만료 시각이 지난 임시 선점을 최대 limit개까지 꺼내 한 번의 스크립트로 원자적으로 해제
+     * 1. 만료 인덱스에서 만료 시각이 지난 좌석 ID만 조회 (O(log N + limit), 전체 좌석 Hash를 읽지 않음)
+     * 2. 해당 좌석들의 현재 상태만 HMGET으로 조회하여 AVAILABLE 값을 미리 인코딩
+     * 3. 스크립트가 Hash 기준으로 다시 검증한 뒤 해제 (그 사이 연장/재선점/영구 선점된 좌석은 건드리지 않음)
+     *
+     * @param concertId     콘서트 ID
+     * @param limit         한 번에 처리할 최대 좌석 수
+     * @param lastUpdateTtl 마지막 업데이트 시간 키의 TTL
+     * @return 해제 결과
+     */
+    public ExpiredReleaseResult releaseExpiredReservations(Long concertId, int limit, Duration lastUpdateTtl) {
+        LocalDateTime now = LocalDateTime.now();
+        long nowMillis = toEpochMillis(now);
+
+        Collection<String> dueSeatIds = redissonClient.<String>getScoredSortedSet(
+                        SEAT_EXPIRY_KEY_PREFIX + concertId, StringCodec.INSTANCE)
+                .valueRange(Double.NEGATIVE_INFINITY, true, nowMillis, true, 0, limit);
+
+        Map<String, SeatStatus> currentSeats = dueSeatIds.isEmpty()
+                ? Map.of()
+                : redissonClient.<String, SeatStatus>getMap(SEAT_STATUS_KEY_PREFIX + concertId)
+                        .getAll(new HashSet<>(dueSeatIds));
+
+        List<Object> keys = new ArrayList<>(Arrays.asList(
+                SEAT_STATUS_KEY_PREFIX + concertId,
+                SEAT_EXPIRY_KEY_PREFIX + concertId,
+                SEAT_EXPIRY_CONCERT_INDEX_KEY,
+                SEAT_STATE_VERSION_KEY_PREFIX + concertId,
+                SEAT_STATE_CHANGES_KEY_PREFIX + concertId,
+                SEAT_LAST_UPDATE_KEY_PREFIX + concertId
+        ));
+        List<Object> candidateArgs = new ArrayList<>();
+        List<Object> staleArgs = new ArrayList<>();
+        Map<String, SeatStatus> releasedSeats = new HashMap<>();
+
+        for (String seatId : dueSeatIds) {
+            SeatStatus seat = currentSeats.get(seatId);
+            if (seat == null || !seat.isReserved() || seat.getExpiresAt() == null || seat.getUserId() == null) {
+                staleArgs.add(seatId);
+                continue;
+            }
+            if (seat.getExpiresAt().isAfter(now)) {
+                continue;
+            }
+
+            SeatStatus available = SeatStatus.builder()
+                    .id(concertId + "-" + seatId)
+                    .concertId(concertId)
+                    .seatId(seat.getSeatId())
+                    .status(SeatStatus.SeatStatusEnum.AVAILABLE)
+                    .userId(null)
+                    .reservedAt(null)
+                    .expiresAt(null)
+                    .seatInfo(seat.getSeatInfo())
+                    .build();
+            releasedSeats.put(seatId, available);
+
+            keys.add(SEAT_TTL_KEY_PREFIX + concertId + ":" + seatId);
+            keys.add(getUserIndexKey(concertId, seat.getUserId()));
+            candidateArgs.add(seatId);
+            candidateArgs.add(encode(seatId));
+            candidateArgs.add(encode(available));
+            candidateArgs.add(seat.getUserId().toString());
+        }
+
+        List<Object> args = new ArrayList<>();
+        args.add(now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        args.add(encode(now));
+        args.add(String.valueOf(lastUpdateTtl.toMillis()));
+        args.add(concertId.toString());
+        args.add(String.valueOf(nowMillis));
+        args.add(String.valueOf(candidateArgs.size() / 4));
+        args.addAll(candidateArgs);
+        args.addAll(staleArgs);
+
+        List<Object> releasedIds = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                RELEASE_EXPIRED_SCRIPT,
+                RScript.ReturnType.MULTI,
+                keys,
+                args.toArray()
+        );
+
+        List<SeatStatus> released = new ArrayList<>(releasedIds.size());
+        for (Object seatId : releasedIds) {
+            released.add(releasedSeats.get(seatId.toString()));
+        }
+        return new ExpiredReleaseResult(dueSeatIds.size(), released);
+    }
+
+    /**
+     * 여러 좌석을 한 번의 스크립트로 AVAILABLE로 해제
+     * 호출 측에서 조회한 현재 상태를 기준으로 해제 값을 미리 인코딩하고,
+     * 스크립트가 Hash 기준으로 다시 검증하여 그 사이 다른 사용자에게 넘어간 좌석은 건드리지 않습니다.
+     *
+     * @param concertId       콘서트 ID
+     * @param currentSeats    해제할 좌석들의 현재 상태
+     * @param requireReserved true이면 RESERVED 좌석만 해제 (사용자 해제), false이면 상태와 관계없이 해제 (강제 해제)
+     * @param lastUpdateTtl   마지막 업데이트 시간 키의 TTL
+     * @return 실제로 해제된 좌석의 AVAILABLE 상태
+     */
+    public List<SeatStatus> releaseSeats(Long concertId, Collection<SeatStatus> currentSeats,
+                                         boolean requireReserved, Duration lastUpdateTtl) {
+        return settleSeats(concertId, currentSeats, requireReserved ? "RESERVED" : "ANY",
+                SeatStatus.SeatStatusEnum.AVAILABLE, lastUpdateTtl);
+    }
+
+    /**
+     * 여러 좌석을 한 번의 스크립트로 예매 완료(BOOKED) 처리
+     * 스크립트가 Hash 기준으로 만료되지 않은 같은 사용자의 선점인지 다시 검증한 좌석만 변경합니다.
+     *
+     * @param concertId     콘서트 ID
+     * @param currentSeats  예매 완료할 좌석들의 현재 상태 (RESERVED)
+     * @param lastUpdateTtl 마지막 업데이트 시간 키의 TTL
+     * @return 실제로 예매 완료된 좌석의 BOOKED 상태
+     */
+    public List<SeatStatus> bookSeats(Long concertId, Collection<SeatStatus> currentSeats, Duration lastUpdateTtl) {
+        return settleSeats(concertId, currentSeats, "ACTIVE", SeatStatus.SeatStatusEnum.BOOKED, lastUpdateTtl);
+    }
+
+    private List<SeatStatus> settleSeats(Long concertId, Collection<SeatStatus> currentSeats, String condition,
+                                         SeatStatus.SeatStatusEnum targetStatus, Duration lastUpdateTtl) {
+        if (currentSeats.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        boolean booking = targetStatus == SeatStatus.SeatStatusEnum.BOOKED;
+
+        List<Object> keys = new ArrayList<>(Arrays.asList(
+                SEAT_STATUS_KEY_PREFIX + concertId,
+                SEAT_EXPIRY_KEY_PREFIX + concertId,
+                SEAT_STATE_VERSION_KEY_PREFIX + concertId,
+                SEAT_STATE_CHANGES_KEY_PREFIX + concertId,
+                SEAT_LAST_UPDATE_KEY_PREFIX + concertId
+        ));
+
+        List<Object> args = new ArrayList<>();
+        args.add(encode(now));
+        args.add(String.valueOf(lastUpdateTtl.toMillis()));
+        args.add(String.valueOf(currentSeats.size()));
+        args.add(condition);
+        args.add(targetStatus.name());
+        args.add(now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+
+        Map<String, SeatStatus> settledSeats = new HashMap<>();
+        for (SeatStatus seat : currentSeats) {
+            String seatId = seat.getSeatId().toString();
+            // 예매 완료는 선점 사용자/시각을 유지하고, 해제는 모두 비움 (bookSeat/releaseSeat과 동일)
+            SeatStatus target = SeatStatus.builder()
+                    .id(concertId + "-" + seatId)
+                    .concertId(concertId)
+                    .seatId(seat.getSeatId())
+                    .status(targetStatus)
+                    .userId(booking ? seat.getUserId() : null)
+                    .reservedAt(booking ? seat.getReservedAt() : null)
+                    .expiresAt(null)
+                    .seatInfo(seat.getSeatInfo())
+                    .build();
+            settledSeats.put(seatId, target);
+
+            keys.add(SEAT_TTL_KEY_PREFIX + concertId + ":" + seatId);
+            // 이전 사용자가 없으면 스크립트가 사용하지 않는 자리이므로 TTL 키로 채움 (KEYS 위치 유지)
+            keys.add(seat.getUserId() != null
+                    ? getUserIndexKey(concertId, seat.getUserId())
+                    : SEAT_TTL_KEY_PREFIX + concertId + ":" + seatId);
+            args.add(seatId);
+            args.add(encode(seatId));
+            args.add(encode(target));
+            args.add(seat.getUserId() != null ? seat.getUserId().toString() : "");
+        }
+
+        List<Object> settledIds = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                SETTLE_SEATS_SCRIPT,
+                RScript.ReturnType.MULTI,
+                keys,
+                args.toArray()
+        );
+
+        List<SeatStatus> settled = new ArrayList<>(settledIds.size());
+        for (Object seatId : settledIds) {
+            settled.add(settledSeats.get(seatId.toString()));
+        }
+        return settled;
+    }
+
+    /**
+     * 사용자의 임시 선점 좌석들을 한 번의 스크립트로 모두 영구 선점 처리 (All-or-Nothing)
+     * 모든 좌석이 해당 사용자의 만료되지 않은 선점일 때만 일괄 저장하고 TTL 키와 만료 인덱스 항목을 제거합니다.
+     *
+     * @param concertId     콘서트 ID
+     * @param userId        선점 사용자 ID
+     * @param lockedSeats   저장할 영구 선점 상태의 좌석 목록 (expiresAt == null)
+     * @param lastUpdateTtl 마지막 업데이트 시간 키의 TTL
+     * @return 전환 결과
+     */
+    public BulkTransitionResult lockSeatsPermanently(Long concertId, Long userId, List<SeatStatus> lockedSeats,
+                                                     Duration lastUpdateTtl) {
+        return transitionUserSeats("LOCK", concertId, userId, lockedSeats, null, lastUpdateTtl);
+    }
+
+    /**
+     * 사용자의 선점 좌석들을 한 번의 스크립트로 모두 일반 선점 상태로 복원 (All-or-Nothing)
+     * 모든 좌석이 해당 사용자의 선점일 때만 일괄 저장하며, 만료 시각이 있는 좌석은 TTL 키와 만료 인덱스를 다시 등록합니다.
+     *
+     * @param concertId      콘서트 ID
+     * @param userId         선점 사용자 ID
+     * @param restoredSeats  저장할 RESERVED 상태의 좌석 목록
+     * @param reservationTtl 복원된 선점의 TTL 키 유지 시간 (만료 시각이 없는 좌석에는 사용하지 않음)
+     * @param lastUpdateTtl  마지막 업데이트 시간 키의 TTL
+     * @return 전환 결과
+     */
+    public BulkTransitionResult restoreSeatReservations(Long concertId, Long userId, List<SeatStatus> restoredSeats,
+                                                        Duration reservationTtl, Duration lastUpdateTtl) {
+        return transitionUserSeats("RESTORE", concertId, userId, restoredSeats, reservationTtl, lastUpdateTtl);
+    }
+
+    private BulkTransitionResult transitionUserSeats(String mode, Long concertId, Long userId,
+                                                     List<SeatStatus> targetSeats, Duration reservationTtl,
+                                                     Duration lastUpdateTtl) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object> keys = new ArrayList<>(Arrays.asList(
+                SEAT_STATUS_KEY_PREFIX + concertId,
+                SEAT_EXPIRY_KEY_PREFIX + concertId,
+                SEAT_EXPIRY_CONCERT_INDEX_KEY,
+                SEAT_STATE_VERSION_KEY_PREFIX + concertId,
+                SEAT_STATE_CHANGES_KEY_PREFIX + concertId,
+                SEAT_LAST_UPDATE_KEY_PREFIX + concertId,
+                getUserIndexKey(concertId, userId)
+        ));
+
+        List<Object> args = new ArrayList<>();
+        args.add(mode);
+        args.add(now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        args.add(encode(now));
+        args.add(String.valueOf(lastUpdateTtl.toMillis()));
+        args.add(userId.toString());
+        args.add(concertId.toString());
+        args.add(String.valueOf(reservationTtl != null ? reservationTtl.toMillis() : 0));
+        args.add(encode(SEAT_TTL_VALUE));
+        args.add(String.valueOf(targetSeats.size()));
+
+        for (SeatStatus seat : targetSeats) {
+            String seatId = seat.getSeatId().toString();
+            keys.add(SEAT_TTL_KEY_PREFIX + concertId + ":" + seatId);
+            args.add(seatId);
+            args.add(encode(seatId));
+            args.add(encode(seat));
+            args.add(seat.getExpiresAt() != null && reservationTtl != null
+                    ? String.valueOf(toEpochMillis(seat.getExpiresAt()))
+                    : "");
+        }
+
+        List<Object> result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                TRANSITION_USER_SEATS_SCRIPT,
+                RScript.ReturnType.MULTI,
+                keys,
+                args.toArray()
+        );
+
+        BulkTransitionCode code = BulkTransitionCode.from(((Number) result.get(0)).longValue());
+        if (code != BulkTransitionCode.APPLIED) {
+            Long failedSeatId = ((Number) result.get(1)).longValue();
+            log.debug("좌석 일괄 전환 거부: mode={}, concertId={}, userId={}, code={}, failedSeatId={}",
+                    mode, concertId, userId, code, failedSeatId);
+            return new BulkTransitionResult(code, failedSeatId, Set.of());
+        }
+
+        Set<Long> ttlKeyRemovedSeatIds = new HashSet<>();
+        for (int i = 2; i < result.size(); i++) {
+            ttlKeyRemovedSeatIds.add(((Number) result.get(i)).longValue());
+        }
+        log.debug("좌석 일괄 전환 완료: mode={}, concertId={}, userId={}, seatCount={}",
+                mode, concertId, userId, targetSeats.size());
+        return new BulkTransitionResult(code, null, ttlKeyRemovedSeatIds);
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
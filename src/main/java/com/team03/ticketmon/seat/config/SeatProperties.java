@@ -41,6 +41,16 @@ public class SeatProperties {
      */
     private Cache cache = new Cache();
 
+    /**
+     * 이벤트 발행 설정
+     */
+    private Event event = new Event();
+
+    /**
+     * 좌석 상태 스냅샷/변경분 동기화 설정
+     */
+    private Snapshot snapshot = new Snapshot();
+
     @Getter
     @Setter
     public static class Reservation {
@@ -58,6 +68,21 @@ public class SeatProperties {
          * 마지막 업데이트 시간 캐시 TTL (시간)
          */
         private long lastUpdateTtlHours = 1;
+
+        /**
+         * 만료 선점 스윕 주기 (ms)
+         */
+        private long expirySweepDelayMs = 1000;
+
+        /**
+         * 만료 스윕 한 배치에서 해제할 최대 좌석 수
+         */
+        private int expirySweepBatchSize = 200;
+
+        /**
+         * 만료 스윕 한 번에 콘서트별로 처리할 최대 배치 수
+         */
+        private int expirySweepMaxBatches = 10;
     }
 
     @Getter
@@ -114,5 +139,43 @@ public class SeatProperties {
          * 캐시 워밍업 시작 시간 (분 전)
          */
         private long warmupMinutesBefore = 10;
+
+        /**
+         * 노드별로 미리 계산해 보관할 좌석 배치도(콘서트) 최대 수
+         */
+        private long layoutMaximumSize = 200;
+    }
+
+    @Getter
+    @Setter
+    public static class Event {
+        /**
+         * 좌석 변경 이벤트 배치 발행 여부 (false면 변경마다 개별 발행)
+         */
+        private boolean batchEnabled = true;
+
+        /**
+         * 콘서트별 이벤트 수집 시간 (ms)
+         */
+        private long batchWindowMs = 30;
+
+        /**
+         * 배치당 최대 이벤트 수 (도달 시 수집 시간과 관계없이 즉시 발행)
+         */
+        private int batchMaxEvents = 200;
+    }
+
+    @Getter
+    @Setter
+    public static class Snapshot {
+        /**
+         * 노드별로 보관할 좌석 상태 스냅샷(콘서트) 최대 수
+         */
+        private long maximumSize = 200;
+
+        /**
+         * 변경분 응답에 담을 최대 좌석 수 (초과하면 전체 스냅샷을 다시 받도록 안내)
+         */
+        private int maxDeltaSeats = 500;
     }
-}
\ No newline at end of file
+}
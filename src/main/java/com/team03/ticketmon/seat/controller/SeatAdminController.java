@@ -117,9 +117,9 @@ public class SeatAdminController {
             @PathVariable Long concertId) {
 
         try {
-            seatStatusService.cleanupExpiredReservations(concertId);
+            int releasedCount = seatStatusService.cleanupExpiredReservations(concertId);
 
-            log.info("만료된 선점 좌석 정리 완료: concertId={}", concertId);
+            log.info("만료된 선점 좌석 정리 완료: concertId={}, releasedCount={}", concertId, releasedCount);
             return ResponseEntity.ok(SuccessResponse.of("만료된 선점 좌석 정리 완료", "SUCCESS"));
 
         } catch (Exception e) {
@@ -129,6 +129,29 @@ public class SeatAdminController {
         }
     }
 
+    /**
+     * 사용자별 선점 좌석 인덱스 복구
+     * 좌석 상태 캐시를 기준으로 seat:user:{concertId}:{userId} 인덱스를 재구성합니다.
+     */
+    @Operation(summary = "사용자별 선점 좌석 인덱스 복구",
+            description = "좌석 상태 캐시를 기준으로 사용자별 선점 좌석 인덱스의 누락 항목을 추가하고 유효하지 않은 항목을 제거합니다.")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/concerts/{concertId}/user-index/rebuild")
+    public ResponseEntity<SuccessResponse<Map<String, Object>>> rebuildUserSeatIndex(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId) {
+
+        try {
+            Map<String, Object> result = seatStatusService.rebuildUserSeatIndex(concertId);
+            return ResponseEntity.ok(SuccessResponse.of("사용자별 선점 좌석 인덱스 복구 완료", result));
+
+        } catch (Exception e) {
+            log.error("사용자별 선점 좌석 인덱스 복구 중 오류: concertId={}", concertId, e);
+            return ResponseEntity.status(500)
+                    .body(SuccessResponse.of("사용자별 선점 좌석 인덱스 복구 실패: " + e.getMessage(), null));
+        }
+    }
+
     /**
      * 수동으로 캐시 Warm-up 스케줄러 실행
      * 테스트 및 긴급 상황 대응용
@@ -15,10 +15,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 좌석 배치도 조회 컨트롤러
  * 실제 DB 데이터를 기반으로 한 좌석 배치도 정보를 제공하는 API
+ * 모든 응답에 ETag를 포함하며, If-None-Match가 현재 ETag와 같으면 본문 없이 304(Not Modified)로 응답합니다.
  */
 @Tag(name = "좌석 배치도", description = "실제 DB 기반 좌석 배치도 조회 API")
 @Slf4j
@@ -49,6 +51,10 @@ public class SeatLayoutController {
             - Venue, Seat, ConcertSeat 엔티티 기반
             - 예매 완료된 좌석은 isAvailable=false로 표시
             - Fetch Join으로 성능 최적화
+            
+            **캐싱:**
+            - 정적 배치도는 콘서트 수정 전까지 캐시되어 재사용
+            - ETag / If-None-Match 지원 (변경이 없으면 304 응답)
             """
     )
     @ApiResponses({
@@ -144,12 +150,19 @@ public class SeatLayoutController {
     @GetMapping("/{concertId}/seat-layout")
     public ResponseEntity<SuccessResponse<SeatLayoutResponseDTO>> getSeatLayout(
             @Parameter(description = "콘서트 ID", example = "1")
-            @PathVariable Long concertId) {
+            @PathVariable Long concertId,
+            WebRequest webRequest) {
 
         try {
             log.info("좌석 배치도 조회 요청: concertId={}", concertId);
 
-            SeatLayoutResponseDTO seatLayout = seatLayoutService.getSeatLayout(concertId);
+            SeatLayoutService.SeatLayoutState state = seatLayoutService.getLayoutState(concertId);
+            if (webRequest.checkNotModified(state.eTag())) {
+                log.debug("좌석 배치도 변경 없음 (304): concertId={}", concertId);
+                return null;
+            }
+
+            SeatLayoutResponseDTO seatLayout = seatLayoutService.getSeatLayout(state);
 
             log.info("좌석 배치도 조회 성공: concertId={}, 총좌석={}, 구역수={}",
                     concertId,
@@ -259,12 +272,19 @@ public class SeatLayoutController {
             @Parameter(description = "콘서트 ID", example = "1")
             @PathVariable Long concertId,
             @Parameter(description = "구역명", example = "A")
-            @PathVariable String sectionName) {
+            @PathVariable String sectionName,
+            WebRequest webRequest) {
 
         try {
             log.info("구역별 좌석 배치도 조회 요청: concertId={}, section={}", concertId, sectionName);
 
-            SectionLayoutResponseDTO sectionLayout = seatLayoutService.getSectionLayout(concertId, sectionName);
+            SeatLayoutService.SeatLayoutState state = seatLayoutService.getLayoutState(concertId);
+            if (webRequest.checkNotModified(state.sectionETag(sectionName))) {
+                log.debug("구역별 좌석 배치도 변경 없음 (304): concertId={}, section={}", concertId, sectionName);
+                return null;
+            }
+
+            SectionLayoutResponseDTO sectionLayout = seatLayoutService.getSectionLayout(state, sectionName);
 
             log.info("구역별 좌석 배치도 조회 성공: concertId={}, section={}, 좌석수={}",
                     concertId, sectionName, sectionLayout.totalSeats());
@@ -301,12 +321,18 @@ public class SeatLayoutController {
     @GetMapping("/{concertId}/seat-layout/summary")
     public ResponseEntity<SuccessResponse<SeatLayoutResponseDTO.SeatStatistics>> getSeatLayoutSummary(
             @Parameter(description = "콘서트 ID", example = "1")
-            @PathVariable Long concertId) {
+            @PathVariable Long concertId,
+            WebRequest webRequest) {
 
         try {
             log.info("좌석 배치도 요약 조회 요청: concertId={}", concertId);
 
-            SeatLayoutResponseDTO fullLayout = seatLayoutService.getSeatLayout(concertId);
+            SeatLayoutService.SeatLayoutState state = seatLayoutService.getLayoutState(concertId);
+            if (webRequest.checkNotModified(state.eTag())) {
+                return null;
+            }
+
+            SeatLayoutResponseDTO fullLayout = seatLayoutService.getSeatLayout(state);
             SeatLayoutResponseDTO.SeatStatistics summary = fullLayout.statistics();
 
             log.info("좌석 배치도 요약 조회 성공: concertId={}, 예매가능률={}%",
@@ -3,16 +3,20 @@ package com.team03.ticketmon.seat.controller;
 import com.team03.ticketmon._global.exception.SuccessResponse;
 import com.team03.ticketmon.auth.jwt.CustomUserDetails;
 import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.dto.SeatStatusDeltaResponseDTO;
 import com.team03.ticketmon.seat.dto.SeatStatusResponseDTO;
+import com.team03.ticketmon.seat.service.SeatStateSnapshotService;
 import com.team03.ticketmon.seat.service.SeatStatusService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -24,6 +28,7 @@ import java.util.stream.Collectors;
  * - 콘서트 전체 좌석 상태 조회
  * - 개별 좌석 상태 조회
  * - 사용자 선점 좌석 조회
+ * - 좌석 상태 바이너리 스냅샷 / 버전 기준 변경분 조회 (대규모 좌석 맵 갱신용)
  */
 @Tag(name = "좌석 상태 조회", description = "좌석 상태 읽기 전용 API")
 @Slf4j
@@ -33,6 +38,12 @@ import java.util.stream.Collectors;
 public class SeatQueryController {
 
     private final SeatStatusService seatStatusService;
+    private final SeatStateSnapshotService seatStateSnapshotService;
+
+    /**
+     * 좌석 상태 버전을 전달하는 응답 헤더
+     */
+    private static final String SEAT_STATE_VERSION_HEADER = "X-Seat-State-Version";
 
     @Operation(summary = "콘서트 전체 좌석 상태 조회", description = "특정 콘서트의 모든 좌석 상태를 조회합니다")
     @GetMapping("/concerts/{concertId}/status")
@@ -68,6 +79,55 @@ public class SeatQueryController {
         }
     }
 
+    @Operation(summary = "콘서트 좌석 상태 스냅샷 조회 (바이너리)",
+            description = """
+            콘서트의 모든 좌석 상태를 압축된 바이너리로 조회합니다.
+            좌석 상태 버전마다 한 번만 만들어 캐시하며, ETag / If-None-Match를 지원합니다 (변경이 없으면 304).
+            
+            **형식 (Big Endian):**
+            - [1 byte] 형식 버전, [8 bytes] 좌석 상태 버전, [4 bytes] 좌석 수 N
+            - 오름차순 좌석 ID의 이전 ID 대비 차이 (unsigned varint × N)
+            - 좌석 순번별 상태 2bit (0: AVAILABLE, 1: RESERVED, 2: BOOKED, 3: UNAVAILABLE)
+            
+            이후에는 응답의 좌석 상태 버전으로 변경분 조회 API를 호출해 이어서 동기화합니다.
+            """)
+    @GetMapping(value = "/concerts/{concertId}/status/snapshot", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> getSeatStatusSnapshot(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId,
+            WebRequest webRequest) {
+
+        SeatStateSnapshotService.SeatStateSnapshot snapshot = seatStateSnapshotService.getSnapshot(concertId);
+        if (webRequest.checkNotModified(snapshot.eTag())) {
+            return null;
+        }
+
+        log.debug("좌석 상태 스냅샷 조회: concertId={}, version={}, seatCount={}, bytes={}",
+                concertId, snapshot.version(), snapshot.seatCount(), snapshot.payload().length);
+        return ResponseEntity.ok()
+                .header(SEAT_STATE_VERSION_HEADER, String.valueOf(snapshot.version()))
+                .body(snapshot.payload());
+    }
+
+    @Operation(summary = "좌석 상태 변경분 조회",
+            description = "지정한 좌석 상태 버전 이후 변경된 좌석만 조회합니다. " +
+                    "fullSyncRequired가 true이면 스냅샷을 다시 받아야 합니다.")
+    @GetMapping("/concerts/{concertId}/status/changes")
+    public ResponseEntity<SuccessResponse<SeatStatusDeltaResponseDTO>> getSeatStatusChanges(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId,
+            @Parameter(description = "마지막으로 받은 좌석 상태 버전", example = "42")
+            @RequestParam long sinceVersion,
+            @AuthenticationPrincipal CustomUserDetails user) {
+
+        Long userId = (user != null) ? user.getUserId() : null;
+        SeatStatusDeltaResponseDTO response = seatStateSnapshotService.getChangesSince(concertId, sinceVersion, userId);
+
+        log.debug("좌석 상태 변경분 조회: concertId={}, sinceVersion={}, version={}, changed={}, fullSync={}",
+                concertId, sinceVersion, response.version(), response.changes().size(), response.fullSyncRequired());
+        return ResponseEntity.ok(SuccessResponse.of("좌석 상태 변경분 조회 성공", response));
+    }
+
     @Operation(summary = "특정 좌석 상태 조회", description = "특정 좌석의 상태를 조회합니다")
     @GetMapping("/concerts/{concertId}/seats/{seatId}/status")
     public ResponseEntity<SuccessResponse<SeatStatusResponseDTO>> getSeatStatus(
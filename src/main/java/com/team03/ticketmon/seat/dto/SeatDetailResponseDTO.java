@@ -67,4 +67,14 @@ public record SeatDetailResponseDTO(
                 isAvailable
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * 예매 가능 여부만 바꾼 복사본 생성 (캐시된 배치도에 예매 상태를 반영할 때 사용)
+     *
+     * @param available 예매 가능 여부
+     * @return 예매 가능 여부가 반영된 SeatDetailResponse 객체
+     */
+    public SeatDetailResponseDTO withAvailability(boolean available) {
+        return new SeatDetailResponseDTO(seatId, section, seatRow, seatNumber, seatLabel, grade, price, available);
+    }
+}
@@ -0,0 +1,29 @@
+package com.team03.ticketmon.seat.dto;
+
+import java.util.List;
+
+/**
+ * 좌석 상태 변경분 응답 DTO
+ * - fullSyncRequired가 true이면 changes는 비어 있으며, 클라이언트는 전체 스냅샷을 다시 받아야 함
+ */
+public record SeatStatusDeltaResponseDTO(
+        Long concertId,
+        long version,
+        boolean fullSyncRequired,
+        List<SeatStatusResponseDTO> changes
+) {
+
+    /**
+     * 요청 버전 이후 변경된 좌석 목록 응답
+     */
+    public static SeatStatusDeltaResponseDTO of(Long concertId, long version, List<SeatStatusResponseDTO> changes) {
+        return new SeatStatusDeltaResponseDTO(concertId, version, false, changes);
+    }
+
+    /**
+     * 변경분으로 동기화할 수 없어 전체 스냅샷이 필요한 경우의 응답
+     */
+    public static SeatStatusDeltaResponseDTO fullSyncRequired(Long concertId, long version) {
+        return new SeatStatusDeltaResponseDTO(concertId, version, true, List.of());
+    }
+}
@@ -0,0 +1,34 @@
+package com.team03.ticketmon.seat.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 좌석 상태 변경 배치 이벤트 DTO
+ * - 콘서트 단위로 짧은 시간 동안 모은 좌석 변경을 하나의 Pub/Sub 메시지로 전송
+ * - 같은 좌석의 변경은 마지막 상태만 남으며, updates는 마지막 변경 순서로 정렬됨
+ */
+@Builder
+public record SeatUpdateBatchEventDTO(
+        Long concertId,                   // 콘서트 ID
+        List<SeatUpdateEventDTO> updates, // 좌석별 최종 변경 이벤트 목록
+        LocalDateTime timestamp           // 배치 발행 시간
+) {
+
+    /**
+     * 좌석 변경 이벤트 목록으로부터 배치 이벤트 생성
+     *
+     * @param concertId 콘서트 ID
+     * @param updates 좌석별 최종 변경 이벤트 목록
+     * @return SeatUpdateBatchEventDTO 객체
+     */
+    public static SeatUpdateBatchEventDTO of(Long concertId, List<SeatUpdateEventDTO> updates) {
+        return SeatUpdateBatchEventDTO.builder()
+                .concertId(concertId)
+                .updates(updates)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
@@ -22,6 +22,9 @@ import java.util.regex.Pattern;
  * 📋 동작 조건:
  * - Valkey notify-keyspace-events가 'Ex'로 설정되어야 함
  * - 키 패턴: seat:expire:{concertId}:{seatId}
+ *
+ * 📌 이벤트는 유실될 수 있으므로 빠른 해제 경로로만 사용하며,
+ * 만료 처리 보장은 만료 인덱스 기반 SeatExpirySweepScheduler가 담당합니다.
  */
 @Slf4j
 @Component
@@ -83,7 +86,7 @@ public class SeatExpirationEventListener implements MessageListener {
     /**
      * ✅ 좌석 TTL 키 만료 처리
      * - 키에서 concertId, seatId 추출
-     * - SeatStatusService.forceReleaseSeat() 호출하여 자동 해제
+     * - SeatStatusService.forceReleaseSeat() 호출하여 자동 해제 (사용자별 선점 좌석 인덱스도 함께 정리)
      *
      * @param expiredKey 만료된 좌석 TTL 키 (예: seat:expire:1:25)
      */
@@ -0,0 +1,43 @@
+package com.team03.ticketmon.seat.scheduler;
+
+import com.team03.ticketmon.seat.service.SeatStatusService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 좌석 임시 선점 만료 스윕 스케줄러
+ * - 만료 인덱스(seat:expiry:{concertId})에 항목이 있는 콘서트만 순회하며 만료 시각이 지난 선점을 해제
+ * - Redis 키 만료 이벤트(SeatExpirationEventListener)가 재연결 등으로 유실되거나
+ *   notify-keyspace-events가 설정되지 않은 환경에서도 만료 처리를 보장
+ * - 해제는 스크립트가 좌석 상태를 다시 검증한 뒤 원자적으로 수행하므로 여러 노드에서 동시에 실행되어도 안전
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatExpirySweepScheduler {
+
+    private final SeatStatusService seatStatusService;
+
+    @Scheduled(fixedDelayString = "${seat.reservation.expiry-sweep-delay-ms:1000}")
+    public void sweepExpiredReservations() {
+        Set<Long> concertIds;
+        try {
+            concertIds = seatStatusService.getConcertIdsWithPendingExpiry();
+        } catch (Exception e) {
+            log.error("만료 스윕 대상 콘서트 조회 중 오류 발생", e);
+            return;
+        }
+
+        for (Long concertId : concertIds) {
+            try {
+                seatStatusService.releaseExpiredReservations(concertId);
+            } catch (Exception e) {
+                log.error("만료 선점 좌석 해제 중 오류 발생: concertId={}", concertId, e);
+            }
+        }
+    }
+}
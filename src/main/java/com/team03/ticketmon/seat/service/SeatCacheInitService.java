@@ -3,6 +3,8 @@ package com.team03.ticketmon.seat.service;
 import com.team03.ticketmon._global.util.RedisKeyGenerator;
 import com.team03.ticketmon.concert.domain.ConcertSeat;
 import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.concert.service.ConcertSeatSummaryService;
+import com.team03.ticketmon.seat.adapter.SeatRedisAdapter;
 import com.team03.ticketmon.seat.domain.SeatStatus;
 import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
 import com.team03.ticketmon.venue.domain.Seat;
@@ -23,6 +25,7 @@ import java.util.Map;
  * - ID 매핑 수정: seat.getSeatId() → concertSeat.getConcertSeatId()
  * - Cache-Aside 패턴 지원
  * - 배치 처리 최적화
+ * - 캐시 초기화/삭제 시 좌석 상태 버전을 올려 이전 버전 기준의 변경분 동기화를 무효화
  */
 @Slf4j
 @Service
@@ -31,6 +34,8 @@ public class SeatCacheInitService {
 
     private final RedissonClient redissonClient;
     private final ConcertSeatRepository concertSeatRepository;
+    private final SeatRedisAdapter seatRedisAdapter;
+    private final ConcertSeatSummaryService concertSeatSummaryService;
     private static final String SEAT_STATUS_KEY_PREFIX = RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX;
 
     /**
@@ -103,6 +108,9 @@ public class SeatCacheInitService {
             // 9. 한 번의 Redis 호출로 모든 데이터 일괄 저장
             if (!batchSeatData.isEmpty()) {
                 seatMap.putAll(batchSeatData);
+                seatRedisAdapter.resetSeatStateVersion(concertId);
+                // 예매 시작 전 등록이 끝난 좌석 기준으로 가격/잔여 좌석 요약도 갱신
+                concertSeatSummaryService.markDirty(concertId);
 
                 log.info("DB 기반 좌석 캐시 초기화 완료: concertId={}, totalSeats={}, bookedSeats={}, availableSeats={}",
                         concertId, batchSeatData.size(), bookedCount, batchSeatData.size() - bookedCount);
@@ -193,6 +201,7 @@ public class SeatCacheInitService {
 
             int seatCount = seatMap.size();
             boolean deleted = seatMap.delete();
+            seatRedisAdapter.resetSeatStateVersion(concertId);
 
             if (deleted) {
                 log.info("좌석 캐시 삭제 완료: concertId={}, deletedSeats={}", concertId, seatCount);
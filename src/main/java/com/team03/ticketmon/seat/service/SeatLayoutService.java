@@ -1,29 +1,56 @@
 package com.team03.ticketmon.seat.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.team03.ticketmon._global.exception.BusinessException;
 import com.team03.ticketmon._global.exception.ErrorCode;
 import com.team03.ticketmon.concert.domain.Concert;
 import com.team03.ticketmon.concert.domain.ConcertSeat;
 import com.team03.ticketmon.concert.repository.ConcertRepository;
 import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.seat.adapter.SeatRedisAdapter;
+import com.team03.ticketmon.seat.config.SeatProperties;
 import com.team03.ticketmon.seat.dto.SeatDetailResponseDTO;
 import com.team03.ticketmon.seat.dto.SeatLayoutResponseDTO;
 import com.team03.ticketmon.seat.dto.SectionLayoutResponseDTO;
 import com.team03.ticketmon.venue.dto.VenueDTO;
 import com.team03.ticketmon.venue.service.VenueService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
  * 좌석 배치도 관련 비즈니스 로직 서비스
  * 기존 VenueService, ConcertSeatRepository를 활용하여
  * 실제 DB 데이터 기반의 좌석 배치도 정보를 제공
+ *
+ * 📌 캐싱:
+ * <ul>
+ *   <li>정적 배치도(공연장, 구역, 열, 번호, 등급, 가격)는 콘서트별로 한 번 계산해 구역별로 나누어 노드 로컬에 보관</li>
+ *   <li>보관된 배치도는 Redis의 배치도 버전(콘서트 수정 시 증가)과 다르면 다시 계산</li>
+ *   <li>예매 여부는 요청마다 예매 완료 좌석 ID만 조회해 덧입힘 (좌석/공연장 Fetch Join 없음)</li>
+ *   <li>ETag = 배치도 버전 + 예매 완료 좌석 목록 SHA-256 다이제스트 → 변경이 없으면 컨트롤러가 304 응답</li>
+ * </ul>
  */
 @Slf4j
 @Service
@@ -34,6 +61,97 @@ public class SeatLayoutService {
     private final ConcertRepository concertRepository;
     private final ConcertSeatRepository concertSeatRepository;
     private final VenueService venueService;
+    private final SeatRedisAdapter seatRedisAdapter;
+    private final SeatProperties seatProperties;
+
+    // 콘서트 ID -> 미리 계산된 정적 배치도 (버전이 바뀌면 다시 계산)
+    private Cache<Long, LayoutSnapshot> layoutCache;
+
+    /**
+     * 미리 계산된 정적 좌석 배치도
+     *
+     * @param version        계산 시점의 배치도 버전
+     * @param venueInfo      공연장 정보
+     * @param seatsBySection 구역명 순으로 정렬된 구역별 좌석 목록 (예매 가능 여부는 true로 고정)
+     * @param sectionNames   대문자 구역명 -> 실제 구역명 (대소문자 무시 조회용)
+     */
+    public record LayoutSnapshot(long version,
+                                 SeatLayoutResponseDTO.VenueInfo venueInfo,
+                                 Map<String, List<SeatDetailResponseDTO>> seatsBySection,
+                                 Map<String, String> sectionNames) {
+    }
+
+    /**
+     * 현재 시점의 좌석 배치도 상태 (정적 배치도 + 예매 완료 좌석 + ETag)
+     */
+    public record SeatLayoutState(Long concertId, LayoutSnapshot snapshot, Set<Long> bookedSeatIds, String eTag) {
+
+        /**
+         * 구역별 배치도 ETag (헤더는 ASCII만 허용하므로 구역명은 SHA-256 다이제스트로 포함)
+         */
+        public String sectionETag(String sectionName) {
+            String sectionKey = sectionName == null ? "" : sectionName.trim().toUpperCase(Locale.ROOT);
+            return eTag.substring(0, eTag.length() - 1) + "-s" + sha256(sectionKey.getBytes(StandardCharsets.UTF_8)) + "\"";
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        layoutCache = Caffeine.newBuilder()
+                .maximumSize(seatProperties.getCache().getLayoutMaximumSize())
+                .expireAfterAccess(Duration.ofHours(1))
+                .build();
+    }
+
+    /**
+     * 콘서트의 현재 좌석 배치도 상태 조회
+     * 정적 배치도는 캐시에서 가져오고(버전이 다르면 다시 계산), 예매 완료 좌석 ID만 DB에서 조회합니다.
+     *
+     * @param concertId 콘서트 ID
+     * @return 좌석 배치도 상태
+     * @throws BusinessException 콘서트를 찾을 수 없는 경우
+     */
+    public SeatLayoutState getLayoutState(Long concertId) {
+        long version = seatRedisAdapter.getLayoutVersion(concertId);
+
+        LayoutSnapshot snapshot = layoutCache.getIfPresent(concertId);
+        if (snapshot == null || snapshot.version() != version) {
+            snapshot = buildSnapshot(concertId, version);
+            layoutCache.put(concertId, snapshot);
+        }
+
+        Set<Long> bookedSeatIds = new HashSet<>(concertSeatRepository.findBookedSeatIdsByConcertId(concertId));
+        return new SeatLayoutState(concertId, snapshot, bookedSeatIds, createETag(version, bookedSeatIds));
+    }
+
+    /**
+     * 콘서트 수정 시 좌석 배치도 버전을 올려 모든 노드의 미리 계산된 배치도를 무효화
+     * 트랜잭션 안에서 호출되면 커밋 이후에 버전을 올려, 커밋 전 데이터로 새 버전 배치도가 만들어지지 않도록 합니다.
+     *
+     * @param concertId 콘서트 ID
+     */
+    public void invalidateLayout(Long concertId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    incrementLayoutVersion(concertId);
+                }
+            });
+            return;
+        }
+        incrementLayoutVersion(concertId);
+    }
+
+    private void incrementLayoutVersion(Long concertId) {
+        try {
+            long version = seatRedisAdapter.incrementLayoutVersion(concertId);
+            layoutCache.invalidate(concertId);
+            log.info("좌석 배치도 버전 갱신: concertId={}, version={}", concertId, version);
+        } catch (Exception e) {
+            log.error("좌석 배치도 버전 갱신 실패: concertId={}", concertId, e);
+        }
+    }
 
     /**
      * 콘서트의 전체 좌석 배치도 조회
@@ -43,7 +161,101 @@ public class SeatLayoutService {
      * @throws BusinessException 콘서트를 찾을 수 없는 경우
      */
     public SeatLayoutResponseDTO getSeatLayout(Long concertId) {
-        log.info("좌석 배치도 조회 시작: concertId={}", concertId);
+        return getSeatLayout(getLayoutState(concertId));
+    }
+
+    /**
+     * 조회된 좌석 배치도 상태로 전체 좌석 배치도 응답 생성
+     *
+     * @param state 좌석 배치도 상태
+     * @return 좌석 배치도 정보
+     */
+    public SeatLayoutResponseDTO getSeatLayout(SeatLayoutState state) {
+        Long concertId = state.concertId();
+        LayoutSnapshot snapshot = state.snapshot();
+
+        if (snapshot.seatsBySection().isEmpty()) {
+            log.warn("콘서트에 좌석 정보가 없습니다: concertId={}", concertId);
+            // 빈 좌석 배치도 반환
+            return SeatLayoutResponseDTO.from(concertId, snapshot.venueInfo(), List.of());
+        }
+
+        // 구역별 응답 생성 (구역명 기준 정렬, 예매 상태 반영)
+        List<SectionLayoutResponseDTO> sections = snapshot.seatsBySection().entrySet().stream()
+                .map(entry -> SectionLayoutResponseDTO.from(entry.getKey(),
+                        applyAvailability(entry.getValue(), state.bookedSeatIds())))
+                .collect(Collectors.toList());
+
+        SeatLayoutResponseDTO response = SeatLayoutResponseDTO.from(concertId, snapshot.venueInfo(), sections);
+
+        log.debug("좌석 배치도 조회 완료: concertId={}, 총좌석={}, 구역수={}, 예매가능률={}%",
+                concertId,
+                response.statistics().totalSeats(),
+                sections.size(),
+                String.format("%.1f", response.statistics().availabilityRate()));
+
+        return response;
+    }
+
+    /**
+     * 특정 구역의 좌석 배치 조회
+     *
+     * @param concertId 콘서트 ID
+     * @param sectionName 구역명 (A, B, VIP 등)
+     * @return 해당 구역의 좌석 배치 정보
+     * @throws BusinessException 콘서트나 구역을 찾을 수 없는 경우
+     */
+    public SectionLayoutResponseDTO getSectionLayout(Long concertId, String sectionName) {
+        return getSectionLayout(getLayoutState(concertId), sectionName);
+    }
+
+    /**
+     * 조회된 좌석 배치도 상태로 특정 구역의 좌석 배치 응답 생성
+     * 구역별로 미리 나누어 두었으므로 다른 구역의 좌석은 읽지 않습니다.
+     *
+     * @param state       좌석 배치도 상태
+     * @param sectionName 구역명 (A, B, VIP 등)
+     * @return 해당 구역의 좌석 배치 정보
+     * @throws BusinessException 구역을 찾을 수 없는 경우
+     */
+    public SectionLayoutResponseDTO getSectionLayout(SeatLayoutState state, String sectionName) {
+        Long concertId = state.concertId();
+
+        // 1. 입력값 검증
+        if (sectionName == null || sectionName.trim().isEmpty()) {
+            log.warn("구역명이 비어있음: concertId={}", concertId);
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "구역명을 입력해주세요.");
+        }
+
+        String trimmedSectionName = sectionName.trim();
+        LayoutSnapshot snapshot = state.snapshot();
+
+        // 2. 특정 구역 조회 (대소문자 무시)
+        String storedSectionName = snapshot.sectionNames().get(trimmedSectionName.toUpperCase(Locale.ROOT));
+        if (storedSectionName == null) {
+            log.warn("해당 구역에 좌석이 없습니다: concertId={}, section={}", concertId, trimmedSectionName);
+
+            // 🔧 사용자 친화적 에러 메시지 (사용 가능한 구역 목록 제공)
+            throw new BusinessException(ErrorCode.SEAT_NOT_FOUND,
+                    String.format("'%s' 구역을 찾을 수 없습니다. 사용 가능한 구역: %s",
+                            trimmedSectionName, String.join(", ", snapshot.seatsBySection().keySet())));
+        }
+
+        List<SeatDetailResponseDTO> sectionSeats =
+                applyAvailability(snapshot.seatsBySection().get(storedSectionName), state.bookedSeatIds());
+        SectionLayoutResponseDTO response = SectionLayoutResponseDTO.from(trimmedSectionName, sectionSeats);
+
+        log.debug("구역별 좌석 배치도 조회 완료: concertId={}, section={}, 좌석수={}, 예매가능={}",
+                concertId, trimmedSectionName, response.totalSeats(), response.availableSeats());
+
+        return response;
+    }
+
+    /**
+     * 콘서트의 정적 좌석 배치도 계산 (콘서트, 공연장, 좌석 Fetch Join 조회)
+     */
+    private LayoutSnapshot buildSnapshot(Long concertId, long version) {
+        log.info("좌석 배치도 계산 시작: concertId={}, version={}", concertId, version);
 
         try {
             // 1. 콘서트 존재 여부 확인
@@ -53,150 +265,82 @@ public class SeatLayoutService {
                         return new BusinessException(ErrorCode.CONCERT_NOT_FOUND);
                     });
 
-            log.debug("콘서트 정보 조회 성공: concertId={}, title={}, venueName={}",
-                    concertId, concert.getTitle(), concert.getVenueName());
-
-            // 2. 🚀 핵심 수정: 공연장 정보 조회 (venueName으로 조회)
+            // 2. 공연장 정보 조회 (venueName으로 조회)
             VenueDTO venue;
             try {
                 venue = venueService.getVenueByName(concert.getVenueName());
-                log.debug("공연장 정보 조회 성공: venueName={}, venueId={}",
-                        concert.getVenueName(), venue.getVenueId());
-
             } catch (BusinessException e) {
                 log.warn("공연장 정보를 찾을 수 없음: venueName={}, concertId={}, error={}",
                         concert.getVenueName(), concertId, e.getMessage());
 
                 // 🔧 공연장 정보가 없어도 좌석 배치도는 제공 (대체 로직)
                 venue = createFallbackVenueInfo(concert.getVenueName());
-                log.info("대체 공연장 정보 사용: venueName={}", concert.getVenueName());
             }
 
-            SeatLayoutResponseDTO.VenueInfo venueInfo = SeatLayoutResponseDTO.VenueInfo.from(venue);
-
             // 3. 콘서트의 모든 좌석 정보 조회 (Fetch Join으로 최적화됨)
             List<ConcertSeat> concertSeats = concertSeatRepository.findByConcertIdWithDetails(concertId);
 
-            if (concertSeats.isEmpty()) {
-                log.warn("콘서트에 좌석 정보가 없습니다: concertId={}", concertId);
-                // 빈 좌석 배치도 반환
-                return SeatLayoutResponseDTO.from(concertId, venueInfo, List.of());
-            }
-
-            log.debug("좌석 정보 조회 성공: concertId={}, 총 좌석수={}", concertId, concertSeats.size());
-
-            // 4. 좌석 정보를 DTO로 변환
-            List<SeatDetailResponseDTO> seatDetails = concertSeats.stream()
+            // 4. 구역별로 그룹핑 (구역명으로 정렬: A, B, C, VIP 등)
+            Map<String, List<SeatDetailResponseDTO>> grouped = concertSeats.stream()
                     .map(SeatDetailResponseDTO::from)
-                    .collect(Collectors.toList());
-
-            // 5. 구역별로 그룹핑
-            Map<String, List<SeatDetailResponseDTO>> seatsBySection = seatDetails.stream()
-                    .collect(Collectors.groupingBy(
-                            SeatDetailResponseDTO::section,
-                            Collectors.toList()
-                    ));
-
-            log.debug("구역별 그룹핑 완료: concertId={}, 구역수={}, 구역={}",
-                    concertId, seatsBySection.size(), seatsBySection.keySet());
+                    .map(seat -> seat.withAvailability(true))
+                    .collect(Collectors.groupingBy(SeatDetailResponseDTO::section, TreeMap::new, Collectors.toList()));
 
-            // 6. 구역별 응답 생성 (구역명 기준 정렬)
-            List<SectionLayoutResponseDTO> sections = seatsBySection.entrySet().stream()
-                    .sorted(Map.Entry.comparingByKey()) // 구역명으로 정렬 (A, B, C, VIP 등)
-                    .map(entry -> SectionLayoutResponseDTO.from(entry.getKey(), entry.getValue()))
-                    .collect(Collectors.toList());
+            Map<String, List<SeatDetailResponseDTO>> seatsBySection = new LinkedHashMap<>();
+            Map<String, String> sectionNames = new HashMap<>();
+            grouped.forEach((section, seats) -> {
+                seatsBySection.put(section, List.copyOf(seats));
+                sectionNames.putIfAbsent(section.toUpperCase(Locale.ROOT), section);
+            });
 
-            // 7. 최종 응답 생성
-            SeatLayoutResponseDTO response = SeatLayoutResponseDTO.from(concertId, venueInfo, sections);
+            log.info("좌석 배치도 계산 완료: concertId={}, version={}, 총 좌석수={}, 구역={}",
+                    concertId, version, concertSeats.size(), seatsBySection.keySet());
 
-            log.info("좌석 배치도 조회 완료: concertId={}, 총좌석={}, 구역수={}, 예매가능률={}%",
-                    concertId,
-                    response.statistics().totalSeats(),
-                    sections.size(),
-                    String.format("%.1f", response.statistics().availabilityRate()));
-
-            return response;
+            return new LayoutSnapshot(version, SeatLayoutResponseDTO.VenueInfo.from(venue),
+                    seatsBySection, sectionNames);
 
         } catch (BusinessException e) {
-            log.error("좌석 배치도 조회 중 비즈니스 예외: concertId={}, error={}", concertId, e.getMessage());
+            log.error("좌석 배치도 계산 중 비즈니스 예외: concertId={}, error={}", concertId, e.getMessage());
             throw e;
         } catch (Exception e) {
-            log.error("좌석 배치도 조회 중 예상치 못한 오류: concertId={}", concertId, e);
+            log.error("좌석 배치도 계산 중 예상치 못한 오류: concertId={}", concertId, e);
             throw new BusinessException(ErrorCode.SERVER_ERROR,
                     "좌석 배치도 조회 중 오류가 발생했습니다.");
         }
     }
 
     /**
-     * 특정 구역의 좌석 배치 조회
-     *
-     * @param concertId 콘서트 ID
-     * @param sectionName 구역명 (A, B, VIP 등)
-     * @return 해당 구역의 좌석 배치 정보
-     * @throws BusinessException 콘서트나 구역을 찾을 수 없는 경우
+     * 정적 좌석 목록에 예매 상태 반영 (예매 완료 좌석만 isAvailable=false)
      */
-    public SectionLayoutResponseDTO getSectionLayout(Long concertId, String sectionName) {
-        log.info("구역별 좌석 배치도 조회: concertId={}, section={}", concertId, sectionName);
-
-        try {
-            // 1. 콘서트 존재 여부 확인
-            if (!concertRepository.existsById(concertId)) {
-                log.warn("콘서트를 찾을 수 없음: concertId={}", concertId);
-                throw new BusinessException(ErrorCode.CONCERT_NOT_FOUND);
-            }
-
-            // 2. 입력값 검증
-            if (sectionName == null || sectionName.trim().isEmpty()) {
-                log.warn("구역명이 비어있음: concertId={}", concertId);
-                throw new BusinessException(ErrorCode.INVALID_INPUT, "구역명을 입력해주세요.");
-            }
-
-            String trimmedSectionName = sectionName.trim();
-
-            // 3. 해당 콘서트의 특정 구역 좌석만 조회
-            List<ConcertSeat> concertSeats = concertSeatRepository.findByConcertIdWithDetails(concertId);
-
-            log.debug("전체 좌석 조회 완료: concertId={}, 총 좌석수={}", concertId, concertSeats.size());
-
-            // 4. 특정 구역 필터링 (대소문자 무시)
-            List<SeatDetailResponseDTO> sectionSeats = concertSeats.stream()
-                    .filter(cs -> trimmedSectionName.equalsIgnoreCase(cs.getSeat().getSection()))
-                    .map(SeatDetailResponseDTO::from)
-                    .collect(Collectors.toList());
-
-            if (sectionSeats.isEmpty()) {
-                log.warn("해당 구역에 좌석이 없습니다: concertId={}, section={}", concertId, trimmedSectionName);
-
-                // 🔧 사용자 친화적 에러 메시지 (사용 가능한 구역 목록 제공)
-                List<String> availableSections = concertSeats.stream()
-                        .map(cs -> cs.getSeat().getSection())
-                        .distinct()
-                        .sorted()
-                        .collect(Collectors.toList());
-
-                log.info("사용 가능한 구역 목록: concertId={}, sections={}", concertId, availableSections);
-
-                throw new BusinessException(ErrorCode.SEAT_NOT_FOUND,
-                        String.format("'%s' 구역을 찾을 수 없습니다. 사용 가능한 구역: %s",
-                                trimmedSectionName, String.join(", ", availableSections)));
-            }
-
-            SectionLayoutResponseDTO response = SectionLayoutResponseDTO.from(trimmedSectionName, sectionSeats);
-
-            log.info("구역별 좌석 배치도 조회 완료: concertId={}, section={}, 좌석수={}, 예매가능={}",
-                    concertId, trimmedSectionName, response.totalSeats(), response.availableSeats());
+    private List<SeatDetailResponseDTO> applyAvailability(List<SeatDetailResponseDTO> seats, Set<Long> bookedSeatIds) {
+        if (bookedSeatIds.isEmpty()) {
+            return seats;
+        }
+        return seats.stream()
+                .map(seat -> bookedSeatIds.contains(seat.seatId()) ? seat.withAvailability(false) : seat)
+                .collect(Collectors.toList());
+    }
 
-            return response;
+    /**
+     * ETag 생성: 배치도 버전 + 예매 완료 좌석 수 + 정렬된 예매 완료 좌석 ID의 SHA-256 다이제스트
+     * (32비트 hashCode는 같은 수의 좌석 교체끼리 충돌할 수 있어, 잘못된 304 응답을 막기 위해 다이제스트 사용)
+     */
+    private String createETag(long version, Set<Long> bookedSeatIds) {
+        long[] sortedIds = bookedSeatIds.stream().mapToLong(Long::longValue).sorted().toArray();
+        ByteBuffer buffer = ByteBuffer.allocate(sortedIds.length * Long.BYTES);
+        for (long seatId : sortedIds) {
+            buffer.putLong(seatId);
+        }
+        return "\"v" + version + "-" + sortedIds.length + "-" + sha256(buffer.array()) + "\"";
+    }
 
-        } catch (BusinessException e) {
-            log.error("구역별 좌석 배치도 조회 중 비즈니스 예외: concertId={}, section={}, error={}",
-                    concertId, sectionName, e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            log.error("구역별 좌석 배치도 조회 중 예상치 못한 오류: concertId={}, section={}",
-                    concertId, sectionName, e);
-            throw new BusinessException(ErrorCode.SERVER_ERROR,
-                    "구역별 좌석 배치도 조회 중 오류가 발생했습니다.");
+    // ETag용 SHA-256 다이제스트 (헤더에 안전한 URL-safe Base64, 패딩 제외)
+    private static String sha256(byte[] bytes) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
         }
     }
 
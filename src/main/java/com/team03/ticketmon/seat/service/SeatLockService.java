@@ -1,6 +1,8 @@
 package com.team03.ticketmon.seat.service;
 
 import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.adapter.SeatRedisAdapter;
+import com.team03.ticketmon.seat.config.SeatProperties;
 import com.team03.ticketmon.seat.domain.SeatStatus;
 import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
 import com.team03.ticketmon.seat.dto.BulkSeatLockResultDTO;
@@ -13,25 +15,25 @@ import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 /**
- * 좌석 영구 선점 처리 서비스 (보상 트랜잭션 패턴 적용)
+ * 좌석 영구 선점 처리 서비스
  *
  * 🔧 주요 개선사항:
  * - 일괄 처리 시 All-or-Nothing 정책 적용
- * - 실패 시 성공한 좌석들을 자동으로 원래 상태로 복원
+ * - 모든 좌석의 검증과 상태 변경을 Redis 스크립트 한 번으로 원자적으로 처리 (부분 실패/보상 작업 없음)
  * - 기존 단일 좌석 처리 메서드들은 변경 없음
- * - 최소한의 코드 수정으로 안전성 대폭 향상
  *
  * 목적: Redis TTL 삭제 후 좌석 상태를 영구적으로 선점 상태로 변경
  *
  * 주요 기능:
  * - 단일 좌석 영구 선점/복원 (기존 기능)
- * - 다중 좌석 일괄 영구 선점/복원 (보상 트랜잭션 적용)
+ * - 다중 좌석 일괄 영구 선점/복원 (단일 원자적 스크립트)
  * - TTL 키 삭제하여 자동 만료 방지
  * - 권한 검증 및 상태 검증
  * - 실시간 이벤트 발행
@@ -49,6 +51,8 @@ public class SeatLockService {
     private final SeatStatusService seatStatusService;
     private final RedissonClient redissonClient;
     private final SeatStatusEventPublisher eventPublisher;
+    private final SeatRedisAdapter seatRedisAdapter;
+    private final SeatProperties seatProperties;
 
     // TTL 키 패턴 (SeatStatusService와 동일)
     private static final String SEAT_TTL_KEY_PREFIX = RedisKeyGenerator.SEAT_TTL_KEY_PREFIX;
@@ -220,21 +224,19 @@ public class SeatLockService {
         }
     }
 
-    // ========== 🔧 새로운 보상 트랜잭션 패턴 적용 다중 좌석 처리 메서드들 ==========
+    // ========== 다중 좌석 일괄 처리 메서드들 (단일 원자적 스크립트) ==========
 
     /**
-     * 🔧 사용자가 선점한 모든 좌석을 일괄 영구 선점 처리 (보상 트랜잭션 패턴 적용)
+     * 🔧 사용자가 선점한 모든 좌석을 일괄 영구 선점 처리 (All-or-Nothing)
      *
-     * 개선사항:
-     * - 실패 시 성공한 좌석들을 자동으로 원래 상태로 복원
-     * - All-or-Nothing 정책으로 데이터 일관성 보장
-     * - 기존 restoreSeatReservation 메서드 활용으로 최소 수정
+     * 모든 좌석의 소유권/상태 검증과 상태 변경을 Redis 스크립트 한 번으로 원자적으로 수행하므로,
+     * 일부 좌석만 영구 선점된 중간 상태가 생기지 않고 실패 시 되돌리기(보상) 작업도 필요 없습니다.
      *
      * 프로세스:
-     * 1. 사용자의 모든 선점 좌석 조회
-     * 2. 각 좌석에 대해 영구 선점 처리 (순차 실행)
-     * 3. 실패 시 성공한 좌석들을 즉시 복원 (보상 트랜잭션)
-     * 4. 결과 집계 및 통계 생성
+     * 1. 사용자의 모든 선점 좌석 조회 (사용자별 선점 좌석 인덱스 기준)
+     * 2. 영구 선점 상태(expiresAt 제거)로 변환하여 일괄 전환 스크립트 실행
+     *    - 하나라도 검증에 실패하면 어떤 좌석도 변경되지 않음
+     * 3. 성공 시 좌석별 실시간 이벤트 발행 및 결과 집계
      *
      * @param concertId 콘서트 ID
      * @param userId 사용자 ID
@@ -242,13 +244,10 @@ public class SeatLockService {
      */
     @Transactional
     public BulkSeatLockResultDTO lockAllUserSeatsPermanently(Long concertId, Long userId) {
-        log.info("사용자 모든 좌석 일괄 영구 선점 요청 (보상 트랜잭션): concertId={}, userId={}", concertId, userId);
+        log.info("사용자 모든 좌석 일괄 영구 선점 요청: concertId={}, userId={}", concertId, userId);
 
         LocalDateTime bulkStartTime = LocalDateTime.now();
 
-        // 🔧 보상 트랜잭션을 위한 성공한 좌석 추적
-        List<Long> successfulSeatIds = new ArrayList<>();
-
         try {
             // 1. 사용자의 모든 선점 좌석 조회
             List<SeatStatus> userReservedSeats = seatStatusService.getUserReservedSeats(concertId, userId);
@@ -262,133 +261,40 @@ public class SeatLockService {
             log.info("일괄 영구 선점 대상 좌석 수: {} (concertId={}, userId={})",
                     userReservedSeats.size(), concertId, userId);
 
-            // 2. 각 좌석에 대해 영구 선점 처리 (순차 실행 + 실패 시 즉시 중단)
-            List<SeatLockResultDTO> seatResults = new ArrayList<>();
-
-            for (SeatStatus seat : userReservedSeats) {
-                log.debug("좌석 영구 선점 처리 중: concertId={}, seatId={}, userId={}",
-                        concertId, seat.getSeatId(), userId);
-
-                SeatLockResultDTO result = lockSeatPermanently(concertId, seat.getSeatId(), userId);
-                seatResults.add(result);
-
-                if (result.isSuccess()) {
-                    // 🔧 성공한 좌석 ID 추적
-                    successfulSeatIds.add(seat.getSeatId());
-                    log.debug("좌석 영구 선점 성공: seatId={}", seat.getSeatId());
-                } else {
-                    // 🔧 실패 시 즉시 보상 트랜잭션 실행
-                    log.warn("좌석 영구 선점 실패 감지: seatId={}, error={}",
-                            seat.getSeatId(), result.getErrorMessage());
-
-                    // 지금까지 성공한 좌석들을 원래 상태로 복원
-                    executeCompensation(concertId, userId, successfulSeatIds);
-
-                    // 전체 실패로 처리
-                    LocalDateTime bulkEndTime = LocalDateTime.now();
-                    return BulkSeatLockResultDTO.builder()
-                            .concertId(concertId)
-                            .userId(userId)
-                            .bulkStartTime(bulkStartTime)
-                            .bulkEndTime(bulkEndTime)
-                            .seatResults(seatResults)
-                            .totalSeats(userReservedSeats.size())
-                            .successCount(0) // 보상 처리로 모든 성공을 취소
-                            .failureCount(userReservedSeats.size())
-                            .allSuccess(false)
-                            .partialSuccess(false)
-                            .operationType(BulkSeatLockResultDTO.BulkOperationType.LOCK)
-                            .errorMessage(String.format("좌석 %d에서 실패 후 전체 롤백 완료: %s",
-                                    seat.getSeatId(), result.getErrorMessage()))
-                            .build();
-                }
-            }
+            // 2. 모든 좌석을 한 번에 검증 + 영구 선점
+            List<SeatStatus> lockedSeats = userReservedSeats.stream()
+                    .map(this::createPermanentlyLockedSeat)
+                    .toList();
+            SeatRedisAdapter.BulkTransitionResult result = seatRedisAdapter.lockSeatsPermanently(
+                    concertId, userId, lockedSeats, getLastUpdateTtl());
 
-            // 3. 모든 좌석 처리 성공 시 결과 집계 및 반환
-            LocalDateTime bulkEndTime = LocalDateTime.now();
-            BulkSeatLockResultDTO bulkResult = BulkSeatLockResultDTO.allSuccess(
-                    concertId, userId, seatResults,
-                    BulkSeatLockResultDTO.BulkOperationType.LOCK,
-                    bulkStartTime, bulkEndTime
-            );
+            // 3. 결과 집계 및 이벤트 발행
+            BulkSeatLockResultDTO bulkResult = completeBulkOperation(concertId, userId, userReservedSeats,
+                    lockedSeats, result, BulkSeatLockResultDTO.BulkOperationType.LOCK, bulkStartTime);
 
-            log.info("사용자 모든 좌석 일괄 영구 선점 완료 (보상 트랜잭션): {}", bulkResult.getSummary());
+            log.info("사용자 모든 좌석 일괄 영구 선점 처리 완료: {}", bulkResult.getSummary());
             return bulkResult;
 
         } catch (Exception e) {
             log.error("사용자 모든 좌석 일괄 영구 선점 중 예외 발생: concertId={}, userId={}",
                     concertId, userId, e);
 
-            // 🔧 예외 발생 시에도 보상 트랜잭션 실행
-            executeCompensation(concertId, userId, successfulSeatIds);
-
             return BulkSeatLockResultDTO.failure(concertId, userId,
                     BulkSeatLockResultDTO.BulkOperationType.LOCK,
-                    "시스템 오류 후 전체 롤백 완료: " + e.getMessage());
+                    "시스템 오류로 영구 선점 실패: " + e.getMessage());
         }
     }
 
     /**
-     * 🔧 보상 트랜잭션 실행 메서드 (신규 추가)
+     * 🔧 사용자가 영구 선점한 모든 좌석을 일괄 상태 복원 (All-or-Nothing)
      *
-     * 성공한 좌석들을 원래 상태(임시 선점)로 복원합니다.
-     * 기존 restoreSeatReservation 메서드를 활용하여 구현합니다.
-     *
-     * @param concertId 콘서트 ID
-     * @param userId 사용자 ID
-     * @param successfulSeatIds 복원할 좌석 ID 목록
-     */
-    private void executeCompensation(Long concertId, Long userId, List<Long> successfulSeatIds) {
-        if (successfulSeatIds.isEmpty()) {
-            log.info("보상 트랜잭션: 복원할 좌석이 없음 (concertId={}, userId={})", concertId, userId);
-            return;
-        }
-
-        log.warn("보상 트랜잭션 시작: 성공한 좌석 {}개를 원래 상태로 복원 (concertId={}, userId={}, seatIds={})",
-                successfulSeatIds.size(), concertId, userId, successfulSeatIds);
-
-        int restoredCount = 0;
-        int compensationFailures = 0;
-
-        // 각 성공한 좌석을 원래 상태로 복원
-        for (Long seatId : successfulSeatIds) {
-            try {
-                // 🔧 기존 restoreSeatReservation 메서드 활용
-                // restoreWithTTL=true로 설정하여 5분 TTL 재설정
-                SeatLockResultDTO restoreResult = restoreSeatReservation(concertId, seatId, userId, true);
-
-                if (restoreResult.isSuccess()) {
-                    restoredCount++;
-                    log.debug("보상 트랜잭션: 좌석 복원 성공 seatId={}", seatId);
-                } else {
-                    compensationFailures++;
-                    log.error("보상 트랜잭션: 좌석 복원 실패 seatId={}, error={}",
-                            seatId, restoreResult.getErrorMessage());
-                }
-            } catch (Exception e) {
-                compensationFailures++;
-                log.error("보상 트랜잭션: 좌석 복원 중 예외 seatId={}", seatId, e);
-            }
-        }
-
-        if (compensationFailures > 0) {
-            log.error("보상 트랜잭션 완료: 복원 성공 {}개, 복원 실패 {}개 - 관리자 확인 필요!",
-                    restoredCount, compensationFailures);
-        } else {
-            log.info("보상 트랜잭션 완료: 모든 좌석 복원 성공 ({}개)", restoredCount);
-        }
-    }
-
-    /**
-     * 🔧 사용자가 영구 선점한 모든 좌석을 일괄 상태 복원 (보상 트랜잭션 패턴 적용)
-     *
-     * 실패 시 부분 성공한 복원들을 다시 영구 선점으로 되돌림
+     * 영구 선점과 마찬가지로 검증과 복원을 Redis 스크립트 한 번으로 원자적으로 수행합니다.
+     * (메서드 이름은 기존 호출부 호환을 위해 유지)
      *
      * 프로세스:
      * 1. 사용자의 모든 영구 선점 좌석 조회 (expiresAt이 null인 RESERVED 상태)
-     * 2. 각 좌석에 대해 상태 복원 처리 (순차 실행)
-     * 3. 실패 시 복원된 좌석들을 다시 영구 선점으로 되돌림 (보상 트랜잭션)
-     * 4. 결과 집계 및 통계 생성
+     * 2. 일반 선점 상태로 변환하여 일괄 전환 스크립트 실행 (TTL 재설정 시 TTL 키/만료 인덱스도 함께 등록)
+     * 3. 성공 시 좌석별 실시간 이벤트 발행 및 결과 집계
      *
      * @param concertId 콘서트 ID
      * @param userId 사용자 ID
@@ -396,14 +302,11 @@ public class SeatLockService {
      * @return 일괄 상태 복원 처리 결과
      */
     public BulkSeatLockResultDTO restoreAllUserSeatsWithCompensation(Long concertId, Long userId, boolean restoreWithTTL) {
-        log.info("사용자 모든 좌석 일괄 상태 복원 요청 (보상 트랜잭션): concertId={}, userId={}, withTTL={}",
+        log.info("사용자 모든 좌석 일괄 상태 복원 요청: concertId={}, userId={}, withTTL={}",
                 concertId, userId, restoreWithTTL);
 
         LocalDateTime bulkStartTime = LocalDateTime.now();
 
-        // 복원에 성공한 좌석들을 추적 (실패 시 다시 영구 선점으로 되돌리기 위함)
-        List<Long> restoredSeatIds = new ArrayList<>();
-
         try {
             // 1. 사용자의 모든 영구 선점 좌석 조회
             List<SeatStatus> userPermanentlyLockedSeats = getUserPermanentlyLockedSeats(concertId, userId);
@@ -417,117 +320,122 @@ public class SeatLockService {
             log.info("일괄 상태 복원 대상 좌석 수: {} (concertId={}, userId={})",
                     userPermanentlyLockedSeats.size(), concertId, userId);
 
-            // 2. 각 좌석에 대해 상태 복원 처리 (순차 실행 + 실패 시 즉시 중단)
-            List<SeatLockResultDTO> seatResults = new ArrayList<>();
-
-            for (SeatStatus seat : userPermanentlyLockedSeats) {
-                log.debug("좌석 상태 복원 처리 중: concertId={}, seatId={}, userId={}",
-                        concertId, seat.getSeatId(), userId);
-
-                SeatLockResultDTO result = restoreSeatReservation(concertId, seat.getSeatId(), userId, restoreWithTTL);
-                seatResults.add(result);
-
-                if (result.isSuccess()) {
-                    restoredSeatIds.add(seat.getSeatId());
-                    log.debug("좌석 상태 복원 성공: seatId={}", seat.getSeatId());
-                } else {
-                    log.warn("좌석 상태 복원 실패 감지: seatId={}, error={}",
-                            seat.getSeatId(), result.getErrorMessage());
-
-                    // 지금까지 복원된 좌석들을 다시 영구 선점으로 되돌림
-                    executeRestoreCompensation(concertId, userId, restoredSeatIds);
-
-                    // 전체 실패로 처리
-                    LocalDateTime bulkEndTime = LocalDateTime.now();
-                    return BulkSeatLockResultDTO.builder()
-                            .concertId(concertId)
-                            .userId(userId)
-                            .bulkStartTime(bulkStartTime)
-                            .bulkEndTime(bulkEndTime)
-                            .seatResults(seatResults)
-                            .totalSeats(userPermanentlyLockedSeats.size())
-                            .successCount(0) // 보상 처리로 모든 성공을 취소
-                            .failureCount(userPermanentlyLockedSeats.size())
-                            .allSuccess(false)
-                            .partialSuccess(false)
-                            .operationType(BulkSeatLockResultDTO.BulkOperationType.RESTORE)
-                            .errorMessage(String.format("좌석 %d에서 실패 후 전체 롤백 완료: %s",
-                                    seat.getSeatId(), result.getErrorMessage()))
-                            .build();
-                }
-            }
+            // 2. 모든 좌석을 한 번에 검증 + 복원
+            List<SeatStatus> restoredSeats = userPermanentlyLockedSeats.stream()
+                    .map(seat -> createRestoredReservation(seat, restoreWithTTL))
+                    .toList();
+            SeatRedisAdapter.BulkTransitionResult result = seatRedisAdapter.restoreSeatReservations(
+                    concertId, userId, restoredSeats,
+                    restoreWithTTL ? getReservationTtl() : null, getLastUpdateTtl());
 
-            // 3. 모든 좌석 처리 성공 시 결과 집계 및 반환
-            LocalDateTime bulkEndTime = LocalDateTime.now();
-            BulkSeatLockResultDTO bulkResult = BulkSeatLockResultDTO.allSuccess(
-                    concertId, userId, seatResults,
-                    BulkSeatLockResultDTO.BulkOperationType.RESTORE,
-                    bulkStartTime, bulkEndTime
-            );
+            // 3. 결과 집계 및 이벤트 발행
+            BulkSeatLockResultDTO bulkResult = completeBulkOperation(concertId, userId, userPermanentlyLockedSeats,
+                    restoredSeats, result, BulkSeatLockResultDTO.BulkOperationType.RESTORE, bulkStartTime);
 
-            log.info("사용자 모든 좌석 일괄 상태 복원 완료 (보상 트랜잭션): {}", bulkResult.getSummary());
+            log.info("사용자 모든 좌석 일괄 상태 복원 처리 완료: {}", bulkResult.getSummary());
             return bulkResult;
 
         } catch (Exception e) {
             log.error("사용자 모든 좌석 일괄 상태 복원 중 예외 발생: concertId={}, userId={}",
                     concertId, userId, e);
 
-            // 예외 발생 시에도 보상 트랜잭션 실행
-            executeRestoreCompensation(concertId, userId, restoredSeatIds);
-
             return BulkSeatLockResultDTO.failure(concertId, userId,
                     BulkSeatLockResultDTO.BulkOperationType.RESTORE,
-                    "시스템 오류 후 전체 롤백 완료: " + e.getMessage());
+                    "시스템 오류로 상태 복원 실패: " + e.getMessage());
         }
     }
 
     /**
-     * 🔧 복원 보상 트랜잭션 실행 메서드 (신규 추가)
-     *
-     * 복원에 성공한 좌석들을 다시 영구 선점 상태로 되돌립니다.
-     *
-     * @param concertId 콘서트 ID
-     * @param userId 사용자 ID
-     * @param restoredSeatIds 다시 영구 선점으로 되돌릴 좌석 ID 목록
+     * 일괄 전환 스크립트 결과를 좌석별 결과와 일괄 처리 결과로 변환
+     * - 성공: 모든 좌석 성공 + 좌석별 실시간 이벤트 발행
+     * - 실패: 어떤 좌석도 변경되지 않았으므로 모든 좌석을 실패로 집계 (실패 원인 좌석에 사유 표시)
      */
-    private void executeRestoreCompensation(Long concertId, Long userId, List<Long> restoredSeatIds) {
-        if (restoredSeatIds.isEmpty()) {
-            log.info("복원 보상 트랜잭션: 되돌릴 좌석이 없음 (concertId={}, userId={})", concertId, userId);
-            return;
-        }
-
-        log.warn("복원 보상 트랜잭션 시작: 복원된 좌석 {}개를 다시 영구 선점으로 되돌림 (concertId={}, userId={}, seatIds={})",
-                restoredSeatIds.size(), concertId, userId, restoredSeatIds);
-
-        int revertedCount = 0;
-        int compensationFailures = 0;
-
-        // 각 복원된 좌석을 다시 영구 선점으로 되돌림
-        for (Long seatId : restoredSeatIds) {
-            try {
-                // 기존 lockSeatPermanently 메서드 활용
-                SeatLockResultDTO revertResult = lockSeatPermanently(concertId, seatId, userId);
-
-                if (revertResult.isSuccess()) {
-                    revertedCount++;
-                    log.debug("복원 보상 트랜잭션: 좌석 영구 선점 되돌림 성공 seatId={}", seatId);
-                } else {
-                    compensationFailures++;
-                    log.error("복원 보상 트랜잭션: 좌석 영구 선점 되돌림 실패 seatId={}, error={}",
-                            seatId, revertResult.getErrorMessage());
-                }
-            } catch (Exception e) {
-                compensationFailures++;
-                log.error("복원 보상 트랜잭션: 좌석 영구 선점 되돌림 중 예외 seatId={}", seatId, e);
+    private BulkSeatLockResultDTO completeBulkOperation(Long concertId, Long userId,
+                                                        List<SeatStatus> currentSeats,
+                                                        List<SeatStatus> targetSeats,
+                                                        SeatRedisAdapter.BulkTransitionResult result,
+                                                        BulkSeatLockResultDTO.BulkOperationType operationType,
+                                                        LocalDateTime bulkStartTime) {
+        LocalDateTime bulkEndTime = LocalDateTime.now();
+        List<SeatLockResultDTO> seatResults = new ArrayList<>(currentSeats.size());
+
+        if (!result.applied()) {
+            String reason = describeTransitionFailure(result.code(), operationType);
+            log.warn("좌석 일괄 처리 거부 (변경 없음): concertId={}, userId={}, type={}, failedSeatId={}, reason={}",
+                    concertId, userId, operationType, result.failedSeatId(), reason);
+
+            for (SeatStatus seat : currentSeats) {
+                seatResults.add(SeatLockResultDTO.builder()
+                        .concertId(concertId)
+                        .concertSeatId(seat.getSeatId())
+                        .userId(userId)
+                        .lockStartTime(bulkStartTime)
+                        .lockEndTime(bulkEndTime)
+                        .previousStatus(seat.getStatus())
+                        .seatInfo(seat.getSeatInfo())
+                        .success(false)
+                        .errorMessage(seat.getSeatId().equals(result.failedSeatId())
+                                ? reason : "다른 좌석의 검증 실패로 처리되지 않았습니다.")
+                        .build());
             }
+
+            return BulkSeatLockResultDTO.builder()
+                    .concertId(concertId)
+                    .userId(userId)
+                    .bulkStartTime(bulkStartTime)
+                    .bulkEndTime(bulkEndTime)
+                    .seatResults(seatResults)
+                    .totalSeats(currentSeats.size())
+                    .successCount(0)
+                    .failureCount(currentSeats.size())
+                    .allSuccess(false)
+                    .partialSuccess(false)
+                    .operationType(operationType)
+                    .errorMessage(String.format("좌석 %d 검증 실패로 전체 미처리: %s", result.failedSeatId(), reason))
+                    .build();
         }
 
-        if (compensationFailures > 0) {
-            log.error("복원 보상 트랜잭션 완료: 되돌림 성공 {}개, 되돌림 실패 {}개 - 관리자 확인 필요!",
-                    revertedCount, compensationFailures);
-        } else {
-            log.info("복원 보상 트랜잭션 완료: 모든 좌석 되돌림 성공 ({}개)", revertedCount);
+        for (int i = 0; i < currentSeats.size(); i++) {
+            SeatStatus currentSeat = currentSeats.get(i);
+            SeatStatus targetSeat = targetSeats.get(i);
+
+            publishLockEvent(targetSeat);
+
+            seatResults.add(SeatLockResultDTO.builder()
+                    .concertId(concertId)
+                    .concertSeatId(currentSeat.getSeatId())
+                    .userId(userId)
+                    .lockStartTime(bulkStartTime)
+                    .lockEndTime(bulkEndTime)
+                    .previousStatus(currentSeat.getStatus())
+                    .newStatus(targetSeat.getStatus())
+                    .ttlKeyRemoved(result.ttlKeyRemovedSeatIds().contains(currentSeat.getSeatId()))
+                    .seatInfo(currentSeat.getSeatInfo())
+                    .success(true)
+                    .build());
         }
+
+        return BulkSeatLockResultDTO.allSuccess(concertId, userId, seatResults, operationType,
+                bulkStartTime, bulkEndTime);
+    }
+
+    /**
+     * 일괄 전환 실패 코드를 단일 좌석 처리와 같은 사용자 메시지로 변환
+     */
+    private String describeTransitionFailure(SeatRedisAdapter.BulkTransitionCode code,
+                                             BulkSeatLockResultDTO.BulkOperationType operationType) {
+        boolean lock = operationType == BulkSeatLockResultDTO.BulkOperationType.LOCK;
+        return switch (code) {
+            case SEAT_NOT_FOUND -> "존재하지 않는 좌석입니다.";
+            case NOT_RESERVED -> lock
+                    ? "선점되지 않은 좌석은 영구 선점할 수 없습니다."
+                    : "선점 상태가 아닌 좌석은 복원할 수 없습니다.";
+            case NOT_OWNER -> lock
+                    ? "다른 사용자가 선점한 좌석은 영구 선점할 수 없습니다."
+                    : "다른 사용자의 좌석은 복원할 수 없습니다.";
+            case EXPIRED -> "만료된 선점 좌석은 영구 선점할 수 없습니다.";
+            case APPLIED -> "";
+        };
     }
 
     // ========== 🔧 기존 메서드들과 호환성을 위한 추가 메서드 (기존 API 유지) ==========
@@ -535,15 +443,12 @@ public class SeatLockService {
     /**
      * 사용자가 영구 선점한 모든 좌석을 일괄 상태 복원 (기존 API 호환)
      *
-     * 기존 API와의 호환성을 위해 유지하되, 내부적으로는 보상 트랜잭션 버전 호출
-     *
      * @param concertId 콘서트 ID
      * @param userId 사용자 ID
      * @param restoreWithTTL TTL을 다시 설정할지 여부
      * @return 일괄 상태 복원 처리 결과
      */
     public BulkSeatLockResultDTO restoreAllUserSeats(Long concertId, Long userId, boolean restoreWithTTL) {
-        log.info("기존 API 호출 감지 - 보상 트랜잭션 버전으로 처리: concertId={}, userId={}", concertId, userId);
         return restoreAllUserSeatsWithCompensation(concertId, userId, restoreWithTTL);
     }
 
@@ -663,10 +568,11 @@ public class SeatLockService {
             String ttlKey = SEAT_TTL_KEY_PREFIX + concertId + ":" + concertSeatId;
             RBucket<String> bucket = redissonClient.getBucket(ttlKey);
 
-            // 5분 TTL로 생성
-            bucket.set("reserved", 5, java.util.concurrent.TimeUnit.MINUTES);
+            // 선점 유지 시간(TTL)으로 생성
+            long ttlMinutes = seatProperties.getReservation().getTtlMinutes();
+            bucket.set("reserved", ttlMinutes, java.util.concurrent.TimeUnit.MINUTES);
 
-            log.debug("TTL 키 재생성: key={}, ttl=5분", ttlKey);
+            log.debug("TTL 키 재생성: key={}, ttl={}분", ttlKey, ttlMinutes);
 
         } catch (Exception e) {
             log.error("TTL 키 생성 실패: concertId={}, concertSeatId={}", concertId, concertSeatId, e);
@@ -694,7 +600,7 @@ public class SeatLockService {
      */
     private SeatStatus createRestoredReservation(SeatStatus currentSeat, boolean withTTL) {
         LocalDateTime expiresAt = withTTL ?
-                LocalDateTime.now().plusMinutes(5) : null;
+                LocalDateTime.now().plus(getReservationTtl()) : null;
 
         return SeatStatus.builder()
                 .id(currentSeat.getId())
@@ -709,7 +615,21 @@ public class SeatLockService {
     }
 
     /**
-     * 영구 선점 이벤트 발행
+     * 선점 유지 시간 (복원 시 TTL)
+     */
+    private Duration getReservationTtl() {
+        return Duration.ofMinutes(seatProperties.getReservation().getTtlMinutes());
+    }
+
+    /**
+     * 마지막 업데이트 시간 키의 TTL
+     */
+    private Duration getLastUpdateTtl() {
+        return Duration.ofHours(seatProperties.getReservation().getLastUpdateTtlHours());
+    }
+
+    /**
+     * 영구 선점/복원 이벤트 발행
      */
     private void publishLockEvent(SeatStatus lockedSeat) {
         try {
@@ -1,8 +1,11 @@
 package com.team03.ticketmon.seat.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.team03.ticketmon.seat.config.SeatProperties;
 import com.team03.ticketmon.seat.dto.SeatUpdateEventDTO;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.async.DeferredResult;
@@ -18,21 +21,24 @@ import java.util.concurrent.atomic.AtomicLong;
  * - 이벤트 수신 시 해당 콘서트의 모든 대기 세션에 응답
  * - 메모리 누수 방지를 위한 자동 정리 기능
  * - 성능 최적화 및 동시성 개선
+ * - 이벤트 응답은 이벤트(배치)당 한 번만 직렬화하여 모든 대기 세션이 같은 바이트 배열을 공유
  */
 @Slf4j
 @Component
 public class SeatPollingSessionManager {
 
     private final SeatProperties seatProperties;
+    private final ObjectMapper objectMapper;
 
-    // 콘서트별 활성 세션 관리: concertId -> List<PollingSession>
-    private final Map<Long, List<PollingSession>> activeSessions = new ConcurrentHashMap<>();
+    // 콘서트별 활성 세션 관리: concertId -> (sessionId -> PollingSession), 완료/타임아웃 시 O(1) 제거
+    private final Map<Long, Map<String, PollingSession>> activeSessions = new ConcurrentHashMap<>();
 
     // 세션 ID 생성기
     private final AtomicLong sessionIdGenerator = new AtomicLong(0);
 
-    public SeatPollingSessionManager(SeatProperties seatProperties) {
+    public SeatPollingSessionManager(SeatProperties seatProperties, ObjectMapper objectMapper) {
         this.seatProperties = seatProperties;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -93,9 +99,12 @@ public class SeatPollingSessionManager {
         String sessionId = generateSessionId();
         PollingSession session = new PollingSession(sessionId, deferredResult, userId, userAgent);
 
-        // 콘서트별 세션 리스트에 추가 (스레드 안전성 보장)
-        activeSessions.computeIfAbsent(concertId, k -> Collections.synchronizedList(new ArrayList<>()))
-                .add(session);
+        // 콘서트별 세션 맵에 추가 (빈 맵 제거와 경합하지 않도록 compute 내부에서 추가)
+        activeSessions.compute(concertId, (id, sessions) -> {
+            Map<String, PollingSession> target = sessions != null ? sessions : new ConcurrentHashMap<>();
+            target.put(sessionId, session);
+            return target;
+        });
 
         // DeferredResult 완료/타임아웃 시 자동 정리
         deferredResult.onCompletion(() -> removeSession(concertId, sessionId));
@@ -113,27 +122,43 @@ public class SeatPollingSessionManager {
      * @param event 좌석 업데이트 이벤트
      */
     public void notifyWaitingSessions(SeatUpdateEventDTO event) {
-        Long concertId = event.concertId();
-        List<PollingSession> sessions = activeSessions.get(concertId);
+        notifyWaitingSessions(event.concertId(), List.of(event));
+    }
+
+    /**
+     * 특정 콘서트의 모든 대기 세션에 여러 좌석 변경을 한 번에 알림 (배치 이벤트용)
+     * - 응답의 seatUpdates에 전달된 변경을 순서대로 모두 담음
+     * - 응답 본문은 한 번만 직렬화하고 모든 세션이 동일한 바이트 배열을 공유
+     *
+     * @param concertId 콘서트 ID
+     * @param events 좌석 업데이트 이벤트 목록
+     */
+    public void notifyWaitingSessions(Long concertId, List<SeatUpdateEventDTO> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+
+        Map<String, PollingSession> sessions = activeSessions.get(concertId);
 
         if (sessions == null || sessions.isEmpty()) {
             log.debug("알림할 세션이 없음: concertId={}", concertId);
             return;
         }
 
-        // 동시 수정 방지를 위해 복사본에서 작업
-        List<PollingSession> sessionsCopy = new ArrayList<>(sessions);
+        // 응답은 이벤트(배치)당 한 번만 구성/직렬화하여 공유 (ResponseEntity는 불변이므로 재사용 가능)
+        ResponseEntity<?> sharedResponse = createSharedEventResponse(events);
+        int totalCount = 0;
         int notifiedCount = 0;
         int errorCount = 0;
 
-        for (PollingSession session : sessionsCopy) {
+        // ConcurrentHashMap 순회는 약한 일관성을 보장하므로 복사본 없이 순회
+        for (PollingSession session : sessions.values()) {
+            totalCount++;
             try {
                 DeferredResult<ResponseEntity<?>> deferredResult = session.getDeferredResult();
 
                 if (!deferredResult.isSetOrExpired()) {
-                    // 응답 데이터 구성
-                    Map<String, Object> response = createEventResponse(event);
-                    deferredResult.setResult(ResponseEntity.ok(response));
+                    deferredResult.setResult(sharedResponse);
                     notifiedCount++;
 
                     log.debug("세션 알림 성공: concertId={}, sessionId={}, userId={}",
@@ -149,8 +174,8 @@ public class SeatPollingSessionManager {
             }
         }
 
-        log.info("좌석 업데이트 알림 완료: concertId={}, seatId={}, notified={}/{}, errors={}",
-                concertId, event.seatId(), notifiedCount, sessionsCopy.size(), errorCount);
+        log.info("좌석 업데이트 알림 완료: concertId={}, updates={}, notified={}/{}, errors={}",
+                concertId, events.size(), notifiedCount, totalCount, errorCount);
     }
 
     /**
@@ -160,15 +185,13 @@ public class SeatPollingSessionManager {
      * @param sessionId 세션 ID
      */
     public void removeSession(Long concertId, String sessionId) {
-        List<PollingSession> sessions = activeSessions.get(concertId);
+        Map<String, PollingSession> sessions = activeSessions.get(concertId);
         if (sessions != null) {
-            // 세션 제거 (스레드 안전)
-            sessions.removeIf(session -> sessionId.equals(session.getSessionId()));
+            // 세션 제거 (스레드 안전, O(1))
+            sessions.remove(sessionId);
 
-            // 빈 리스트이면 맵에서 제거 (메모리 절약)
-            if (sessions.isEmpty()) {
-                activeSessions.remove(concertId);
-            }
+            // 빈 맵이면 제거 (메모리 절약)
+            removeIfEmpty(concertId);
 
             log.debug("폴링 세션 제거: concertId={}, sessionId={}, remainingSessions={}",
                     concertId, sessionId, sessions.size());
@@ -184,15 +207,12 @@ public class SeatPollingSessionManager {
         int totalSessionsBefore = getTotalSessionCount();
 
         // ConcurrentHashMap이므로 iterator 사용 가능
-        Iterator<Map.Entry<Long, List<PollingSession>>> concertIterator = activeSessions.entrySet().iterator();
-
-        while (concertIterator.hasNext()) {
-            Map.Entry<Long, List<PollingSession>> entry = concertIterator.next();
+        for (Map.Entry<Long, Map<String, PollingSession>> entry : activeSessions.entrySet()) {
             Long concertId = entry.getKey();
-            List<PollingSession> sessions = entry.getValue();
+            Map<String, PollingSession> sessions = entry.getValue();
 
             // 각 콘서트별 세션 정리
-            Iterator<PollingSession> sessionIterator = sessions.iterator();
+            Iterator<PollingSession> sessionIterator = sessions.values().iterator();
             while (sessionIterator.hasNext()) {
                 PollingSession session = sessionIterator.next();
 
@@ -207,10 +227,8 @@ public class SeatPollingSessionManager {
                 }
             }
 
-            // 빈 세션 리스트 제거
-            if (sessions.isEmpty()) {
-                concertIterator.remove();
-            }
+            // 빈 세션 맵 제거
+            removeIfEmpty(concertId);
         }
 
         if (cleanedCount > 0) {
@@ -223,7 +241,7 @@ public class SeatPollingSessionManager {
      * 특정 콘서트의 활성 세션 수 조회
      */
     public int getSessionCount(Long concertId) {
-        List<PollingSession> sessions = activeSessions.get(concertId);
+        Map<String, PollingSession> sessions = activeSessions.get(concertId);
         return sessions != null ? sessions.size() : 0;
     }
 
@@ -232,7 +250,7 @@ public class SeatPollingSessionManager {
      */
     public int getTotalSessionCount() {
         return activeSessions.values().stream()
-                .mapToInt(List::size)
+                .mapToInt(Map::size)
                 .sum();
     }
 
@@ -250,7 +268,7 @@ public class SeatPollingSessionManager {
         if (userId == null) return 0;
 
         return activeSessions.values().stream()
-                .flatMap(List::stream)
+                .flatMap(sessions -> sessions.values().stream())
                 .filter(session -> userId.equals(session.getUserId()))
                 .count();
     }
@@ -261,10 +279,10 @@ public class SeatPollingSessionManager {
     public boolean hasActiveUserSession(Long userId, Long concertId) {
         if (userId == null || concertId == null) return false;
 
-        List<PollingSession> sessions = activeSessions.get(concertId);
+        Map<String, PollingSession> sessions = activeSessions.get(concertId);
         if (sessions == null || sessions.isEmpty()) return false;
 
-        return sessions.stream()
+        return sessions.values().stream()
                 .anyMatch(session -> userId.equals(session.getUserId()) && 
                          !session.getDeferredResult().isSetOrExpired());
     }
@@ -291,10 +309,10 @@ public class SeatPollingSessionManager {
     public void terminateUserSession(Long userId, Long concertId) {
         if (userId == null || concertId == null) return;
 
-        List<PollingSession> sessions = activeSessions.get(concertId);
+        Map<String, PollingSession> sessions = activeSessions.get(concertId);
         if (sessions == null || sessions.isEmpty()) return;
 
-        sessions.removeIf(session -> {
+        sessions.values().removeIf(session -> {
             if (userId.equals(session.getUserId())) {
                 DeferredResult<ResponseEntity<?>> deferredResult = session.getDeferredResult();
                 if (!deferredResult.isSetOrExpired()) {
@@ -313,28 +331,55 @@ public class SeatPollingSessionManager {
             return false;
         });
 
-        // 빈 리스트이면 맵에서 제거
-        if (sessions.isEmpty()) {
-            activeSessions.remove(concertId);
+        // 빈 맵이면 제거
+        removeIfEmpty(concertId);
+    }
+
+    /**
+     * 콘서트의 세션 맵이 비어 있으면 제거 (등록과 경합하지 않도록 원자적으로 처리)
+     */
+    private void removeIfEmpty(Long concertId) {
+        activeSessions.computeIfPresent(concertId, (id, sessions) -> sessions.isEmpty() ? null : sessions);
+    }
+
+    /**
+     * 모든 대기 세션이 공유하는 이벤트 응답 구성
+     * - 응답 본문을 JSON 바이트 배열로 한 번만 직렬화 (세션별 Map 생성/직렬화 제거)
+     * - 직렬화 실패 시 Map 응답으로 대체
+     */
+    private ResponseEntity<?> createSharedEventResponse(List<SeatUpdateEventDTO> events) {
+        Map<String, Object> response = createEventResponse(events);
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
+        } catch (JsonProcessingException e) {
+            log.warn("이벤트 응답 직렬화 실패 - Map 응답으로 대체: error={}", e.getMessage());
+            return ResponseEntity.ok(response);
         }
     }
 
     /**
      * 이벤트 응답 데이터 구성 (개선된 버전)
      */
-    private Map<String, Object> createEventResponse(SeatUpdateEventDTO event) {
+    private Map<String, Object> createEventResponse(List<SeatUpdateEventDTO> events) {
         Map<String, Object> response = new HashMap<>();
         response.put("hasUpdate", true);
-        response.put("updateTime", event.timestamp());
+        response.put("updateTime", events.get(events.size() - 1).timestamp());
         response.put("eventType", "SEAT_STATUS_CHANGE");
-        
-        Map<String, Object> seatUpdate = new HashMap<>();
-        seatUpdate.put("seatId", event.seatId());
-        seatUpdate.put("status", event.status().toString());
-        seatUpdate.put("userId", event.userId()); // null 값 허용
-        seatUpdate.put("seatInfo", event.seatInfo());
-        
-        response.put("seatUpdates", List.of(seatUpdate));
+
+        List<Map<String, Object>> seatUpdates = new ArrayList<>(events.size());
+        for (SeatUpdateEventDTO event : events) {
+            Map<String, Object> seatUpdate = new HashMap<>();
+            seatUpdate.put("seatId", event.seatId());
+            seatUpdate.put("status", event.status().toString());
+            seatUpdate.put("userId", event.userId()); // null 값 허용
+            seatUpdate.put("seatInfo", event.seatInfo());
+            seatUpdates.add(seatUpdate);
+        }
+
+        response.put("seatUpdates", seatUpdates);
         response.put("serverTime", LocalDateTime.now());
         
         return response;
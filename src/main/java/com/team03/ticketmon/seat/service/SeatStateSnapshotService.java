@@ -0,0 +1,179 @@
+package com.team03.ticketmon.seat.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team03.ticketmon.seat.adapter.SeatRedisAdapter;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatStatusDeltaResponseDTO;
+import com.team03.ticketmon.seat.dto.SeatStatusResponseDTO;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 좌석 상태 스냅샷(바이너리) 및 변경분(delta) 동기화 서비스
+ * 좌석 상태가 바뀔 때마다 증가하는 콘서트별 좌석 상태 버전을 기준으로,
+ * 스냅샷은 버전마다 한 번만 만들어 노드 로컬에 보관하고 변경분은 좌석별 변경 버전 Sorted Set으로 계산합니다.
+ *
+ * 📌 스냅샷 형식 (Big Endian):
+ * <ul>
+ *   <li>[1 byte] 형식 버전 (현재 1)</li>
+ *   <li>[8 bytes] 좌석 상태 버전</li>
+ *   <li>[4 bytes] 좌석 수 N</li>
+ *   <li>[가변] 오름차순 좌석 ID의 이전 ID 대비 차이 (unsigned varint × N)</li>
+ *   <li>[ceil(N / 4) bytes] 좌석 순번별 상태 2bit (순번 i → i / 4번째 바이트의 (i % 4) * 2 비트, 값은 SeatStatusEnum 순서)</li>
+ * </ul>
+ * 사용자별 정보(본인 선점 여부)는 포함하지 않으며, 본인 선점 좌석은 사용자 선점 좌석 조회 API로 확인합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatStateSnapshotService {
+
+    static final byte FORMAT_VERSION = 1;
+
+    private final SeatStatusService seatStatusService;
+    private final SeatRedisAdapter seatRedisAdapter;
+    private final SeatProperties seatProperties;
+
+    // 콘서트 ID -> 마지막으로 만든 스냅샷 (버전이 바뀌면 다시 생성)
+    private Cache<Long, SeatStateSnapshot> snapshotCache;
+
+    /**
+     * 인코딩된 좌석 상태 스냅샷
+     *
+     * @param version   스냅샷에 반영된 좌석 상태 버전 (이 버전 이후의 변경분으로 이어서 동기화)
+     * @param seatCount 좌석 수
+     * @param payload   인코딩된 바이트 배열
+     */
+    public record SeatStateSnapshot(long version, int seatCount, byte[] payload) {
+
+        /**
+         * 스냅샷 ETag (좌석 상태 버전 기준)
+         */
+        public String eTag() {
+            return "\"s" + version + "\"";
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        snapshotCache = Caffeine.newBuilder()
+                .maximumSize(seatProperties.getSnapshot().getMaximumSize())
+                .build();
+    }
+
+    /**
+     * 콘서트의 좌석 상태 스냅샷 조회
+     * 현재 버전의 스냅샷이 있으면 그대로 반환하고, 없을 때만 좌석 상태 Hash를 읽어 한 번 인코딩합니다.
+     * (버전을 먼저 읽고 Hash를 읽으므로, 스냅샷은 항상 표시된 버전 이후의 상태를 담고 있어 변경분을 이어 받아도 누락이 없음)
+     *
+     * @param concertId 콘서트 ID
+     * @return 좌석 상태 스냅샷
+     */
+    public SeatStateSnapshot getSnapshot(Long concertId) {
+        long version = seatRedisAdapter.getSeatStateVersion(concertId);
+
+        SeatStateSnapshot cached = snapshotCache.getIfPresent(concertId);
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+
+        // 같은 콘서트의 동시 요청은 한 번만 인코딩
+        return snapshotCache.asMap().compute(concertId, (id, current) -> {
+            if (current != null && current.version() >= version) {
+                return current;
+            }
+            Map<Long, SeatStatus> seats = seatStatusService.getAllSeatStatus(id);
+            SeatStateSnapshot snapshot = new SeatStateSnapshot(version, seats.size(), encode(version, seats));
+            log.debug("좌석 상태 스냅샷 생성: concertId={}, version={}, seatCount={}, bytes={}",
+                    id, version, snapshot.seatCount(), snapshot.payload().length);
+            return snapshot;
+        });
+    }
+
+    /**
+     * 지정한 버전 이후 변경된 좌석 상태 조회
+     * 다음 경우에는 변경분 대신 전체 스냅샷이 필요하다고 응답합니다.
+     * - 요청 버전이 좌석 캐시 초기화 이전이거나 현재 버전보다 큰 경우 (Redis 초기화 등)
+     * - 변경된 좌석 수가 설정된 최대치를 넘는 경우
+     *
+     * @param concertId    콘서트 ID
+     * @param sinceVersion 클라이언트가 마지막으로 받은 버전
+     * @param userId       현재 사용자 ID (본인 선점 여부 표시용, 비로그인 시 null)
+     * @return 변경분 응답
+     */
+    public SeatStatusDeltaResponseDTO getChangesSince(Long concertId, long sinceVersion, Long userId) {
+        int maxDeltaSeats = seatProperties.getSnapshot().getMaxDeltaSeats();
+        SeatRedisAdapter.SeatStateChanges changes =
+                seatRedisAdapter.getSeatStateChanges(concertId, sinceVersion, maxDeltaSeats);
+
+        if (sinceVersion < changes.resetVersion() || sinceVersion > changes.version()
+                || changes.changedSeatIds().size() > maxDeltaSeats) {
+            log.debug("좌석 상태 전체 동기화 필요: concertId={}, sinceVersion={}, version={}, resetVersion={}",
+                    concertId, sinceVersion, changes.version(), changes.resetVersion());
+            return SeatStatusDeltaResponseDTO.fullSyncRequired(concertId, changes.version());
+        }
+
+        List<SeatStatusResponseDTO> changedSeats = seatRedisAdapter
+                .getSeatStatuses(concertId, changes.changedSeatIds()).stream()
+                .sorted(Comparator.comparing(SeatStatus::getSeatId))
+                .map(seat -> SeatStatusResponseDTO.from(seat, userId))
+                .toList();
+
+        return SeatStatusDeltaResponseDTO.of(concertId, changes.version(), changedSeats);
+    }
+
+    /**
+     * 좌석 상태를 스냅샷 형식으로 인코딩
+     */
+    static byte[] encode(long version, Map<Long, SeatStatus> seats) {
+        Map<Long, SeatStatus> sortedSeats = new TreeMap<>(seats);
+        int seatCount = sortedSeats.size();
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(13 + seatCount * 2);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(version);
+            out.writeInt(seatCount);
+
+            long previousSeatId = 0;
+            for (Long seatId : sortedSeats.keySet()) {
+                writeVarLong(out, seatId - previousSeatId);
+                previousSeatId = seatId;
+            }
+
+            byte[] statuses = new byte[(seatCount + 3) / 4];
+            int ordinal = 0;
+            for (SeatStatus seat : sortedSeats.values()) {
+                SeatStatusEnum status = seat.getStatus() != null ? seat.getStatus() : SeatStatusEnum.UNAVAILABLE;
+                statuses[ordinal >> 2] |= (byte) (status.ordinal() << ((ordinal & 3) * 2));
+                ordinal++;
+            }
+            out.write(statuses);
+        } catch (IOException e) {
+            throw new UncheckedIOException("좌석 상태 스냅샷 인코딩 실패", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+}
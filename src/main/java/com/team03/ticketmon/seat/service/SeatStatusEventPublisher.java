@@ -3,9 +3,12 @@ package com.team03.ticketmon.seat.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.config.SeatProperties;
 import com.team03.ticketmon.seat.domain.SeatStatus;
 import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatUpdateBatchEventDTO;
 import com.team03.ticketmon.seat.dto.SeatUpdateEventDTO;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RTopic;
@@ -13,7 +16,14 @@ import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -21,6 +31,7 @@ import java.util.concurrent.atomic.AtomicLong;
  * - 좌석 상태 변경 시 Redis Pub/Sub 채널에 이벤트 발행
  * - 실시간 좌석 상태 공유를 위한 핵심 컴포넌트
  * - 발행 통계 및 오류 처리 강화
+ * - 콘서트별로 짧은 시간(seat.event.batch-window-ms) 동안 변경을 모아 한 번에 발행 (같은 좌석은 마지막 상태만 유지)
  */
 @Slf4j
 @Service
@@ -29,6 +40,7 @@ public class SeatStatusEventPublisher {
 
     private final RedissonClient redissonClient;
     private final ObjectMapper objectMapper;
+    private final SeatProperties seatProperties;
 
     // Redis 채널 패턴: seat:status:update:{concertId}
     private static final String SEAT_CHANNEL_PREFIX = RedisKeyGenerator.SEAT_CHANNEL_PREFIX;
@@ -36,6 +48,18 @@ public class SeatStatusEventPublisher {
     // 발행 통계
     private final AtomicLong publishedEventCount = new AtomicLong(0);
     private final AtomicLong failedEventCount = new AtomicLong(0);
+    private final AtomicLong publishedBatchCount = new AtomicLong(0);
+    private final AtomicLong coalescedEventCount = new AtomicLong(0);
+
+    // 콘서트별 발행 대기 이벤트 버퍼
+    private final Map<Long, ConcertEventBuffer> pendingBuffers = new ConcurrentHashMap<>();
+
+    // 배치 발행 예약용 단일 스레드 스케줄러
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "seat-event-batch-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * 좌석 상태 변경 이벤트 발행 (SeatStatus 객체 기반) - 개선된 버전
@@ -59,9 +83,9 @@ public class SeatStatusEventPublisher {
 
         try {
             SeatUpdateEventDTO event = SeatUpdateEventDTO.from(seatStatus);
-            publishEvent(event);
+            submitEvent(event);
 
-            log.debug("좌석 상태 이벤트 발행 성공 (SeatStatus): concertId={}, seatId={}, status={}",
+            log.debug("좌석 상태 이벤트 발행 요청 (SeatStatus): concertId={}, seatId={}, status={}",
                     seatStatus.getConcertId(), seatStatus.getSeatId(), seatStatus.getStatus());
 
         } catch (Exception e) {
@@ -91,9 +115,9 @@ public class SeatStatusEventPublisher {
 
         try {
             SeatUpdateEventDTO event = SeatUpdateEventDTO.of(concertId, concertSeatId, status, userId, seatInfo);
-            publishEvent(event);
+            submitEvent(event);
 
-            log.debug("좌석 상태 이벤트 발행 성공 (개별 필드): concertId={}, concertSeatId={}, status={}",
+            log.debug("좌석 상태 이벤트 발행 요청 (개별 필드): concertId={}, concertSeatId={}, status={}",
                     concertId, concertSeatId, status);
 
         } catch (Exception e) {
@@ -103,6 +127,103 @@ public class SeatStatusEventPublisher {
         }
     }
 
+    /**
+     * 이벤트 발행 요청 처리
+     * - 배치 비활성화 시 즉시 개별 발행
+     * - 배치 활성화 시 콘서트 버퍼에 적재 후, 첫 적재 시점에 수집 시간 뒤 발행을 예약
+     * - 버퍼가 최대 이벤트 수에 도달하면 호출 스레드에서 즉시 발행
+     *
+     * @param event 발행할 이벤트 객체
+     */
+    private void submitEvent(SeatUpdateEventDTO event) {
+        SeatProperties.Event config = seatProperties.getEvent();
+        if (!config.isBatchEnabled()) {
+            publishEvent(event);
+            return;
+        }
+
+        Long concertId = event.concertId();
+        while (true) {
+            ConcertEventBuffer buffer = pendingBuffers.computeIfAbsent(concertId, id -> new ConcertEventBuffer());
+
+            switch (buffer.add(event, config.getBatchMaxEvents())) {
+                case FLUSH_NOW -> flush(concertId, buffer);
+                case SCHEDULE_FLUSH -> flushExecutor.schedule(
+                        () -> flush(concertId, buffer), config.getBatchWindowMs(), TimeUnit.MILLISECONDS);
+                case NONE -> {
+                    // 이미 발행이 예약된 버퍼에 합쳐짐
+                }
+                case RETIRED -> {
+                    // 발행 후 제거되는 중인 버퍼 → 새 버퍼로 재시도
+                    pendingBuffers.remove(concertId, buffer);
+                    continue;
+                }
+            }
+            return;
+        }
+    }
+
+    /**
+     * 콘서트 버퍼를 비우고 배치 이벤트로 발행
+     * - 같은 콘서트의 flush는 순서대로 직렬화되어, 늦게 모인 배치가 먼저 발행되지 않음
+     * - 발행 후 버퍼가 비어 있으면 버퍼를 폐기하고 맵에서 제거 (다음 이벤트는 새 버퍼에 적재)
+     */
+    private void flush(Long concertId, ConcertEventBuffer buffer) {
+        synchronized (buffer.flushLock) {
+            List<SeatUpdateEventDTO> updates = buffer.drain();
+            if (!updates.isEmpty()) {
+                publishBatch(SeatUpdateBatchEventDTO.of(concertId, updates));
+            }
+            // 발행 후 비어 있으면 맵에서 제거 (이벤트가 끊긴 콘서트의 버퍼가 계속 쌓이지 않도록)
+            if (buffer.retireIfEmpty()) {
+                pendingBuffers.remove(concertId, buffer);
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 모든 배치를 즉시 발행 (종료 시/테스트용)
+     */
+    public void flushAll() {
+        pendingBuffers.forEach(this::flush);
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 이벤트 발행 후 스케줄러 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        flushAll();
+        flushExecutor.shutdownNow();
+    }
+
+    /**
+     * 배치 이벤트 발행 로직
+     * - 채널명: seat:status:update:{concertId} (개별 이벤트와 동일 채널)
+     * - 메시지: JSON 직렬화된 SeatUpdateBatchEventDTO
+     *
+     * @param batch 발행할 배치 이벤트
+     */
+    private void publishBatch(SeatUpdateBatchEventDTO batch) {
+        int size = batch.updates().size();
+        try {
+            String channelName = SEAT_CHANNEL_PREFIX + batch.concertId();
+            RTopic topic = redissonClient.getTopic(channelName);
+
+            String batchJson = objectMapper.writeValueAsString(batch);
+            long listenerCount = topic.publish(batchJson);
+            publishedEventCount.addAndGet(size);
+            publishedBatchCount.incrementAndGet();
+
+            log.debug("좌석 상태 배치 이벤트 발행 완료: channel={}, concertId={}, updates={}, listeners={}",
+                    channelName, batch.concertId(), size, listenerCount);
+
+        } catch (Exception e) {
+            failedEventCount.addAndGet(size);
+            log.error("배치 이벤트 발행 중 예외 발생: concertId={}, updates={}", batch.concertId(), size, e);
+        }
+    }
+
     /**
      * 실제 이벤트 발행 로직 (개선된 버전)
      * - 채널명: seat:status:update:{concertId}
@@ -136,12 +257,12 @@ public class SeatStatusEventPublisher {
             long listenerCount = topic.publish(eventJson);
             publishedEventCount.incrementAndGet();
 
-            log.info("좌석 상태 이벤트 발행 완료: channel={}, concertId={}, seatId={}, status={}, listeners={}",
+            log.debug("좌석 상태 이벤트 발행 완료: channel={}, concertId={}, seatId={}, status={}, listeners={}",
                     channelName, event.concertId(), event.seatId(), event.status(), listenerCount);
 
             // ✅ 개선: 리스너가 없는 경우 경고
             if (listenerCount == 0) {
-                log.warn("이벤트를 수신하는 리스너가 없습니다: channel={}, concertId={}",
+                log.debug("이벤트를 수신하는 리스너가 없습니다: channel={}, concertId={}",
                         channelName, event.concertId());
             }
 
@@ -218,6 +339,9 @@ public class SeatStatusEventPublisher {
                 "failedEventCount", failedEventCount.get(),
                 "totalEventCount", totalEvents,
                 "successRate", successRate,
+                "publishedBatchCount", publishedBatchCount.get(),
+                "coalescedEventCount", coalescedEventCount.get(),
+                "pendingBufferCount", pendingBuffers.size(),
                 "channelPrefix", SEAT_CHANNEL_PREFIX
         );
     }
@@ -238,6 +362,8 @@ public class SeatStatusEventPublisher {
     public void resetStats() {
         publishedEventCount.set(0);
         failedEventCount.set(0);
+        publishedBatchCount.set(0);
+        coalescedEventCount.set(0);
         log.info("이벤트 발행 통계가 초기화되었습니다");
     }
 
@@ -266,4 +392,61 @@ public class SeatStatusEventPublisher {
             log.error("테스트 이벤트 발행 실패: concertId={}, seatId={}", concertId, seatId, e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 버퍼 적재 결과
+     */
+    private enum BufferAction {
+        SCHEDULE_FLUSH, FLUSH_NOW, NONE, RETIRED
+    }
+
+    /**
+     * 콘서트별 발행 대기 버퍼
+     * - 좌석 ID 기준 마지막 변경만 유지 (LinkedHashMap 재삽입으로 마지막 변경 순서 보장)
+     */
+    private class ConcertEventBuffer {
+        private final Object flushLock = new Object();
+        private LinkedHashMap<Long, SeatUpdateEventDTO> events = new LinkedHashMap<>();
+        private boolean flushScheduled = false;
+        private boolean retired = false;
+
+        synchronized BufferAction add(SeatUpdateEventDTO event, int maxEvents) {
+            if (retired) {
+                return BufferAction.RETIRED;
+            }
+            if (events.remove(event.seatId()) != null) {
+                coalescedEventCount.incrementAndGet();
+            }
+            events.put(event.seatId(), event);
+
+            if (events.size() >= maxEvents) {
+                return BufferAction.FLUSH_NOW;
+            }
+            if (!flushScheduled) {
+                flushScheduled = true;
+                return BufferAction.SCHEDULE_FLUSH;
+            }
+            return BufferAction.NONE;
+        }
+
+        synchronized List<SeatUpdateEventDTO> drain() {
+            flushScheduled = false;
+            if (events.isEmpty()) {
+                return List.of();
+            }
+            List<SeatUpdateEventDTO> drained = new ArrayList<>(events.values());
+            events = new LinkedHashMap<>();
+            return drained;
+        }
+
+        /**
+         * 대기 이벤트와 예약된 발행이 없으면 버퍼 폐기 (폐기 후 add는 RETIRED 반환)
+         */
+        synchronized boolean retireIfEmpty() {
+            if (events.isEmpty() && !flushScheduled) {
+                retired = true;
+            }
+            return retired;
+        }
+    }
+}
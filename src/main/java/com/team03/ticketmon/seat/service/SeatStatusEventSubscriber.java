@@ -1,7 +1,9 @@
 package com.team03.ticketmon.seat.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.dto.SeatUpdateBatchEventDTO;
 import com.team03.ticketmon.seat.dto.SeatUpdateEventDTO;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -12,6 +14,8 @@ import org.redisson.api.RedissonClient;
 import org.redisson.api.listener.PatternMessageListener;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -21,6 +25,7 @@ import java.util.concurrent.atomic.AtomicLong;
  * - Redis Pub/Sub 채널에서 좌석 상태 변경 이벤트 수신
  * - 수신된 이벤트를 SeatPollingSessionManager에 전달하여 대기 중인 클라이언트들에게 알림
  * - 연결 안정성 및 오류 처리 강화
+ * - 개별 이벤트와 배치 이벤트(SeatUpdateBatchEventDTO)를 모두 처리
  */
 @Slf4j
 @Service
@@ -38,6 +43,7 @@ public class SeatStatusEventSubscriber implements PatternMessageListener<CharSeq
     private final AtomicBoolean isSubscribed = new AtomicBoolean(false);
     private final AtomicLong processedEventCount = new AtomicLong(0);
     private final AtomicLong errorEventCount = new AtomicLong(0);
+    private final AtomicLong processedBatchCount = new AtomicLong(0);
 
     private RPatternTopic patternTopic;
     private int listenerId = -1;
@@ -114,8 +120,16 @@ public class SeatStatusEventSubscriber implements PatternMessageListener<CharSeq
                 return;
             }
 
+            JsonNode root = objectMapper.readTree(messageContent);
+
+            // 배치 이벤트는 updates 필드를 가짐
+            if (root.has("updates")) {
+                handleBatchEvent(channelName, objectMapper.treeToValue(root, SeatUpdateBatchEventDTO.class));
+                return;
+            }
+
             // JSON 메시지를 SeatUpdateEvent 객체로 역직렬화
-            SeatUpdateEventDTO event = objectMapper.readValue(messageContent, SeatUpdateEventDTO.class);
+            SeatUpdateEventDTO event = objectMapper.treeToValue(root, SeatUpdateEventDTO.class);
 
             // ✅ 개선: 이벤트 데이터 유효성 검증 강화
             if (!isValidEvent(event)) {
@@ -141,7 +155,7 @@ public class SeatStatusEventSubscriber implements PatternMessageListener<CharSeq
             // 성공 카운터 증가
             processedEventCount.incrementAndGet();
 
-            log.info("좌석 상태 이벤트 처리 완료: concertId={}, seatId={}, status={}, processedTotal={}",
+            log.debug("좌석 상태 이벤트 처리 완료: concertId={}, seatId={}, status={}, processedTotal={}",
                     concertId, event.seatId(), event.status(), processedEventCount.get());
 
         } catch (Exception e) {
@@ -151,6 +165,44 @@ public class SeatStatusEventSubscriber implements PatternMessageListener<CharSeq
         }
     }
 
+    /**
+     * 배치 이벤트 처리
+     * - 유효한 좌석 변경만 골라 세션 매니저에 한 번에 전달 (세션당 응답 1회)
+     *
+     * @param channelName 채널명
+     * @param batch 배치 이벤트
+     */
+    private void handleBatchEvent(String channelName, SeatUpdateBatchEventDTO batch) {
+        if (batch.concertId() == null || batch.updates() == null
+                || !isChannelConcertIdMatch(channelName, batch.concertId())) {
+            log.warn("유효하지 않은 배치 이벤트 무시: channel={}, concertId={}", channelName, batch.concertId());
+            errorEventCount.incrementAndGet();
+            return;
+        }
+
+        List<SeatUpdateEventDTO> validEvents = new ArrayList<>(batch.updates().size());
+        for (SeatUpdateEventDTO event : batch.updates()) {
+            if (isValidEvent(event) && batch.concertId().equals(event.concertId())) {
+                validEvents.add(event);
+            } else {
+                log.warn("배치 내 유효하지 않은 이벤트 무시: channel={}, event={}", channelName, event);
+                errorEventCount.incrementAndGet();
+            }
+        }
+
+        if (validEvents.isEmpty()) {
+            return;
+        }
+
+        sessionManager.notifyWaitingSessions(batch.concertId(), validEvents);
+
+        processedEventCount.addAndGet(validEvents.size());
+        processedBatchCount.incrementAndGet();
+
+        log.debug("좌석 상태 배치 이벤트 처리 완료: concertId={}, updates={}, processedTotal={}",
+                batch.concertId(), validEvents.size(), processedEventCount.get());
+    }
+
     /**
      * 이벤트 데이터 유효성 검증 (새로 추가)
      *
@@ -220,6 +272,7 @@ public class SeatStatusEventSubscriber implements PatternMessageListener<CharSeq
                 "listenerId", listenerId,
                 "processedEventCount", processedEventCount.get(),
                 "errorEventCount", errorEventCount.get(),
+                "processedBatchCount", processedBatchCount.get(),
                 "successRate", calculateSuccessRate()
         );
     }
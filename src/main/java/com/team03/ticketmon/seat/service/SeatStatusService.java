@@ -1,23 +1,24 @@
 package com.team03.ticketmon.seat.service;
 
 import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.adapter.SeatRedisAdapter;
 import com.team03.ticketmon.seat.config.SeatProperties;
 import com.team03.ticketmon.seat.domain.SeatStatus;
 import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
 import com.team03.ticketmon.seat.exception.SeatReservationException;
 import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.concert.service.ConcertSeatSummaryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RBucket;
-import org.redisson.api.RLock;
 import org.redisson.api.RMap;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -25,7 +26,8 @@ import java.util.stream.Collectors;
  * ✅ 수정사항:
  * - Cache-Aside 패턴 추가 (자동 캐시 초기화)
  * - SeatCacheInitService 의존성 추가
- * - 분산 락을 활용한 원자적 좌석 선점 처리
+ * - Lua 스크립트를 활용한 원자적 좌석 선점 처리 (SeatRedisAdapter)
+ * - 사용자별 선점 좌석 인덱스(seat:user:{concertId}:{userId})를 모든 상태 변경 시 함께 유지
  * - 사용자별 좌석 선점 개수 제한 (최대 6개) 추가
  * - 현재 테스트 환경임을 고려하여 선점 개수 제한을 2개로 설정
  */
@@ -39,10 +41,11 @@ public class SeatStatusService {
     private final SeatCacheInitService seatCacheInitService; // ✅ 추가된 필드
     private final SeatProperties seatProperties;
     private final ConcertSeatRepository concertSeatRepository;
+    private final SeatRedisAdapter seatRedisAdapter;
+    private final ConcertSeatSummaryService concertSeatSummaryService;
 
     // Redis 키 패턴
     private static final String SEAT_STATUS_KEY_PREFIX = RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX;
-    private static final String SEAT_LOCK_KEY_PREFIX = RedisKeyGenerator.SEAT_LOCK_KEY_PREFIX;
     private static final String SEAT_TTL_KEY_PREFIX = RedisKeyGenerator.SEAT_TTL_KEY_PREFIX;
 
     // 업데이트 시간 추적을 위한 키
@@ -99,46 +102,71 @@ public class SeatStatusService {
         return Optional.ofNullable(status);
     }
 
+    /**
+     * 여러 좌석 상태 일괄 조회 - Cache-Aside 패턴 적용
+     * - 지정한 좌석만 HMGET 한 번으로 조회 (전체 Hash를 읽지 않음)
+     * - 조회되지 않은 좌석이 있고 전체 캐시가 비어있으면 초기화 후 재조회
+     *
+     * @return 좌석 ID → 좌석 상태 (캐시에 없는 좌석은 포함되지 않음)
+     */
+    public Map<Long, SeatStatus> getSeatStatuses(Long concertId, Collection<Long> concertSeatIds) {
+        Collection<SeatStatus> seats = seatRedisAdapter.getSeatStatuses(concertId, concertSeatIds);
+
+        if (seats.size() < concertSeatIds.size()
+                && redissonClient.getMap(SEAT_STATUS_KEY_PREFIX + concertId).size() == 0) {
+            log.info("다중 좌석 조회 시 캐시 비어있음. 초기화 시도: concertId={}, seatCount={}",
+                    concertId, concertSeatIds.size());
+            try {
+                seatCacheInitService.initializeSeatCacheFromDB(concertId);
+                seats = seatRedisAdapter.getSeatStatuses(concertId, concertSeatIds); // 재조회
+            } catch (Exception e) {
+                log.error("다중 좌석 조회 시 캐시 초기화 실패: concertId={}", concertId, e);
+            }
+        }
+
+        return seats.stream()
+                .collect(Collectors.toMap(SeatStatus::getSeatId, seat -> seat));
+    }
+
     /**
      * 좌석 상태 업데이트 (기본 버전)
      * - Redis Hash에 좌석 상태 저장
      * - 실시간 이벤트 발행으로 다른 사용자들에게 변경사항 알림
      */
     public void updateSeatStatus(SeatStatus seatStatus) {
-        String key = SEAT_STATUS_KEY_PREFIX + seatStatus.getConcertId();
-        RMap<String, SeatStatus> seatMap = redissonClient.getMap(key);
-
-        // 1. Redis에 좌석 상태 저장
-        seatMap.put(seatStatus.getSeatId().toString(), seatStatus);
+        updateSeatStatus(seatStatus, null);
+    }
 
-        // 2. 마지막 업데이트 시간 갱신
-        updateLastUpdateTime(seatStatus.getConcertId());
+    /**
+     * 좌석 상태 업데이트 (이전 선점 사용자 지정 버전)
+     * - Redis Hash 저장, 사용자별 선점 좌석 인덱스 갱신, 마지막 업데이트 시간 갱신, 좌석 상태 버전 증가를
+     *   한 번의 원자적 배치로 처리 (좌석 상태 스냅샷/변경분 동기화의 기준)
+     * - 실시간 이벤트 발행으로 다른 사용자들에게 변경사항 알림
+     *
+     * @param seatStatus     저장할 좌석 상태
+     * @param previousUserId 변경 전 선점 사용자 ID (해당 사용자의 인덱스에서 제거, 없으면 null)
+     */
+    public void updateSeatStatus(SeatStatus seatStatus, Long previousUserId) {
+        // 1. Redis에 좌석 상태 저장 + 사용자 인덱스/마지막 업데이트 시간 갱신
+        seatRedisAdapter.saveSeatStatus(seatStatus, previousUserId,
+                Duration.ofHours(seatProperties.getReservation().getLastUpdateTtlHours()));
 
-        // 3. 실시간 이벤트 발행 (실패해도 좌석 상태 저장에는 영향 없음)
-        try {
-            eventPublisher.publishSeatUpdate(seatStatus);
-        } catch (Exception e) {
-            log.warn("좌석 상태 이벤트 발행 실패 (서비스 계속 진행): concertId={}, seatId={}",
-                    seatStatus.getConcertId(), seatStatus.getSeatId(), e);
-        }
+        // 2. 실시간 이벤트 발행 (실패해도 좌석 상태 저장에는 영향 없음)
+        publishSeatUpdateSafely(seatStatus);
 
         log.info("좌석 상태 업데이트: concertId={}, seatId={}, status={}",
                 seatStatus.getConcertId(), seatStatus.getSeatId(), seatStatus.getStatus());
     }
 
     /**
-     * 좌석 TTL 키 생성
+     * 실시간 좌석 상태 이벤트 발행 (실패해도 예외를 전파하지 않음)
      */
-    private void createSeatTTLKey(Long concertId, Long concertSeatId) {
+    private void publishSeatUpdateSafely(SeatStatus seatStatus) {
         try {
-            String ttlKey = SEAT_TTL_KEY_PREFIX + concertId + ":" + concertSeatId;
-            RBucket<String> bucket = redissonClient.getBucket(ttlKey);
-
-            bucket.set("reserved", seatProperties.getReservation().getTtlMinutes(), TimeUnit.MINUTES);
-            log.debug("좌석 TTL 키 생성: key={}, ttl={}분", ttlKey, seatProperties.getReservation().getTtlMinutes());
-
+            eventPublisher.publishSeatUpdate(seatStatus);
         } catch (Exception e) {
-            log.error("좌석 TTL 키 생성 실패: concertId={}, concertSeatId={}", concertId, concertSeatId, e);
+            log.warn("좌석 상태 이벤트 발행 실패 (서비스 계속 진행): concertId={}, seatId={}",
+                    seatStatus.getConcertId(), seatStatus.getSeatId(), e);
         }
     }
 
@@ -162,45 +190,13 @@ public class SeatStatusService {
         }
     }
 
-    /**
-     * ✅ 사용자별 좌석 선점 개수 검증
-     * Redis에서 현재 사용자가 선점한 좌석 개수를 확인하여 최대 제한을 초과하는지 검증
-     *
-     * @param concertId    콘서트 ID
-     * @param userId       사용자 ID
-     * @param targetSeatId 새로 선점하려는 좌석 ID (동일 좌석 재선점 시 제외용)
-     * @throws SeatReservationException 최대 선점 개수 초과 시
-     */
-    private void validateUserSeatReservationLimit(Long concertId, Long userId, Long targetSeatId) {
-        List<SeatStatus> userReservedSeats = getUserReservedSeats(concertId, userId);
-
-        // 현재 선점하려는 좌석이 이미 해당 사용자에 의해 선점된 상태라면 개수에서 제외
-        // (동일 좌석 재선점의 경우)
-        long currentReservationCount = userReservedSeats.stream()
-                .filter(seat -> !seat.getSeatId().equals(targetSeatId))
-                .count();
-
-        int maxSeatCount = seatProperties.getReservation().getMaxSeatCount();
-        if (currentReservationCount >= maxSeatCount) {
-            log.warn("사용자 좌석 선점 개수 제한 초과: userId={}, concertId={}, currentCount={}, maxLimit={}",
-                    userId, concertId, currentReservationCount, maxSeatCount);
-
-            throw new SeatReservationException(
-                    String.format("좌석 선점은 최대 %d개까지만 가능합니다. 현재 선점 좌석: %d개",
-                            maxSeatCount, currentReservationCount)
-            );
-        }
-
-        log.debug("사용자 좌석 선점 개수 검증 통과: userId={}, concertId={}, currentCount={}, maxLimit={}",
-                userId, concertId, currentReservationCount, maxSeatCount);
-    }
-
     /**
      * 좌석 임시 선점 메서드 (4개 매개변수 버전)
-     * - 좌석 가용성 확인과 선점 처리를 원자적으로 수행
+     * - 가용성 확인, 선점 개수 제한, 상태 저장, TTL 키 생성, 마지막 업데이트 시간 갱신을
+     *   Lua 스크립트 한 번으로 원자적으로 수행 (클라이언트 측 분산 락 없음)
+     * - 사용자별 선점 개수는 사용자 선점 좌석 Set으로 검증하여 전체 좌석 조회 불필요
      * - Race Condition 방지 및 중복 예약 차단
      * - TTL 키 생성으로 자동 만료 처리 지원
-     * - ✅ 사용자별 최대 6개 좌석 선점 제한 추가
      *
      * @param concertId     콘서트 ID
      * @param concertSeatId 좌석 ID (ConcertSeat ID)
@@ -211,92 +207,79 @@ public class SeatStatusService {
      */
     @Transactional
     public SeatStatus reserveSeat(Long concertId, Long concertSeatId, Long userId, String seatInfo) {
-        String lockKey = SEAT_LOCK_KEY_PREFIX + concertId + ":" + concertSeatId;
-        RLock lock = redissonClient.getLock(lockKey);
-
-        try {
-            // 분산 락 획득 시도 (3초 대기, 10초 보유)
-            boolean acquired = lock.tryLock(seatProperties.getLock().getWaitTimeSeconds(),
-                    seatProperties.getLock().getLeaseTimeSeconds(), TimeUnit.SECONDS);
-            if (!acquired) {
-                log.warn("좌석 락 획득 실패: concertId={}, concertSeatId={}, userId={}", concertId, concertSeatId, userId);
-                throw new SeatReservationException("다른 사용자가 처리 중입니다. 잠시 후 다시 시도해주세요.");
-            }
-            log.debug("좌석 락 획득 성공: concertId={}, concertSeatId={}, userId={}", concertId, concertSeatId, userId);
-
-            // === 임계 구역 시작 ===
-
-            // 1. 현재 좌석 상태 확인
-            Optional<SeatStatus> currentStatus = getSeatStatus(concertId, concertSeatId);
-
-            if (currentStatus.isPresent()) {
-                SeatStatus seat = currentStatus.get();
-
-                // 이미 예매 완료된 좌석
-                if (seat.getStatus() == SeatStatusEnum.BOOKED) {
-                    throw new SeatReservationException("이미 예매 완료된 좌석입니다.");
-                }
-
-                // 현재 선점 중인 좌석 (만료 여부 확인)
-                if (seat.getStatus() == SeatStatusEnum.RESERVED) {
-                    if (!seat.isExpired()) {
-                        // 같은 사용자의 재요청인지 확인
-                        if (userId.equals(seat.getUserId())) {
-                            log.info("동일 사용자의 좌석 재선점 요청: concertId={}, concertSeatId={}, userId={}",
-                                    concertId, concertSeatId, userId);
-                            return seat; // 기존 선점 상태 반환
-                        } else {
-                            throw new SeatReservationException("다른 사용자가 선점 중인 좌석입니다.");
-                        }
-                    } else {
-                        log.info("만료된 선점 좌석 해제 후 재선점: concertId={}, concertSeatId={}",
-                                concertId, concertSeatId);
-                        // 만료된 선점은 아래에서 새로 선점 처리
-                    }
-                }
-            }
-
-            // ✅ 2. 사용자별 좌석 선점 개수 제한 검증 (새로 추가된 로직)
-            validateUserSeatReservationLimit(concertId, userId, concertSeatId);
-
-            // 3. 새로운 선점 처리 (기존 번호 2에서 3으로 변경)
-            LocalDateTime now = LocalDateTime.now();
-            LocalDateTime expiresAt = now.plusMinutes(seatProperties.getReservation().getTtlMinutes());
-
-            SeatStatus reserved = SeatStatus.builder()
-                    .id(concertId + "-" + concertSeatId)
-                    .concertId(concertId)
-                    .seatId(concertSeatId)
-                    .status(SeatStatusEnum.RESERVED)
-                    .userId(userId)
-                    .reservedAt(now)
-                    .expiresAt(expiresAt)
-                    .seatInfo(seatInfo)
-                    .build();
-
-            // 4. Redis에 저장 및 이벤트 발행 (기존 번호 3에서 4로 변경)
-            updateSeatStatus(reserved);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusMinutes(seatProperties.getReservation().getTtlMinutes());
 
-            // 5. TTL 키 생성 (자동 만료 지원) (기존 번호 4에서 5로 변경)
-            createSeatTTLKey(concertId, concertSeatId);
+        SeatStatus reserved = SeatStatus.builder()
+                .id(concertId + "-" + concertSeatId)
+                .concertId(concertId)
+                .seatId(concertSeatId)
+                .status(SeatStatusEnum.RESERVED)
+                .userId(userId)
+                .reservedAt(now)
+                .expiresAt(expiresAt)
+                .seatInfo(seatInfo)
+                .build();
 
-            log.info("좌석 선점 완료: concertId={}, concertSeatId={}, userId={}, expiresAt={}, seatInfo={}",
-                    concertId, concertSeatId, userId, expiresAt, seatInfo);
+        // 1. 원자적 선점 스크립트 실행
+        SeatRedisAdapter.ReserveResult result = executeReserveScript(reserved);
 
-            return reserved;
+        // 2. 캐시가 비어있으면 DB에서 초기화 후 한 번 재시도
+        if (result.code() == SeatRedisAdapter.ReserveCode.CACHE_MISS) {
+            log.info("좌석 선점 시 캐시 비어있음. 초기화 시도: concertId={}, concertSeatId={}", concertId, concertSeatId);
+            try {
+                seatCacheInitService.initializeSeatCacheFromDB(concertId);
+            } catch (Exception e) {
+                log.error("좌석 선점 시 캐시 초기화 실패: concertId={}, concertSeatId={}", concertId, concertSeatId, e);
+            }
+            result = executeReserveScript(reserved);
+        }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("좌석 선점 중 인터럽트 발생: concertId={}, concertSeatId={}, userId={}", concertId, concertSeatId, userId, e);
-            throw new SeatReservationException("좌석 선점 처리가 중단되었습니다.");
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-                log.debug("좌석 락 해제 완료: concertId={}, concertSeatId={}, userId={}", concertId, concertSeatId, userId);
+        // 3. 결과 코드별 처리
+        switch (result.code()) {
+            case RESERVED -> {
+                publishSeatUpdateSafely(reserved);
+                log.info("좌석 선점 완료: concertId={}, concertSeatId={}, userId={}, expiresAt={}, seatInfo={}, heldCount={}",
+                        concertId, concertSeatId, userId, expiresAt, seatInfo, result.heldCount());
+                return reserved;
+            }
+            case ALREADY_HELD -> {
+                log.info("동일 사용자의 좌석 재선점 요청: concertId={}, concertSeatId={}, userId={}",
+                        concertId, concertSeatId, userId);
+                return getSeatStatus(concertId, concertSeatId)
+                        .orElseThrow(() -> new SeatReservationException("존재하지 않는 좌석입니다."));
+            }
+            case BOOKED -> throw new SeatReservationException("이미 예매 완료된 좌석입니다.");
+            case HELD_BY_OTHER -> throw new SeatReservationException("다른 사용자가 선점 중인 좌석입니다.");
+            case LIMIT_EXCEEDED -> {
+                int maxSeatCount = seatProperties.getReservation().getMaxSeatCount();
+                log.warn("사용자 좌석 선점 개수 제한 초과: userId={}, concertId={}, currentCount={}, maxLimit={}",
+                        userId, concertId, result.heldCount(), maxSeatCount);
+                throw new SeatReservationException(
+                        String.format("좌석 선점은 최대 %d개까지만 가능합니다. 현재 선점 좌석: %d개",
+                                maxSeatCount, result.heldCount())
+                );
+            }
+            default -> {
+                log.warn("좌석 캐시 초기화 후에도 좌석 정보 없음: concertId={}, concertSeatId={}", concertId, concertSeatId);
+                throw new SeatReservationException("존재하지 않는 좌석입니다.");
             }
         }
     }
 
+    /**
+     * 좌석 선점 스크립트 실행 (설정값 적용)
+     */
+    private SeatRedisAdapter.ReserveResult executeReserveScript(SeatStatus reserved) {
+        SeatProperties.Reservation reservation = seatProperties.getReservation();
+        return seatRedisAdapter.reserveSeat(
+                reserved,
+                reservation.getMaxSeatCount(),
+                Duration.ofMinutes(reservation.getTtlMinutes()),
+                Duration.ofHours(reservation.getLastUpdateTtlHours())
+        );
+    }
+
     /**
      * 좌석 선점 해제 (AVAILABLE로 변경)
      */
@@ -337,7 +320,7 @@ public class SeatStatusService {
                 .seatInfo(currentSeat.getSeatInfo())
                 .build();
 
-        updateSeatStatus(updatedStatus);
+        updateSeatStatus(updatedStatus, currentSeat.getUserId());
 
         // 4. TTL 키 삭제 (불필요한 만료 이벤트 방지)
         removeSeatTTLKey(concertId, concertSeatId);
@@ -365,7 +348,7 @@ public class SeatStatusService {
                     .seatInfo(currentSeat.getSeatInfo())
                     .build();
 
-            updateSeatStatus(updatedStatus);
+            updateSeatStatus(updatedStatus, currentSeat.getUserId());
             removeSeatTTLKey(concertId, concertSeatId);
 
             log.info("좌석 강제 해제 완료 (관리자): concertId={}, concertSeatId={}, previousUserId={}",
@@ -373,6 +356,59 @@ public class SeatStatusService {
         }
     }
 
+    /**
+     * 사용자가 선점한 여러 좌석을 한 번에 해제 (AVAILABLE로 변경)
+     * - 좌석 상태를 HMGET 한 번으로 조회하고, 해제는 스크립트 한 번으로 처리
+     * - 해당 사용자의 RESERVED 좌석만 해제하며, 그 외 좌석(예매 완료, 다른 사용자 선점 등)은 건너뜀
+     *
+     * @return 실제로 해제된 좌석 ID 목록
+     */
+    public List<Long> releaseSeats(Long concertId, Collection<Long> concertSeatIds, Long userId) {
+        List<SeatStatus> targets = new ArrayList<>();
+        for (SeatStatus seat : getSeatStatuses(concertId, concertSeatIds).values()) {
+            if (seat.isReserved() && userId.equals(seat.getUserId())) {
+                targets.add(seat);
+            } else {
+                log.warn("다중 좌석 해제 스킵: concertId={}, concertSeatId={}, userId={}, currentStatus={}",
+                        concertId, seat.getSeatId(), userId, seat.getStatus());
+            }
+        }
+
+        List<Long> releasedIds = releaseSeatsAndPublish(concertId, targets, true);
+        log.info("다중 좌석 선점 해제 완료: concertId={}, userId={}, 요청={}석, 해제={}석",
+                concertId, userId, concertSeatIds.size(), releasedIds.size());
+        return releasedIds;
+    }
+
+    /**
+     * 여러 좌석을 한 번에 강제 해제 (권한 검증 없음, 시스템/관리자용)
+     *
+     * @return 실제로 해제된 좌석 ID 목록
+     */
+    public List<Long> forceReleaseSeats(Long concertId, Collection<Long> concertSeatIds) {
+        Collection<SeatStatus> targets = getSeatStatuses(concertId, concertSeatIds).values();
+
+        List<Long> releasedIds = releaseSeatsAndPublish(concertId, targets, false);
+        log.info("다중 좌석 강제 해제 완료: concertId={}, 요청={}석, 해제={}석",
+                concertId, concertSeatIds.size(), releasedIds.size());
+        return releasedIds;
+    }
+
+    /**
+     * 다중 좌석 해제 스크립트 실행 후 해제된 좌석마다 실시간 이벤트 발행
+     */
+    private List<Long> releaseSeatsAndPublish(Long concertId, Collection<SeatStatus> targets, boolean requireReserved) {
+        List<SeatStatus> released = seatRedisAdapter.releaseSeats(concertId, targets, requireReserved,
+                Duration.ofHours(seatProperties.getReservation().getLastUpdateTtlHours()));
+
+        List<Long> releasedIds = new ArrayList<>(released.size());
+        for (SeatStatus seat : released) {
+            publishSeatUpdateSafely(seat);
+            releasedIds.add(seat.getSeatId());
+        }
+        return releasedIds;
+    }
+
     /**
      * 좌석 예매 완료 처리
      * ⚠️ 사용하지 않는 메서드
@@ -400,7 +436,7 @@ public class SeatStatusService {
                     .seatInfo(currentSeat.getSeatInfo())
                     .build();
 
-            updateSeatStatus(bookedStatus);
+            updateSeatStatus(bookedStatus, currentSeat.getUserId());
             removeSeatTTLKey(concertId, concertSeatId);
 
             log.info("좌석 예매 완료: concertId={}, concertSeatId={}, userId={}",
@@ -416,33 +452,115 @@ public class SeatStatusService {
         }
     }
 
+    /**
+     * 예매의 여러 좌석을 한 번에 예매 완료 처리 (BOOKED로 변경)
+     * - 좌석 상태를 HMGET 한 번으로 조회하고, 변경은 스크립트 한 번으로 처리
+     * - 만료되지 않은 선점 좌석만 변경하며, 이미 예매 완료된 좌석은 성공으로 간주 (웹훅 중복 처리 대비)
+     *
+     * @return 예매 완료 상태인 좌석 ID 목록 (요청 중 누락된 좌석은 예매 실패)
+     */
+    public List<Long> bookSeats(Long concertId, Collection<Long> concertSeatIds) {
+        List<SeatStatus> targets = new ArrayList<>();
+        List<Long> bookedIds = new ArrayList<>();
+        for (SeatStatus seat : getSeatStatuses(concertId, concertSeatIds).values()) {
+            if (seat.getStatus() == SeatStatusEnum.BOOKED) {
+                bookedIds.add(seat.getSeatId());
+            } else if (seat.isReserved() && !seat.isExpired()) {
+                targets.add(seat);
+            } else {
+                log.warn("예매 불가능한 좌석 상태: concertId={}, concertSeatId={}, currentState={}",
+                        concertId, seat.getSeatId(), seat.getStatus());
+            }
+        }
+
+        List<SeatStatus> booked = seatRedisAdapter.bookSeats(concertId, targets,
+                Duration.ofHours(seatProperties.getReservation().getLastUpdateTtlHours()));
+        for (SeatStatus seat : booked) {
+            publishSeatUpdateSafely(seat);
+            bookedIds.add(seat.getSeatId());
+        }
+
+        log.info("다중 좌석 예매 완료: concertId={}, 요청={}석, 예매={}석",
+                concertId, concertSeatIds.size(), bookedIds.size());
+        return bookedIds;
+    }
+
     /**
      * 만료된 선점 좌석들 정리 (시스템 운영용)
+     * - 전체 좌석을 조회하지 않고 만료 인덱스에서 만료 시각이 지난 좌석만 꺼내 해제 (O(만료 좌석 수))
+     *
+     * @return 해제된 좌석 수
      */
-    public void cleanupExpiredReservations(Long concertId) {
-        Map<Long, SeatStatus> allSeats = getAllSeatStatus(concertId);
-        LocalDateTime now = LocalDateTime.now();
+    public int cleanupExpiredReservations(Long concertId) {
+        return releaseExpiredReservations(concertId);
+    }
+
+    /**
+     * 만료 인덱스 기반 만료 선점 해제
+     * - 설정된 배치 크기만큼 꺼내 원자적으로 해제하고, 배치가 가득 찼으면 최대 배치 수까지 반복
+     * - 키 만료 이벤트(SeatExpirationEventListener)가 유실되어도 만료 스윕 스케줄러가 이 메서드로 해제를 보장
+     *
+     * @param concertId 콘서트 ID
+     * @return 해제된 좌석 수
+     */
+    public int releaseExpiredReservations(Long concertId) {
+        SeatProperties.Reservation reservation = seatProperties.getReservation();
+        Duration lastUpdateTtl = Duration.ofHours(reservation.getLastUpdateTtlHours());
+        int batchSize = reservation.getExpirySweepBatchSize();
 
-        for (SeatStatus seat : allSeats.values()) {
-            if (seat.isReserved() && seat.getExpiresAt() != null && now.isAfter(seat.getExpiresAt())) {
-                forceReleaseSeat(concertId, seat.getSeatId());
-                log.info("만료된 선점 좌석 해제: concertId={}, seatId={}, expiredUserId={}",
-                        concertId, seat.getSeatId(), seat.getUserId());
+        int releasedCount = 0;
+        for (int batch = 0; batch < reservation.getExpirySweepMaxBatches(); batch++) {
+            SeatRedisAdapter.ExpiredReleaseResult result =
+                    seatRedisAdapter.releaseExpiredReservations(concertId, batchSize, lastUpdateTtl);
+
+            result.released().forEach(this::publishSeatUpdateSafely);
+            releasedCount += result.released().size();
+
+            if (result.dueCount() < batchSize) {
+                break;
             }
         }
+
+        if (releasedCount > 0) {
+            log.info("만료된 선점 좌석 해제: concertId={}, releasedCount={}", concertId, releasedCount);
+        }
+        return releasedCount;
+    }
+
+    /**
+     * 만료 대기 중인 선점 좌석이 있는 콘서트 ID 목록 조회 (만료 스윕 대상)
+     */
+    public Set<Long> getConcertIdsWithPendingExpiry() {
+        return seatRedisAdapter.getExpiryConcertIds();
     }
 
     /**
      * 특정 사용자의 선점 좌석 조회
+     * - 사용자별 선점 좌석 인덱스로 보유 좌석만 조회 (O(보유 좌석 수))
+     * - 인덱스 항목이 오래된 경우를 대비해 현재 상태/사용자 재검증
      */
     public List<SeatStatus> getUserReservedSeats(Long concertId, Long userId) {
-        Map<Long, SeatStatus> allSeats = getAllSeatStatus(concertId);
-
-        return allSeats.values().stream()
+        return seatRedisAdapter.getUserIndexedSeats(concertId, userId).stream()
                 .filter(seat -> seat.isReserved() && userId.equals(seat.getUserId()))
+                .sorted(Comparator.comparing(SeatStatus::getSeatId))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 사용자별 선점 좌석 인덱스 정합성 복구 (운영용)
+     * 좌석 상태 Hash를 기준으로 누락된 인덱스 항목을 추가하고 유효하지 않은 항목을 제거
+     */
+    public Map<String, Object> rebuildUserSeatIndex(Long concertId) {
+        SeatRedisAdapter.UserIndexRepairResult result = seatRedisAdapter.rebuildUserIndex(concertId);
+
+        return Map.of(
+                "concertId", concertId,
+                "indexedSeats", result.indexedSeats(),
+                "removedEntries", result.removedEntries(),
+                "timestamp", LocalDateTime.now()
+        );
+    }
+
     /**
      * 콘서트 좌석의 마지막 업데이트 시간 조회
      */
@@ -457,19 +575,6 @@ public class SeatStatusService {
         }
     }
 
-    /**
-     * 콘서트 좌석의 마지막 업데이트 시간 설정
-     */
-    private void updateLastUpdateTime(Long concertId) {
-        try {
-            String key = SEAT_LAST_UPDATE_KEY_PREFIX + concertId;
-            RBucket<LocalDateTime> bucket = redissonClient.getBucket(key);
-            bucket.set(LocalDateTime.now(), seatProperties.getReservation().getLastUpdateTtlHours(), TimeUnit.HOURS);
-        } catch (Exception e) {
-            log.warn("마지막 업데이트 시간 설정 중 오류: concertId={}", concertId, e);
-        }
-    }
-
     /**
      * 현재 좌석 상태 요약 조회 (폴링용)
      */
@@ -561,6 +666,7 @@ public class SeatStatusService {
             
             // DB에서 모든 좌석을 AVAILABLE로 업데이트
             int updatedCount = concertSeatRepository.bulkUpdateAllSeatsToAvailable(concertId);
+            concertSeatSummaryService.markDirty(concertId);
             
             log.info("좌석 상태 초기화 완료: concertId={}, updatedSeats={}", concertId, updatedCount);
             
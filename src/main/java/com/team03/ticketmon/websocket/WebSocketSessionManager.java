@@ -38,9 +38,12 @@ public class WebSocketSessionManager {
 
     /**
      * 세션을 제거합니다.
+     * 같은 사용자의 새 세션으로 이미 교체된 경우에는 제거하지 않습니다. (이전 세션의 종료 콜백이 늦게 도착하는 경우)
+     *
+     * @return 해당 세션이 제거되었으면 true
      */
-    public void removeSession(Long userId) {
-        sessions.remove(userId);
+    public boolean removeSession(Long userId, WebSocketSession session) {
+        return sessions.remove(userId, session);
     }
 
     /**
@@ -50,6 +53,13 @@ public class WebSocketSessionManager {
         return sessions.get(userId);
     }
 
+    /**
+     * 현재 등록된 모든 세션의 스냅샷을 반환합니다. (헬스체크용)
+     */
+    public Map<Long, WebSocketSession> getSessions() {
+        return Map.copyOf(sessions);
+    }
+
     /**
      * 현재 연결된 모든 세션의 개수를 반환합니다.
      */
@@ -0,0 +1,143 @@
+package com.team03.ticketmon.websocket;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 사용자 ID → WebSocket 세션이 연결된 노드 ID를 Redis에 기록하는 분산 세션 레지스트리
+ * 알림 발행 측은 이 레지스트리로 사용자의 노드를 찾아 해당 노드 전용 토픽으로만 발행하므로,
+ * 모든 노드가 모든 메시지를 받아 버리는 브로드캐스트를 피할 수 있습니다.
+ *
+ * 📌 정합성:
+ * <ul>
+ *   <li>연결 시 등록, 종료 시 자신의 노드 값일 때만 제거 (다른 노드로 재연결한 경우 보호)</li>
+ *   <li>노드 장애로 종료 처리가 누락되어도 TTL 이후 자동 만료, 살아있는 세션은 헬스체크 스케줄러가 TTL 갱신</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebSocketSessionRegistry {
+
+    /**
+     * 자신의 노드 값일 때만 삭제 (KEYS[1]: 세션 노드 키, ARGV[1]: 노드 ID)
+     */
+    private static final String UNREGISTER_SCRIPT = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """;
+
+    // 헬스체크 주기 대비 TTL 배수 (갱신이 한두 번 늦어져도 만료되지 않도록)
+    private static final int TTL_MULTIPLIER = 3;
+
+    private final RedissonClient redissonClient;
+    private final RedisKeyGenerator keyGenerator;
+
+    @Value("${app.websocket.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${app.websocket.scheduler-health.delay-ms:60000}")
+    private long healthCheckDelayMs;
+
+    @Getter
+    private String nodeId;
+    private Duration entryTtl;
+
+    @PostConstruct
+    public void init() {
+        nodeId = (configuredNodeId == null || configuredNodeId.isBlank())
+                ? UUID.randomUUID().toString()
+                : configuredNodeId;
+        entryTtl = Duration.ofMillis(healthCheckDelayMs * TTL_MULTIPLIER);
+        log.info("WebSocket 세션 레지스트리 초기화: nodeId={}, ttl={}", nodeId, entryTtl);
+    }
+
+    /**
+     * 사용자의 세션을 현재 노드에 등록 (다른 노드에 등록되어 있었다면 덮어씀)
+     */
+    public void register(Long userId) {
+        redissonClient.getBucket(keyGenerator.getWebSocketSessionNodeKey(userId), StringCodec.INSTANCE)
+                .set(nodeId, entryTtl);
+    }
+
+    /**
+     * 사용자의 세션 등록을 제거 (현재 노드에 등록된 경우에만)
+     */
+    public void unregister(Long userId) {
+        redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                UNREGISTER_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(keyGenerator.getWebSocketSessionNodeKey(userId)),
+                nodeId
+        );
+    }
+
+    /**
+     * 현재 노드에 살아있는 세션들의 등록을 한 번의 배치로 갱신 (TTL 연장 및 누락 항목 복구)
+     */
+    public void refresh(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+        for (Long userId : userIds) {
+            batch.getBucket(keyGenerator.getWebSocketSessionNodeKey(userId), StringCodec.INSTANCE)
+                    .setAsync(nodeId, entryTtl);
+        }
+        batch.execute();
+    }
+
+    /**
+     * 여러 사용자의 세션이 연결된 노드 ID를 한 번에 조회 (MGET 1회)
+     *
+     * @return 사용자 ID → 노드 ID (연결된 세션이 없는 사용자는 제외)
+     */
+    public Map<Long, String> findNodeIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Long> userIdsByKey = new HashMap<>();
+        for (Long userId : userIds) {
+            userIdsByKey.put(keyGenerator.getWebSocketSessionNodeKey(userId), userId);
+        }
+
+        Map<String, String> nodeIdsByKey = redissonClient.getBuckets(StringCodec.INSTANCE)
+                .get(userIdsByKey.keySet().toArray(new String[0]));
+
+        Map<Long, String> result = new HashMap<>(nodeIdsByKey.size());
+        nodeIdsByKey.forEach((key, ownerNodeId) -> result.put(userIdsByKey.get(key), ownerNodeId));
+        return result;
+    }
+
+    /**
+     * 사용자의 세션이 연결된 노드 ID 조회
+     *
+     * @return 노드 ID, 연결된 세션이 없으면 null
+     */
+    public String findNodeId(Long userId) {
+        return redissonClient.<String>getBucket(keyGenerator.getWebSocketSessionNodeKey(userId), StringCodec.INSTANCE)
+                .get();
+    }
+}
@@ -7,6 +7,7 @@ import com.team03.ticketmon.queue.service.WaitingQueueService;
 import com.team03.ticketmon.websocket.MessageType;
 import com.team03.ticketmon.websocket.WebSocketPayloadKeys;
 import com.team03.ticketmon.websocket.WebSocketSessionManager;
+import com.team03.ticketmon.websocket.WebSocketSessionRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -28,6 +29,7 @@ import java.util.Map;
 public class CustomWebSocketHandler extends TextWebSocketHandler {
 
     private final WebSocketSessionManager sessionManager; // 직접 관리 대신 매니저 주입
+    private final WebSocketSessionRegistry sessionRegistry; // 사용자 → 노드 라우팅 정보 (Redis)
     private final ObjectMapper objectMapper;
     private final WaitingQueueService waitingQueueService; //  <-- 이 줄을 추가합니다.
 
@@ -57,6 +59,7 @@ public class CustomWebSocketHandler extends TextWebSocketHandler {
             }
 
             sessionManager.addSession(userId, session);
+            sessionRegistry.register(userId);
             log.debug("WebSocket 연결됨. 사용자: {}, 세션 ID: {}", userId, session.getId());
         } else {
             log.warn("사용자 ID 또는 콘서트 ID 없이 WebSocket 연결 시도됨. 세션 ID: {}, URI: {}", session.getId(), session.getUri());
@@ -88,7 +91,9 @@ public class CustomWebSocketHandler extends TextWebSocketHandler {
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
         Long userId = extractUserId(session);
         if (userId != null) {
-            sessionManager.removeSession(userId);
+            if (sessionManager.removeSession(userId, session)) {
+                sessionRegistry.unregister(userId);
+            }
             log.debug("WebSocket 연결 종료됨. 사용자: {}, 세션 ID: {}, 상태: {}", userId, session.getId(), status);
         }
     }
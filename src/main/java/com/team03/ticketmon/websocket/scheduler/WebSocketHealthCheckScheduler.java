@@ -1,13 +1,18 @@
 package com.team03.ticketmon.websocket.scheduler;
 
 import com.team03.ticketmon.websocket.WebSocketSessionManager;
+import com.team03.ticketmon.websocket.WebSocketSessionRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 주기적으로 WebSocket 연결 현황을 로깅하여 모니터링하는 스케줄러
+ * 로깅과 함께 닫힌 세션을 정리하고, 살아있는 세션의 노드 등록(세션 레지스트리 TTL)을 갱신합니다.
  */
 @Slf4j
 @Component
@@ -15,12 +20,15 @@ import org.springframework.stereotype.Component;
 public class WebSocketHealthCheckScheduler {
 
     private final WebSocketSessionManager sessionManager;
+    private final WebSocketSessionRegistry sessionRegistry;
 
     /**
      * 주기적으로 현재 활성 WebSocket 연결 수를 로깅합니다.
      */
     @Scheduled(fixedDelayString = "${app.websocket.scheduler-health.delay-ms:60000}")
     public void logWebSocketStatus() {
+        syncSessionRegistry();
+
         int sessionCount = sessionManager.getSessionCount();
         if (sessionCount > 0) {
             log.debug("[WebSocket-Status] 현재 활성 WebSocket 연결 수: {}", sessionCount);
@@ -29,4 +37,26 @@ public class WebSocketHealthCheckScheduler {
             log.debug("[WebSocket-Status] 현재 활성 WebSocket 연결이 없습니다.");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 닫힌 세션은 로컬/레지스트리에서 제거하고, 열린 세션은 레지스트리 등록을 갱신
+     */
+    private void syncSessionRegistry() {
+        List<Long> openUserIds = new ArrayList<>();
+
+        sessionManager.getSessions().forEach((userId, session) -> {
+            if (session.isOpen()) {
+                openUserIds.add(userId);
+            } else if (sessionManager.removeSession(userId, session)) {
+                sessionRegistry.unregister(userId);
+                log.debug("[WebSocket-Status] 닫힌 세션 정리: 사용자={}, 세션ID={}", userId, session.getId());
+            }
+        });
+
+        try {
+            sessionRegistry.refresh(openUserIds);
+        } catch (Exception e) {
+            log.warn("[WebSocket-Status] 세션 레지스트리 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.team03.ticketmon.websocket.subscriber;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.dto.AdmissionBatchEvent;
 import com.team03.ticketmon.queue.dto.AdmissionEvent;
+import com.team03.ticketmon.queue.dto.RankUpdateBatchEvent;
 import com.team03.ticketmon.queue.dto.RankUpdateEvent;
 import com.team03.ticketmon.websocket.MessageType;
 import com.team03.ticketmon.websocket.WebSocketPayloadKeys;
+import com.team03.ticketmon.websocket.WebSocketSessionRegistry;
 import com.team03.ticketmon.websocket.handler.CustomWebSocketHandler;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
@@ -17,8 +21,8 @@ import java.io.IOException;
 import java.util.Map;
 
 /**
- * Redis의 'admission-channel' 토픽을 구독(Subscribe)하는 리스너
- * 메시지가 발행되면 이를 수신하여 WebSocket을 통해 특정 클라이언트에게 알림을 전달
+ * Redis의 현재 노드 전용 알림 토픽('admission-channel:{nodeId}', 'rank-update-channel:{nodeId}')을 구독(Subscribe)하는 리스너
+ * 발행 측이 사용자의 세션이 연결된 노드로만 메시지를 보내므로, 수신한 메시지는 모두 이 노드의 세션 대상입니다.
  */
 @Slf4j
 @Component
@@ -28,6 +32,7 @@ public class RedisMessageSubscriber {
     private final ObjectMapper objectMapper;
     private final CustomWebSocketHandler webSocketHandler;
     private final QueueRedisAdapter queueRedisAdapter;
+    private final WebSocketSessionRegistry sessionRegistry;
 
     /**
      * 빈(Bean)이 생성되고 의존성 주입이 완료된 후, 자동으로 Redis 토픽 구독을 시작
@@ -44,56 +49,79 @@ public class RedisMessageSubscriber {
      * 입장 알림 토픽을 구독
      */
     private void subscribeToAdmissionTopic() {
-        RTopic topic = queueRedisAdapter.getAdmissionTopic();
+        RTopic topic = queueRedisAdapter.getAdmissionTopic(sessionRegistry.getNodeId());
 
         topic.addListener(CharSequence.class, (channel, msg) -> {
             log.debug("[입장 알림] Redis 채널에서 메시지 수신. 채널: {}, 원본 메시지: {}", channel, msg);
             try {
-                // 1. 수신된 JSON 메시지를 AdmissionEvent 객체로 역직렬화
-                AdmissionEvent event = objectMapper.readValue(msg.toString(), AdmissionEvent.class);
-                log.debug("[입장 알림] 이벤트 수신 완료. 사용자: {}", event.userId());
-
-                // 2. WebSocket 핸들러를 통해 해당 사용자에게 전송할 메시지(Payload)를 구성
-                Map<String, Object> payload = Map.of(
-                        WebSocketPayloadKeys.TYPE, MessageType.ADMIT.name(),
-                        WebSocketPayloadKeys.ACCESS_KEY, event.accessKey()
-                );
-
-                // 3. 구성된 메시지를 실제 클라이언트에게 전송
-                webSocketHandler.sendMessageToUser(event.userId(), payload);
+                // 1. 수신된 JSON 메시지를 역직렬화 (배치 이벤트는 admissions 필드를 가짐)
+                JsonNode root = objectMapper.readTree(msg.toString());
+                if (root.has("admissions")) {
+                    AdmissionBatchEvent batch = objectMapper.treeToValue(root, AdmissionBatchEvent.class);
+                    log.debug("[입장 알림] 배치 이벤트 수신 완료. 사용자 수: {}", batch.admissions().size());
+                    batch.admissions().forEach(this::sendAdmission);
+                } else {
+                    AdmissionEvent event = objectMapper.treeToValue(root, AdmissionEvent.class);
+                    log.debug("[입장 알림] 이벤트 수신 완료. 사용자: {}", event.userId());
+                    sendAdmission(event);
+                }
 
             } catch (IOException e) {
                 // 메시지 파싱 또는 처리 실패는 데이터 형식 문제일 수 있으므로 ERROR 레벨로 기록
                 log.error("[입장 알림] 수신된 Redis 메시지 처리 중 오류 발생!", e);
             }
         });
-        log.info("[입장 알림] Redis Pub/Sub 구독 시작.");
+        log.info("[입장 알림] Redis Pub/Sub 구독 시작. 채널: {}", topic.getChannelNames());
+    }
+
+    /**
+     * 입장 허가 이벤트를 해당 사용자의 WebSocket으로 전송
+     */
+    private void sendAdmission(AdmissionEvent event) {
+        // WebSocket 핸들러를 통해 해당 사용자에게 전송할 메시지(Payload)를 구성하여 전송
+        Map<String, Object> payload = Map.of(
+                WebSocketPayloadKeys.TYPE, MessageType.ADMIT.name(),
+                WebSocketPayloadKeys.ACCESS_KEY, event.accessKey()
+        );
+        webSocketHandler.sendMessageToUser(event.userId(), payload);
     }
 
     /**
      * 순위 업데이트 토픽을 구독
      */
     private void subscribeToRankUpdateTopic() {
-        RTopic topic = queueRedisAdapter.getRankUpdateTopic();
+        RTopic topic = queueRedisAdapter.getRankUpdateTopic(sessionRegistry.getNodeId());
 
         topic.addListener(CharSequence.class, (channel, msg) -> {
             log.debug("[순위 알림] Redis 채널에서 메시지 수신. 채널: {}, 원본 메시지: {}", channel, msg);
             try {
-                // 1. 순위 업데이트 이벤트 역직렬화
-                RankUpdateEvent event = objectMapper.readValue(msg.toString(), RankUpdateEvent.class);
-                log.debug("[순위 알림] 이벤트 수신 완료. 사용자: {}", event.userId());
-
-                // 2. WebSocket 핸들러를 통해 메시지 전송
-                Map<String, Object> payload = Map.of(
-                        WebSocketPayloadKeys.TYPE, MessageType.RANK_UPDATE.name(),
-                        WebSocketPayloadKeys.RANK, event.rank()
-                );
-                webSocketHandler.sendMessageToUser(event.userId(), payload);
+                // 1. 순위 업데이트 이벤트 역직렬화 (배치 이벤트는 ranks 필드를 가짐)
+                JsonNode root = objectMapper.readTree(msg.toString());
+                if (root.has("ranks")) {
+                    RankUpdateBatchEvent batch = objectMapper.treeToValue(root, RankUpdateBatchEvent.class);
+                    log.debug("[순위 알림] 배치 이벤트 수신 완료. 사용자 수: {}", batch.ranks().size());
+                    batch.ranks().forEach(this::sendRankUpdate);
+                } else {
+                    RankUpdateEvent event = objectMapper.treeToValue(root, RankUpdateEvent.class);
+                    log.debug("[순위 알림] 이벤트 수신 완료. 사용자: {}", event.userId());
+                    sendRankUpdate(event);
+                }
 
             } catch (IOException e) {
                 log.error("[순위 알림] 수신된 메시지 처리 중 오류 발생!", e);
             }
         });
-        log.info("[순위 알림] Redis Pub/Sub 구독 시작.");
+        log.info("[순위 알림] Redis Pub/Sub 구독 시작. 채널: {}", topic.getChannelNames());
+    }
+
+    /**
+     * 순위 업데이트 이벤트를 해당 사용자의 WebSocket으로 전송
+     */
+    private void sendRankUpdate(RankUpdateEvent event) {
+        Map<String, Object> payload = Map.of(
+                WebSocketPayloadKeys.TYPE, MessageType.RANK_UPDATE.name(),
+                WebSocketPayloadKeys.RANK, event.rank()
+        );
+        webSocketHandler.sendMessageToUser(event.userId(), payload);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,183 @@
+package com.team03.ticketmon._global.config.cache;
+
+import com.team03.ticketmon._global.config.CacheConfig;
+import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 2단계 캐시(L1 로컬 + L2 Redis)의 노드 간 L1 무효화를 검증하는 테스트 클래스.
+ * 같은 Redis를 바라보는 두 개의 캐시 매니저(노드 A, B)를 만들어,
+ * 한 노드의 변경/삭제가 다른 노드의 L1에 반영되는지 확인합니다.
+ */
+@Testcontainers
+class TwoLevelCacheManagerTest {
+
+    private static final String CACHE_NAME = "concertDetail";
+
+    @Container
+    public static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node();
+        nodeB = new Node();
+        nodeA.cache().clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    @DisplayName("한 노드에서 캐시를 삭제하면 다른 노드의 L1에서도 제거된다")
+    void evictOnOneNodeInvalidatesLocalCacheOnOther() {
+        // given: A가 저장하고 B가 조회하여 B의 L1에 적재
+        nodeA.cache().put(1L, "concert-1");
+        assertThat(nodeB.cache().get(1L, String.class)).isEqualTo("concert-1");
+        assertThat(nodeB.twoLevelCache().isCachedLocally(1L)).isTrue();
+
+        // when
+        nodeA.cache().evict(1L);
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> !nodeB.twoLevelCache().isCachedLocally(1L));
+        assertThat(nodeB.cache().get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("한 노드에서 값을 갱신하면 다른 노드는 L1의 이전 값 대신 새 값을 조회한다")
+    void putOnOneNodeRefreshesOtherNode() {
+        // given
+        nodeA.cache().put(1L, "v1");
+        assertThat(nodeB.cache().get(1L, String.class)).isEqualTo("v1");
+
+        // when
+        nodeA.cache().put(1L, "v2");
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> "v2".equals(nodeB.cache().get(1L, String.class)));
+    }
+
+    @Test
+    @DisplayName("캐시 미스 후 채우기는 무효화를 발행하지 않고, 기존 값 덮어쓰기만 발행한다")
+    void missPopulationDoesNotPublishInvalidation() {
+        // given
+        AtomicInteger invalidationMessages = new AtomicInteger();
+        nodeB.redissonClient.getTopic(RedisKeyGenerator.CACHE_INVALIDATION_TOPIC)
+                .addListener(String.class, (channel, message) -> invalidationMessages.incrementAndGet());
+        // setUp의 clear() 무효화 메시지가 전달된 뒤부터 집계
+        await().pollDelay(Duration.ofMillis(300)).until(() -> true);
+        invalidationMessages.set(0);
+
+        // when: 비어 있는 키 채우기 (@Cacheable 미스)
+        nodeA.cache().put(1L, "v1");
+
+        // then
+        await().during(Duration.ofMillis(300)).atMost(Duration.ofSeconds(2))
+                .until(() -> invalidationMessages.get() == 0);
+        assertThat(nodeB.cache().get(1L, String.class)).isEqualTo("v1");
+
+        // when: 기존 값 덮어쓰기 (@CachePut)
+        nodeA.cache().put(1L, "v2");
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> invalidationMessages.get() == 1);
+    }
+
+    @Test
+    @DisplayName("전체 삭제(allEntries)도 다른 노드의 L1 전체를 비운다")
+    void clearOnOneNodeClearsOtherNode() {
+        // given
+        nodeA.cache().put(1L, "concert-1");
+        nodeA.cache().put(2L, "concert-2");
+        nodeB.cache().get(1L);
+        nodeB.cache().get(2L);
+        assertThat(nodeB.twoLevelCache().getLocalSize()).isEqualTo(2);
+
+        // when
+        nodeA.cache().clear();
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> !nodeB.twoLevelCache().isCachedLocally(1L)
+                        && !nodeB.twoLevelCache().isCachedLocally(2L));
+    }
+
+    @Test
+    @DisplayName("L1 설정이 없는 캐시는 Redis 캐시를 그대로 사용한다")
+    void cacheWithoutLocalSpecIsRedisOnly() {
+        assertThat(nodeA.cacheManager.getCache("seatInfo")).isNotInstanceOf(TwoLevelCache.class);
+    }
+
+    /**
+     * 독립된 Redis 연결과 캐시 매니저를 가진 하나의 애플리케이션 노드
+     */
+    private static class Node {
+        private final LettuceConnectionFactory connectionFactory;
+        private final RedissonClient redissonClient;
+        private final CacheManager cacheManager;
+
+        Node() {
+            connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+
+            RedissonConfig redissonConfig = new RedissonConfig();
+            ReflectionTestUtils.setField(redissonConfig, "redisHost", redis.getHost());
+            ReflectionTestUtils.setField(redissonConfig, "redisPort", redis.getMappedPort(6379));
+            redissonClient = redissonConfig.redissonClient();
+
+            LocalCacheProperties properties = new LocalCacheProperties();
+            LocalCacheProperties.Spec spec = new LocalCacheProperties.Spec();
+            spec.setMaximumSize(100);
+            spec.setTtl(Duration.ofMinutes(1));
+            properties.getCaches().put(CACHE_NAME, spec);
+
+            cacheManager = new CacheConfig().cacheManager(connectionFactory, redissonClient, properties);
+        }
+
+        Cache cache() {
+            return cacheManager.getCache(CACHE_NAME);
+        }
+
+        TwoLevelCache twoLevelCache() {
+            return (TwoLevelCache) cache();
+        }
+
+        void close() {
+            try {
+                ((TwoLevelCacheManager) cacheManager).destroy();
+            } finally {
+                redissonClient.shutdown();
+                connectionFactory.destroy();
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.team03.ticketmon.auth.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JWT 클레임 파싱/캐시 테스트")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "this-is-a-very-long-and-secure-test-secret-key-for-jwt-provider";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessExpirationMs", 600_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshExpirationMs", 86_400_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "claimsCacheMaximumSize", 100L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "claimsCacheMaxTtlMs", 300_000L);
+        jwtTokenProvider.init();
+    }
+
+    @Test
+    void 한번_검증한_토큰은_캐시된_클레임을_재사용한다() {
+        // given
+        String token = jwtTokenProvider.generateToken(jwtTokenProvider.CATEGORY_ACCESS, 1L, "user", "ROLE_USER");
+
+        // when
+        JwtClaims first = jwtTokenProvider.getClaims(token);
+        JwtClaims second = jwtTokenProvider.getClaims(token);
+
+        // then
+        assertSame(first, second);
+        assertEquals(jwtTokenProvider.CATEGORY_ACCESS, jwtTokenProvider.getCategory(token));
+        assertEquals(1L, jwtTokenProvider.getUserId(token));
+        assertEquals("user", jwtTokenProvider.getUsername(token));
+        assertEquals(List.of("ROLE_USER"), jwtTokenProvider.getRoles(token));
+        assertFalse(jwtTokenProvider.isTokenExpired(token));
+    }
+
+    @Test
+    void getAuthentication_클레임으로_인증객체_생성() {
+        // given
+        String token = jwtTokenProvider.generateToken(jwtTokenProvider.CATEGORY_ACCESS, 7L, "user7", "ROLE_ADMIN");
+
+        // when
+        Authentication authentication = jwtTokenProvider.getAuthentication(token);
+
+        // then
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        assertEquals(7L, principal.getUserId());
+        assertEquals("user7", principal.getUsername());
+        assertEquals("ROLE_ADMIN", authentication.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void 만료된_토큰은_만료로_판단하고_클레임_조회시_예외() {
+        // given
+        String expiredToken = Jwts.builder()
+                .claim("category", jwtTokenProvider.CATEGORY_ACCESS)
+                .claim("userid", 1L)
+                .claim("username", "user")
+                .claim("role", "ROLE_USER")
+                .issuedAt(new Date(System.currentTimeMillis() - 120_000))
+                .expiration(new Date(System.currentTimeMillis() - 60_000))
+                .signWith(jwtTokenProvider.getSecretKey(), Jwts.SIG.HS256)
+                .compact();
+
+        // when & then
+        assertTrue(jwtTokenProvider.isTokenExpired(expiredToken));
+        assertThrows(BadCredentialsException.class, () -> jwtTokenProvider.getUserId(expiredToken));
+    }
+
+    @Test
+    void 다른_키로_서명된_토큰은_캐시되지_않고_예외() {
+        // given
+        String tampered = Jwts.builder()
+                .claim("category", jwtTokenProvider.CATEGORY_ACCESS)
+                .claim("userid", 1L)
+                .claim("username", "user")
+                .claim("role", "ROLE_ADMIN")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(
+                        "another-secret-key-another-secret-key-0123456789".getBytes()), Jwts.SIG.HS256)
+                .compact();
+
+        // when & then
+        assertThrows(BadCredentialsException.class, () -> jwtTokenProvider.isTokenExpired(tampered));
+        assertThrows(BadCredentialsException.class, () -> jwtTokenProvider.getAuthentication(tampered));
+    }
+
+    @Test
+    void evictRefreshClaims_사용자의_Refresh_클레임만_제거() {
+        // given
+        String refreshToken = jwtTokenProvider.generateToken(jwtTokenProvider.CATEGORY_REFRESH, 1L, "user", "ROLE_USER");
+        String accessToken = jwtTokenProvider.generateToken(jwtTokenProvider.CATEGORY_ACCESS, 1L, "user", "ROLE_USER");
+        JwtClaims cachedRefresh = jwtTokenProvider.getClaims(refreshToken);
+        JwtClaims cachedAccess = jwtTokenProvider.getClaims(accessToken);
+
+        // when
+        jwtTokenProvider.evictRefreshClaims(1L);
+
+        // then
+        assertNotSame(cachedRefresh, jwtTokenProvider.getClaims(refreshToken));
+        assertSame(cachedAccess, jwtTokenProvider.getClaims(accessToken));
+    }
+
+    @Test
+    void evictRefreshClaims_다른_사용자의_Refresh_클레임은_유지() {
+        // given
+        String refreshToken = jwtTokenProvider.generateToken(jwtTokenProvider.CATEGORY_REFRESH, 1L, "user", "ROLE_USER");
+        String otherRefreshToken = jwtTokenProvider.generateToken(jwtTokenProvider.CATEGORY_REFRESH, 2L, "other", "ROLE_USER");
+        JwtClaims cachedRefresh = jwtTokenProvider.getClaims(refreshToken);
+        JwtClaims cachedOtherRefresh = jwtTokenProvider.getClaims(otherRefreshToken);
+
+        // when
+        jwtTokenProvider.evictRefreshClaims(1L);
+        jwtTokenProvider.evictRefreshClaims(1L); // 이미 제거된 사용자도 예외 없이 처리
+
+        // then
+        assertNotSame(cachedRefresh, jwtTokenProvider.getClaims(refreshToken));
+        assertSame(cachedOtherRefresh, jwtTokenProvider.getClaims(otherRefreshToken));
+    }
+}
@@ -0,0 +1,110 @@
+package com.team03.ticketmon.concert.repository;
+
+import com.team03.ticketmon.concert.domain.Concert;
+import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
+import com.team03.ticketmon.concert.dto.ConcertDTO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 콘서트 목록 커서(keyset) 페이징 쿼리를 H2에서 검증하는 테스트 클래스.
+ */
+@DataJpaTest
+@DisplayName("ConcertRepository 커서 페이징 테스트")
+class ConcertRepositoryCursorTest {
+
+	private static final List<ConcertStatus> ACTIVE_STATUSES =
+		List.of(ConcertStatus.SCHEDULED, ConcertStatus.ON_SALE, ConcertStatus.SOLD_OUT);
+
+	@Autowired
+	private ConcertRepository concertRepository;
+
+	private List<Concert> activeConcerts;
+
+	@BeforeEach
+	void setUp() {
+		List<Concert> saved = concertRepository.saveAll(List.of(
+			concert("공연 A", 10, ConcertStatus.ON_SALE),
+			concert("공연 B", 5, ConcertStatus.SCHEDULED),
+			concert("공연 C", 10, ConcertStatus.SOLD_OUT),
+			concert("공연 D", 5, ConcertStatus.ON_SALE),
+			concert("공연 E", 7, ConcertStatus.COMPLETED),
+			concert("공연 F", 10, ConcertStatus.ON_SALE),
+			concert("공연 G", 3, ConcertStatus.CANCELLED),
+			concert("공연 H", 1, ConcertStatus.ON_SALE)
+		));
+		activeConcerts = saved.stream()
+			.filter(concert -> ACTIVE_STATUSES.contains(concert.getStatus()))
+			.sorted(Comparator.comparing(Concert::getConcertDate).thenComparing(Concert::getConcertId))
+			.toList();
+	}
+
+	@Test
+	@DisplayName("커서를 따라 끝까지 조회하면 (공연일, 콘서트 ID) 순서로 중복/누락 없이 모든 활성 콘서트를 반환한다")
+	void cursorPages_coverAllActiveConcertsInOrder() {
+		// given
+		int size = 2;
+		List<Long> visited = new ArrayList<>();
+
+		// when
+		List<ConcertDTO> page = concertRepository.findConcertListFirstPage(ACTIVE_STATUSES, PageRequest.of(0, size));
+		while (!page.isEmpty()) {
+			page.forEach(dto -> visited.add(dto.getConcertId()));
+			ConcertDTO last = page.get(page.size() - 1);
+			page = concertRepository.findConcertListAfter(ACTIVE_STATUSES, last.getConcertDate(),
+				last.getConcertId(), PageRequest.of(0, size));
+		}
+
+		// then
+		assertThat(visited).containsExactlyElementsOf(
+			activeConcerts.stream().map(Concert::getConcertId).toList());
+	}
+
+	@Test
+	@DisplayName("목록 조회 결과는 콘서트 정보를 DTO로 바로 채운다")
+	void firstPage_projectsConcertFields() {
+		// when
+		List<ConcertDTO> page = concertRepository.findConcertListFirstPage(ACTIVE_STATUSES, PageRequest.of(0, 1));
+
+		// then
+		Concert first = activeConcerts.get(0);
+		assertThat(page).singleElement().satisfies(dto -> {
+			assertThat(dto.getConcertId()).isEqualTo(first.getConcertId());
+			assertThat(dto.getTitle()).isEqualTo("공연 H");
+			assertThat(dto.getVenueName()).isEqualTo("테스트홀");
+			assertThat(dto.getStatus()).isEqualTo(ConcertStatus.ON_SALE);
+			assertThat(dto.getStartTime()).isEqualTo(LocalTime.of(19, 0));
+		});
+	}
+
+	private Concert concert(String title, int daysLater, ConcertStatus status) {
+		LocalDate concertDate = LocalDate.now().plusDays(daysLater);
+		return Concert.builder()
+			.title(title)
+			.artist("테스트")
+			.sellerId(1L)
+			.venueName("테스트홀")
+			.concertDate(concertDate)
+			.startTime(LocalTime.of(19, 0))
+			.endTime(LocalTime.of(21, 0))
+			.totalSeats(100)
+			.bookingStartDate(LocalDateTime.now().minusDays(1))
+			.bookingEndDate(concertDate.minusDays(1).atStartOfDay())
+			.status(status)
+			.build();
+	}
+}
@@ -0,0 +1,246 @@
+package com.team03.ticketmon.concert.service;
+
+import com.sun.net.httpserver.HttpServer;
+import com.team03.ticketmon._global.client.AiRequestRateLimiter;
+import com.team03.ticketmon._global.client.TogetherAiClient;
+import com.team03.ticketmon._global.config.AiBatchProperties;
+import com.team03.ticketmon._global.config.AiServiceProperties;
+import com.team03.ticketmon._global.config.AiSummaryConditionProperties;
+import com.team03.ticketmon.concert.domain.Concert;
+import com.team03.ticketmon.concert.domain.Review;
+import com.team03.ticketmon.concert.dto.AiBatchSummaryResultDTO;
+import com.team03.ticketmon.concert.dto.ReviewChangeDetectionDTO;
+import com.team03.ticketmon.concert.repository.ConcertRepository;
+import com.team03.ticketmon.concert.repository.ReviewRepository;
+import com.team03.ticketmon.concert.util.ReviewChecksumGenerator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * AI 배치 요약이 제한된 동시성으로 처리되고, 느린 콘서트가 제한 시간 초과로 격리되는지 검증하는 테스트 클래스.
+ * Together AI API는 로컬 HTTP 스텁 서버로 대체하고, 저장소/업데이트 조건 서비스는 Mock으로 대체합니다.
+ */
+class AiBatchSummaryServiceTest {
+
+	private static final long STUB_DELAY_MS = 300;
+	private static final long SLOW_STUB_DELAY_MS = 3000;
+	private static final String SLOW_MARKER = "SLOW";
+	private static final String SUMMARY = "### 전체 평가:\\n무대 연출과 음향이 훌륭하고 관객 호응이 뜨거운 공연이었습니다.";
+
+	private final AtomicInteger aiInFlight = new AtomicInteger();
+	private final AtomicInteger aiMaxInFlight = new AtomicInteger();
+	private final AtomicInteger aiCallCount = new AtomicInteger();
+
+	private HttpServer aiStub;
+	private ExecutorService aiStubExecutor;
+	private AiServiceProperties aiProperties;
+	private AiBatchProperties batchProperties;
+	private ConcertRepository concertRepository;
+	private ReviewRepository reviewRepository;
+	private AiBatchSummaryService batchSummaryService;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		startAiStub();
+
+		aiProperties = new AiServiceProperties();
+		aiProperties.setApiKey("test-key");
+		aiProperties.setApiUrl("http://127.0.0.1:" + aiStub.getAddress().getPort() + "/v1/chat/completions");
+		aiProperties.setMaxRequestsPerMinute(0);
+
+		batchProperties = new AiBatchProperties();
+		batchProperties.setParallelism(4);
+		batchProperties.setConcertTimeoutSeconds(10);
+
+		concertRepository = mock(ConcertRepository.class);
+		reviewRepository = mock(ReviewRepository.class);
+		AiSummaryUpdateConditionService conditionService = mock(AiSummaryUpdateConditionService.class);
+		given(concertRepository.save(any(Concert.class))).willAnswer(invocation -> invocation.getArgument(0));
+		given(conditionService.checkNeedsUpdate(any(Concert.class), any(AiSummaryConditionProperties.class)))
+			.willReturn(ReviewChangeDetectionDTO.builder().needsUpdate(true).changeReason("COUNT_CHANGED").build());
+
+		TogetherAiClient aiClient = new TogetherAiClient(aiProperties, new RestTemplate(),
+			new AiRequestRateLimiter(aiProperties));
+		AiSummaryService aiSummaryService = new AiSummaryService(aiClient, new ReviewSelectorService(), aiProperties);
+
+		batchSummaryService = new AiBatchSummaryService();
+		ReflectionTestUtils.setField(batchSummaryService, "concertRepository", concertRepository);
+		ReflectionTestUtils.setField(batchSummaryService, "reviewRepository", reviewRepository);
+		ReflectionTestUtils.setField(batchSummaryService, "conditionService", conditionService);
+		ReflectionTestUtils.setField(batchSummaryService, "aiSummaryService", aiSummaryService);
+		ReflectionTestUtils.setField(batchSummaryService, "checksumGenerator", new ReviewChecksumGenerator());
+		ReflectionTestUtils.setField(batchSummaryService, "conditionProperties", new AiSummaryConditionProperties());
+		ReflectionTestUtils.setField(batchSummaryService, "batchProperties", batchProperties);
+	}
+
+	@AfterEach
+	void tearDown() {
+		batchSummaryService.shutdownExecutors();
+		aiStub.stop(0);
+		aiStubExecutor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("배치 처리 시간은 전체 AI 응답 시간의 합이 아니라 대상 수 / 동시 처리 수에 비례한다")
+	void processBatch_runsConcertsConcurrentlyWithinParallelism() {
+		// given: 콘서트 8건, 동시 처리 4건 → 직렬 처리 시 약 2.4초, 동시 처리 시 약 0.6초
+		List<Concert> concerts = concerts(8, 0);
+		batchSummaryService.initExecutors();
+
+		// when
+		long startedAt = System.nanoTime();
+		AiBatchSummaryResultDTO result = batchSummaryService.processBatch();
+		long elapsedMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+		// then
+		assertThat(result.getTotalProcessed()).isEqualTo(8);
+		assertThat(result.getSuccessCount()).isEqualTo(8);
+		assertThat(result.getFailCount()).isZero();
+		assertThat(aiCallCount.get()).isEqualTo(8);
+		assertThat(aiMaxInFlight.get()).isLessThanOrEqualTo(4);
+		assertThat(elapsedMs).isLessThan(8 * STUB_DELAY_MS / 2);
+		assertThat(concerts).allSatisfy(concert -> assertThat(concert.getAiSummary()).isNotBlank());
+	}
+
+	@Test
+	@DisplayName("제한 시간을 넘긴 콘서트만 실패 처리되고, 다른 콘서트 처리를 막지 않으며 요약도 저장되지 않는다")
+	void processBatch_slowConcertTimesOutWithoutBlockingOthers() {
+		// given: 제한 시간 1초, 첫 번째 콘서트만 AI 응답 3초
+		batchProperties.setParallelism(2);
+		batchProperties.setConcertTimeoutSeconds(1);
+		List<Concert> concerts = concerts(5, 1);
+		Concert slowConcert = concerts.get(0);
+		batchSummaryService.initExecutors();
+
+		// when
+		long startedAt = System.nanoTime();
+		AiBatchSummaryResultDTO result = batchSummaryService.processBatch();
+		long elapsedMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+		// then: 배치는 느린 응답을 기다리지 않고 종료
+		assertThat(result.getSuccessCount()).isEqualTo(4);
+		assertThat(result.getFailCount()).isEqualTo(1);
+		assertThat(elapsedMs).isLessThan(SLOW_STUB_DELAY_MS);
+		assertThat(concerts.subList(1, concerts.size()))
+			.allSatisfy(concert -> assertThat(concert.getAiSummary()).isNotBlank());
+
+		// then: 늦게 도착한 응답은 저장하지 않고 실패 정보만 기록
+		await().atMost(Duration.ofSeconds(5))
+			.until(() -> Integer.valueOf(1).equals(slowConcert.getAiSummaryRetryCount()));
+		assertThat(slowConcert.getAiSummary()).isNull();
+		assertThat(slowConcert.getAiSummaryLastFailedAt()).isNotNull();
+	}
+
+	@Test
+	@DisplayName("이전 배치가 실행 중이면 새 배치는 처리하지 않고 건너뛴다")
+	void processBatch_whileRunning_skipsOverlappingRun() {
+		// given
+		concerts(4, 0);
+		batchSummaryService.initExecutors();
+		CompletableFuture<AiBatchSummaryResultDTO> firstRun = CompletableFuture.supplyAsync(batchSummaryService::processBatch);
+		await().atMost(Duration.ofSeconds(5)).until(() -> aiInFlight.get() > 0);
+
+		// when
+		AiBatchSummaryResultDTO overlappingRun = batchSummaryService.processBatch();
+
+		// then
+		assertThat(overlappingRun.getTotalProcessed()).isZero();
+		assertThat(firstRun.join().getSuccessCount()).isEqualTo(4);
+		assertThat(aiCallCount.get()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("동시 처리 중에도 AI API 호출은 분당 최대 요청 수 간격으로 나뉘어 전송된다")
+	void processBatch_spacesAiCallsByRateLimit() {
+		// given: 분당 600건 → 호출 간격 100ms
+		aiProperties.setMaxRequestsPerMinute(600);
+		concerts(6, 0);
+		batchSummaryService.initExecutors();
+
+		// when
+		long startedAt = System.nanoTime();
+		AiBatchSummaryResultDTO result = batchSummaryService.processBatch();
+		long elapsedMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+		// then: 6번째 호출은 첫 호출 후 최소 500ms 뒤에 전송
+		assertThat(result.getSuccessCount()).isEqualTo(6);
+		assertThat(elapsedMs).isGreaterThanOrEqualTo(500);
+	}
+
+	/**
+	 * 배치 대상 콘서트 생성 (앞에서부터 slowCount건은 리뷰에 느린 응답 표시를 포함)
+	 */
+	private List<Concert> concerts(int count, int slowCount) {
+		List<Concert> concerts = new ArrayList<>();
+		for (long id = 1; id <= count; id++) {
+			Concert concert = Concert.builder().concertId(id).title("공연 " + id).build();
+			concerts.add(concert);
+
+			String marker = id <= slowCount ? SLOW_MARKER : "";
+			Review review = new Review();
+			review.setId(id);
+			review.setConcert(concert);
+			review.setTitle("후기");
+			review.setRating(5);
+			review.setDescription("무대 연출이 정말 멋진 공연이었습니다 " + marker);
+			given(reviewRepository.findValidReviewsForAiSummary(id)).willReturn(List.of(review));
+		}
+		given(concertRepository.findConcertsWithMinimumReviews(anyInt())).willReturn(concerts);
+		return concerts;
+	}
+
+	/**
+	 * Together AI 채팅 API 스텁 서버 (동시 처리 중인 요청 수를 기록하고, 프롬프트에 느린 응답 표시가 있으면 더 오래 지연)
+	 */
+	private void startAiStub() throws IOException {
+		aiStubExecutor = Executors.newFixedThreadPool(16);
+		aiStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 64);
+		aiStub.setExecutor(aiStubExecutor);
+		aiStub.createContext("/v1/chat/completions", exchange -> {
+			int inFlight = aiInFlight.incrementAndGet();
+			aiMaxInFlight.accumulateAndGet(inFlight, Math::max);
+			aiCallCount.incrementAndGet();
+			try {
+				String requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+				Thread.sleep(requestBody.contains(SLOW_MARKER) ? SLOW_STUB_DELAY_MS : STUB_DELAY_MS);
+				byte[] body = ("{\"choices\":[{\"message\":{\"role\":\"assistant\",\"content\":\"" + SUMMARY + "\"}}]}")
+					.getBytes(StandardCharsets.UTF_8);
+				exchange.getResponseHeaders().add("Content-Type", "application/json");
+				exchange.sendResponseHeaders(200, body.length);
+				try (OutputStream out = exchange.getResponseBody()) {
+					out.write(body);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				aiInFlight.decrementAndGet();
+				exchange.close();
+			}
+		});
+		aiStub.start();
+	}
+}
@@ -0,0 +1,169 @@
+package com.team03.ticketmon.concert.service;
+
+import com.team03.ticketmon.concert.domain.Concert;
+import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
+import com.team03.ticketmon.concert.repository.ConcertRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Answers;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+/**
+ * 콘서트 검색 색인이 기존 LIKE 검색과 같은 결과 집합을 반환하는지 H2에서 검증하는 테스트 클래스.
+ */
+@DataJpaTest
+@Import(ConcertSearchIndex.class)
+@DisplayName("ConcertSearchIndex 검색 색인 테스트")
+class ConcertSearchIndexTest {
+
+	@Autowired
+	private ConcertRepository concertRepository;
+
+	@Autowired
+	private ConcertSearchIndex concertSearchIndex;
+
+	@MockitoBean(answers = Answers.RETURNS_DEEP_STUBS)
+	private RedissonClient redissonClient;
+
+	@MockitoBean
+	private CacheManager cacheManager;
+
+	private final Cache searchResultsCache = mock(Cache.class);
+
+	@BeforeEach
+	void setUp() {
+		given(cacheManager.getCache("searchResults")).willReturn(searchResultsCache);
+		concertRepository.saveAll(List.of(
+			concert("아이유 콘서트 2025 HER", "아이유", "올림픽공원 KSPO DOME", 10, ConcertStatus.ON_SALE),
+			concert("IU World Tour", "IU", "잠실종합운동장 주경기장", 20, ConcertStatus.SCHEDULED),
+			concert("BTS 월드투어 서울", "방탄소년단", "서울월드컵경기장", 5, ConcertStatus.SOLD_OUT),
+			concert("뉴진스 팬미팅", "NewJeans", "올림픽공원 체조경기장", 15, ConcertStatus.ON_SALE),
+			concert("세븐틴 콘서트 FOLLOW", "SEVENTEEN", "고척스카이돔", 30, ConcertStatus.SCHEDULED),
+			concert("아이유 앵콜 콘서트", "아이유", "KSPO DOME", 40, ConcertStatus.COMPLETED),
+			concert("취소된 서울 공연", "아이브", "서울 블루스퀘어", 25, ConcertStatus.CANCELLED),
+			concert("Coldplay Music of the Spheres", "Coldplay", "고양종합운동장", 12, ConcertStatus.ON_SALE),
+			concert("랜드 페스티벌", "여러 아티스트", "인천 파라다이스시티", 8, ConcertStatus.ON_SALE),
+			concert("Seoul Jazz Festival", "Various", "올림픽공원 88잔디마당", 18, ConcertStatus.SCHEDULED),
+			concert("올림픽 기념 공연", "합창단", "세종문화회관", 50, ConcertStatus.ON_SALE)
+		));
+		concertSearchIndex.rebuild();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"아이유", "아이", "유", "콘서트", "서울", "올림픽공원", "체조경기장", "iu", "IU",
+		"tour", "dome", "kspo dome", "o", "월드", "투어 서울", "페스티벌", "festival", "88", "없는 공연", "zz"})
+	@DisplayName("검색 색인 결과 집합이 LIKE 검색 결과 집합과 같다")
+	void search_matchesLikeQuery(String keyword) {
+		// when
+		List<Long> rankedIds = concertSearchIndex.search(keyword);
+		Set<Long> indexResult = concertRepository.findActiveByConcertIdIn(rankedIds).stream()
+			.map(Concert::getConcertId)
+			.collect(Collectors.toSet());
+
+		// then
+		Set<Long> likeResult = concertRepository.findByKeyword(keyword).stream()
+			.map(Concert::getConcertId)
+			.collect(Collectors.toSet());
+		assertThat(indexResult).isEqualTo(likeResult);
+	}
+
+	@Test
+	@DisplayName("제목 일치가 공연장명 일치보다 높은 순위로 반환되고, 동점은 공연일 순으로 반환된다")
+	void search_ranksTitleMatchesFirst() {
+		// when
+		List<Long> rankedIds = concertSearchIndex.search("올림픽");
+		Map<Long, String> titles = concertRepository.findAllById(rankedIds).stream()
+			.collect(Collectors.toMap(Concert::getConcertId, Concert::getTitle));
+
+		// then: 공연일이 가장 늦어도 제목 일치가 먼저, 공연장명 일치는 공연일 오름차순
+		assertThat(rankedIds).extracting(titles::get)
+			.containsExactly("올림픽 기념 공연", "아이유 콘서트 2025 HER", "뉴진스 팬미팅", "Seoul Jazz Festival");
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 색인을 갱신하면 커밋 이후에 반영된다")
+	void index_appliesAfterCommit() {
+		// given: 픽스처는 롤백하고 새 트랜잭션에서 저장하지 않은 콘서트를 색인에만 추가
+		TestTransaction.flagForRollback();
+		TestTransaction.end();
+		TestTransaction.start();
+		Concert concert = concert("커밋 이후 반영 공연", "테스트", "테스트홀", 3, ConcertStatus.ON_SALE);
+		concert.setConcertId(999_999L);
+
+		// when
+		concertSearchIndex.index(concert);
+
+		// then
+		assertThat(concertSearchIndex.search("커밋 이후")).isEmpty();
+		TestTransaction.flagForCommit();
+		TestTransaction.end();
+		assertThat(concertSearchIndex.search("커밋 이후")).containsExactly(999_999L);
+
+		// when & then: 제거
+		concertSearchIndex.remove(999_999L);
+		assertThat(concertSearchIndex.search("커밋 이후")).isEmpty();
+		then(searchResultsCache).should(times(2)).clear();
+	}
+
+	@Test
+	@DisplayName("다른 노드의 변경 알림을 받으면 해당 콘서트를 DB에서 다시 색인하고 검색 결과 캐시를 비운다")
+	void handleRemoteUpdate_reindexesFromDatabase() {
+		// given: 다른 노드에서 제목이 변경된 콘서트 (이 노드의 색인은 이전 제목)
+		Concert concert = concertRepository.findAll().stream()
+			.filter(c -> c.getTitle().equals("뉴진스 팬미팅"))
+			.findFirst()
+			.orElseThrow();
+		concert.setTitle("뉴진스 단독 콘서트");
+		concertRepository.saveAndFlush(concert);
+
+		// when
+		concertSearchIndex.handleRemoteUpdate("other-node:" + concert.getConcertId());
+
+		// then
+		assertThat(concertSearchIndex.search("단독 콘서트")).containsExactly(concert.getConcertId());
+		assertThat(concertSearchIndex.search("팬미팅")).isEmpty();
+		then(searchResultsCache).should().clear();
+	}
+
+	private Concert concert(String title, String artist, String venueName, int daysLater, ConcertStatus status) {
+		LocalDate concertDate = LocalDate.now().plusDays(daysLater);
+		return Concert.builder()
+			.title(title)
+			.artist(artist)
+			.sellerId(1L)
+			.venueName(venueName)
+			.concertDate(concertDate)
+			.startTime(LocalTime.of(19, 0))
+			.endTime(LocalTime.of(21, 0))
+			.totalSeats(100)
+			.bookingStartDate(LocalDateTime.now().minusDays(1))
+			.bookingEndDate(concertDate.minusDays(1).atStartOfDay())
+			.status(status)
+			.build();
+	}
+}
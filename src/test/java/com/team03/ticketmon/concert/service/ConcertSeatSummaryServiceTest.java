@@ -0,0 +1,182 @@
+package com.team03.ticketmon.concert.service;
+
+import com.team03.ticketmon.booking.domain.Booking;
+import com.team03.ticketmon.concert.domain.Concert;
+import com.team03.ticketmon.concert.domain.ConcertPriceTier;
+import com.team03.ticketmon.concert.domain.ConcertSeat;
+import com.team03.ticketmon.concert.domain.ConcertSeatSummary;
+import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.concert.repository.ConcertRepository;
+import com.team03.ticketmon.concert.repository.ConcertSeatSummaryRepository;
+import com.team03.ticketmon.venue.domain.Seat;
+import com.team03.ticketmon.venue.domain.Venue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 콘서트 좌석 요약 집계와, 요약 기반 가격 필터가 기존 좌석 조인 필터와 같은 결과를 반환하는지 H2에서 검증하는 테스트 클래스.
+ */
+@DataJpaTest
+@Import(ConcertSeatSummaryService.class)
+@DisplayName("ConcertSeatSummaryService 좌석 요약 테스트")
+class ConcertSeatSummaryServiceTest {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private ConcertRepository concertRepository;
+
+	@Autowired
+	private ConcertSeatSummaryRepository concertSeatSummaryRepository;
+
+	@Autowired
+	private ConcertSeatSummaryService concertSeatSummaryService;
+
+	private Concert mixedConcert;
+	private Venue venue;
+	private int seatNumber;
+
+	@BeforeEach
+	void setUp() {
+		venue = new Venue();
+		ReflectionTestUtils.setField(venue, "name", "테스트홀");
+		ReflectionTestUtils.setField(venue, "capacity", 100);
+		entityManager.persist(venue);
+
+		// VIP 150,000 x2, R 90,000 x2, S 50,000 x2 (VIP 1석 예매)
+		mixedConcert = concert("등급 혼합 공연", ConcertStatus.ON_SALE);
+		List<ConcertSeat> mixedSeats = new ArrayList<>();
+		mixedSeats.addAll(seats(mixedConcert, SeatGrade.VIP, "150000", 2));
+		mixedSeats.addAll(seats(mixedConcert, SeatGrade.R, "90000", 2));
+		mixedSeats.addAll(seats(mixedConcert, SeatGrade.S, "50000", 2));
+		entityManager.persist(Booking.createBooking(1L, mixedConcert, List.of(mixedSeats.get(0))));
+
+		Concert singlePriceConcert = concert("단일 가격 공연", ConcertStatus.SCHEDULED);
+		seats(singlePriceConcert, SeatGrade.R, "120000", 2);
+
+		Concert completedConcert = concert("종료된 공연", ConcertStatus.COMPLETED);
+		seats(completedConcert, SeatGrade.S, "50000", 1);
+
+		concert("좌석 없는 공연", ConcertStatus.ON_SALE);
+
+		entityManager.flush();
+		entityManager.clear();
+		concertRepository.findAll().forEach(concert -> concertSeatSummaryService.refresh(concert.getConcertId()));
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	@DisplayName("좌석을 등급/가격별로 집계하고 티켓이 있는 좌석은 잔여 좌석에서 제외한다")
+	void refresh_aggregatesSeatsByPriceTier() {
+		// when
+		ConcertSeatSummary summary = concertSeatSummaryRepository.findById(mixedConcert.getConcertId()).orElseThrow();
+
+		// then
+		assertThat(summary.getMinPrice()).isEqualByComparingTo("50000");
+		assertThat(summary.getMaxPrice()).isEqualByComparingTo("150000");
+		assertThat(summary.getTotalSeats()).isEqualTo(6);
+		assertThat(summary.getAvailableSeats()).isEqualTo(5);
+		assertThat(summary.getPriceTiers())
+			.extracting(ConcertPriceTier::getGrade, ConcertPriceTier::getTotalSeats, ConcertPriceTier::getAvailableSeats)
+			.containsExactlyInAnyOrder(
+				tuple(SeatGrade.VIP, 2, 1),
+				tuple(SeatGrade.R, 2, 2),
+				tuple(SeatGrade.S, 2, 2));
+	}
+
+	@Test
+	@DisplayName("좌석이 없는 콘서트는 요약을 만들지 않는다")
+	void refresh_skipsConcertWithoutSeats() {
+		// then
+		assertThat(concertSeatSummaryRepository.count()).isEqualTo(3);
+	}
+
+	@ParameterizedTest
+	@CsvSource(value = {
+		"NULL, NULL",
+		"60000, 100000",
+		"100000, 130000",   // 최저/최고가 범위 안이지만 해당 가격 구간이 없는 콘서트는 제외
+		"50000, 50000",
+		"200000, NULL",
+		"NULL, 40000",
+		"130000, NULL"
+	}, nullValues = "NULL")
+	@DisplayName("좌석 요약 기반 가격 필터 결과가 좌석 조인 필터 결과와 같다")
+	void findByPriceRange_matchesSeatJoin(BigDecimal minPrice, BigDecimal maxPrice) {
+		// when
+		Set<Long> summaryResult = concertRepository.findByPriceRange(minPrice, maxPrice).stream()
+			.map(Concert::getConcertId)
+			.collect(Collectors.toSet());
+		Set<Long> summaryWithDateResult = concertRepository
+			.findByDateAndPriceRange(LocalDate.now(), null, minPrice, maxPrice).stream()
+			.map(Concert::getConcertId)
+			.collect(Collectors.toSet());
+
+		// then
+		Set<Long> seatJoinResult = Set.copyOf(entityManager.getEntityManager()
+			.createQuery("SELECT DISTINCT c.concertId FROM Concert c JOIN c.concertSeats cs " +
+				"WHERE c.status IN ('SCHEDULED', 'ON_SALE', 'SOLD_OUT') AND " +
+				"(:minPrice IS NULL OR cs.price >= :minPrice) AND " +
+				"(:maxPrice IS NULL OR cs.price <= :maxPrice)", Long.class)
+			.setParameter("minPrice", minPrice)
+			.setParameter("maxPrice", maxPrice)
+			.getResultList());
+		assertThat(summaryResult).isEqualTo(seatJoinResult);
+		assertThat(summaryWithDateResult).isEqualTo(seatJoinResult);
+	}
+
+	private Concert concert(String title, ConcertStatus status) {
+		LocalDate concertDate = LocalDate.now().plusDays(10);
+		return entityManager.persist(Concert.builder()
+			.title(title)
+			.artist("테스트")
+			.sellerId(1L)
+			.venueName("테스트홀")
+			.concertDate(concertDate)
+			.startTime(LocalTime.of(19, 0))
+			.endTime(LocalTime.of(21, 0))
+			.totalSeats(100)
+			.bookingStartDate(LocalDateTime.now().minusDays(1))
+			.bookingEndDate(concertDate.minusDays(1).atStartOfDay())
+			.status(status)
+			.build());
+	}
+
+	private List<ConcertSeat> seats(Concert concert, SeatGrade grade, String price, int count) {
+		List<ConcertSeat> concertSeats = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Seat seat = new Seat();
+			ReflectionTestUtils.setField(seat, "venue", venue);
+			ReflectionTestUtils.setField(seat, "section", "A");
+			ReflectionTestUtils.setField(seat, "seatRow", "1");
+			ReflectionTestUtils.setField(seat, "seatNumber", ++seatNumber);
+			entityManager.persist(seat);
+			concertSeats.add(entityManager.persist(ConcertSeat.create(concert, seat, grade, new BigDecimal(price))));
+		}
+		return concertSeats;
+	}
+}
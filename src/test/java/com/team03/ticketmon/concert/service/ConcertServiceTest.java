@@ -2,6 +2,7 @@ package com.team03.ticketmon.concert.service;
 
 import com.team03.ticketmon.concert.domain.Concert;
 import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
+import com.team03.ticketmon.concert.dto.ConcertCursorPageDTO;
 import com.team03.ticketmon.concert.dto.ConcertDTO;
 import com.team03.ticketmon.concert.dto.ConcertFilterDTO;
 import com.team03.ticketmon.concert.dto.ConcertSearchDTO;
@@ -9,6 +10,7 @@ import com.team03.ticketmon.concert.repository.ConcertRepository;
 import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
 import com.team03.ticketmon._global.exception.BusinessException;
 import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon._global.service.UrlConversionService;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +29,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -46,6 +49,12 @@ class ConcertServiceTest {
 	@Mock
 	private ConcertSeatRepository concertSeatRepository;
 
+	@Mock
+	private ConcertSearchIndex concertSearchIndex;
+
+	@Mock
+	private UrlConversionService urlConversionService;
+
 	@InjectMocks
 	private ConcertService concertService;
 
@@ -127,6 +136,80 @@ class ConcertServiceTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("커서 페이징 콘서트 조회 테스트")
+	class GetConcertsByCursorTest {
+
+		@Test
+		@DisplayName("첫 페이지는 size + 1건을 조회하여 다음 페이지 커서를 반환한다")
+		void getConcertsByCursor_FirstPage_ShouldReturnNextCursor() {
+			// given
+			given(concertRepository.findConcertListFirstPage(any(), eq(PageRequest.of(0, 3))))
+				.willReturn(new ArrayList<>(List.of(
+					listRow(1L, LocalDate.of(2025, 8, 1)),
+					listRow(2L, LocalDate.of(2025, 8, 1)),
+					listRow(3L, LocalDate.of(2025, 8, 2)))));
+
+			// when
+			ConcertCursorPageDTO result = concertService.getConcertsByCursor(null, 2);
+
+			// then
+			assertThat(result.getContent()).extracting(ConcertDTO::getConcertId).containsExactly(1L, 2L);
+			assertThat(result.isHasNext()).isTrue();
+			assertThat(result.getNextCursor()).isNotBlank();
+			verify(concertRepository, never()).findConcertListAfter(any(), any(), any(), any());
+		}
+
+		@Test
+		@DisplayName("다음 페이지는 이전 응답의 마지막 (공연일, 콘서트 ID) 이후부터 조회한다")
+		void getConcertsByCursor_NextPage_ShouldSeekAfterLastRow() {
+			// given
+			given(concertRepository.findConcertListFirstPage(any(), any()))
+				.willReturn(new ArrayList<>(List.of(
+					listRow(1L, LocalDate.of(2025, 8, 1)),
+					listRow(2L, LocalDate.of(2025, 8, 1)))));
+			String cursor = concertService.getConcertsByCursor(null, 1).getNextCursor();
+
+			given(concertRepository.findConcertListAfter(any(), eq(LocalDate.of(2025, 8, 1)), eq(1L), any()))
+				.willReturn(new ArrayList<>(List.of(listRow(2L, LocalDate.of(2025, 8, 1)))));
+
+			// when
+			ConcertCursorPageDTO result = concertService.getConcertsByCursor(cursor, 1);
+
+			// then: 마지막 페이지는 다음 커서가 없음
+			assertThat(result.getContent()).extracting(ConcertDTO::getConcertId).containsExactly(2L);
+			assertThat(result.isHasNext()).isFalse();
+			assertThat(result.getNextCursor()).isNull();
+		}
+
+		@Test
+		@DisplayName("잘못된 커서로 조회 시 예외 발생")
+		void getConcertsByCursor_WithInvalidCursor_ShouldThrowException() {
+			// when & then
+			assertThatThrownBy(() -> concertService.getConcertsByCursor("not-a-cursor", 20))
+				.isInstanceOf(BusinessException.class)
+				.extracting("errorCode")
+				.isEqualTo(ErrorCode.INVALID_CURSOR);
+		}
+
+		@Test
+		@DisplayName("최대 페이지 크기 초과 시 예외 발생")
+		void getConcertsByCursor_WithOversizedPage_ShouldThrowException() {
+			// when & then
+			assertThatThrownBy(() -> concertService.getConcertsByCursor(null, 101))
+				.isInstanceOf(BusinessException.class)
+				.extracting("errorCode")
+				.isEqualTo(ErrorCode.INVALID_PAGE_SIZE);
+		}
+
+		private ConcertDTO listRow(Long concertId, LocalDate concertDate) {
+			ConcertDTO dto = createTestConcertDTO();
+			dto.setConcertId(concertId);
+			dto.setConcertDate(concertDate);
+			return dto;
+		}
+	}
+
 	@Nested
 	@DisplayName("콘서트 검색 테스트")
 	class SearchConcertsTest {
@@ -136,7 +219,8 @@ class ConcertServiceTest {
 		void searchByKeyword_WithValidKeyword_ShouldReturnConcerts() {
 			// given
 			String keyword = "테스트";
-			given(concertRepository.findByKeyword(keyword))
+			given(concertSearchIndex.search(keyword)).willReturn(List.of(1L));
+			given(concertRepository.findActiveByConcertIdIn(List.of(1L)))
 				.willReturn(Arrays.asList(testConcert));
 
 			// when
@@ -145,7 +229,21 @@ class ConcertServiceTest {
 			// then
 			assertThat(result).hasSize(1);
 			assertThat(result.get(0).getTitle()).isEqualTo("테스트 콘서트");
-			verify(concertRepository).findByKeyword(keyword);
+			verify(concertRepository).findActiveByConcertIdIn(List.of(1L));
+		}
+
+		@Test
+		@DisplayName("검색 색인에 일치하는 콘서트가 없으면 DB를 조회하지 않음")
+		void searchByKeyword_WithNoIndexMatch_ShouldSkipDbQuery() {
+			// given
+			given(concertSearchIndex.search("없는키워드")).willReturn(List.of());
+
+			// when
+			List<ConcertDTO> result = concertService.searchByKeyword("없는키워드");
+
+			// then
+			assertThat(result).isEmpty();
+			verify(concertRepository, never()).findActiveByConcertIdIn(any());
 		}
 
 		@Test
@@ -176,7 +274,8 @@ class ConcertServiceTest {
 		void searchConcerts_WithValidDTO_ShouldReturnConcerts() {
 			// given
 			ConcertSearchDTO searchDTO = new ConcertSearchDTO("테스트");
-			given(concertRepository.findByKeyword("테스트"))
+			given(concertSearchIndex.search("테스트")).willReturn(List.of(1L));
+			given(concertRepository.findActiveByConcertIdIn(List.of(1L)))
 				.willReturn(Arrays.asList(testConcert));
 
 			// when
@@ -185,7 +284,7 @@ class ConcertServiceTest {
 			// then
 			assertThat(result).hasSize(1);
 			assertThat(result.get(0).getTitle()).isEqualTo("테스트 콘서트");
-			verify(concertRepository).findByKeyword("테스트");
+			verify(concertSearchIndex).search("테스트");
 		}
 
 		@Test
@@ -0,0 +1,109 @@
+package com.team03.ticketmon.concert.service;
+
+import com.team03.ticketmon.concert.domain.Review;
+import com.team03.ticketmon.concert.domain.enums.ReviewSelectionStrategy;
+import com.team03.ticketmon.concert.util.TokenCalculator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 제한 내 리뷰 선별 전략이 예산을 넘지 않고, 선별 결과의 토큰 수가 실제 재계산 값과 같은지 검증하는 테스트 클래스.
+ */
+@DisplayName("ReviewSelectorService 리뷰 선별 테스트")
+class ReviewSelectorServiceTest {
+
+	private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+	private final ReviewSelectorService reviewSelectorService = new ReviewSelectorService();
+
+	static Stream<Arguments> randomCases() {
+		return IntStream.range(0, 200).boxed()
+			.flatMap(seed -> Stream.of(ReviewSelectionStrategy.values())
+				.map(strategy -> Arguments.of(seed, strategy)));
+	}
+
+	@ParameterizedTest(name = "seed={0}, strategy={1}")
+	@MethodSource("randomCases")
+	@DisplayName("임의의 리뷰/예산에서도 선별된 리뷰의 토큰 수는 예산을 넘지 않는다")
+	void selectWithinTokenLimit_neverExceedsBudget(int seed, ReviewSelectionStrategy strategy) {
+		// given
+		Random random = new Random(seed);
+		List<Review> reviews = new ArrayList<>();
+		int reviewCount = random.nextInt(80);
+		for (int i = 0; i < reviewCount; i++) {
+			reviews.add(review(i, random.nextInt(600), random.nextInt(10_000)));
+		}
+		int maxTokens = random.nextInt(4_000);
+
+		// when
+		ReviewSelectorService.Selection selection =
+			reviewSelectorService.selectWithinTokenLimit(reviews, maxTokens, strategy);
+
+		// then
+		int recountedTokens = TokenCalculator.calculateTotalTokens(selection.reviews());
+		assertThat(selection.totalTokens()).isEqualTo(recountedTokens);
+		assertThat(recountedTokens).isLessThanOrEqualTo(maxTokens);
+		assertThat(reviews).containsAll(selection.reviews());
+	}
+
+	@Test
+	@DisplayName("최신순 전략은 최신 리뷰부터 예산에 닿을 때까지 선택한다")
+	void latestFirst_selectsNewestPrefix() {
+		// given: 리뷰당 100자(내용 50자 + 여유분 50자) = 40토큰, 예산 100토큰 → 최신 2건
+		List<Review> reviews = List.of(
+			review(1, 50, 1),
+			review(2, 50, 3),
+			review(3, 50, 2));
+
+		// when
+		ReviewSelectorService.Selection selection =
+			reviewSelectorService.selectWithinTokenLimit(reviews, 100, ReviewSelectionStrategy.LATEST_FIRST);
+
+		// then
+		assertThat(selection.reviews()).extracting(Review::getId).containsExactly(2L, 3L);
+		assertThat(selection.totalChars()).isEqualTo(200);
+		assertThat(selection.totalTokens()).isEqualTo(80);
+	}
+
+	@Test
+	@DisplayName("최대 포함 전략은 최신 리뷰가 예산을 막아도 예산 안에서 가장 많은 내용을 담는다")
+	void bestCoverage_fillsBudgetBeyondNewestPrefix() {
+		// given: 최신 리뷰(350자)를 넣으면 나머지를 못 넣음, 예산 200토큰 = 500자
+		List<Review> reviews = List.of(
+			review(1, 300, 3),
+			review(2, 200, 2),
+			review(3, 200, 1));
+
+		// when
+		ReviewSelectorService.Selection latestFirst =
+			reviewSelectorService.selectWithinTokenLimit(reviews, 200, ReviewSelectionStrategy.LATEST_FIRST);
+		ReviewSelectorService.Selection bestCoverage =
+			reviewSelectorService.selectWithinTokenLimit(reviews, 200, ReviewSelectionStrategy.BEST_COVERAGE);
+
+		// then
+		assertThat(latestFirst.reviews()).extracting(Review::getId).containsExactly(1L);
+		assertThat(bestCoverage.reviews()).extracting(Review::getId).containsExactly(2L, 3L);
+		assertThat(bestCoverage.totalChars()).isEqualTo(500);
+	}
+
+	private Review review(long id, int descriptionLength, int minutesAfterBase) {
+		Review review = new Review();
+		review.setId(id);
+		review.setDescription("가".repeat(descriptionLength));
+		review.setCreatedAt(BASE_TIME.plusMinutes(minutesAfterBase));
+		return review;
+	}
+}
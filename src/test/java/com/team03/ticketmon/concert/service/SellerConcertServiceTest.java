@@ -6,6 +6,8 @@ import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
 import com.team03.ticketmon.concert.repository.SellerConcertRepository;
 import com.team03.ticketmon._global.exception.BusinessException;
 import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon.queue.service.ActiveConcertIndexService;
+import com.team03.ticketmon.seat.service.SeatLayoutService;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -38,6 +40,18 @@ class SellerConcertServiceTest {
 	@Mock
 	private SellerConcertRepository sellerConcertRepository;
 
+	@Mock
+	private ActiveConcertIndexService activeConcertIndexService;
+
+	@Mock
+	private SeatLayoutService seatLayoutService;
+
+	@Mock
+	private ConcertSearchIndex concertSearchIndex;
+
+	@Mock
+	private ConcertSeatSummaryService concertSeatSummaryService;
+
 	@InjectMocks
 	private SellerConcertService sellerConcertService;
 
@@ -233,6 +247,7 @@ class SellerConcertServiceTest {
 					concert.getSellerId().equals(validSellerId) &&
 					concert.getStatus() == ConcertStatus.SCHEDULED
 			));
+			verify(concertSeatSummaryService).markDirty(validConcertId);
 		}
 
 		@Test
@@ -261,6 +276,7 @@ class SellerConcertServiceTest {
 			assertThat(result.getTitle()).isEqualTo(originalTitle); // 기존값 유지
 			assertThat(result.getArtist()).isEqualTo(originalArtist); // 기존값 유지
 			assertThat(result.getDescription()).isEqualTo("새로운 설명만 변경");
+			verify(concertSeatSummaryService).markDirty(validConcertId);
 		}
 
 		@Test
@@ -0,0 +1,228 @@
+package com.team03.ticketmon.payment.service;
+
+import com.sun.net.httpserver.HttpServer;
+import com.team03.ticketmon._global.exception.BusinessException;
+import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon.booking.domain.Booking;
+import com.team03.ticketmon.booking.domain.Ticket;
+import com.team03.ticketmon.booking.repository.BookingRepository;
+import com.team03.ticketmon.concert.domain.Concert;
+import com.team03.ticketmon.concert.domain.ConcertSeat;
+import com.team03.ticketmon.payment.config.PaymentPipelineProperties;
+import com.team03.ticketmon.payment.config.TossPaymentsProperties;
+import com.team03.ticketmon.payment.domain.entity.Payment;
+import com.team03.ticketmon.payment.dto.PaymentConfirmRequest;
+import com.team03.ticketmon.payment.repository.PaymentCancelHistoryRepository;
+import com.team03.ticketmon.payment.repository.PaymentRepository;
+import com.team03.ticketmon.seat.service.SeatStatusService;
+import com.team03.ticketmon.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 결제 승인 파이프라인이 동시 요청 폭주 시에도 제한된 동시성으로 처리되는지 검증하는 테스트 클래스.
+ * 토스페이먼츠 API는 로컬 HTTP 스텁 서버로 대체하고, 저장소/좌석 서비스는 Mock으로 대체합니다.
+ */
+class PaymentConfirmationPipelineTest {
+
+    private static final int CONFIRMATION_COUNT = 500;
+    private static final int MAX_CONCURRENT_CONFIRMATIONS = 16;
+    private static final Long CONCERT_ID = 1L;
+
+    private final AtomicInteger tossInFlight = new AtomicInteger();
+    private final AtomicInteger tossMaxInFlight = new AtomicInteger();
+    private final AtomicInteger tossCallCount = new AtomicInteger();
+    private final Set<String> dbThreadNames = ConcurrentHashMap.newKeySet();
+
+    private HttpServer tossStub;
+    private ExecutorService tossStubExecutor;
+    private Scheduler paymentDbScheduler;
+    private PaymentConfirmationLimiter limiter;
+    private PaymentService paymentService;
+    private PaymentRepository paymentRepository;
+    private SeatStatusService seatStatusService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        startTossStub();
+
+        PaymentPipelineProperties properties = new PaymentPipelineProperties();
+        properties.setMaxConcurrentConfirmations(MAX_CONCURRENT_CONFIRMATIONS);
+        properties.setMaxPendingConfirmations(CONFIRMATION_COUNT);
+        limiter = new PaymentConfirmationLimiter(properties);
+        limiter.init();
+        paymentDbScheduler = Schedulers.newBoundedElastic(8, 2000, "payment-db");
+
+        paymentRepository = mock(PaymentRepository.class);
+        BookingRepository bookingRepository = mock(BookingRepository.class);
+        seatStatusService = mock(SeatStatusService.class);
+
+        Booking booking = bookingWithSeats(10L, 11L);
+        given(paymentRepository.findByOrderId(anyString())).willAnswer(invocation -> {
+            dbThreadNames.add(Thread.currentThread().getName());
+            return Optional.of(new Payment(booking, 100L, invocation.getArgument(0), BigDecimal.valueOf(10000)));
+        });
+        given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(bookingRepository.findWithConcertAndTicketsById(anyLong())).willReturn(Optional.of(booking));
+        given(seatStatusService.bookSeats(eq(CONCERT_ID), anyCollection()))
+                .willAnswer(invocation -> List.copyOf(invocation.<List<Long>>getArgument(1)));
+
+        TossPaymentsProperties tossProperties = new TossPaymentsProperties("test_ck", "test_sk",
+                new TossPaymentsProperties.Api(
+                        "http://127.0.0.1:" + tossStub.getAddress().getPort() + "/v1/payments/", null));
+
+        paymentService = new PaymentService(bookingRepository, paymentRepository,
+                mock(PaymentCancelHistoryRepository.class), tossProperties, null, WebClient.create(),
+                mock(UserRepository.class), seatStatusService, limiter, paymentDbScheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        limiter.destroy();
+        paymentDbScheduler.dispose();
+        tossStub.stop(0);
+        tossStubExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("결제 승인 500건이 동시에 들어와도 모두 처리되며, 토스 API 동시 호출 수는 제한을 넘지 않는다.")
+    void confirmPayment_burst_completesWithinConcurrencyLimit() {
+        // when
+        Flux<Void> burst = Flux.range(0, CONFIRMATION_COUNT)
+                .flatMap(i -> paymentService.confirmPayment(confirmRequest("order-" + i)), CONFIRMATION_COUNT);
+
+        // then
+        burst.then().block(Duration.ofSeconds(60));
+
+        assertThat(tossCallCount.get()).isEqualTo(CONFIRMATION_COUNT);
+        assertThat(tossMaxInFlight.get()).isLessThanOrEqualTo(MAX_CONCURRENT_CONFIRMATIONS);
+        assertThat(dbThreadNames).isNotEmpty().allMatch(name -> name.startsWith("payment-db"));
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 결제 승인을 쌓지 않고 즉시 거절한다.")
+    void submit_whenQueueFull_rejectsImmediately() {
+        // given: 동시 처리 1건, 대기 1건
+        PaymentPipelineProperties properties = new PaymentPipelineProperties();
+        properties.setMaxConcurrentConfirmations(1);
+        properties.setMaxPendingConfirmations(1);
+        PaymentConfirmationLimiter smallLimiter = new PaymentConfirmationLimiter(properties);
+        smallLimiter.init();
+
+        try {
+            smallLimiter.submit(Mono.never()).subscribe();
+            smallLimiter.submit(Mono.never()).subscribe();
+
+            // when & then
+            assertThatThrownBy(() -> smallLimiter.submit(Mono.just("ok")).block(Duration.ofSeconds(5)))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.PAYMENT_CONFIRMATION_OVERLOADED);
+        } finally {
+            smallLimiter.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("예매 좌석 중 하나라도 BOOKED 처리되지 않으면 결제 승인이 실패한다.")
+    void confirmPayment_whenSeatNotBooked_fails() {
+        // given: 11번 좌석은 예매 처리되지 않음
+        given(seatStatusService.bookSeats(eq(CONCERT_ID), anyCollection())).willReturn(List.of(10L));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.confirmPayment(confirmRequest("order-partial"))
+                .block(Duration.ofSeconds(10)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.SEAT_BOOKING_FAILED);
+    }
+
+    /**
+     * 토스페이먼츠 승인 API 스텁 서버 (동시 처리 중인 요청 수를 기록하고 짧게 지연 후 DONE 응답)
+     */
+    private void startTossStub() throws IOException {
+        tossStubExecutor = Executors.newFixedThreadPool(64);
+        tossStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), CONFIRMATION_COUNT);
+        tossStub.setExecutor(tossStubExecutor);
+        tossStub.createContext("/v1/payments/confirm", exchange -> {
+            int inFlight = tossInFlight.incrementAndGet();
+            tossMaxInFlight.accumulateAndGet(inFlight, Math::max);
+            tossCallCount.incrementAndGet();
+            try {
+                exchange.getRequestBody().readAllBytes();
+                Thread.sleep(20);
+                byte[] body = """
+                        {"status":"DONE","approvedAt":"2025-07-14T03:00:50+09:00"}
+                        """.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                tossInFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        tossStub.start();
+    }
+
+    private Booking bookingWithSeats(Long... seatIds) {
+        Booking booking = mock(Booking.class);
+        List<Ticket> tickets = new ArrayList<>();
+        for (Long seatId : seatIds) {
+            ConcertSeat concertSeat = mock(ConcertSeat.class);
+            given(concertSeat.getConcertSeatId()).willReturn(seatId);
+            Ticket ticket = mock(Ticket.class);
+            given(ticket.getConcertSeat()).willReturn(concertSeat);
+            tickets.add(ticket);
+        }
+        given(booking.getBookingId()).willReturn(1L);
+        given(booking.getConcert()).willReturn(Concert.builder().concertId(CONCERT_ID).build());
+        given(booking.getTickets()).willReturn(tickets);
+        return booking;
+    }
+
+    private PaymentConfirmRequest confirmRequest(String orderId) {
+        return PaymentConfirmRequest.builder()
+                .paymentKey("pk-" + orderId)
+                .orderId(orderId)
+                .amount(BigDecimal.valueOf(10000))
+                .originalMethod("카드")
+                .build();
+    }
+}
@@ -0,0 +1,236 @@
+package com.team03.ticketmon.queue.adapter;
+
+import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.protocol.ScoredEntry;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * QueueRedisAdapter의 대기열 진입 스크립트를 검증하는 테스트 클래스.
+ * 동시에 많은 사용자가 진입해도 점수가 중복되지 않고, 진입 시 받은 순위가 대기열 순서와 일치하는지 확인합니다.
+ * 활성 슬롯 점유/반환/재계산이 최대 인원과 0 사이에서 원자적으로 처리되는지도 확인합니다.
+ */
+@Testcontainers
+class QueueRedisAdapterTest {
+
+    private static final Long CONCERT_ID = 1L;
+
+    @Container
+    public static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    private RedissonClient redissonClient;
+    private QueueRedisAdapter queueRedisAdapter;
+
+    @BeforeEach
+    void setUp() {
+        RedissonConfig redissonConfig = new RedissonConfig();
+        ReflectionTestUtils.setField(redissonConfig, "redisHost", redis.getHost());
+        ReflectionTestUtils.setField(redissonConfig, "redisPort", redis.getMappedPort(6379));
+        redissonClient = redissonConfig.redissonClient();
+        redissonClient.getKeys().flushdb();
+
+        queueRedisAdapter = new QueueRedisAdapter(redissonClient, new RedisKeyGenerator());
+    }
+
+    @AfterEach
+    void tearDown() {
+        redissonClient.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시에 진입해도 점수가 중복되지 않고, 진입 시 받은 순위가 최종 대기열 순서와 일치한다")
+    void concurrentEnqueueKeepsUniqueScoresAndFifoOrder() throws Exception {
+        // given
+        int threadCount = 32;
+        int usersPerThread = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        Map<Long, QueueRedisAdapter.EnqueueResult> results = new ConcurrentHashMap<>();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when: 모든 스레드가 동시에 진입 시작
+        for (int t = 0; t < threadCount; t++) {
+            long firstUserId = (long) t * usersPerThread + 1;
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                for (long userId = firstUserId; userId < firstUserId + usersPerThread; userId++) {
+                    results.put(userId, queueRedisAdapter.enqueue(CONCERT_ID, userId));
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        int totalUsers = threadCount * usersPerThread;
+        RScoredSortedSet<Long> queue = queueRedisAdapter.getQueue(CONCERT_ID);
+        Collection<ScoredEntry<Long>> entries = queue.entryRange(0, -1);
+
+        // 1. 모든 사용자가 신규로 등록되었고, 점수는 모두 다르다
+        assertThat(results).hasSize(totalUsers);
+        assertThat(results.values()).allMatch(QueueRedisAdapter.EnqueueResult::added);
+        assertThat(entries).hasSize(totalUsers);
+        assertThat(entries.stream().map(ScoredEntry::getScore).distinct().count()).isEqualTo(totalUsers);
+
+        // 2. 진입 시 받은 순위/점수가 최종 대기열 순서와 그대로 일치한다 (나중에 온 사용자가 앞서지 않음)
+        int index = 0;
+        for (ScoredEntry<Long> entry : entries) {
+            QueueRedisAdapter.EnqueueResult result = results.get(entry.getValue());
+            assertThat(result.rank()).isEqualTo(index++);
+            assertThat((double) result.score()).isEqualTo(entry.getScore());
+        }
+    }
+
+    @Test
+    @DisplayName("이미 대기 중인 사용자가 다시 진입하면 점수와 순위가 바뀌지 않는다")
+    void enqueueIsIdempotentForWaitingUser() {
+        // given
+        QueueRedisAdapter.EnqueueResult first = queueRedisAdapter.enqueue(CONCERT_ID, 1L);
+        queueRedisAdapter.enqueue(CONCERT_ID, 2L);
+
+        // when
+        QueueRedisAdapter.EnqueueResult again = queueRedisAdapter.enqueue(CONCERT_ID, 1L);
+
+        // then
+        assertThat(first.added()).isTrue();
+        assertThat(again.added()).isFalse();
+        assertThat(again.rank()).isZero();
+        assertThat(again.score()).isEqualTo(first.score());
+        assertThat(queueRedisAdapter.getQueue(CONCERT_ID).size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시에 슬롯을 점유해도 최대 활성 사용자 수를 넘지 않는다")
+    void concurrentClaimsNeverExceedMaxActiveUsers() throws Exception {
+        // given
+        long maxActiveUsers = 50;
+        int threadCount = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+
+        // given: 일괄 점유는 대기 인원만큼만 가능하므로 최대 인원보다 많이 대기
+        for (long userId = 1; userId <= maxActiveUsers * 2; userId++) {
+            queueRedisAdapter.enqueue(CONCERT_ID, userId);
+        }
+
+        // when: 스레드마다 즉시 입장(1개)과 일괄 점유(3개)를 섞어 반복
+        for (int t = 0; t < threadCount; t++) {
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                long claimed = 0;
+                for (int i = 0; i < 10; i++) {
+                    if (queueRedisAdapter.claimImmediateSlot(CONCERT_ID, maxActiveUsers)) {
+                        claimed++;
+                    }
+                    claimed += queueRedisAdapter.claimSlots(CONCERT_ID, 3, maxActiveUsers);
+                }
+                return claimed;
+            }));
+        }
+        startLatch.countDown();
+        long totalClaimed = 0;
+        for (Future<Long> future : futures) {
+            totalClaimed += future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(totalClaimed).isEqualTo(maxActiveUsers);
+        assertThat(queueRedisAdapter.getActiveUserCounter(CONCERT_ID).get()).isEqualTo(maxActiveUsers);
+    }
+
+    @Test
+    @DisplayName("대기열에 사람이 있으면 빈 슬롯이 있어도 즉시 입장 슬롯을 점유하지 않는다")
+    void immediateSlotRequiresEmptyQueue() {
+        // given
+        queueRedisAdapter.enqueue(CONCERT_ID, 1L);
+
+        // when
+        boolean claimed = queueRedisAdapter.claimImmediateSlot(CONCERT_ID, 10);
+
+        // then
+        assertThat(claimed).isFalse();
+        assertThat(queueRedisAdapter.getActiveUserCounter(CONCERT_ID).get()).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 점유는 남은 슬롯 수만큼만 점유하고, 반환은 0 미만으로 내려가지 않는다")
+    void claimAndReleaseAreClamped() {
+        // given
+        queueRedisAdapter.getActiveUserCounter(CONCERT_ID).set(8);
+        for (long userId = 1; userId <= 5; userId++) {
+            queueRedisAdapter.enqueue(CONCERT_ID, userId);
+        }
+
+        // when & then
+        assertThat(queueRedisAdapter.claimSlots(CONCERT_ID, 5, 10)).isEqualTo(2);
+        assertThat(queueRedisAdapter.claimSlots(CONCERT_ID, 5, 10)).isZero();
+        assertThat(queueRedisAdapter.releaseSlots(CONCERT_ID, 3)).isEqualTo(7);
+        assertThat(queueRedisAdapter.releaseSlots(CONCERT_ID, 100)).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 점유는 대기 인원을 넘지 않아, 남은 빈 슬롯으로 즉시 입장할 수 있다")
+    void claimSlotsIsCappedAtWaitingUsers() {
+        // given: 빈 슬롯 10개, 대기 인원 2명
+        queueRedisAdapter.enqueue(CONCERT_ID, 1L);
+        queueRedisAdapter.enqueue(CONCERT_ID, 2L);
+
+        // when
+        long claimed = queueRedisAdapter.claimSlots(CONCERT_ID, 10, 10);
+        queueRedisAdapter.getQueue(CONCERT_ID).pollFirst(2);
+
+        // then
+        assertThat(claimed).isEqualTo(2);
+        assertThat(queueRedisAdapter.claimImmediateSlot(CONCERT_ID, 10)).isTrue();
+        assertThat(queueRedisAdapter.getActiveUserCounter(CONCERT_ID).get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재계산하면 활성 사용자 수가 실제 활성 세션 수로 보정된다")
+    void reconcileActiveUserCount() {
+        // given: 카운터는 5지만 실제 세션은 2개
+        queueRedisAdapter.getActiveUserCounter(CONCERT_ID).set(5);
+        long expiry = System.currentTimeMillis() + 60_000;
+        queueRedisAdapter.getActiveSessions(CONCERT_ID).add(expiry, 1L);
+        queueRedisAdapter.getActiveSessions(CONCERT_ID).add(expiry, 2L);
+
+        // when
+        QueueRedisAdapter.SlotReconcileResult result = queueRedisAdapter.reconcileActiveUserCount(CONCERT_ID);
+
+        // then
+        assertThat(result.previous()).isEqualTo(5);
+        assertThat(result.actual()).isEqualTo(2);
+        assertThat(result.corrected()).isTrue();
+        assertThat(queueRedisAdapter.getActiveUserCounter(CONCERT_ID).get()).isEqualTo(2);
+        assertThat(queueRedisAdapter.reconcileActiveUserCount(CONCERT_ID).corrected()).isFalse();
+    }
+}
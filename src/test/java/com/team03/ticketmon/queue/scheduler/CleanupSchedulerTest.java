@@ -1,80 +1,120 @@
 package com.team03.ticketmon.queue.scheduler;
 
 import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
+import com.team03.ticketmon.concert.repository.ConcertRepository;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.service.ActiveConcertIndexService;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.redisson.api.RAtomicLong;
 import org.redisson.api.RScoredSortedSet;
 import org.redisson.api.RedissonClient;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
-import org.springframework.context.annotation.Import;
-import org.springframework.test.context.ActiveProfiles;
-import org.springframework.test.context.DynamicPropertyRegistry;
-import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
-@ActiveProfiles("test")
+/**
+ * 세션 정리 스케줄러가 만료 세션과 해당 사용자의 입장 키를 정리하고,
+ * 처리 대상 인덱스에서 빠진 콘서트도 남은 세션이 없어질 때까지 정리하는지 검증하는 테스트 클래스.
+ */
 @Testcontainers
-@DataRedisTest
-@Import({RedissonConfig.class, CleanupScheduler.class})
 class CleanupSchedulerTest {
 
-    @Autowired
-    private CleanupScheduler cleanupScheduler;
-
-    @Autowired
-    private RedissonClient redissonClient;
+    private static final Long CONCERT_ID = 1L;
 
     @Container
     public static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
             .withExposedPorts(6379);
 
-    @DynamicPropertySource
-    static void redisProperties(DynamicPropertyRegistry registry) {
-        registry.add("spring.data.redis.host", () -> redis.getHost());
-        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
-        registry.add("spring.data.redis.ssl.enabled", () -> false);
+    private RedissonClient redissonClient;
+    private QueueRedisAdapter queueRedisAdapter;
+    private ActiveConcertIndexService activeConcertIndexService;
+    private CleanupScheduler cleanupScheduler;
+
+    @BeforeEach
+    void setUp() {
+        RedissonConfig redissonConfig = new RedissonConfig();
+        ReflectionTestUtils.setField(redissonConfig, "redisHost", redis.getHost());
+        ReflectionTestUtils.setField(redissonConfig, "redisPort", redis.getMappedPort(6379));
+        redissonClient = redissonConfig.redissonClient();
+        redissonClient.getKeys().flushdb();
+
+        queueRedisAdapter = new QueueRedisAdapter(redissonClient, new RedisKeyGenerator());
+        activeConcertIndexService = new ActiveConcertIndexService(queueRedisAdapter, mock(ConcertRepository.class));
+        cleanupScheduler = new CleanupScheduler(activeConcertIndexService, queueRedisAdapter);
     }
 
     @AfterEach
     void tearDown() {
-        redissonClient.getKeys().flushall();
+        redissonClient.shutdown();
     }
 
     @Test
-    @DisplayName("정리 스케줄러가 실행되면, 만료된 세션을 감지하여 활성 사용자 수를 감소시킨다.")
+    @DisplayName("정리 스케줄러가 실행되면, 만료된 세션과 입장 키를 삭제하고 활성 사용자 수를 감소시킨다.")
     void cleanupExpiredSessions() {
-        // given
-        // 1. 초기 활성 사용자 수를 5로 설정
-        RAtomicLong activeUsersCount = redissonClient.getAtomicLong("active_users_count");
-        activeUsersCount.set(5);
-
-        // 2. active_sessions Set에 테스트 데이터 추가
-        RScoredSortedSet<String> activeSessions = redissonClient.getScoredSortedSet("active_sessions");
+        // given: 판매 중인 콘서트에 만료 2명, 유효 3명
+        activeConcertIndexService.onStatusChanged(CONCERT_ID, ConcertStatus.ON_SALE);
+        queueRedisAdapter.getActiveUserCounter(CONCERT_ID).set(5);
         long now = System.currentTimeMillis();
-        // - 만료된 사용자 2명 (과거 시간)
-        activeSessions.add(now - 10000, "expired-user-1");
-        activeSessions.add(now - 5000, "expired-user-2");
-        // - 아직 유효한 사용자 3명 (미래 시간)
-        activeSessions.add(now + 60000, "active-user-1");
-        activeSessions.add(now + 70000, "active-user-2");
-        activeSessions.add(now + 80000, "active-user-3");
+        admit(1L, now - 10000);
+        admit(2L, now - 5000);
+        admit(3L, now + 60000);
+        admit(4L, now + 70000);
+        admit(5L, now + 80000);
 
         // when
         cleanupScheduler.cleanupExpiredSessions();
 
         // then
-        // 1. 활성 사용자 수가 2명 감소하여 3명이 되었는가?
-        assertThat(activeUsersCount.get()).isEqualTo(3);
-        // 2. active_sessions Set에는 유효한 3명만 남아있는가?
-        assertThat(activeSessions.size()).isEqualTo(3);
-        // 3. 만료된 사용자가 정말로 삭제되었는가?
-        assertThat(activeSessions.contains("expired-user-1")).isFalse();
+        RScoredSortedSet<Long> activeSessions = queueRedisAdapter.getActiveSessions(CONCERT_ID);
+        assertThat(queueRedisAdapter.getActiveUserCounter(CONCERT_ID).get()).isEqualTo(3);
+        assertThat(activeSessions.readAll()).containsExactlyInAnyOrder(3L, 4L, 5L);
+        assertThat(queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, 1L).isExists()).isFalse();
+        assertThat(queueRedisAdapter.getFinalExpiryBucket(CONCERT_ID, 2L).isExists()).isFalse();
+        assertThat(queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, 3L).isExists()).isTrue();
+    }
+
+    @Test
+    @DisplayName("판매가 종료되어 인덱스에서 빠진 콘서트도 남은 세션이 모두 정리될 때까지 정리 대상으로 유지한다")
+    void cleanupRetiredConcertUntilNoSessionsRemain() {
+        // given: 만료 1명, 유효 1명이 남은 상태에서 판매 종료
+        activeConcertIndexService.onStatusChanged(CONCERT_ID, ConcertStatus.ON_SALE);
+        queueRedisAdapter.getActiveUserCounter(CONCERT_ID).set(2);
+        long now = System.currentTimeMillis();
+        admit(1L, now - 10000);
+        admit(2L, now + 60000);
+        activeConcertIndexService.onStatusChanged(CONCERT_ID, ConcertStatus.COMPLETED);
+
+        // when: 첫 실행 - 만료 세션만 정리되고 유효 세션이 남아 정리 대상으로 유지
+        cleanupScheduler.cleanupExpiredSessions();
+
+        // then
+        assertThat(activeConcertIndexService.getActiveConcertIds()).isEmpty();
+        assertThat(activeConcertIndexService.getRetiredConcertIds()).containsExactly(CONCERT_ID);
+        assertThat(queueRedisAdapter.getActiveSessions(CONCERT_ID).readAll()).containsExactly(2L);
+        assertThat(queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, 1L).isExists()).isFalse();
+
+        // when: 남은 세션도 만료된 뒤 다시 실행
+        queueRedisAdapter.getActiveSessions(CONCERT_ID).add(now - 1000, 2L);
+        cleanupScheduler.cleanupExpiredSessions();
+
+        // then
+        assertThat(queueRedisAdapter.getActiveSessions(CONCERT_ID).isExists()).isFalse();
+        assertThat(queueRedisAdapter.getActiveUserCounter(CONCERT_ID).get()).isZero();
+        assertThat(queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, 2L).isExists()).isFalse();
+        assertThat(activeConcertIndexService.getRetiredConcertIds()).isEmpty();
+    }
+
+    private void admit(Long userId, long expiryTimestamp) {
+        queueRedisAdapter.getActiveSessions(CONCERT_ID).add(expiryTimestamp, userId);
+        queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, userId).set("access-key-" + userId);
+        queueRedisAdapter.getFinalExpiryBucket(CONCERT_ID, userId).set(expiryTimestamp);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,173 @@
+package com.team03.ticketmon.queue.service;
+
+import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 노드별 입장 허가 키 로컬 캐시를 검증하는 통합 테스트 클래스.
+ * 같은 Redis를 바라보는 두 개의 노드를 만들어, 한 노드에서 키를 만료 처리하면
+ * 무효화 메시지 한 건으로 다른 노드에서도 거부되는지 확인합니다.
+ */
+@Testcontainers
+class AccessKeyCacheTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final Long USER_ID = 10L;
+    private static final String ACCESS_KEY = "access-key";
+
+    @Container
+    public static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node();
+        nodeB = new Node();
+        nodeA.redissonClient.getKeys().flushdb();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    @DisplayName("한 노드에서 키를 만료 처리하면 무효화 메시지 한 건으로 다른 노드에서도 거부된다")
+    void revokedKeyIsRejectedOnAllNodes() {
+        // given: 두 노드 모두 키를 검증해 로컬 캐시에 보관
+        nodeA.queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, USER_ID).set(ACCESS_KEY, Duration.ofMinutes(2));
+        assertThat(nodeA.accessKeyCache.isValid(CONCERT_ID, USER_ID, ACCESS_KEY)).isTrue();
+        assertThat(nodeB.accessKeyCache.isValid(CONCERT_ID, USER_ID, ACCESS_KEY)).isTrue();
+
+        AtomicInteger invalidationMessages = new AtomicInteger();
+        nodeB.queueRedisAdapter.getAccessKeyInvalidationTopic()
+                .addListener(String.class, (channel, message) -> invalidationMessages.incrementAndGet());
+
+        // when
+        nodeA.accessKeyService.invalidateAccessKey(CONCERT_ID, USER_ID);
+
+        // then
+        assertThat(nodeA.accessKeyCache.isValid(CONCERT_ID, USER_ID, ACCESS_KEY)).isFalse();
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> !nodeB.accessKeyCache.isValid(CONCERT_ID, USER_ID, ACCESS_KEY));
+        await().during(Duration.ofMillis(300)).atMost(Duration.ofSeconds(2))
+                .until(() -> invalidationMessages.get() == 1);
+    }
+
+    @Test
+    @DisplayName("캐시된 키는 Redis를 다시 조회하지 않고 검증된다")
+    void cachedKeyIsServedLocally() {
+        // given
+        nodeA.queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, USER_ID).set(ACCESS_KEY, Duration.ofMinutes(2));
+        assertThat(nodeB.accessKeyCache.isValid(CONCERT_ID, USER_ID, ACCESS_KEY)).isTrue();
+
+        // when: 무효화 메시지 없이 Redis에서만 키 삭제
+        nodeA.queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, USER_ID).delete();
+
+        // then: 로컬 캐시 항목으로 검증 (Redis 조회 없음)
+        assertThat(nodeB.accessKeyCache.isValid(CONCERT_ID, USER_ID, ACCESS_KEY)).isTrue();
+    }
+
+    @Test
+    @DisplayName("캐시 항목은 Redis 키의 남은 TTL보다 오래 유지되지 않는다")
+    void cachedEntryDoesNotOutliveKeyTtl() {
+        // given: 남은 TTL 1초 (캐시 최대 보관 시간 30초)
+        nodeA.queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, USER_ID).set(ACCESS_KEY, Duration.ofSeconds(1));
+        assertThat(nodeB.accessKeyCache.isValid(CONCERT_ID, USER_ID, ACCESS_KEY)).isTrue();
+
+        // when & then
+        await().atMost(Duration.ofSeconds(3))
+                .until(() -> !nodeB.accessKeyCache.isValid(CONCERT_ID, USER_ID, ACCESS_KEY));
+    }
+
+    @Test
+    @DisplayName("키가 새로 발급되면 캐시된 이전 키와 달라도 새 키로 검증된다")
+    void reissuedKeyIsAccepted() {
+        // given
+        nodeA.queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, USER_ID).set(ACCESS_KEY, Duration.ofMinutes(2));
+        assertThat(nodeB.accessKeyCache.isValid(CONCERT_ID, USER_ID, ACCESS_KEY)).isTrue();
+
+        // when
+        nodeA.queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, USER_ID).set("new-key", Duration.ofMinutes(2));
+
+        // then
+        assertThat(nodeB.accessKeyCache.isValid(CONCERT_ID, USER_ID, "new-key")).isTrue();
+        assertThat(nodeB.accessKeyCache.isValid(CONCERT_ID, USER_ID, ACCESS_KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재입장으로 키를 덮어쓰면 다른 노드에 캐시된 이전 키도 거부된다")
+    void readmissionInvalidatesPreviousKeyOnAllNodes() {
+        // given: 다른 노드가 이전 키를 검증해 로컬 캐시에 보관
+        nodeA.queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, USER_ID).set(ACCESS_KEY, Duration.ofMinutes(2));
+        assertThat(nodeB.accessKeyCache.isValid(CONCERT_ID, USER_ID, ACCESS_KEY)).isTrue();
+
+        // when
+        String newKey = nodeA.admissionService.grantAccess(CONCERT_ID, List.of(USER_ID), false, false).get(0);
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> !nodeB.accessKeyCache.isValid(CONCERT_ID, USER_ID, ACCESS_KEY));
+        assertThat(nodeB.accessKeyCache.isValid(CONCERT_ID, USER_ID, newKey)).isTrue();
+    }
+
+    /**
+     * 독립된 Redis 연결과 로컬 캐시를 가진 하나의 애플리케이션 노드
+     */
+    private static class Node {
+        private final RedissonClient redissonClient;
+        private final QueueRedisAdapter queueRedisAdapter;
+        private final AccessKeyCache accessKeyCache;
+        private final AccessKeyService accessKeyService;
+        private final AdmissionService admissionService;
+
+        Node() {
+            RedissonConfig redissonConfig = new RedissonConfig();
+            ReflectionTestUtils.setField(redissonConfig, "redisHost", redis.getHost());
+            ReflectionTestUtils.setField(redissonConfig, "redisPort", redis.getMappedPort(6379));
+            redissonClient = redissonConfig.redissonClient();
+
+            RedisKeyGenerator keyGenerator = new RedisKeyGenerator();
+            queueRedisAdapter = new QueueRedisAdapter(redissonClient, keyGenerator);
+
+            accessKeyCache = new AccessKeyCache(queueRedisAdapter);
+            ReflectionTestUtils.setField(accessKeyCache, "maximumSize", 1000L);
+            ReflectionTestUtils.setField(accessKeyCache, "maxTtlMs", 30_000L);
+            accessKeyCache.init();
+
+            accessKeyService = new AccessKeyService(queueRedisAdapter, accessKeyCache);
+
+            admissionService = new AdmissionService(redissonClient, keyGenerator, mock(NotificationService.class),
+                    queueRedisAdapter, accessKeyCache);
+            ReflectionTestUtils.setField(admissionService, "accessKeyTtlSeconds", 120L);
+            ReflectionTestUtils.setField(admissionService, "accessKeyMaxTtlSeconds", 600L);
+        }
+
+        void close() {
+            accessKeyCache.destroy();
+            redissonClient.shutdown();
+        }
+    }
+}
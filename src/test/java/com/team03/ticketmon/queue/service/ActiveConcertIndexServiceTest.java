@@ -0,0 +1,102 @@
+package com.team03.ticketmon.queue.service;
+
+import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
+import com.team03.ticketmon.concert.repository.ConcertRepository;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RSet;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("대기열 처리 대상 콘서트 인덱스 테스트")
+class ActiveConcertIndexServiceTest {
+
+    @Mock
+    private QueueRedisAdapter queueRedisAdapter;
+    @Mock
+    private ConcertRepository concertRepository;
+    @Mock
+    private RSet<Long> index;
+    @Mock
+    private RSet<Long> retired;
+
+    @InjectMocks
+    private ActiveConcertIndexService activeConcertIndexService;
+
+    @BeforeEach
+    void setUp() {
+        given(queueRedisAdapter.getActiveConcertIndex()).willReturn(index);
+        given(queueRedisAdapter.getRetiredConcertIndex()).willReturn(retired);
+    }
+
+    @Test
+    @DisplayName("ON_SALE로 변경되면 인덱스에 등록하고, 그 외 상태로 변경되면 제거해 정리 대상으로 옮긴다")
+    void onStatusChanged() {
+        // when
+        activeConcertIndexService.onStatusChanged(1L, ConcertStatus.ON_SALE);
+        activeConcertIndexService.onStatusChanged(2L, ConcertStatus.SOLD_OUT);
+
+        // then
+        then(index).should().add(1L);
+        then(retired).should().remove(1L);
+        then(index).should().remove(2L);
+        then(retired).should().add(2L);
+    }
+
+    @Test
+    @DisplayName("인덱스 갱신에 실패해도 예외를 전파하지 않는다")
+    void onStatusChanged_redisFailure() {
+        // given
+        given(index.add(1L)).willThrow(new IllegalStateException("redis down"));
+
+        // when & then (예외 없이 종료)
+        activeConcertIndexService.onStatusChanged(1L, ConcertStatus.ON_SALE);
+    }
+
+    @Test
+    @DisplayName("DB의 ON_SALE 목록을 기준으로 누락된 콘서트는 추가하고, 판매 중이 아닌 콘서트는 제거해 정리 대상으로 옮긴다")
+    void reconcile() {
+        // given: DB에는 1, 2가 판매 중, 인덱스에는 2, 3이 등록된 상태
+        given(concertRepository.findConcertIdsByStatus(ConcertStatus.ON_SALE)).willReturn(List.of(1L, 2L));
+        given(index.readAll()).willReturn(Set.of(2L, 3L));
+
+        // when
+        Set<Long> result = activeConcertIndexService.reconcile();
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(1L, 2L);
+        then(index).should().addAll(Set.of(1L));
+        then(index).should().removeAll(Set.of(3L));
+        then(retired).should().addAll(Set.of(3L));
+    }
+
+    @Test
+    @DisplayName("인덱스가 DB와 일치하면 변경하지 않는다")
+    void reconcile_noChange() {
+        // given
+        given(concertRepository.findConcertIdsByStatus(ConcertStatus.ON_SALE)).willReturn(List.of(1L));
+        given(index.readAll()).willReturn(Set.of(1L));
+
+        // when
+        activeConcertIndexService.reconcile();
+
+        // then
+        then(index).should(never()).addAll(any());
+        then(index).should(never()).removeAll(any());
+        then(retired).should(never()).addAll(any());
+    }
+}
@@ -2,7 +2,10 @@ package com.team03.ticketmon.queue.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
 import com.team03.ticketmon.queue.dto.AdmissionEvent;
+import com.team03.ticketmon.websocket.WebSocketSessionRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.redisson.api.RTopic;
@@ -30,7 +33,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 @ActiveProfiles("test")
 @Testcontainers
 @DataRedisTest
-@Import({RedissonConfig.class, NotificationService.class, ObjectMapper.class})
+@Import({RedissonConfig.class, NotificationService.class, ObjectMapper.class,
+        QueueRedisAdapter.class, RedisKeyGenerator.class, WebSocketSessionRegistry.class})
 class NotificationServiceTest {
 
     @Autowired
@@ -39,6 +43,8 @@ class NotificationServiceTest {
     private RedissonClient redissonClient;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private WebSocketSessionRegistry sessionRegistry;
 
     /**
      * @Container: 이 필드가 Testcontainer 임을 나타냅니다.
@@ -61,19 +67,20 @@ class NotificationServiceTest {
     }
 
     @Test
-    @DisplayName("입장 알림을 보내면, Redis Pub/Sub 토픽으로 AdmissionEvent 메시지가 발행된다.")
+    @DisplayName("입장 알림을 보내면, 사용자의 세션이 연결된 노드 토픽으로 AdmissionEvent 메시지가 발행된다.")
     void sendAdmissionNotification() throws InterruptedException, IOException {
         // given: 테스트용 데이터와 비동기 메시지 수신을 위한 환경 설정
         Long userId = 1L;
         String accessKey = "key-test";
+        sessionRegistry.register(userId); // 현재 노드에 WebSocket 세션이 연결된 상태
 
         // CountDownLatch: 비동기 작업(메시지 수신)이 완료될 때까지 메인 스레드를 기다리게 하는 도구
         CountDownLatch latch = new CountDownLatch(1);
         // AtomicReference: 다른 스레드(리스너)에서 받은 메시지를 메인 스레드에서 안전하게 참조하기 위한 변수
         AtomicReference<String> receivedMessage = new AtomicReference<>();
 
-        // 테스트용 임시 구독자(Subscriber)를 생성하여 "admission-channel"을 구독
-        RTopic topic = redissonClient.getTopic("admission-channel");
+        // 테스트용 임시 구독자(Subscriber)를 생성하여 "admission-channel:{nodeId}"를 구독
+        RTopic topic = redissonClient.getTopic("admission-channel:" + sessionRegistry.getNodeId());
         topic.addListener(CharSequence.class, (channel, msg) -> {
             receivedMessage.set(msg.toString()); // 메시지 수신 시, AtomicReference에 저장
             latch.countDown();                   // Latch의 카운트를 감소시켜 대기 중인 스레드를 깨움
@@ -92,4 +99,19 @@ class NotificationServiceTest {
         assertThat(event.userId()).isEqualTo(userId);
         assertThat(event.accessKey()).isEqualTo(accessKey);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("연결된 WebSocket 세션이 없는 사용자에게는 입장 알림을 발행하지 않는다.")
+    void sendAdmissionNotification_withoutSession() throws InterruptedException {
+        // given
+        CountDownLatch latch = new CountDownLatch(1);
+        RTopic topic = redissonClient.getTopic("admission-channel:" + sessionRegistry.getNodeId());
+        topic.addListener(CharSequence.class, (channel, msg) -> latch.countDown());
+
+        // when
+        notificationService.sendAdmissionNotification(999L, "key-test");
+
+        // then
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isFalse();
+    }
+}
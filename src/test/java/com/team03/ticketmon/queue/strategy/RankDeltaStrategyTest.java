@@ -0,0 +1,152 @@
+package com.team03.ticketmon.queue.strategy;
+
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter.QueueRange;
+import com.team03.ticketmon.queue.dto.RankUpdateEvent;
+import com.team03.ticketmon.queue.service.NotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RScoredSortedSet;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("순위 변화량 기반 순위 알림 전략 테스트")
+class RankDeltaStrategyTest {
+
+    private static final Long CONCERT_ID = 1L;
+
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private QueueRedisAdapter queueRedisAdapter;
+    @Mock
+    private RScoredSortedSet<Long> queue;
+
+    @InjectMocks
+    private RankDeltaStrategy rankDeltaStrategy;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(rankDeltaStrategy, "topRankerCount", 5);
+        ReflectionTestUtils.setField(rankDeltaStrategy, "rankBucketSize", 100);
+        ReflectionTestUtils.setField(rankDeltaStrategy, "rankBucketPercent", 10);
+    }
+
+    @Test
+    @DisplayName("최상위 대기자와 순위 구간 경계를 넘은 대기자만 알림 대상이 된다")
+    void findChangedRanges() {
+        // when: 대기 500명, 20명 입장 → 구간 크기 max(100, 50) = 100
+        List<QueueRange> ranges = rankDeltaStrategy.findChangedRanges(500, 20);
+
+        // then: 최상위 5명 + 경계 100/200/300/400/500을 넘은 각 20명 (경계 500은 현재 순위 480~499)
+        assertThat(ranges).containsExactly(
+                new QueueRange(0, 4),
+                new QueueRange(80, 99),
+                new QueueRange(180, 199),
+                new QueueRange(280, 299),
+                new QueueRange(380, 399),
+                new QueueRange(480, 499));
+    }
+
+    @Test
+    @DisplayName("뒤쪽 구간은 순위에 비례해 넓어지므로 대기열이 길어져도 알림 대상 수는 로그 수준으로만 늘어난다")
+    void findChangedRanges_boundedByBucketCount() {
+        // when: 대기 100만 명, 20명 입장 → 1000위까지 100 단위 경계 10개, 이후 10%씩 넓어지는 경계 72개
+        List<QueueRange> ranges = rankDeltaStrategy.findChangedRanges(1_000_000, 20);
+
+        // then: 최상위 5명 + 경계 82개 x 20명
+        long total = ranges.stream().mapToLong(range -> range.to() - range.from() + 1).sum();
+        assertThat(total).isEqualTo(5 + 82 * 20);
+    }
+
+    @Test
+    @DisplayName("구간 경계는 순위로 고정되어 대기 인원이 바뀌어도 움직이지 않는다")
+    void findChangedRanges_boundariesIndependentOfQueueSize() {
+        // when: 같은 인원이 빠져나갔지만 대기 인원이 다른 두 주기
+        List<QueueRange> shorter = rankDeltaStrategy.findChangedRanges(5_000, 20);
+        List<QueueRange> longer = rankDeltaStrategy.findChangedRanges(50_000, 20);
+
+        // then: 짧은 대기열의 구간은 긴 대기열에서도 그대로 알림 대상
+        assertThat(longer).containsAll(shorter.stream().filter(range -> range.to() < 4_999).toList());
+    }
+
+    @Test
+    @DisplayName("rank-bucket-percent가 0이면 1로 보정되어 구간이 순위에 비례해 넓어진다")
+    void validateBuckets_clampsZeroPercent() {
+        // given
+        ReflectionTestUtils.setField(rankDeltaStrategy, "rankBucketPercent", 0);
+
+        // when
+        rankDeltaStrategy.validateBuckets();
+
+        // then
+        assertThat(ReflectionTestUtils.getField(rankDeltaStrategy, "rankBucketPercent")).isEqualTo(1);
+        assertThat(rankDeltaStrategy.findChangedRanges(1_000_000, 1)).hasSizeLessThan(1 + 1_000_000 / 100);
+    }
+
+    @Test
+    @DisplayName("빠져나간 인원이 구간 크기보다 크면 겹치는 구간 없이 합쳐서 계산한다")
+    void findChangedRanges_largeShift() {
+        // when: 대기 250명, 150명 입장 → 구간 크기 100
+        List<QueueRange> ranges = rankDeltaStrategy.findChangedRanges(250, 150);
+
+        // then: 경계 100 → [0, 99], 경계 200 → [50, 199] 중 겹치지 않는 부분, 경계 300 → [150, 249] 중 나머지
+        assertThat(ranges).containsExactly(
+                new QueueRange(0, 4),
+                new QueueRange(5, 99),
+                new QueueRange(100, 199),
+                new QueueRange(200, 249));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("조회한 구간의 사용자에게 현재 순위를 계산해 한 번에 묶어 발행한다")
+    void execute() {
+        // given: 대기 120명, 10명 입장 → 최상위 [0, 4], 경계 100 → [90, 99]
+        given(queue.size()).willReturn(120);
+        given(queueRedisAdapter.getQueueRanges(CONCERT_ID, List.of(new QueueRange(0, 4), new QueueRange(90, 99))))
+                .willReturn(List.of(
+                        List.of(11L, 12L, 13L, 14L, 15L),
+                        List.of(91L, 92L, 93L, 94L, 95L, 96L, 97L, 98L, 99L, 100L)));
+
+        // when
+        rankDeltaStrategy.execute(CONCERT_ID, queue, 10);
+
+        // then
+        ArgumentCaptor<List<RankUpdateEvent>> captor = ArgumentCaptor.forClass(List.class);
+        then(notificationService).should().sendRankUpdates(captor.capture());
+        List<RankUpdateEvent> events = captor.getValue();
+        assertThat(events).hasSize(15);
+        assertThat(events.get(0)).isEqualTo(new RankUpdateEvent(11L, 1));
+        assertThat(events.get(4)).isEqualTo(new RankUpdateEvent(15L, 5));
+        assertThat(events.get(5)).isEqualTo(new RankUpdateEvent(91L, 91));
+        assertThat(events.get(14)).isEqualTo(new RankUpdateEvent(100L, 100));
+    }
+
+    @Test
+    @DisplayName("이번 주기에 빠져나간 인원이 없으면 순위가 바뀌지 않았으므로 아무것도 발행하지 않는다")
+    void execute_noMovement() {
+        // when
+        rankDeltaStrategy.execute(CONCERT_ID, queue, 0);
+
+        // then
+        then(queueRedisAdapter).should(never()).getQueueRanges(anyLong(), anyList());
+        then(notificationService).should(never()).sendRankUpdates(any());
+    }
+}
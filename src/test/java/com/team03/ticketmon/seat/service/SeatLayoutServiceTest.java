@@ -0,0 +1,170 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.exception.BusinessException;
+import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon.concert.domain.Concert;
+import com.team03.ticketmon.concert.domain.ConcertSeat;
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.concert.repository.ConcertRepository;
+import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.seat.adapter.SeatRedisAdapter;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.dto.SeatLayoutResponseDTO;
+import com.team03.ticketmon.seat.dto.SectionLayoutResponseDTO;
+import com.team03.ticketmon.venue.domain.Seat;
+import com.team03.ticketmon.venue.service.VenueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("좌석 배치도 캐시 테스트")
+class SeatLayoutServiceTest {
+
+    private static final Long CONCERT_ID = 1L;
+
+    @Mock
+    private ConcertRepository concertRepository;
+    @Mock
+    private ConcertSeatRepository concertSeatRepository;
+    @Mock
+    private VenueService venueService;
+    @Mock
+    private SeatRedisAdapter seatRedisAdapter;
+
+    private SeatLayoutService seatLayoutService;
+
+    @BeforeEach
+    void setUp() {
+        seatLayoutService = new SeatLayoutService(concertRepository, concertSeatRepository, venueService,
+                seatRedisAdapter, new SeatProperties());
+        seatLayoutService.init();
+
+        Concert concert = mock(Concert.class);
+        given(concert.getVenueName()).willReturn("테스트홀");
+        given(concertRepository.findById(CONCERT_ID)).willReturn(Optional.of(concert));
+        given(venueService.getVenueByName(anyString())).willThrow(new BusinessException(ErrorCode.VENUE_NOT_FOUND));
+        given(concertSeatRepository.findByConcertIdWithDetails(CONCERT_ID)).willReturn(List.of(
+                concertSeat(concert, 1L, "A", 1),
+                concertSeat(concert, 2L, "A", 2),
+                concertSeat(concert, 3L, "VIP", 1)));
+    }
+
+    @Test
+    @DisplayName("버전이 같으면 미리 계산된 배치도를 재사용하고, 버전이 바뀌면 다시 계산한다")
+    void snapshotIsReusedUntilVersionChanges() {
+        // given
+        given(seatRedisAdapter.getLayoutVersion(CONCERT_ID)).willReturn(0L, 0L, 1L);
+        given(concertSeatRepository.findBookedSeatIdsByConcertId(CONCERT_ID)).willReturn(List.of());
+
+        // when
+        seatLayoutService.getSeatLayout(CONCERT_ID);
+        seatLayoutService.getSectionLayout(CONCERT_ID, "vip");
+        seatLayoutService.getSeatLayout(CONCERT_ID);
+
+        // then: 버전 0에서 1회, 버전 1에서 1회만 Fetch Join 조회
+        then(concertSeatRepository).should(times(2)).findByConcertIdWithDetails(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("예매 완료 좌석은 캐시된 배치도 위에 예매 불가로 표시되고, ETag도 바뀐다")
+    void bookedSeatsAreAppliedAndChangeETag() {
+        // given
+        given(seatRedisAdapter.getLayoutVersion(CONCERT_ID)).willReturn(0L);
+        given(concertSeatRepository.findBookedSeatIdsByConcertId(CONCERT_ID)).willReturn(List.of(), List.of(2L));
+
+        // when
+        SeatLayoutService.SeatLayoutState before = seatLayoutService.getLayoutState(CONCERT_ID);
+        SeatLayoutService.SeatLayoutState after = seatLayoutService.getLayoutState(CONCERT_ID);
+        SeatLayoutResponseDTO layout = seatLayoutService.getSeatLayout(after);
+
+        // then
+        assertThat(after.eTag()).isNotEqualTo(before.eTag());
+        assertThat(layout.statistics().totalSeats()).isEqualTo(3);
+        assertThat(layout.statistics().availableSeats()).isEqualTo(2);
+        assertThat(layout.sections()).extracting(SectionLayoutResponseDTO::sectionName).containsExactly("A", "VIP");
+        assertThat(layout.sections().get(0).seats())
+                .filteredOn(seat -> seat.seatId().equals(2L))
+                .singleElement()
+                .satisfies(seat -> assertThat(seat.isAvailable()).isFalse());
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 ETag가 같고, 구역별 ETag는 구역마다 다르다")
+    void eTagIsStable() {
+        // given
+        given(seatRedisAdapter.getLayoutVersion(CONCERT_ID)).willReturn(0L);
+        given(concertSeatRepository.findBookedSeatIdsByConcertId(CONCERT_ID)).willReturn(List.of(1L));
+
+        // when
+        SeatLayoutService.SeatLayoutState first = seatLayoutService.getLayoutState(CONCERT_ID);
+        SeatLayoutService.SeatLayoutState second = seatLayoutService.getLayoutState(CONCERT_ID);
+
+        // then
+        assertThat(second.eTag()).isEqualTo(first.eTag());
+        assertThat(first.sectionETag("a")).isEqualTo(first.sectionETag("A"));
+        assertThat(first.sectionETag("A")).isNotEqualTo(first.sectionETag("VIP"));
+    }
+
+    @Test
+    @DisplayName("좌석 수가 같고 32비트 해시가 같은 예매 좌석 조합도 ETag가 다르다")
+    void eTagDistinguishesHashCollidingSeatSets() {
+        // given: {1, 40}과 {2, 9}는 Arrays.hashCode가 같음 (x -> x+1, y -> y-31)
+        given(seatRedisAdapter.getLayoutVersion(CONCERT_ID)).willReturn(0L);
+        given(concertSeatRepository.findBookedSeatIdsByConcertId(CONCERT_ID))
+                .willReturn(List.of(1L, 40L), List.of(2L, 9L));
+
+        // when
+        SeatLayoutService.SeatLayoutState first = seatLayoutService.getLayoutState(CONCERT_ID);
+        SeatLayoutService.SeatLayoutState second = seatLayoutService.getLayoutState(CONCERT_ID);
+
+        // then
+        assertThat(Arrays.hashCode(new long[]{1L, 40L})).isEqualTo(Arrays.hashCode(new long[]{2L, 9L}));
+        assertThat(second.eTag()).isNotEqualTo(first.eTag());
+        assertThat(second.sectionETag("A")).isNotEqualTo(first.sectionETag("A"));
+    }
+
+    @Test
+    @DisplayName("구역은 대소문자 없이 조회하고, 없는 구역이면 사용 가능한 구역을 안내한다")
+    void sectionLookup() {
+        // given
+        given(seatRedisAdapter.getLayoutVersion(CONCERT_ID)).willReturn(0L);
+        given(concertSeatRepository.findBookedSeatIdsByConcertId(CONCERT_ID)).willReturn(List.of());
+        SeatLayoutService.SeatLayoutState state = seatLayoutService.getLayoutState(CONCERT_ID);
+
+        // when
+        SectionLayoutResponseDTO section = seatLayoutService.getSectionLayout(state, "a");
+
+        // then
+        assertThat(section.totalSeats()).isEqualTo(2);
+        assertThatThrownBy(() -> seatLayoutService.getSectionLayout(state, "Z"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("A, VIP");
+    }
+
+    private ConcertSeat concertSeat(Concert concert, Long seatId, String section, int seatNumber) {
+        Seat seat = new Seat();
+        ReflectionTestUtils.setField(seat, "seatId", seatId);
+        ReflectionTestUtils.setField(seat, "section", section);
+        ReflectionTestUtils.setField(seat, "seatRow", "1");
+        ReflectionTestUtils.setField(seat, "seatNumber", seatNumber);
+        return ConcertSeat.create(concert, seat, SeatGrade.R, BigDecimal.valueOf(100000));
+    }
+}
@@ -0,0 +1,160 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.concert.service.ConcertSeatSummaryService;
+import com.team03.ticketmon.seat.adapter.SeatRedisAdapter;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.BulkSeatLockResultDTO;
+import com.team03.ticketmon.seat.dto.SeatLockResultDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 좌석 일괄 영구 선점/복원이 실제 Redis에서 All-or-Nothing으로 동작하는지 검증하는 테스트 클래스.
+ */
+@ActiveProfiles("test")
+@Testcontainers
+@DataRedisTest
+@Import({RedissonConfig.class, SeatRedisAdapter.class, SeatStatusService.class, SeatLockService.class,
+        SeatProperties.class})
+class SeatLockServiceTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final Long USER_ID = 100L;
+
+    @MockitoBean
+    private SeatStatusEventPublisher eventPublisher;
+    @MockitoBean
+    private SeatCacheInitService seatCacheInitService;
+    @MockitoBean
+    private ConcertSeatRepository concertSeatRepository;
+    @MockitoBean
+    private ConcertSeatSummaryService concertSeatSummaryService;
+
+    @Autowired
+    private SeatLockService seatLockService;
+    @Autowired
+    private SeatStatusService seatStatusService;
+    @Autowired
+    private SeatRedisAdapter seatRedisAdapter;
+    @Autowired
+    private SeatProperties seatProperties;
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Container
+    public static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> redis.getHost());
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.data.redis.ssl.enabled", () -> false);
+    }
+
+    /**
+     * 각 테스트 전 Redis를 비우고, 사용자가 1, 2번 좌석을 선점한 좌석 캐시를 준비합니다.
+     */
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushdb();
+        seatProperties.getReservation().setMaxSeatCount(4);
+
+        RMap<String, SeatStatus> seatMap = redissonClient.getMap("seat:status:" + CONCERT_ID);
+        for (long seatId = 1; seatId <= 4; seatId++) {
+            seatMap.put(String.valueOf(seatId), SeatStatus.builder()
+                    .id(CONCERT_ID + "-" + seatId)
+                    .concertId(CONCERT_ID)
+                    .seatId(seatId)
+                    .status(SeatStatusEnum.AVAILABLE)
+                    .seatInfo("A-" + seatId)
+                    .build());
+        }
+        seatStatusService.reserveSeat(CONCERT_ID, 1L, USER_ID, "A-1");
+        seatStatusService.reserveSeat(CONCERT_ID, 2L, USER_ID, "A-2");
+    }
+
+    @Test
+    @DisplayName("사용자의 모든 선점 좌석이 한 번에 영구 선점되고, 다시 한 번에 TTL과 함께 복원된다.")
+    void lockAndRestoreAllSeats() {
+        // given
+        long version = seatRedisAdapter.getSeatStateVersion(CONCERT_ID);
+
+        // when
+        BulkSeatLockResultDTO lockResult = seatLockService.lockAllUserSeatsPermanently(CONCERT_ID, USER_ID);
+
+        // then
+        assertThat(lockResult.isAllSuccess()).isTrue();
+        assertThat(lockResult.getSeatResults()).hasSize(2).allMatch(SeatLockResultDTO::isTtlKeyRemoved);
+        assertThat(seatLockService.getUserPermanentlyLockedSeats(CONCERT_ID, USER_ID)).hasSize(2);
+        assertThat(redissonClient.getBucket("seat:expire:" + CONCERT_ID + ":1").isExists()).isFalse();
+        assertThat(redissonClient.getScoredSortedSet("seat:expiry:" + CONCERT_ID).size()).isZero();
+        // 좌석 수와 관계없이 상태 버전은 한 번만 증가
+        assertThat(seatRedisAdapter.getSeatStateVersion(CONCERT_ID)).isEqualTo(version + 1);
+
+        // when
+        BulkSeatLockResultDTO restoreResult =
+                seatLockService.restoreAllUserSeatsWithCompensation(CONCERT_ID, USER_ID, true);
+
+        // then
+        assertThat(restoreResult.isAllSuccess()).isTrue();
+        assertThat(seatLockService.getUserPermanentlyLockedSeats(CONCERT_ID, USER_ID)).isEmpty();
+        assertThat(seatStatusService.getUserReservedSeats(CONCERT_ID, USER_ID))
+                .hasSize(2)
+                .allMatch(seat -> seat.getExpiresAt() != null);
+        assertThat(redissonClient.getBucket("seat:expire:" + CONCERT_ID + ":2").isExists()).isTrue();
+        assertThat(redissonClient.getScoredSortedSet("seat:expiry:" + CONCERT_ID).size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("한 좌석이라도 검증에 실패하면 어떤 좌석도 영구 선점되지 않는다.")
+    void lockIsAllOrNothing() {
+        // given: 2번 좌석의 선점이 이미 만료됨 (아직 해제되지 않은 상태)
+        RMap<String, SeatStatus> seatMap = redissonClient.getMap("seat:status:" + CONCERT_ID);
+        SeatStatus expired = seatMap.get("2");
+        seatMap.put("2", SeatStatus.builder()
+                .id(expired.getId())
+                .concertId(CONCERT_ID)
+                .seatId(2L)
+                .status(SeatStatusEnum.RESERVED)
+                .userId(USER_ID)
+                .reservedAt(expired.getReservedAt())
+                .expiresAt(LocalDateTime.now().minusSeconds(1))
+                .seatInfo(expired.getSeatInfo())
+                .build());
+        long version = seatRedisAdapter.getSeatStateVersion(CONCERT_ID);
+
+        // when
+        BulkSeatLockResultDTO result = seatLockService.lockAllUserSeatsPermanently(CONCERT_ID, USER_ID);
+
+        // then
+        assertThat(result.isAllSuccess()).isFalse();
+        assertThat(result.isPartialSuccess()).isFalse();
+        assertThat(result.getFailureCount()).isEqualTo(2);
+        assertThat(seatLockService.getUserPermanentlyLockedSeats(CONCERT_ID, USER_ID)).isEmpty();
+        assertThat(seatMap.get("1").getExpiresAt()).isNotNull();
+        assertThat(redissonClient.getBucket("seat:expire:" + CONCERT_ID + ":1").isExists()).isTrue();
+        assertThat(seatRedisAdapter.getSeatStateVersion(CONCERT_ID)).isEqualTo(version);
+    }
+}
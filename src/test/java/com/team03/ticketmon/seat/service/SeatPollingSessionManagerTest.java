@@ -0,0 +1,104 @@
+package com.team03.ticketmon.seat.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatUpdateEventDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SeatPollingSessionManager 팬아웃 단위 테스트
+ * - 모든 대기 세션이 한 번만 직렬화된 응답을 공유하는지
+ * - 세션 제거/정리가 올바르게 동작하는지
+ * (팬아웃 비용 비교는 SeatPollingFanOutBenchmark에서 측정)
+ */
+class SeatPollingSessionManagerTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final int SESSION_COUNT = 1_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private SeatPollingSessionManager sessionManager;
+
+    @BeforeEach
+    void setUp() {
+        sessionManager = new SeatPollingSessionManager(new SeatProperties(), objectMapper);
+    }
+
+    @Test
+    @DisplayName("모든 대기 세션은 한 번 직렬화된 동일한 응답 본문을 받는다")
+    void allSessionsShareSerializedBody() throws Exception {
+        List<DeferredResult<ResponseEntity<?>>> results = registerSessions(SESSION_COUNT);
+
+        sessionManager.notifyWaitingSessions(CONCERT_ID, List.of(
+                SeatUpdateEventDTO.of(CONCERT_ID, 1L, SeatStatusEnum.RESERVED, 10L, "A-1"),
+                SeatUpdateEventDTO.of(CONCERT_ID, 2L, SeatStatusEnum.AVAILABLE, null, "A-2")));
+
+        ResponseEntity<?> first = (ResponseEntity<?>) results.get(0).getResult();
+        assertThat(first.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(first.getBody()).isInstanceOf(byte[].class);
+        for (DeferredResult<ResponseEntity<?>> result : results) {
+            assertThat(((ResponseEntity<?>) result.getResult()).getBody()).isSameAs(first.getBody());
+        }
+
+        JsonNode body = objectMapper.readTree((byte[]) first.getBody());
+        assertThat(body.get("hasUpdate").asBoolean()).isTrue();
+        assertThat(body.get("eventType").asText()).isEqualTo("SEAT_STATUS_CHANGE");
+        assertThat(body.get("seatUpdates")).hasSize(2);
+        assertThat(body.get("seatUpdates").get(0).get("seatId").asLong()).isEqualTo(1L);
+        assertThat(body.get("seatUpdates").get(1).get("userId").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 응답한 세션은 다시 알림을 받지 않고, 정리 시 제거된다")
+    void completedSessionsAreSkippedAndCleanedUp() {
+        registerSessions(3);
+        sessionManager.notifyWaitingSessions(SeatUpdateEventDTO.of(CONCERT_ID, 1L, SeatStatusEnum.RESERVED, 10L, "A-1"));
+
+        assertThat(sessionManager.getSessionCount(CONCERT_ID)).isEqualTo(3);
+
+        sessionManager.cleanupExpiredSessions();
+
+        assertThat(sessionManager.getSessionCount(CONCERT_ID)).isZero();
+        assertThat(sessionManager.getActiveConcertCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("세션 ID로 개별 세션을 제거하면 해당 세션만 빠진다")
+    void removeSessionById() {
+        DeferredResult<ResponseEntity<?>> deferredResult = new DeferredResult<>();
+        String sessionId = sessionManager.registerSession(CONCERT_ID, deferredResult, 1L, "junit");
+        registerSessions(2);
+
+        sessionManager.removeSession(CONCERT_ID, sessionId);
+
+        assertThat(sessionManager.getSessionCount(CONCERT_ID)).isEqualTo(2);
+        assertThat(sessionManager.hasActiveUserSession(1L, CONCERT_ID)).isFalse();
+    }
+
+    private List<DeferredResult<ResponseEntity<?>>> registerSessions(int count) {
+        List<DeferredResult<ResponseEntity<?>>> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            DeferredResult<ResponseEntity<?>> deferredResult = new DeferredResult<>();
+            sessionManager.registerSession(CONCERT_ID, deferredResult, (long) i + 100, "junit");
+            results.add(deferredResult);
+        }
+        return results;
+    }
+}
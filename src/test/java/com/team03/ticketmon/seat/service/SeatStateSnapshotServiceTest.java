@@ -0,0 +1,201 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.concert.service.ConcertSeatSummaryService;
+import com.team03.ticketmon.seat.adapter.SeatRedisAdapter;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatStatusDeltaResponseDTO;
+import com.team03.ticketmon.seat.dto.SeatStatusResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 좌석 상태 스냅샷과 버전 기준 변경분 동기화를 실제 Redis에서 검증하는 테스트 클래스.
+ * 스냅샷이 버전마다 한 번만 만들어지는지, 변경분만으로 최신 상태를 따라잡을 수 있는지 확인합니다.
+ */
+@ActiveProfiles("test")
+@Testcontainers
+@DataRedisTest
+@Import({RedissonConfig.class, SeatRedisAdapter.class, SeatStatusService.class, SeatStateSnapshotService.class,
+        SeatProperties.class})
+class SeatStateSnapshotServiceTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final int SEAT_COUNT = 10;
+
+    @MockitoBean
+    private SeatStatusEventPublisher eventPublisher;
+    @MockitoBean
+    private SeatCacheInitService seatCacheInitService;
+    @MockitoBean
+    private ConcertSeatRepository concertSeatRepository;
+    @MockitoBean
+    private ConcertSeatSummaryService concertSeatSummaryService;
+
+    @Autowired
+    private SeatStateSnapshotService seatStateSnapshotService;
+    @Autowired
+    private SeatStatusService seatStatusService;
+    @Autowired
+    private SeatRedisAdapter seatRedisAdapter;
+    @Autowired
+    private SeatProperties seatProperties;
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Container
+    public static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> redis.getHost());
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.data.redis.ssl.enabled", () -> false);
+    }
+
+    /**
+     * 각 테스트 전 Redis를 비우고, 모든 좌석이 AVAILABLE인 좌석 캐시를 준비합니다.
+     */
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushdb();
+        seatProperties.getReservation().setMaxSeatCount(2);
+        seatProperties.getSnapshot().setMaxDeltaSeats(500);
+
+        RMap<String, SeatStatus> seatMap = redissonClient.getMap("seat:status:" + CONCERT_ID);
+        for (long seatId = 1; seatId <= SEAT_COUNT; seatId++) {
+            seatMap.put(String.valueOf(seatId), SeatStatus.builder()
+                    .id(CONCERT_ID + "-" + seatId)
+                    .concertId(CONCERT_ID)
+                    .seatId(seatId)
+                    .status(SeatStatusEnum.AVAILABLE)
+                    .seatInfo("A-" + seatId)
+                    .build());
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷은 버전이 같으면 재사용되고, 좌석 상태가 바뀌면 새 버전으로 다시 만들어진다.")
+    void snapshotIsCachedPerVersion() {
+        // given
+        SeatStateSnapshotService.SeatStateSnapshot first = seatStateSnapshotService.getSnapshot(CONCERT_ID);
+
+        // when
+        SeatStateSnapshotService.SeatStateSnapshot same = seatStateSnapshotService.getSnapshot(CONCERT_ID);
+        seatStatusService.reserveSeat(CONCERT_ID, 3L, 100L, "A-3");
+        SeatStateSnapshotService.SeatStateSnapshot next = seatStateSnapshotService.getSnapshot(CONCERT_ID);
+
+        // then
+        assertThat(same).isSameAs(first);
+        assertThat(next.version()).isEqualTo(first.version() + 1);
+        assertThat(next.eTag()).isNotEqualTo(first.eTag());
+
+        Map<Long, SeatStatusEnum> decoded = decode(next.payload());
+        assertThat(decoded).hasSize(SEAT_COUNT);
+        assertThat(decoded.get(3L)).isEqualTo(SeatStatusEnum.RESERVED);
+        assertThat(decoded).containsEntry(1L, SeatStatusEnum.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("스냅샷 버전 이후의 변경분만으로 선점/해제/예매 결과를 따라잡을 수 있다.")
+    void changesSinceVersion() {
+        // given
+        long version = seatStateSnapshotService.getSnapshot(CONCERT_ID).version();
+
+        // when
+        seatStatusService.reserveSeat(CONCERT_ID, 1L, 100L, "A-1");
+        seatStatusService.reserveSeat(CONCERT_ID, 2L, 100L, "A-2");
+        seatStatusService.releaseSeat(CONCERT_ID, 1L, 100L);
+        seatStatusService.bookSeat(CONCERT_ID, 2L);
+        SeatStatusDeltaResponseDTO delta = seatStateSnapshotService.getChangesSince(CONCERT_ID, version, 100L);
+
+        // then
+        assertThat(delta.fullSyncRequired()).isFalse();
+        assertThat(delta.version()).isEqualTo(version + 4);
+        assertThat(delta.changes())
+                .extracting(SeatStatusResponseDTO::seatId, SeatStatusResponseDTO::status)
+                .containsExactly(
+                        tuple(1L, SeatStatusEnum.AVAILABLE),
+                        tuple(2L, SeatStatusEnum.BOOKED));
+
+        // 최신 버전 기준으로는 변경분이 없다
+        assertThat(seatStateSnapshotService.getChangesSince(CONCERT_ID, delta.version(), 100L).changes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좌석 캐시가 다시 초기화되었거나 변경 좌석이 너무 많으면 전체 동기화를 요구한다.")
+    void fullSyncRequired() {
+        // given
+        seatStatusService.reserveSeat(CONCERT_ID, 1L, 100L, "A-1");
+        seatStatusService.reserveSeat(CONCERT_ID, 2L, 200L, "A-2");
+
+        // when & then: 변경 좌석 수 초과
+        seatProperties.getSnapshot().setMaxDeltaSeats(1);
+        assertThat(seatStateSnapshotService.getChangesSince(CONCERT_ID, 0, null).fullSyncRequired()).isTrue();
+        seatProperties.getSnapshot().setMaxDeltaSeats(500);
+        assertThat(seatStateSnapshotService.getChangesSince(CONCERT_ID, 0, null).fullSyncRequired()).isFalse();
+
+        // when & then: 캐시 초기화 이전 버전 / 서버보다 앞선 버전
+        long resetVersion = seatRedisAdapter.resetSeatStateVersion(CONCERT_ID);
+        assertThat(seatStateSnapshotService.getChangesSince(CONCERT_ID, resetVersion - 1, null).fullSyncRequired()).isTrue();
+        assertThat(seatStateSnapshotService.getChangesSince(CONCERT_ID, resetVersion + 1, null).fullSyncRequired()).isTrue();
+        assertThat(seatStateSnapshotService.getChangesSince(CONCERT_ID, resetVersion, null).fullSyncRequired()).isFalse();
+    }
+
+    /**
+     * 스냅샷 형식을 좌석 ID → 상태로 복원 (클라이언트 디코딩과 동일)
+     */
+    private Map<Long, SeatStatusEnum> decode(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        assertThat(buffer.get()).isEqualTo(SeatStateSnapshotService.FORMAT_VERSION);
+        buffer.getLong();
+        int seatCount = buffer.getInt();
+
+        long[] seatIds = new long[seatCount];
+        long previous = 0;
+        for (int i = 0; i < seatCount; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer.get();
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            previous += delta;
+            seatIds[i] = previous;
+        }
+
+        Map<Long, SeatStatusEnum> result = new LinkedHashMap<>();
+        int statusOffset = buffer.position();
+        for (int i = 0; i < seatCount; i++) {
+            int bits = (payload[statusOffset + (i >> 2)] >> ((i & 3) * 2)) & 0x3;
+            result.put(seatIds[i], SeatStatusEnum.values()[bits]);
+        }
+        return result;
+    }
+}
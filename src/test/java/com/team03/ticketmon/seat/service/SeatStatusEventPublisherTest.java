@@ -0,0 +1,169 @@
+package com.team03.ticketmon.seat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatUpdateBatchEventDTO;
+import com.team03.ticketmon.seat.dto.SeatUpdateEventDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * SeatStatusEventPublisher 배치 발행 단위 테스트
+ * - 같은 좌석의 연속 변경이 마지막 상태로 합쳐지는지
+ * - 최대 이벤트 수 도달 시 즉시 발행되는지
+ * - 개별 발행 대비 Pub/Sub 발행 횟수가 줄어드는지
+ * - 발행을 마친 콘서트 버퍼가 제거되는지
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SeatStatusEventPublisherTest {
+
+    private static final Long CONCERT_ID = 1L;
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RTopic topic;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final List<String> publishedMessages = new CopyOnWriteArrayList<>();
+
+    private SeatProperties seatProperties;
+    private SeatStatusEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        when(redissonClient.getTopic(anyString())).thenReturn(topic);
+        when(topic.publish(any())).thenAnswer(invocation -> {
+            publishedMessages.add(invocation.getArgument(0));
+            return 1L;
+        });
+
+        seatProperties = new SeatProperties();
+        publisher = new SeatStatusEventPublisher(redissonClient, objectMapper, seatProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Test
+    @DisplayName("수집 시간 내 같은 좌석 변경은 마지막 상태만 마지막 변경 순서로 발행된다")
+    void coalescesSameSeatWithLastWriteWins() throws Exception {
+        seatProperties.getEvent().setBatchWindowMs(50);
+
+        publisher.publishSeatUpdate(CONCERT_ID, 1L, SeatStatusEnum.RESERVED, 10L, "A-1");
+        publisher.publishSeatUpdate(CONCERT_ID, 2L, SeatStatusEnum.RESERVED, 20L, "A-2");
+        publisher.publishSeatUpdate(CONCERT_ID, 1L, SeatStatusEnum.AVAILABLE, null, "A-1");
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> publishedMessages.size() == 1);
+
+        SeatUpdateBatchEventDTO batch = objectMapper.readValue(publishedMessages.get(0), SeatUpdateBatchEventDTO.class);
+        assertThat(batch.concertId()).isEqualTo(CONCERT_ID);
+        assertThat(batch.updates()).extracting(SeatUpdateEventDTO::seatId).containsExactly(2L, 1L);
+        assertThat(batch.updates().get(1).status()).isEqualTo(SeatStatusEnum.AVAILABLE);
+        assertThat(batch.updates().get(1).userId()).isNull();
+        assertThat(publisher.getPublisherStats())
+                .containsEntry("publishedBatchCount", 1L)
+                .containsEntry("coalescedEventCount", 1L);
+    }
+
+    @Test
+    @DisplayName("최대 이벤트 수에 도달하면 수집 시간을 기다리지 않고 즉시 발행된다")
+    void flushesImmediatelyWhenMaxEventsReached() throws Exception {
+        seatProperties.getEvent().setBatchWindowMs(10_000);
+        seatProperties.getEvent().setBatchMaxEvents(3);
+
+        publisher.publishSeatUpdate(CONCERT_ID, 1L, SeatStatusEnum.RESERVED, 10L, "A-1");
+        publisher.publishSeatUpdate(CONCERT_ID, 2L, SeatStatusEnum.RESERVED, 10L, "A-2");
+        assertThat(publishedMessages).isEmpty();
+
+        publisher.publishSeatUpdate(CONCERT_ID, 3L, SeatStatusEnum.RESERVED, 10L, "A-3");
+
+        assertThat(publishedMessages).hasSize(1);
+        SeatUpdateBatchEventDTO batch = objectMapper.readValue(publishedMessages.get(0), SeatUpdateBatchEventDTO.class);
+        assertThat(batch.updates()).extracting(SeatUpdateEventDTO::seatId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("배치 비활성화 시 변경마다 개별 이벤트로 발행된다")
+    void publishesSingleEventsWhenBatchDisabled() throws Exception {
+        seatProperties.getEvent().setBatchEnabled(false);
+
+        publisher.publishSeatUpdate(CONCERT_ID, 1L, SeatStatusEnum.RESERVED, 10L, "A-1");
+        publisher.publishSeatUpdate(CONCERT_ID, 1L, SeatStatusEnum.AVAILABLE, null, "A-1");
+
+        assertThat(publishedMessages).hasSize(2);
+        SeatUpdateEventDTO event = objectMapper.readValue(publishedMessages.get(1), SeatUpdateEventDTO.class);
+        assertThat(event.status()).isEqualTo(SeatStatusEnum.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("좌석 변경 폭주 시 배치 발행은 개별 발행보다 Pub/Sub 발행 횟수가 크게 줄어든다")
+    void batchingReducesPublishCountUnderBurst() {
+        int eventCount = 5_000;
+        int seatCount = 500;
+
+        seatProperties.getEvent().setBatchEnabled(false);
+        publishBurst(eventCount, seatCount);
+        int singlePublishCount = publishedMessages.size();
+
+        publishedMessages.clear();
+        seatProperties.getEvent().setBatchEnabled(true);
+        seatProperties.getEvent().setBatchWindowMs(30);
+        publishBurst(eventCount, seatCount);
+        publisher.flushAll();
+        int batchPublishCount = publishedMessages.size();
+
+        assertThat(singlePublishCount).isEqualTo(eventCount);
+        // 같은 좌석 변경이 합쳐지고 최대 200건 단위로 묶이므로 발행 횟수는 좌석 수 / 200 수준
+        assertThat(batchPublishCount).isLessThanOrEqualTo(eventCount / 100);
+    }
+
+    @Test
+    @DisplayName("발행을 마친 콘서트 버퍼는 제거되어 콘서트 수만큼 계속 쌓이지 않는다")
+    void removesEmptyBuffersAfterFlush() {
+        seatProperties.getEvent().setBatchWindowMs(20);
+
+        for (long concertId = 1; concertId <= 50; concertId++) {
+            publisher.publishSeatUpdate(concertId, 1L, SeatStatusEnum.RESERVED, 10L, "A-1");
+        }
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> publishedMessages.size() == 50);
+        await().atMost(Duration.ofSeconds(2))
+                .until(() -> Integer.valueOf(0).equals(publisher.getPublisherStats().get("pendingBufferCount")));
+
+        publisher.publishSeatUpdate(CONCERT_ID, 2L, SeatStatusEnum.AVAILABLE, null, "A-2");
+        await().atMost(Duration.ofSeconds(2)).until(() -> publishedMessages.size() == 51);
+    }
+
+    private void publishBurst(int eventCount, int seatCount) {
+        for (int i = 0; i < eventCount; i++) {
+            long seatId = (i % seatCount) + 1;
+            SeatStatusEnum status = (i / seatCount) % 2 == 0 ? SeatStatusEnum.RESERVED : SeatStatusEnum.AVAILABLE;
+            publisher.publishSeatUpdate(CONCERT_ID, seatId, status, 10L, "A-" + seatId);
+        }
+    }
+}
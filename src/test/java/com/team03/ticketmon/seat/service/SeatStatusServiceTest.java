@@ -0,0 +1,423 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.concert.service.ConcertSeatSummaryService;
+import com.team03.ticketmon.seat.adapter.SeatRedisAdapter;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.exception.SeatReservationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SeatStatusService의 좌석 선점 로직이 Lua 스크립트를 통해 원자적으로 동작하는지 검증하는 테스트 클래스.
+ * 동시 선점 경쟁, 사용자별 선점 개수 제한, 만료/영구 선점 좌석 처리를 실제 Redis에서 확인합니다.
+ * 만료 인덱스 기반 만료 선점 해제가 만료된 좌석만 배치 단위로 해제하는지도 확인합니다.
+ */
+@ActiveProfiles("test")
+@Testcontainers
+@DataRedisTest
+@Import({RedissonConfig.class, SeatRedisAdapter.class, SeatStatusService.class, SeatProperties.class})
+class SeatStatusServiceTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final int SEAT_COUNT = 10;
+
+    @MockitoBean
+    private SeatStatusEventPublisher eventPublisher;
+    @MockitoBean
+    private SeatCacheInitService seatCacheInitService;
+    @MockitoBean
+    private ConcertSeatRepository concertSeatRepository;
+    @MockitoBean
+    private ConcertSeatSummaryService concertSeatSummaryService;
+
+    @Autowired
+    private SeatStatusService seatStatusService;
+    @Autowired
+    private SeatProperties seatProperties;
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Container
+    public static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> redis.getHost());
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.data.redis.ssl.enabled", () -> false);
+    }
+
+    /**
+     * 각 테스트 전 Redis를 비우고, 모든 좌석이 AVAILABLE인 좌석 캐시를 준비합니다.
+     */
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushdb();
+        seatProperties.getReservation().setMaxSeatCount(2);
+        seatProperties.getReservation().setTtlMinutes(5);
+        seatProperties.getReservation().setExpirySweepBatchSize(200);
+        seatProperties.getReservation().setExpirySweepMaxBatches(10);
+
+        RMap<String, SeatStatus> seatMap = seatMap();
+        for (long seatId = 1; seatId <= SEAT_COUNT; seatId++) {
+            seatMap.put(String.valueOf(seatId), availableSeat(seatId));
+        }
+    }
+
+    @Test
+    @DisplayName("좌석을 선점하면 좌석 상태, TTL 키, 마지막 업데이트 시간이 한 번에 기록된다.")
+    void reserveSeat_writesStatusTtlKeyAndLastUpdate() {
+        // when
+        SeatStatus reserved = seatStatusService.reserveSeat(CONCERT_ID, 1L, 100L, "A-1");
+
+        // then
+        assertThat(reserved.getStatus()).isEqualTo(SeatStatusEnum.RESERVED);
+
+        SeatStatus stored = seatMap().get("1");
+        assertThat(stored.getStatus()).isEqualTo(SeatStatusEnum.RESERVED);
+        assertThat(stored.getUserId()).isEqualTo(100L);
+        assertThat(stored.getExpiresAt()).isNotNull();
+
+        long ttl = redissonClient.getBucket("seat:expire:" + CONCERT_ID + ":1").remainTimeToLive();
+        assertThat(ttl).isPositive().isLessThanOrEqualTo(TimeUnit.MINUTES.toMillis(5));
+        assertThat(redissonClient.getBucket("seat:expire:" + CONCERT_ID + ":1").get()).isEqualTo("reserved");
+        assertThat(seatStatusService.getLastUpdateTime(CONCERT_ID)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("동일 사용자가 같은 좌석을 다시 선점하면 기존 선점 상태를 그대로 반환한다.")
+    void reserveSeat_sameUserAgain_returnsExistingReservation() {
+        // given
+        SeatStatus first = seatStatusService.reserveSeat(CONCERT_ID, 1L, 100L, "A-1");
+
+        // when
+        SeatStatus second = seatStatusService.reserveSeat(CONCERT_ID, 1L, 100L, "A-1");
+
+        // then
+        assertThat(second.getUserId()).isEqualTo(100L);
+        assertThat(second.getExpiresAt()).isEqualTo(first.getExpiresAt());
+    }
+
+    @Test
+    @DisplayName("여러 사용자가 같은 좌석을 동시에 선점하면 정확히 한 명만 성공한다.")
+    void reserveSeat_concurrentUsers_onlyOneSucceeds() throws Exception {
+        int threadCount = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++) {
+            long userId = 1000L + i;
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                try {
+                    seatStatusService.reserveSeat(CONCERT_ID, 1L, userId, "A-1");
+                    return true;
+                } catch (SeatReservationException e) {
+                    return false;
+                }
+            }));
+        }
+        startLatch.countDown();
+
+        int successCount = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get(10, TimeUnit.SECONDS)) {
+                successCount++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(successCount).isEqualTo(1);
+        assertThat(seatMap().get("1").getStatus()).isEqualTo(SeatStatusEnum.RESERVED);
+    }
+
+    @Test
+    @DisplayName("한 사용자가 여러 좌석을 동시에 선점해도 최대 선점 개수를 넘지 않는다.")
+    void reserveSeat_concurrentSameUser_respectsMaxSeatCount() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(SEAT_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        for (long seatId = 1; seatId <= SEAT_COUNT; seatId++) {
+            long targetSeatId = seatId;
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                try {
+                    seatStatusService.reserveSeat(CONCERT_ID, targetSeatId, 100L, "A-" + targetSeatId);
+                    return true;
+                } catch (SeatReservationException e) {
+                    return false;
+                }
+            }));
+        }
+        startLatch.countDown();
+
+        int successCount = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get(10, TimeUnit.SECONDS)) {
+                successCount++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(successCount).isEqualTo(2);
+        assertThat(seatStatusService.getUserReservedSeats(CONCERT_ID, 100L)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("선점 개수 제한에 걸린 사용자도 기존 좌석을 해제하면 다시 선점할 수 있다.")
+    void reserveSeat_afterRelease_limitIsRecalculated() {
+        // given: 최대 2개 선점
+        seatStatusService.reserveSeat(CONCERT_ID, 1L, 100L, "A-1");
+        seatStatusService.reserveSeat(CONCERT_ID, 2L, 100L, "A-2");
+
+        assertThatThrownBy(() -> seatStatusService.reserveSeat(CONCERT_ID, 3L, 100L, "A-3"))
+                .isInstanceOf(SeatReservationException.class)
+                .hasMessageContaining("최대 2개");
+
+        // when: 좌석 하나를 해제
+        seatStatusService.releaseSeat(CONCERT_ID, 1L, 100L);
+
+        // then: 다시 선점 가능
+        SeatStatus reserved = seatStatusService.reserveSeat(CONCERT_ID, 3L, 100L, "A-3");
+        assertThat(reserved.getUserId()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("예매 완료 좌석과 다른 사용자의 영구 선점 좌석은 선점할 수 없고, 만료된 선점 좌석은 선점할 수 있다.")
+    void reserveSeat_respectsBookedPermanentAndExpiredStates() {
+        // given
+        LocalDateTime past = LocalDateTime.now().minusMinutes(10);
+        RMap<String, SeatStatus> seatMap = seatMap();
+        seatMap.put("1", seat(1L, SeatStatusEnum.BOOKED, 200L, past, null));
+        seatMap.put("2", seat(2L, SeatStatusEnum.RESERVED, 200L, past, null));          // 영구 선점
+        seatMap.put("3", seat(3L, SeatStatusEnum.RESERVED, 200L, past, past.plusMinutes(5))); // 만료된 선점
+
+        // when & then
+        assertThatThrownBy(() -> seatStatusService.reserveSeat(CONCERT_ID, 1L, 100L, "A-1"))
+                .isInstanceOf(SeatReservationException.class)
+                .hasMessageContaining("예매 완료");
+        assertThatThrownBy(() -> seatStatusService.reserveSeat(CONCERT_ID, 2L, 100L, "A-2"))
+                .isInstanceOf(SeatReservationException.class)
+                .hasMessageContaining("다른 사용자");
+
+        SeatStatus reserved = seatStatusService.reserveSeat(CONCERT_ID, 3L, 100L, "A-3");
+        assertThat(reserved.getUserId()).isEqualTo(100L);
+        assertThat(seatMap().get("3").getUserId()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("선점, 해제, 강제 해제, 예매 완료 시 사용자별 선점 좌석 인덱스가 함께 갱신된다.")
+    void userSeatIndex_isMaintainedOnEveryTransition() {
+        // given
+        seatStatusService.reserveSeat(CONCERT_ID, 1L, 100L, "A-1");
+        seatStatusService.reserveSeat(CONCERT_ID, 2L, 100L, "A-2");
+        assertThat(userIndex(100L)).containsExactlyInAnyOrder("1", "2");
+
+        // when & then: 해제
+        seatStatusService.releaseSeat(CONCERT_ID, 1L, 100L);
+        assertThat(userIndex(100L)).containsExactly("2");
+
+        // when & then: 예매 완료
+        seatStatusService.bookSeat(CONCERT_ID, 2L);
+        assertThat(userIndex(100L)).isEmpty();
+        assertThat(seatStatusService.getUserReservedSeats(CONCERT_ID, 100L)).isEmpty();
+
+        // when & then: 강제 해제 (TTL 만료 리스너 경로)
+        seatStatusService.reserveSeat(CONCERT_ID, 3L, 100L, "A-3");
+        seatStatusService.forceReleaseSeat(CONCERT_ID, 3L);
+        assertThat(userIndex(100L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인덱스 복구 시 좌석 상태 Hash를 기준으로 누락 항목은 추가되고 오래된 항목은 제거된다.")
+    void rebuildUserSeatIndex_repairsIndexFromHash() {
+        // given: 인덱스를 거치지 않고 Hash에 직접 선점 상태를 기록하고, 오래된 인덱스 항목을 추가
+        LocalDateTime now = LocalDateTime.now();
+        seatMap().put("4", seat(4L, SeatStatusEnum.RESERVED, 300L, now, now.plusMinutes(5)));
+        redissonClient.<String>getSet("seat:user:" + CONCERT_ID + ":300").add("5");
+
+        // when
+        Map<String, Object> result = seatStatusService.rebuildUserSeatIndex(CONCERT_ID);
+
+        // then
+        assertThat(result.get("indexedSeats")).isEqualTo(1);
+        assertThat(result.get("removedEntries")).isEqualTo(1);
+        assertThat(userIndex(300L)).containsExactly("4");
+        assertThat(seatStatusService.getUserReservedSeats(CONCERT_ID, 300L))
+                .extracting(SeatStatus::getSeatId)
+                .containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("만료 인덱스에서 만료된 선점만 해제하고, 유효한 선점과 영구 선점은 건드리지 않는다.")
+    void releaseExpiredReservations_releasesOnlyDueSeats() {
+        // given
+        LocalDateTime past = LocalDateTime.now().minusMinutes(10);
+        seatStatusService.reserveSeat(CONCERT_ID, 1L, 100L, "A-1");                                        // 유효한 선점
+        seatStatusService.updateSeatStatus(seat(2L, SeatStatusEnum.RESERVED, 100L, past, past.plusMinutes(5))); // 만료된 선점
+        seatStatusService.updateSeatStatus(seat(3L, SeatStatusEnum.RESERVED, 200L, past, null));          // 영구 선점
+        assertThat(expiryIndex()).containsExactlyInAnyOrder("1", "2");
+
+        // when
+        int releasedCount = seatStatusService.releaseExpiredReservations(CONCERT_ID);
+
+        // then
+        assertThat(releasedCount).isEqualTo(1);
+        assertThat(seatMap().get("2").getStatus()).isEqualTo(SeatStatusEnum.AVAILABLE);
+        assertThat(seatMap().get("1").getStatus()).isEqualTo(SeatStatusEnum.RESERVED);
+        assertThat(seatMap().get("3").getStatus()).isEqualTo(SeatStatusEnum.RESERVED);
+        assertThat(userIndex(100L)).containsExactly("1");
+        assertThat(expiryIndex()).containsExactly("1");
+        assertThat(seatStatusService.getConcertIdsWithPendingExpiry()).containsExactly(CONCERT_ID);
+
+        // when & then: 남은 선점을 해제하면 만료 인덱스와 스윕 대상에서도 빠진다
+        seatStatusService.releaseSeat(CONCERT_ID, 1L, 100L);
+        seatStatusService.releaseExpiredReservations(CONCERT_ID);
+        assertThat(expiryIndex()).isEmpty();
+        assertThat(seatStatusService.getConcertIdsWithPendingExpiry()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 선점은 배치 크기와 최대 배치 수 안에서만 해제된다.")
+    void releaseExpiredReservations_inBoundedBatches() {
+        // given: 10개 좌석이 모두 만료된 선점 상태
+        seatProperties.getReservation().setExpirySweepBatchSize(3);
+        seatProperties.getReservation().setExpirySweepMaxBatches(2);
+        LocalDateTime past = LocalDateTime.now().minusMinutes(10);
+        for (long seatId = 1; seatId <= SEAT_COUNT; seatId++) {
+            seatStatusService.updateSeatStatus(
+                    seat(seatId, SeatStatusEnum.RESERVED, 100L + seatId, past, past.plusMinutes(5)));
+        }
+
+        // when & then
+        assertThat(seatStatusService.releaseExpiredReservations(CONCERT_ID)).isEqualTo(6);
+        assertThat(seatStatusService.releaseExpiredReservations(CONCERT_ID)).isEqualTo(4);
+        assertThat(seatMap().readAllValues()).allMatch(SeatStatus::isAvailable);
+        assertThat(expiryIndex()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 좌석을 한 번에 해제하면 해당 사용자의 선점만 해제되고, 강제 해제는 상태와 관계없이 해제된다.")
+    void releaseSeats_inSingleCall() {
+        // given
+        seatStatusService.reserveSeat(CONCERT_ID, 1L, 100L, "A-1");
+        seatStatusService.reserveSeat(CONCERT_ID, 2L, 100L, "A-2");
+        seatStatusService.reserveSeat(CONCERT_ID, 3L, 200L, "A-3");
+        seatStatusService.updateSeatStatus(seat(4L, SeatStatusEnum.BOOKED, 100L, LocalDateTime.now(), null));
+
+        // when: 사용자 해제 (다른 사용자 좌석, 예매 완료 좌석, 빈 좌석은 건너뜀)
+        List<Long> released = seatStatusService.releaseSeats(CONCERT_ID, List.of(1L, 2L, 3L, 4L, 5L), 100L);
+
+        // then
+        assertThat(released).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(seatStatusService.getSeatStatuses(CONCERT_ID, List.of(1L, 2L, 3L, 4L)))
+                .extractingByKeys(1L, 2L, 3L, 4L)
+                .extracting(SeatStatus::getStatus)
+                .containsExactly(SeatStatusEnum.AVAILABLE, SeatStatusEnum.AVAILABLE,
+                        SeatStatusEnum.RESERVED, SeatStatusEnum.BOOKED);
+        assertThat(userIndex(100L)).isEmpty();
+        assertThat(expiryIndex()).containsExactly("3");
+        assertThat(redissonClient.getBucket("seat:expire:" + CONCERT_ID + ":1").isExists()).isFalse();
+
+        // when & then: 강제 해제
+        assertThat(seatStatusService.forceReleaseSeats(CONCERT_ID, List.of(3L, 4L, 5L)))
+                .containsExactlyInAnyOrder(3L, 4L);
+        assertThat(userIndex(200L)).isEmpty();
+        assertThat(expiryIndex()).isEmpty();
+        assertThat(seatMap().readAllValues()).allMatch(SeatStatus::isAvailable);
+    }
+
+    @Test
+    @DisplayName("여러 좌석을 한 번에 예매 완료하면 유효한 선점만 BOOKED가 되고, 이미 예매된 좌석은 성공으로 포함된다.")
+    void bookSeats_inSingleCall() {
+        // given
+        seatStatusService.reserveSeat(CONCERT_ID, 1L, 100L, "A-1");
+        seatStatusService.reserveSeat(CONCERT_ID, 2L, 100L, "A-2");
+        seatStatusService.updateSeatStatus(seat(3L, SeatStatusEnum.BOOKED, 100L, LocalDateTime.now(), null));
+        seatStatusService.updateSeatStatus(seat(4L, SeatStatusEnum.RESERVED, 100L,
+                LocalDateTime.now().minusMinutes(10), LocalDateTime.now().minusMinutes(5)));
+
+        // when: 만료된 선점(4번)과 빈 좌석(5번)은 예매되지 않음
+        List<Long> booked = seatStatusService.bookSeats(CONCERT_ID, List.of(1L, 2L, 3L, 4L, 5L));
+
+        // then
+        assertThat(booked).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(seatStatusService.getSeatStatuses(CONCERT_ID, List.of(1L, 2L, 4L)))
+                .extractingByKeys(1L, 2L, 4L)
+                .extracting(SeatStatus::getStatus)
+                .containsExactly(SeatStatusEnum.BOOKED, SeatStatusEnum.BOOKED, SeatStatusEnum.RESERVED);
+        assertThat(seatStatusService.getSeatStatus(CONCERT_ID, 1L))
+                .get()
+                .extracting(SeatStatus::getUserId)
+                .isEqualTo(100L);
+        assertThat(userIndex(100L)).containsExactly("4");
+        assertThat(expiryIndex()).containsExactly("4");
+        assertThat(redissonClient.getBucket("seat:expire:" + CONCERT_ID + ":1").isExists()).isFalse();
+    }
+
+    private RMap<String, SeatStatus> seatMap() {
+        return redissonClient.getMap("seat:status:" + CONCERT_ID);
+    }
+
+    private Set<String> userIndex(Long userId) {
+        return redissonClient.<String>getSet("seat:user:" + CONCERT_ID + ":" + userId).readAll();
+    }
+
+    private Collection<String> expiryIndex() {
+        return redissonClient.<String>getScoredSortedSet("seat:expiry:" + CONCERT_ID, StringCodec.INSTANCE).readAll();
+    }
+
+    private SeatStatus availableSeat(Long seatId) {
+        return seat(seatId, SeatStatusEnum.AVAILABLE, null, null, null);
+    }
+
+    private SeatStatus seat(Long seatId, SeatStatusEnum status, Long userId,
+                            LocalDateTime reservedAt, LocalDateTime expiresAt) {
+        return SeatStatus.builder()
+                .id(CONCERT_ID + "-" + seatId)
+                .concertId(CONCERT_ID)
+                .seatId(seatId)
+                .status(status)
+                .userId(userId)
+                .reservedAt(reservedAt)
+                .expiresAt(expiresAt)
+                .seatInfo("A-" + seatId)
+                .build();
+    }
+}
@@ -0,0 +1,232 @@
+package com.team03.ticketmon.websocket.subscriber;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.dto.AdmissionEvent;
+import com.team03.ticketmon.queue.dto.RankUpdateEvent;
+import com.team03.ticketmon.queue.service.NotificationService;
+import com.team03.ticketmon.websocket.MessageType;
+import com.team03.ticketmon.websocket.WebSocketPayloadKeys;
+import com.team03.ticketmon.websocket.WebSocketSessionRegistry;
+import com.team03.ticketmon.websocket.handler.CustomWebSocketHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 노드별 토픽 라우팅을 검증하는 통합 테스트 클래스.
+ * 같은 Redis를 바라보는 두 개의 애플리케이션 노드(레지스트리 + 구독자 + 발행자)를 만들어,
+ * 알림이 사용자의 세션이 연결된 노드 한 곳에서만 전달되는지 확인합니다.
+ */
+@Testcontainers
+class RedisMessageSubscriberRoutingTest {
+
+    private static final long DELIVERY_TIMEOUT_MS = 5000;
+    private static final long QUIET_PERIOD_MS = 500;
+
+    @Container
+    public static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node("node-a");
+        nodeB = new Node("node-b");
+        nodeA.redissonClient.getKeys().flushdb();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    @DisplayName("입장 알림은 세션이 연결된 노드에서만 정확히 한 번 전달된다")
+    void admissionIsDeliveredByOwningNodeOnly() {
+        // given: 사용자 1은 노드 A, 사용자 2는 노드 B에 연결
+        nodeA.sessionRegistry.register(1L);
+        nodeB.sessionRegistry.register(2L);
+
+        // when: 어느 노드에서 발행하든 상관없이 (여기서는 모두 노드 A에서 발행)
+        nodeA.notificationService.sendAdmissionNotification(1L, "key-1");
+        nodeA.notificationService.sendAdmissionNotification(2L, "key-2");
+
+        // then
+        verify(nodeA.webSocketHandler, timeout(DELIVERY_TIMEOUT_MS).times(1)).sendMessageToUser(1L, Map.of(
+                WebSocketPayloadKeys.TYPE, MessageType.ADMIT.name(),
+                WebSocketPayloadKeys.ACCESS_KEY, "key-1"));
+        verify(nodeB.webSocketHandler, timeout(DELIVERY_TIMEOUT_MS).times(1)).sendMessageToUser(2L, Map.of(
+                WebSocketPayloadKeys.TYPE, MessageType.ADMIT.name(),
+                WebSocketPayloadKeys.ACCESS_KEY, "key-2"));
+
+        verify(nodeA.webSocketHandler, after(QUIET_PERIOD_MS).never()).sendMessageToUser(eq(2L), anyMap());
+        verify(nodeB.webSocketHandler, never()).sendMessageToUser(eq(1L), anyMap());
+    }
+
+    @Test
+    @DisplayName("순위 알림도 세션이 연결된 노드에서만 전달된다")
+    void rankUpdateIsDeliveredByOwningNodeOnly() {
+        // given
+        nodeB.sessionRegistry.register(3L);
+
+        // when
+        nodeA.notificationService.sendRankUpdate(3L, 7);
+
+        // then
+        verify(nodeB.webSocketHandler, timeout(DELIVERY_TIMEOUT_MS).times(1)).sendMessageToUser(3L, Map.of(
+                WebSocketPayloadKeys.TYPE, MessageType.RANK_UPDATE.name(),
+                WebSocketPayloadKeys.RANK, 7));
+        verify(nodeA.webSocketHandler, after(QUIET_PERIOD_MS).never()).sendMessageToUser(eq(3L), anyMap());
+    }
+
+    @Test
+    @DisplayName("묶음 순위 알림도 사용자별로 세션이 연결된 노드에서만 전달된다")
+    void bulkRankUpdateIsDeliveredByOwningNodeOnly() {
+        // given
+        nodeA.sessionRegistry.register(1L);
+        nodeB.sessionRegistry.register(2L);
+
+        // when
+        nodeA.notificationService.sendRankUpdates(List.of(new RankUpdateEvent(1L, 1), new RankUpdateEvent(2L, 91)));
+
+        // then
+        verify(nodeA.webSocketHandler, timeout(DELIVERY_TIMEOUT_MS).times(1)).sendMessageToUser(1L, Map.of(
+                WebSocketPayloadKeys.TYPE, MessageType.RANK_UPDATE.name(),
+                WebSocketPayloadKeys.RANK, 1));
+        verify(nodeB.webSocketHandler, timeout(DELIVERY_TIMEOUT_MS).times(1)).sendMessageToUser(2L, Map.of(
+                WebSocketPayloadKeys.TYPE, MessageType.RANK_UPDATE.name(),
+                WebSocketPayloadKeys.RANK, 91));
+        verify(nodeA.webSocketHandler, after(QUIET_PERIOD_MS).never()).sendMessageToUser(eq(2L), anyMap());
+        verify(nodeB.webSocketHandler, never()).sendMessageToUser(eq(1L), anyMap());
+    }
+
+    @Test
+    @DisplayName("다른 노드로 재연결한 뒤 이전 노드의 종료 처리가 늦게 와도 새 노드로 전달된다")
+    void reconnectToOtherNodeKeepsNewRoute() {
+        // given: 노드 A에 연결되어 있다가 노드 B로 재연결
+        nodeA.sessionRegistry.register(1L);
+        nodeB.sessionRegistry.register(1L);
+
+        // when: 노드 A의 이전 세션 종료 처리
+        nodeA.sessionRegistry.unregister(1L);
+        nodeA.notificationService.sendAdmissionNotification(1L, "key-1");
+
+        // then
+        assertThat(nodeA.sessionRegistry.findNodeId(1L)).isEqualTo("node-b");
+        verify(nodeB.webSocketHandler, timeout(DELIVERY_TIMEOUT_MS).times(1)).sendMessageToUser(eq(1L), anyMap());
+        verify(nodeA.webSocketHandler, after(QUIET_PERIOD_MS).never()).sendMessageToUser(eq(1L), anyMap());
+    }
+
+    @Test
+    @DisplayName("일괄 입장 알림은 노드별 배치로 나뉘어 발행되어도 입장한 사용자마다 ADMIT 메시지를 정확히 한 번 받는다")
+    void bulkAdmissionDeliversExactlyOneAdmitPerUser() {
+        // given: 450명 중 짝수는 노드 A, 홀수는 노드 B에 연결 (배치 크기 100 → 노드별 여러 메시지)
+        int userCount = 450;
+        List<AdmissionEvent> events = new ArrayList<>();
+        for (long userId = 1; userId <= userCount; userId++) {
+            (userId % 2 == 0 ? nodeA : nodeB).sessionRegistry.register(userId);
+            events.add(new AdmissionEvent(userId, "key-" + userId));
+        }
+        // 세션이 없는 사용자는 발행 대상에서 제외
+        events.add(new AdmissionEvent(9999L, "key-9999"));
+
+        // when
+        nodeA.notificationService.sendAdmissionNotifications(events);
+
+        // then
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> nodeA.admitCountByUser().size() + nodeB.admitCountByUser().size() == userCount);
+        await().during(Duration.ofMillis(QUIET_PERIOD_MS)).atMost(Duration.ofSeconds(2))
+                .until(() -> nodeA.admitCountByUser().size() + nodeB.admitCountByUser().size() == userCount);
+
+        Map<Long, Long> admitsOnA = nodeA.admitCountByUser();
+        Map<Long, Long> admitsOnB = nodeB.admitCountByUser();
+        for (long userId = 1; userId <= userCount; userId++) {
+            Map<Long, Long> owner = userId % 2 == 0 ? admitsOnA : admitsOnB;
+            Map<Long, Long> other = userId % 2 == 0 ? admitsOnB : admitsOnA;
+            assertThat(owner.get(userId)).as("userId=%d", userId).isEqualTo(1L);
+            assertThat(other).doesNotContainKey(userId);
+        }
+        assertThat(admitsOnA).doesNotContainKey(9999L);
+        assertThat(admitsOnB).doesNotContainKey(9999L);
+        verify(nodeA.webSocketHandler).sendMessageToUser(2L, Map.of(
+                WebSocketPayloadKeys.TYPE, MessageType.ADMIT.name(),
+                WebSocketPayloadKeys.ACCESS_KEY, "key-2"));
+    }
+
+    /**
+     * 독립된 Redis 연결과 세션 레지스트리, 구독자, 발행자를 가진 하나의 애플리케이션 노드
+     */
+    private static class Node {
+        private final RedissonClient redissonClient;
+        private final WebSocketSessionRegistry sessionRegistry;
+        private final CustomWebSocketHandler webSocketHandler = mock(CustomWebSocketHandler.class);
+        private final NotificationService notificationService;
+
+        Node(String nodeId) {
+            RedissonConfig redissonConfig = new RedissonConfig();
+            ReflectionTestUtils.setField(redissonConfig, "redisHost", redis.getHost());
+            ReflectionTestUtils.setField(redissonConfig, "redisPort", redis.getMappedPort(6379));
+            redissonClient = redissonConfig.redissonClient();
+
+            RedisKeyGenerator keyGenerator = new RedisKeyGenerator();
+            ObjectMapper objectMapper = new ObjectMapper();
+            QueueRedisAdapter queueRedisAdapter = new QueueRedisAdapter(redissonClient, keyGenerator);
+
+            sessionRegistry = new WebSocketSessionRegistry(redissonClient, keyGenerator);
+            ReflectionTestUtils.setField(sessionRegistry, "configuredNodeId", nodeId);
+            ReflectionTestUtils.setField(sessionRegistry, "healthCheckDelayMs", 60_000L);
+            sessionRegistry.init();
+
+            new RedisMessageSubscriber(objectMapper, webSocketHandler, queueRedisAdapter, sessionRegistry)
+                    .subscribeToTopics();
+            notificationService = new NotificationService(objectMapper, queueRedisAdapter, sessionRegistry);
+            ReflectionTestUtils.setField(notificationService, "admissionBatchSize", 100);
+            ReflectionTestUtils.setField(notificationService, "rankBatchSize", 100);
+        }
+
+        /**
+         * 이 노드가 사용자별로 전송한 ADMIT 메시지 수
+         */
+        Map<Long, Long> admitCountByUser() {
+            return mockingDetails(webSocketHandler).getInvocations().stream()
+                    .filter(invocation -> invocation.getMethod().getName().equals("sendMessageToUser"))
+                    .filter(invocation -> MessageType.ADMIT.name().equals(
+                            invocation.<Map<String, Object>>getArgument(1).get(WebSocketPayloadKeys.TYPE)))
+                    .collect(Collectors.groupingBy(invocation -> invocation.<Long>getArgument(0), Collectors.counting()));
+        }
+
+        void close() {
+            redissonClient.shutdown();
+        }
+    }
+}